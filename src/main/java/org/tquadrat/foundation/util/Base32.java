@@ -18,14 +18,23 @@
 package org.tquadrat.foundation.util;
 
 import static java.math.BigInteger.ZERO;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.util.Arrays.fill;
 import static java.util.Locale.ROOT;
+import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
 import static org.tquadrat.foundation.lang.CommonConstants.UTF8;
+import static org.tquadrat.foundation.lang.Objects.checkFromIndexSize;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
@@ -45,6 +54,40 @@ import org.tquadrat.foundation.exception.ValidationException;
  *  strings, to, in the same way as Base&nbsp;64. But different from that,
  *  Base&nbsp;32 is not really standardized; this version, introduced by
  *  Douglas Crockford, is just one among various others.</p>
+ *  <p>The encoder and the decoder provide two modes:</p>
+ *  <ul>
+ *      <li>The methods {@code encode()}, {@code encodeToString()},
+ *      {@code decode()}, {@code decodeToNumber()} and
+ *      {@code decodeToString()} treat their input as a single number that
+ *      is converted to the radix 32; these are meant for numbers, and for
+ *      short byte sequences only, as the time needed grows quadratic with
+ *      the length of the input.</li>
+ *      <li>The methods {@code encodeBytes()}, {@code encodeBytesToString()}
+ *      and {@code decodeBytes()} split the input into groups of 5 bits
+ *      each, starting with the most significant bit of the first byte, and
+ *      map each group to a symbol; five bytes are encoded to eight symbols.
+ *      If the number of bits is not a multiple of 5, the last group is
+ *      filled up with zero bits; no padding symbols are added. The time
+ *      needed is linear to the length of the input, and the result can be
+ *      written to an array or a
+ *      {@link ByteBuffer}
+ *      that is provided by the caller. The methods {@code wrap()} provide
+ *      streams for input of any length.</li>
+ *  </ul>
+ *  <p>The results of both modes are not compatible with each other.</p>
+ *  <p>The methods that write to an array return the number of bytes or
+ *  symbols that were written, not the index after the last one.</p>
+ *  <p>The methods that write to an array, or read from a part of an array
+ *  or a
+ *  {@link CharSequence},
+ *  throw an
+ *  {@link IndexOutOfBoundsException}
+ *  if the range is out of the bounds of the source, or if the target array
+ *  is too small; the same applies to the respective methods of
+ *  {@link HexUtils}.
+ *  The methods that write to a {@code ByteBuffer} throw a
+ *  {@link java.nio.BufferOverflowException}
+ *  instead.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @thanks Douglas Crockford - douglas@crockford.com
@@ -112,6 +155,167 @@ public final class Base32
             return retValue;
         }   //  checkValid()
 
+        /**
+         *  <p>{@summary Decodes the given Base&nbsp;32 symbols, as groups of 5
+         *  bits each, to bytes.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Encoder#encodeBytes(byte[])}.</p>
+         *
+         *  @param  src The symbols.
+         *  @return The decoded bytes.
+         *  @throws ValidationException The input data is not a valid
+         *      Base&nbsp;32 sequence.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final byte [] decodeBytes( final byte [] src ) throws ValidationException
+        {
+            final var retValue = new byte [decodedLength( requireNonNullArgument( src, "src" ).length )];
+            decodeGroups( src, 0, src.length, retValue, 0 );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  decodeBytes()
+
+        /**
+         *  <p>{@summary Decodes the given Base&nbsp;32 symbols, as groups of 5
+         *  bits each, to the given array.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Encoder#encodeBytes(byte[], int, int, byte[], int)}.</p>
+         *
+         *  @note   If the input contains an invalid symbol, some bytes may
+         *      have been written to the target array already.
+         *
+         *  @param  src The array with the symbols.
+         *  @param  offset  The index of the first symbol.
+         *  @param  length  The number of symbols.
+         *  @param  dst The target array.
+         *  @param  dstOffset   The index in the target array for the first
+         *      decoded byte.
+         *  @return The number of bytes that were written.
+         *  @throws ValidationException The input data is not a valid
+         *      Base&nbsp;32 sequence.
+         *  @throws IndexOutOfBoundsException The range is out of bounds for the
+         *      source array, or the target array is too small.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int decodeBytes( final byte [] src, final int offset, final int length, final byte [] dst, final int dstOffset ) throws ValidationException, IndexOutOfBoundsException
+        {
+            checkFromIndexSize( offset, length, requireNonNullArgument( src, "src" ).length );
+            final var retValue = decodedLength( length );
+            checkFromIndexSize( dstOffset, retValue, requireNonNullArgument( dst, "dst" ).length );
+            decodeGroups( src, offset, length, dst, dstOffset );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  decodeBytes()
+
+        /**
+         *  <p>{@summary Decodes the remaining Base&nbsp;32 symbols from the
+         *  given source buffer, as groups of 5 bits each, to the given target
+         *  buffer.}</p>
+         *  <p>The positions of both buffers will be advanced by the number
+         *  of symbols that were read and the number of bytes that were
+         *  written, respectively.</p>
+         *
+         *  @note   If the input contains an invalid symbol, some bytes may
+         *      have been written to the target buffer already.
+         *
+         *  @param  src The source buffer.
+         *  @param  dst The target buffer.
+         *  @return The number of bytes that were written.
+         *  @throws ValidationException The input data is not a valid
+         *      Base&nbsp;32 sequence.
+         *  @throws BufferOverflowException The target buffer does not have
+         *      enough space left; nothing was read or written.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int decodeBytes( final ByteBuffer src, final ByteBuffer dst ) throws ValidationException, BufferOverflowException
+        {
+            final var length = requireNonNullArgument( src, "src" ).remaining();
+            final var retValue = decodedLength( length );
+            if( retValue > requireNonNullArgument( dst, "dst" ).remaining() ) throw new BufferOverflowException();
+            if( src.hasArray() && dst.hasArray() )
+            {
+                decodeGroups( src.array(), src.arrayOffset() + src.position(), length, dst.array(), dst.arrayOffset() + dst.position() );
+                src.position( src.limit() );
+                dst.position( dst.position() + retValue );
+            }
+            else
+            {
+                final var symbols = new byte [CHUNK_GROUPS * 8];
+                final var bytes = new byte [CHUNK_GROUPS * 5];
+                while( src.hasRemaining() )
+                {
+                    final var count = Math.min( symbols.length, src.remaining() );
+                    src.get( symbols, 0, count );
+                    dst.put( bytes, 0, decodeGroups( symbols, 0, count, bytes, 0 ) );
+                }
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  decodeBytes()
+
+        /**
+         *  <p>{@summary Decodes the given Base&nbsp;32 String, as groups of 5
+         *  bits each, to bytes.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Encoder#encodeBytesToString(byte[])}.</p>
+         *
+         *  @param  src The symbols.
+         *  @return The decoded bytes.
+         *  @throws ValidationException The input data is not a valid
+         *      Base&nbsp;32 sequence.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final byte [] decodeBytes( final CharSequence src ) throws ValidationException
+        {
+            final var length = requireNonNullArgument( src, "src" ).length();
+            final var symbols = new byte [length];
+            for( var i = 0; i < length; ++i )
+            {
+                final var c = src.charAt( i );
+                symbols [i] = c < 0x80 ? (byte) c : (byte) 0xFF;
+            }
+            final var retValue = decodeBytes( symbols );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  decodeBytes()
+
+        /**
+         *  Returns the number of bytes that are decoded from the given
+         *  number of Base&nbsp;32 symbols, as groups of 5 bits each.
+         *
+         *  @param  length  The number of symbols.
+         *  @return The number of bytes.
+         *  @throws ValidationException The number of symbols is not valid;
+         *      the remainder of its division by 8 may not be 1, 3 or 6.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int decodedLength( final int length ) throws ValidationException
+        {
+            final var remainder = length % 8;
+            if( (length < 0) || (remainder == 1) || (remainder == 3) || (remainder == 6) )
+            {
+                throw new ValidationException( "%d is not a valid length for a Base32 sequence".formatted( length ) );
+            }
+            final var retValue = (int) (length * 5L / 8);
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  decodedLength()
+
         /**
          *  <p>{@summary Decodes an array of Base&nbsp;32 symbols.}</p>
          *  <p>This is the converse operation to
@@ -154,6 +358,66 @@ public final class Base32
             return retValue;
         }   //  decode()
 
+        /**
+         *  <p>{@summary Decodes the
+         *  {@value Base32#LONG_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols at the given position of the given array to
+         *  a {@code long} value.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Encoder#encode(long, byte[], int)}.</p>
+         *
+         *  @param  src The array with the symbols.
+         *  @param  offset  The index of the first symbol.
+         *  @return The value.
+         *  @throws ValidationException The symbols are not valid, or the
+         *      value does not fit into 64 bits.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the source.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final long decodeToLong( final byte [] src, final int offset ) throws ValidationException
+        {
+            checkFromIndexSize( offset, LONG_SYMBOL_COUNT, requireNonNullArgument( src, "src" ).length );
+            var retValue = symbolValue( src [offset] & 0xFF, 0xF );
+            for( var i = offset + 1; i < offset + LONG_SYMBOL_COUNT; ++i ) retValue = (retValue << 5) | symbolValue( src [i] & 0xFF, 0x1F );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  decodeToLong()
+
+        /**
+         *  <p>{@summary Decodes the
+         *  {@value Base32#LONG_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols at the given position of the given text to a
+         *  {@code long} value.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Encoder#encode(long, char[], int)}
+         *  and
+         *  {@link Encoder#encode(long, StringBuilder)}.</p>
+         *
+         *  @param  src The text with the symbols.
+         *  @param  offset  The index of the first symbol.
+         *  @return The value.
+         *  @throws ValidationException The symbols are not valid, or the
+         *      value does not fit into 64 bits.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the source.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final long decodeToLong( final CharSequence src, final int offset ) throws ValidationException
+        {
+            checkFromIndexSize( offset, LONG_SYMBOL_COUNT, requireNonNullArgument( src, "src" ).length() );
+            var retValue = symbolValue( src.charAt( offset ), 0xF );
+            for( var i = offset + 1; i < offset + LONG_SYMBOL_COUNT; ++i ) retValue = (retValue << 5) | symbolValue( src.charAt( i ), 0x1F );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  decodeToLong()
+
         /**
          *  Decodes an array of Base&nbsp;32 symbols to a number.
          *
@@ -233,9 +497,319 @@ public final class Base32
             //---* Done *------------------------------------------------------
             return retValue;
         }   //  decodeToString()
+
+        /**
+         *  <p>{@summary Decodes the
+         *  {@value Base32#UUID_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols at the given position of the given array to
+         *  a UUID.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Encoder#encode(UUID, byte[], int)}
+         *  and
+         *  {@link Encoder#encode(long, long, byte[], int)};
+         *  for the latter, the two values are returned by
+         *  {@link UUID#getMostSignificantBits()}
+         *  and
+         *  {@link UUID#getLeastSignificantBits()}.</p>
+         *
+         *  @param  src The array with the symbols.
+         *  @param  offset  The index of the first symbol.
+         *  @return The UUID.
+         *  @throws ValidationException The symbols are not valid, or the
+         *      value does not fit into 128 bits.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the source.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final UUID decodeToUUID( final byte [] src, final int offset ) throws ValidationException
+        {
+            checkFromIndexSize( offset, UUID_SYMBOL_COUNT, requireNonNullArgument( src, "src" ).length );
+            var high = 0L;
+            var low = symbolValue( src [offset] & 0xFF, 0x7 );
+            for( var i = offset + 1; i < offset + UUID_SYMBOL_COUNT; ++i )
+            {
+                high = (high << 5) | (low >>> 59);
+                low = (low << 5) | symbolValue( src [i] & 0xFF, 0x1F );
+            }
+            final var retValue = new UUID( high, low );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  decodeToUUID()
+
+        /**
+         *  <p>{@summary Decodes the
+         *  {@value Base32#UUID_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols at the given position of the given text to a
+         *  UUID.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Encoder#encode(UUID, char[], int)},
+         *  {@link Encoder#encode(UUID, StringBuilder)}
+         *  and the respective methods for two {@code long} values.</p>
+         *
+         *  @param  src The text with the symbols.
+         *  @param  offset  The index of the first symbol.
+         *  @return The UUID.
+         *  @throws ValidationException The symbols are not valid, or the
+         *      value does not fit into 128 bits.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the source.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final UUID decodeToUUID( final CharSequence src, final int offset ) throws ValidationException
+        {
+            checkFromIndexSize( offset, UUID_SYMBOL_COUNT, requireNonNullArgument( src, "src" ).length() );
+            var high = 0L;
+            var low = symbolValue( src.charAt( offset ), 0x7 );
+            for( var i = offset + 1; i < offset + UUID_SYMBOL_COUNT; ++i )
+            {
+                high = (high << 5) | (low >>> 59);
+                low = (low << 5) | symbolValue( src.charAt( i ), 0x1F );
+            }
+            final var retValue = new UUID( high, low );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  decodeToUUID()
+
+        /**
+         *  <p>{@summary Returns an input stream that decodes the
+         *  Base&nbsp;32 symbols from the given stream, as groups of 5 bits
+         *  each.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Encoder#wrap(OutputStream)}.
+         *  Only a fixed number of symbols and bytes is buffered, so that
+         *  input of any length can be decoded. If the input is not a valid
+         *  Base&nbsp;32 sequence, the {@code read()} methods of the returned
+         *  stream will throw an
+         *  {@link IOException}
+         *  with a
+         *  {@link ValidationException}
+         *  as its cause.</p>
+         *  <p>Closing the returned stream will close the given stream.</p>
+         *
+         *  @param  source  The stream with the symbols.
+         *  @return The stream with the decoded bytes.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final InputStream wrap( final InputStream source )
+        {
+            final var retValue = new DecodingInputStream( requireNonNullArgument( source, "source" ) );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  wrap()
     }
     //   class Decoder
 
+    /**
+     *  <p>{@summary An
+     *  {@link InputStream}
+     *  that decodes the Base&nbsp;32 symbols from another stream, as groups
+     *  of 5 bits each.}</p>
+     *  <p>The symbols are read in chunks; the memory needed does not depend
+     *  on the length of the input.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class DecodingInputStream extends InputStream
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The decoded bytes.
+         */
+        private final byte [] m_Bytes = new byte [CHUNK_GROUPS * 5];
+
+        /**
+         *  The number of decoded bytes in
+         *  {@link #m_Bytes}.
+         */
+        private int m_BytesCount = 0;
+
+        /**
+         *  The position of the next byte in
+         *  {@link #m_Bytes}
+         *  that will be returned.
+         */
+        private int m_BytesPosition = 0;
+
+        /**
+         *  {@code true} if the stream was closed.
+         */
+        private boolean m_IsClosed = false;
+
+        /**
+         *  {@code true} if the end of the source stream was reached.
+         */
+        private boolean m_IsEndOfInput = false;
+
+        /**
+         *  The source stream.
+         */
+        private final InputStream m_Source;
+
+        /**
+         *  The symbols that were read, but not yet decoded.
+         */
+        private final byte [] m_Symbols = new byte [CHUNK_GROUPS * 8];
+
+        /**
+         *  The number of symbols in
+         *  {@link #m_Symbols}.
+         */
+        private int m_SymbolsCount = 0;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code DecodingInputStream} instance.
+         *
+         *  @param  source  The source stream.
+         */
+        public DecodingInputStream( final InputStream source )
+        {
+            m_Source = source;
+        }   //  DecodingInputStream()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final int available() throws IOException
+        {
+            ensureOpen();
+            final var retValue = m_BytesCount - m_BytesPosition;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  available()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void close() throws IOException
+        {
+            if( !m_IsClosed )
+            {
+                m_IsClosed = true;
+                m_Source.close();
+            }
+        }   //  close()
+
+        /**
+         *  Throws an exception if the stream was closed.
+         *
+         *  @throws IOException The stream was closed.
+         */
+        private final void ensureOpen() throws IOException
+        {
+            if( m_IsClosed ) throw new IOException( "Stream is closed" );
+        }   //  ensureOpen()
+
+        /**
+         *  Reads the next chunk of symbols from the source stream and
+         *  decodes the complete groups; at the end of the input, the last
+         *  group is decoded, too.
+         *
+         *  @return {@code true} if bytes were decoded, {@code false} if the
+         *      end of the input was reached.
+         *  @throws IOException Reading from the source stream failed, or the
+         *      input is not a valid Base&nbsp;32 sequence.
+         */
+        private final boolean fill() throws IOException
+        {
+            m_BytesCount = 0;
+            m_BytesPosition = 0;
+            while( (m_BytesCount == 0) && !(m_IsEndOfInput && (m_SymbolsCount == 0)) )
+            {
+                if( !m_IsEndOfInput )
+                {
+                    final var count = m_Source.read( m_Symbols, m_SymbolsCount, m_Symbols.length - m_SymbolsCount );
+                    if( count < 0 ) m_IsEndOfInput = true; else m_SymbolsCount += count;
+                }
+                final var length = m_IsEndOfInput ? m_SymbolsCount : m_SymbolsCount - m_SymbolsCount % 8;
+                if( length > 0 )
+                {
+                    try
+                    {
+                        if( m_IsEndOfInput ) getDecoder().decodedLength( length );
+                        m_BytesCount = decodeGroups( m_Symbols, 0, length, m_Bytes, 0 );
+                    }
+                    catch( final ValidationException e )
+                    {
+                        throw new IOException( e.getMessage(), e );
+                    }
+                    m_SymbolsCount -= length;
+                    System.arraycopy( m_Symbols, length, m_Symbols, 0, m_SymbolsCount );
+                }
+            }
+            final var retValue = m_BytesCount > 0;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  fill()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final int read() throws IOException
+        {
+            ensureOpen();
+            final var retValue = (m_BytesPosition < m_BytesCount) || fill() ? m_Bytes [m_BytesPosition++] & 0xFF : -1;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  read()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final int read( final byte [] b, final int off, final int len ) throws IOException
+        {
+            ensureOpen();
+            checkFromIndexSize( off, len, b.length );
+            var retValue = 0;
+            if( len > 0 )
+            {
+                if( (m_BytesPosition < m_BytesCount) || fill() )
+                {
+                    retValue = Math.min( len, m_BytesCount - m_BytesPosition );
+                    System.arraycopy( m_Bytes, m_BytesPosition, b, off, retValue );
+                    m_BytesPosition += retValue;
+                }
+                else
+                {
+                    retValue = -1;
+                }
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  read()
+    }
+    //  class DecodingInputStream
+
     /**
      *  <p>{@summary The Encoder for
      *  {@href https://www.crockford.com/base32.html Crockford's Base&nbsp;32}
@@ -356,6 +930,406 @@ public final class Base32
             return retValue;
         }   //  encode()
 
+        /**
+         *  <p>{@summary Encodes the given value, as an unsigned number, to
+         *  exactly
+         *  {@value Base32#LONG_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols, and writes these to the given array.}</p>
+         *  <p>Leading zeros are not omitted, so that the length of the
+         *  result is always the same. No objects are created.</p>
+         *
+         *  @param  value   The value to encode.
+         *  @param  target  The target array.
+         *  @param  offset  The index in the target array for the first
+         *      symbol.
+         *  @return The number of symbols that were written; this is always
+         *      {@value Base32#LONG_SYMBOL_COUNT}.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the target array.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int encode( final long value, final byte [] target, final int offset )
+        {
+            checkFromIndexSize( offset, LONG_SYMBOL_COUNT, requireNonNullArgument( target, "target" ).length );
+            for( var i = 0; i < LONG_SYMBOL_COUNT; ++i ) target [offset + i] = SYMBOLS [symbolIndex( 0L, value, (LONG_SYMBOL_COUNT - 1 - i) * 5 )];
+            final var retValue = LONG_SYMBOL_COUNT;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encode()
+
+        /**
+         *  <p>{@summary Encodes the given value, as an unsigned number, to
+         *  exactly
+         *  {@value Base32#LONG_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols, and writes these to the given array.}</p>
+         *  <p>Leading zeros are not omitted, so that the length of the
+         *  result is always the same. No objects are created.</p>
+         *
+         *  @param  value   The value to encode.
+         *  @param  target  The target array.
+         *  @param  offset  The index in the target array for the first
+         *      symbol.
+         *  @return The number of symbols that were written; this is always
+         *      {@value Base32#LONG_SYMBOL_COUNT}.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the target array.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int encode( final long value, final char [] target, final int offset )
+        {
+            checkFromIndexSize( offset, LONG_SYMBOL_COUNT, requireNonNullArgument( target, "target" ).length );
+            for( var i = 0; i < LONG_SYMBOL_COUNT; ++i ) target [offset + i] = ALPHABET_UPPERCASE [symbolIndex( 0L, value, (LONG_SYMBOL_COUNT - 1 - i) * 5 )];
+            final var retValue = LONG_SYMBOL_COUNT;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encode()
+
+        /**
+         *  <p>{@summary Encodes the given value, as an unsigned number, to
+         *  exactly
+         *  {@value Base32#LONG_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols, and appends these to the given
+         *  {@link StringBuilder}.}</p>
+         *  <p>Leading zeros are not omitted, so that the length of the
+         *  result is always the same. No objects are created.</p>
+         *
+         *  @param  value   The value to encode.
+         *  @param  target  The target.
+         *  @return The target.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final StringBuilder encode( final long value, final StringBuilder target )
+        {
+            requireNonNullArgument( target, "target" );
+            for( var i = 0; i < LONG_SYMBOL_COUNT; ++i ) target.append( ALPHABET_UPPERCASE [symbolIndex( 0L, value, (LONG_SYMBOL_COUNT - 1 - i) * 5 )] );
+
+            //---* Done *------------------------------------------------------
+            return target;
+        }   //  encode()
+
+        /**
+         *  <p>{@summary Encodes the given 128 bit value, as an unsigned
+         *  number, to exactly
+         *  {@value Base32#UUID_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols, and writes these to the given array.}</p>
+         *  <p>Leading zeros are not omitted, so that the length of the
+         *  result is always the same. No objects are created.</p>
+         *
+         *  @param  high    The most significant 64 bits of the value.
+         *  @param  low The least significant 64 bits of the value.
+         *  @param  target  The target array.
+         *  @param  offset  The index in the target array for the first
+         *      symbol.
+         *  @return The number of symbols that were written; this is always
+         *      {@value Base32#UUID_SYMBOL_COUNT}.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the target array.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int encode( final long high, final long low, final byte [] target, final int offset )
+        {
+            checkFromIndexSize( offset, UUID_SYMBOL_COUNT, requireNonNullArgument( target, "target" ).length );
+            for( var i = 0; i < UUID_SYMBOL_COUNT; ++i ) target [offset + i] = SYMBOLS [symbolIndex( high, low, (UUID_SYMBOL_COUNT - 1 - i) * 5 )];
+            final var retValue = UUID_SYMBOL_COUNT;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encode()
+
+        /**
+         *  <p>{@summary Encodes the given 128 bit value, as an unsigned
+         *  number, to exactly
+         *  {@value Base32#UUID_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols, and writes these to the given array.}</p>
+         *  <p>Leading zeros are not omitted, so that the length of the
+         *  result is always the same. No objects are created.</p>
+         *
+         *  @param  high    The most significant 64 bits of the value.
+         *  @param  low The least significant 64 bits of the value.
+         *  @param  target  The target array.
+         *  @param  offset  The index in the target array for the first
+         *      symbol.
+         *  @return The number of symbols that were written; this is always
+         *      {@value Base32#UUID_SYMBOL_COUNT}.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the target array.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int encode( final long high, final long low, final char [] target, final int offset )
+        {
+            checkFromIndexSize( offset, UUID_SYMBOL_COUNT, requireNonNullArgument( target, "target" ).length );
+            for( var i = 0; i < UUID_SYMBOL_COUNT; ++i ) target [offset + i] = ALPHABET_UPPERCASE [symbolIndex( high, low, (UUID_SYMBOL_COUNT - 1 - i) * 5 )];
+            final var retValue = UUID_SYMBOL_COUNT;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encode()
+
+        /**
+         *  <p>{@summary Encodes the given 128 bit value, as an unsigned
+         *  number, to exactly
+         *  {@value Base32#UUID_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols, and appends these to the given
+         *  {@link StringBuilder}.}</p>
+         *  <p>Leading zeros are not omitted, so that the length of the
+         *  result is always the same. No objects are created.</p>
+         *
+         *  @param  high    The most significant 64 bits of the value.
+         *  @param  low The least significant 64 bits of the value.
+         *  @param  target  The target.
+         *  @return The target.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final StringBuilder encode( final long high, final long low, final StringBuilder target )
+        {
+            requireNonNullArgument( target, "target" );
+            for( var i = 0; i < UUID_SYMBOL_COUNT; ++i ) target.append( ALPHABET_UPPERCASE [symbolIndex( high, low, (UUID_SYMBOL_COUNT - 1 - i) * 5 )] );
+
+            //---* Done *------------------------------------------------------
+            return target;
+        }   //  encode()
+
+        /**
+         *  <p>{@summary Encodes the given UUID to exactly
+         *  {@value Base32#UUID_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols, and writes these to the given array.}</p>
+         *  <p>The UUID is treated as an unsigned 128 bit number; leading
+         *  zeros are not omitted. No objects are created.</p>
+         *
+         *  @param  value   The UUID to encode.
+         *  @param  target  The target array.
+         *  @param  offset  The index in the target array for the first
+         *      symbol.
+         *  @return The number of symbols that were written; this is always
+         *      {@value Base32#UUID_SYMBOL_COUNT}.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the target array.
+         *
+         *  @see Decoder#decodeToUUID(byte[], int)
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int encode( final UUID value, final byte [] target, final int offset )
+        {
+            requireNonNullArgument( value, "value" );
+            final var retValue = encode( value.getMostSignificantBits(), value.getLeastSignificantBits(), target, offset );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encode()
+
+        /**
+         *  <p>{@summary Encodes the given UUID to exactly
+         *  {@value Base32#UUID_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols, and writes these to the given array.}</p>
+         *  <p>The UUID is treated as an unsigned 128 bit number; leading
+         *  zeros are not omitted. No objects are created.</p>
+         *
+         *  @param  value   The UUID to encode.
+         *  @param  target  The target array.
+         *  @param  offset  The index in the target array for the first
+         *      symbol.
+         *  @return The number of symbols that were written; this is always
+         *      {@value Base32#UUID_SYMBOL_COUNT}.
+         *  @throws IndexOutOfBoundsException The symbols at the given offset are
+         *      out of the bounds of the target array.
+         *
+         *  @see Decoder#decodeToUUID(CharSequence, int)
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int encode( final UUID value, final char [] target, final int offset )
+        {
+            requireNonNullArgument( value, "value" );
+            final var retValue = encode( value.getMostSignificantBits(), value.getLeastSignificantBits(), target, offset );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encode()
+
+        /**
+         *  <p>{@summary Encodes the given UUID to exactly
+         *  {@value Base32#UUID_SYMBOL_COUNT}
+         *  Base&nbsp;32 symbols, and appends these to the given
+         *  {@link StringBuilder}.}</p>
+         *  <p>The UUID is treated as an unsigned 128 bit number; leading
+         *  zeros are not omitted. No objects are created.</p>
+         *
+         *  @param  value   The UUID to encode.
+         *  @param  target  The target.
+         *  @return The target.
+         *
+         *  @see Decoder#decodeToUUID(CharSequence, int)
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final StringBuilder encode( final UUID value, final StringBuilder target )
+        {
+            requireNonNullArgument( value, "value" );
+            final var retValue = encode( value.getMostSignificantBits(), value.getLeastSignificantBits(), target );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encode()
+
+        /**
+         *  <p>{@summary Encodes the given bytes, as groups of 5 bits each, to
+         *  Crockford's Base&nbsp;32.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Decoder#decodeBytes(byte[])}.</p>
+         *
+         *  @param  src The bytes to encode.
+         *  @return The symbols.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final byte [] encodeBytes( final byte [] src )
+        {
+            final var retValue = new byte [encodedLength( requireNonNullArgument( src, "src" ).length )];
+            encodeGroups( src, 0, src.length, retValue, 0 );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encodeBytes()
+
+        /**
+         *  <p>{@summary Encodes the given bytes, as groups of 5 bits each, to
+         *  Crockford's Base&nbsp;32, and writes the symbols to the given
+         *  array.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Decoder#decodeBytes(byte[], int, int, byte[], int)}.</p>
+         *
+         *  @param  src The array with the bytes to encode.
+         *  @param  offset  The index of the first byte.
+         *  @param  length  The number of bytes.
+         *  @param  dst The target array.
+         *  @param  dstOffset   The index in the target array for the first
+         *      symbol.
+         *  @return The number of symbols that were written.
+         *  @throws IndexOutOfBoundsException The range is out of bounds for the
+         *      source array, or the target array is too small.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int encodeBytes( final byte [] src, final int offset, final int length, final byte [] dst, final int dstOffset ) throws IndexOutOfBoundsException
+        {
+            checkFromIndexSize( offset, length, requireNonNullArgument( src, "src" ).length );
+            final var retValue = encodedLength( length );
+            checkFromIndexSize( dstOffset, retValue, requireNonNullArgument( dst, "dst" ).length );
+            encodeGroups( src, offset, length, dst, dstOffset );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encodeBytes()
+
+        /**
+         *  <p>{@summary Encodes the remaining bytes from the given source
+         *  buffer, as groups of 5 bits each, to Crockford's Base&nbsp;32, and
+         *  writes the symbols to the given target buffer.}</p>
+         *  <p>The positions of both buffers will be advanced by the number
+         *  of bytes that were read and the number of symbols that were
+         *  written, respectively.</p>
+         *
+         *  @param  src The source buffer.
+         *  @param  dst The target buffer.
+         *  @return The number of symbols that were written.
+         *  @throws BufferOverflowException The target buffer does not have
+         *      enough space left; nothing was read or written.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int encodeBytes( final ByteBuffer src, final ByteBuffer dst ) throws BufferOverflowException
+        {
+            final var length = requireNonNullArgument( src, "src" ).remaining();
+            final var retValue = encodedLength( length );
+            if( retValue > requireNonNullArgument( dst, "dst" ).remaining() ) throw new BufferOverflowException();
+            if( src.hasArray() && dst.hasArray() )
+            {
+                encodeGroups( src.array(), src.arrayOffset() + src.position(), length, dst.array(), dst.arrayOffset() + dst.position() );
+                src.position( src.limit() );
+                dst.position( dst.position() + retValue );
+            }
+            else
+            {
+                final var bytes = new byte [CHUNK_GROUPS * 5];
+                final var symbols = new byte [CHUNK_GROUPS * 8];
+                while( src.hasRemaining() )
+                {
+                    final var count = Math.min( bytes.length, src.remaining() );
+                    src.get( bytes, 0, count );
+                    dst.put( symbols, 0, encodeGroups( bytes, 0, count, symbols, 0 ) );
+                }
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encodeBytes()
+
+        /**
+         *  <p>{@summary Encodes the given bytes, as groups of 5 bits each, to
+         *  a Crockford's Base&nbsp;32 String.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Decoder#decodeBytes(CharSequence)}.</p>
+         *
+         *  @param  src The bytes to encode.
+         *  @return The result.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final String encodeBytesToString( final byte [] src )
+        {
+            final var retValue = new String( encodeBytes( src ), ISO_8859_1 );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encodeBytesToString()
+
+        /**
+         *  Returns the number of Base&nbsp;32 symbols for the given number of
+         *  bytes, when these are encoded as groups of 5 bits each.
+         *
+         *  @param  length  The number of bytes.
+         *  @return The number of symbols.
+         *  @throws ValidationException The number of bytes is negative, or
+         *      the number of symbols exceeds the maximum length of an array.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final int encodedLength( final int length ) throws ValidationException
+        {
+            final var symbols = (length * 8L + 4) / 5;
+            if( (length < 0) || (symbols > Integer.MAX_VALUE - 8) )
+            {
+                throw new ValidationException( "Cannot encode %d bytes".formatted( length ) );
+            }
+            final var retValue = (int) symbols;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  encodedLength()
+
         /**
          *  <p>{@summary Encodes the given value to a Crockford's Base&nbsp;32
          *  String.}</p>
@@ -420,8 +1394,215 @@ public final class Base32
             //---* Done *------------------------------------------------------
             return retValue;
         }   //  encodeToString()
+
+        /**
+         *  <p>{@summary Returns an output stream that encodes the bytes
+         *  written to it, as groups of 5 bits each, to Base&nbsp;32 symbols,
+         *  and writes these to the given stream.}</p>
+         *  <p>This is the converse operation to
+         *  {@link Decoder#wrap(InputStream)}.
+         *  Only a fixed number of symbols is buffered, so that input of any
+         *  length can be encoded. The result is the same as that of
+         *  {@link #encodeBytes(byte[])}
+         *  for all bytes written to the returned stream; the symbols for the
+         *  last group are written only when that stream is closed.</p>
+         *  <p>Closing the returned stream will close the given stream.</p>
+         *
+         *  @param  target  The stream for the symbols.
+         *  @return The stream for the bytes to encode.
+         *
+         *  @since 0.26.0
+         */
+        @API( status = STABLE, since = "0.26.0" )
+        public final OutputStream wrap( final OutputStream target )
+        {
+            final var retValue = new EncodingOutputStream( requireNonNullArgument( target, "target" ) );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  wrap()
     }   //  class Encoder
 
+    /**
+     *  <p>{@summary An
+     *  {@link OutputStream}
+     *  that encodes the bytes written to it, as groups of 5 bits each, to
+     *  Base&nbsp;32 symbols and writes these to another stream.}</p>
+     *  <p>The symbols are collected in a buffer of a fixed size before they
+     *  are written; the symbols for the last, incomplete group are written
+     *  when the stream is closed.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class EncodingOutputStream extends OutputStream
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The bytes of the current, incomplete group.
+         */
+        private final byte [] m_Group = new byte [5];
+
+        /**
+         *  The number of bytes in
+         *  {@link #m_Group}.
+         */
+        private int m_GroupCount = 0;
+
+        /**
+         *  {@code true} if the stream was closed.
+         */
+        private boolean m_IsClosed = false;
+
+        /**
+         *  The encoded symbols that were not yet written.
+         */
+        private final byte [] m_Symbols = new byte [CHUNK_GROUPS * 8];
+
+        /**
+         *  The number of symbols in
+         *  {@link #m_Symbols}.
+         */
+        private int m_SymbolsCount = 0;
+
+        /**
+         *  The target stream.
+         */
+        private final OutputStream m_Target;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code EncodingOutputStream} instance.
+         *
+         *  @param  target  The target stream.
+         */
+        public EncodingOutputStream( final OutputStream target )
+        {
+            m_Target = target;
+        }   //  EncodingOutputStream()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Writes the symbols for the last group and closes the target
+         *  stream.
+         *
+         *  @throws IOException Writing to the target stream failed.
+         */
+        @Override
+        public final void close() throws IOException
+        {
+            if( !m_IsClosed )
+            {
+                m_IsClosed = true;
+                try
+                {
+                    if( m_SymbolsCount == m_Symbols.length ) writeSymbols();
+                    m_SymbolsCount += encodeGroups( m_Group, 0, m_GroupCount, m_Symbols, m_SymbolsCount );
+                    m_GroupCount = 0;
+                    writeSymbols();
+                }
+                finally
+                {
+                    m_Target.close();
+                }
+            }
+        }   //  close()
+
+        /**
+         *  Throws an exception if the stream was closed.
+         *
+         *  @throws IOException The stream was closed.
+         */
+        private final void ensureOpen() throws IOException
+        {
+            if( m_IsClosed ) throw new IOException( "Stream is closed" );
+        }   //  ensureOpen()
+
+        /**
+         *  Writes the symbols for the complete groups and flushes the target
+         *  stream; the bytes of an incomplete group are kept until more
+         *  bytes are written, or until the stream is closed.
+         *
+         *  @throws IOException Writing to the target stream failed.
+         */
+        @Override
+        public final void flush() throws IOException
+        {
+            ensureOpen();
+            writeSymbols();
+            m_Target.flush();
+        }   //  flush()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void write( final int b ) throws IOException
+        {
+            ensureOpen();
+            m_Group [m_GroupCount++] = (byte) b;
+            if( m_GroupCount == m_Group.length )
+            {
+                if( m_SymbolsCount == m_Symbols.length ) writeSymbols();
+                m_SymbolsCount += encodeGroups( m_Group, 0, m_GroupCount, m_Symbols, m_SymbolsCount );
+                m_GroupCount = 0;
+            }
+        }   //  write()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void write( final byte [] b, final int off, final int len ) throws IOException
+        {
+            ensureOpen();
+            checkFromIndexSize( off, len, b.length );
+            var position = off;
+            final var end = off + len;
+
+            //---* Complete the current group *--------------------------------
+            while( (m_GroupCount > 0) && (position < end) ) write( b [position++] );
+
+            //---* Encode the complete groups *--------------------------------
+            while( end - position >= m_Group.length )
+            {
+                if( m_SymbolsCount == m_Symbols.length ) writeSymbols();
+                final var groups = Math.min( (end - position) / m_Group.length, (m_Symbols.length - m_SymbolsCount) / 8 );
+                m_SymbolsCount += encodeGroups( b, position, groups * m_Group.length, m_Symbols, m_SymbolsCount );
+                position += groups * m_Group.length;
+            }
+
+            //---* Keep the remaining bytes *----------------------------------
+            while( position < end ) m_Group [m_GroupCount++] = b [position++];
+        }   //  write()
+
+        /**
+         *  Writes the collected symbols to the target stream.
+         *
+         *  @throws IOException Writing to the target stream failed.
+         */
+        private final void writeSymbols() throws IOException
+        {
+            if( m_SymbolsCount > 0 )
+            {
+                m_Target.write( m_Symbols, 0, m_SymbolsCount );
+                m_SymbolsCount = 0;
+            }
+        }   //  writeSymbols()
+    }
+    //  class EncodingOutputStream
+
         /*-----------*\
     ====** Constants **========================================================
         \*-----------*/
@@ -436,16 +1617,46 @@ public final class Base32
      */
     private static final char[] ALPHABET_UPPERCASE =  { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'J', 'K', 'M', 'N', 'P', 'Q', 'R', 'S', 'T', 'V', 'W', 'X', 'Y', 'Z' };
 
+    /**
+     *  The number of groups of 5 bytes or 8 symbols, respectively, that are
+     *  processed at once when a buffer does not provide access to its
+     *  backing array: {@value}.
+     */
+    private static final int CHUNK_GROUPS = 1024;
+
     /**
      *  An empty byte array.
      */
     public static final byte[] EMPTY_byte_ARRAY = new byte [0];
 
+    /**
+     *  The number of Base&nbsp;32 symbols for a {@code long} value:
+     *  {@value}.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final int LONG_SYMBOL_COUNT = 13;
+
     /**
      *  The radix for Base&nbsp;32 is, as one would expect: {@value}.
      */
     private static final int RADIX = 32;
 
+    /**
+     *  The uppercase symbols for the Base&nbsp;32 alphabet, as bytes.
+     */
+    private static final byte [] SYMBOLS = new String( ALPHABET_UPPERCASE ).getBytes( ISO_8859_1 );
+
+    /**
+     *  The number of Base&nbsp;32 symbols for a UUID, or for another 128 bit
+     *  value: {@value}.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final int UUID_SYMBOL_COUNT = 26;
+
         /*------------------------*\
     ====** Static Initialisations **===========================================
         \*------------------------*/
@@ -454,6 +1665,12 @@ public final class Base32
      */
     private static final long[] ALPHABET_VALUES;
 
+    /**
+     *  The symbol values, for all byte values; the invalid symbols have the
+     *  value -1.
+     */
+    private static final byte [] SYMBOL_VALUES;
+
     /**
      *  The Base&nbsp;32 decoder instance.
      */
@@ -540,6 +1757,11 @@ public final class Base32
         ALPHABET_VALUES['I'] = 0x01;
         ALPHABET_VALUES['L'] = 0x01;
 
+        //---* The symbol values for all byte values *-----------------------
+        SYMBOL_VALUES = new byte [256];
+        fill( SYMBOL_VALUES, (byte) -1 );
+        for( var i = 0; i < ALPHABET_VALUES.length; ++i ) SYMBOL_VALUES [i] = (byte) ALPHABET_VALUES [i];
+
         //---* The instances *-------------------------------------------------
         m_Decoder = new Decoder();
         m_Encoder = new Encoder();
@@ -556,6 +1778,108 @@ public final class Base32
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Decodes the given Base&nbsp;32 symbols, as groups of 5 bits each,
+     *  to the given array. The number of symbols must be valid, and the
+     *  target array must be large enough.
+     *
+     *  @param  src The array with the symbols.
+     *  @param  offset  The index of the first symbol.
+     *  @param  length  The number of symbols.
+     *  @param  dst The target array.
+     *  @param  dstOffset   The index in the target array.
+     *  @return The number of bytes that were written.
+     *  @throws ValidationException The input contains an invalid symbol,
+     *      or the unused bits of the last symbol are not zero.
+     */
+    private static final int decodeGroups( final byte [] src, final int offset, final int length, final byte [] dst, final int dstOffset ) throws ValidationException
+    {
+        final var end = offset + length;
+        var s = offset;
+        var d = dstOffset;
+
+        //---* The complete groups of eight symbols *--------------------------
+        for( final var groupsEnd = end - length % 8; s < groupsEnd; s += 8 )
+        {
+            var bits = 0L;
+            var check = 0;
+            for( var i = s; i < s + 8; ++i )
+            {
+                final int value = SYMBOL_VALUES [src [i] & 0xFF];
+                check |= value;
+                bits = (bits << 5) | (value & 0x1F);
+            }
+            if( check < 0 ) throw new ValidationException( "No valid Base32 sequence" );
+            dst [d++] = (byte) (bits >>> 32);
+            dst [d++] = (byte) (bits >>> 24);
+            dst [d++] = (byte) (bits >>> 16);
+            dst [d++] = (byte) (bits >>> 8);
+            dst [d++] = (byte) bits;
+        }
+
+        //---* The remaining symbols *-----------------------------------------
+        final var remaining = end - s;
+        if( remaining > 0 )
+        {
+            var bits = 0L;
+            var check = 0;
+            for( var i = s; i < end; ++i )
+            {
+                final int value = SYMBOL_VALUES [src [i] & 0xFF];
+                check |= value;
+                bits = (bits << 5) | (value & 0x1F);
+            }
+            final var byteCount = remaining * 5 / 8;
+            final var unusedBits = remaining * 5 - byteCount * 8;
+            if( (check < 0) || ((bits & ((1L << unusedBits) - 1)) != 0) ) throw new ValidationException( "No valid Base32 sequence" );
+            bits >>>= unusedBits;
+            for( var i = byteCount - 1; i >= 0; --i ) dst [d++] = (byte) (bits >>> (i * 8));
+        }
+
+        //---* Done *----------------------------------------------------------
+        return d - dstOffset;
+    }   //  decodeGroups()
+
+    /**
+     *  Encodes the given bytes, as groups of 5 bits each, to Crockford's
+     *  Base&nbsp;32, and writes the symbols to the given array. The target
+     *  array must be large enough.
+     *
+     *  @param  src The array with the bytes.
+     *  @param  offset  The index of the first byte.
+     *  @param  length  The number of bytes.
+     *  @param  dst The target array.
+     *  @param  dstOffset   The index in the target array.
+     *  @return The number of symbols that were written.
+     */
+    private static final int encodeGroups( final byte [] src, final int offset, final int length, final byte [] dst, final int dstOffset )
+    {
+        final var end = offset + length;
+        var s = offset;
+        var d = dstOffset;
+
+        //---* The complete groups of five bytes *-----------------------------
+        for( final var groupsEnd = end - length % 5; s < groupsEnd; s += 5 )
+        {
+            final var bits = ((src [s] & 0xFFL) << 32) | ((src [s + 1] & 0xFFL) << 24) | ((src [s + 2] & 0xFFL) << 16) | ((src [s + 3] & 0xFFL) << 8) | (src [s + 4] & 0xFFL);
+            for( var shift = 35; shift >= 0; shift -= 5 ) dst [d++] = SYMBOLS [(int) (bits >>> shift) & 0x1F];
+        }
+
+        //---* The remaining bytes; the last group is filled with zeros *------
+        final var remaining = end - s;
+        if( remaining > 0 )
+        {
+            var bits = 0L;
+            for( var i = s; i < end; ++i ) bits = (bits << 8) | (src [i] & 0xFFL);
+            final var symbolCount = (remaining * 8 + 4) / 5;
+            bits <<= symbolCount * 5 - remaining * 8;
+            for( var shift = (symbolCount - 1) * 5; shift >= 0; shift -= 5 ) dst [d++] = SYMBOLS [(int) (bits >>> shift) & 0x1F];
+        }
+
+        //---* Done *----------------------------------------------------------
+        return d - dstOffset;
+    }   //  encodeGroups()
+
     /**
      *  Returns a decoder for
      *  {@href https://www.crockford.com/base32.html Crockford's Base&nbsp;32}
@@ -573,6 +1897,55 @@ public final class Base32
      *  @return The encoder.
      */
     public static final Encoder getEncoder() { return m_Encoder; }
+
+    /**
+     *  Returns the index of the symbol for the group of 5 bits at the given
+     *  position in the given 128 bit value.
+     *
+     *  @param  high    The most significant 64 bits of the value.
+     *  @param  low The least significant 64 bits of the value.
+     *  @param  shift   The position of the lowest bit of the group; a
+     *      multiple of 5.
+     *  @return The index of the symbol.
+     */
+    private static final int symbolIndex( final long high, final long low, final int shift )
+    {
+        final long bits;
+        if( shift >= Long.SIZE )
+        {
+            bits = high >>> (shift - Long.SIZE);
+        }
+        else if( shift == 0 )
+        {
+            bits = low;
+        }
+        else
+        {
+            bits = (low >>> shift) | (high << (Long.SIZE - shift));
+        }
+        final var retValue = (int) bits & 0x1F;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  symbolIndex()
+
+    /**
+     *  Returns the value of the given symbol.
+     *
+     *  @param  symbol  The symbol.
+     *  @param  maxValue    The maximum value that is allowed for the symbol.
+     *  @return The value.
+     *  @throws ValidationException The symbol is not valid, or its value is
+     *      too large.
+     */
+    private static final long symbolValue( final int symbol, final int maxValue ) throws ValidationException
+    {
+        final var retValue = symbol < 0x80 ? SYMBOL_VALUES [symbol] : -1L;
+        if( (retValue < 0) || (retValue > maxValue) ) throw new ValidationException( "No valid Base32 sequence" );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  symbolValue()
 }
 //  class Base32
 
@@ -0,0 +1,170 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.checkFromToIndex;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.util.internal.CharSequenceViewImpl;
+
+/**
+ *  <p>{@summary A read-only view on a range of another
+ *  {@link CharSequence}.}</p>
+ *  <p>A view does not copy the characters of its source; creating it is
+ *  cheap, and a
+ *  {@link String}
+ *  will be created only when
+ *  {@link #toString()}
+ *  is called. This makes views a good choice for the parts of a large
+ *  input that are only compared, hashed or parsed.</p>
+ *  <p>Two views are
+ *  {@linkplain #equals(Object) equal}
+ *  if they have the same contents, regardless of their sources. A view is
+ *  never equal to a {@code String}, but its
+ *  {@linkplain #hashCode() hash code}
+ *  is the same as that of the {@code String} with the same contents; use
+ *  {@link #contentEquals(CharSequence)}
+ *  to compare a view with any other {@code CharSequence}.</p>
+ *  <p>The source must not be modified as long as a view on it is in
+ *  use.</p>
+ *  <p>To create a new instance of {@code CharSequenceView}, call one of</p>
+ *  <ul>
+ *      <li>{@link #of(CharSequence)} for a view on the complete source</li>
+ *      <li>{@link #of(CharSequence, int, int)} for a view on a range of the
+ *          source</li>
+ *  </ul>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.26.0" )
+public sealed interface CharSequenceView extends CharSequence
+    permits CharSequenceViewImpl
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Compares the contents of this view with the given character
+     *  sequence.
+     *
+     *  @param  other   The other character sequence; may be {@code null}.
+     *  @return {@code true} if the given character sequence has the same
+     *      contents as this view, {@code false} otherwise.
+     */
+    public boolean contentEquals( final CharSequence other );
+
+    /**
+     *  Returns the index after the last character of this view in its
+     *  source.
+     *
+     *  @return The end index.
+     */
+    public int end();
+
+    /**
+     *  <p>{@summary Compares this view with the given object.}</p>
+     *  <p>The result is {@code true} only if the other object is a
+     *  {@code CharSequenceView}, too, with the same contents.</p>
+     *
+     *  @param  o   The other object.
+     *  @return {@code true} if the other object is a view with the same
+     *      contents, {@code false} otherwise.
+     */
+    @Override
+    public boolean equals( final Object o );
+
+    /**
+     *  <p>{@summary Returns the hash code for this view.}</p>
+     *  <p>The hash code is the same as that of the
+     *  {@link String}
+     *  that would be returned by
+     *  {@link #toString()}.</p>
+     *
+     *  @return The hash code.
+     */
+    @Override
+    public int hashCode();
+
+    /**
+     *  Creates a view on the complete given source.
+     *
+     *  @param  source  The source.
+     *  @return The view.
+     */
+    public static CharSequenceView of( final CharSequence source )
+    {
+        return new CharSequenceViewImpl( requireNonNullArgument( source, "source" ), 0, source.length() );
+    }   //  of()
+
+    /**
+     *  Creates a view on the given range of the given source.
+     *
+     *  @param  source  The source.
+     *  @param  start   The index of the first character of the view.
+     *  @param  end The index after the last character of the view.
+     *  @return The view.
+     *  @throws IndexOutOfBoundsException   The range is invalid.
+     */
+    public static CharSequenceView of( final CharSequence source, final int start, final int end ) throws IndexOutOfBoundsException
+    {
+        checkFromToIndex( start, end, requireNonNullArgument( source, "source" ).length() );
+        final var retValue = new CharSequenceViewImpl( source, start, end );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Returns the source of this view. If the view was created on another
+     *  view, this is the source of that other view, and
+     *  {@link #start()}
+     *  and
+     *  {@link #end()}
+     *  refer to it.
+     *
+     *  @return The source.
+     */
+    public CharSequence source();
+
+    /**
+     *  Returns the index of the first character of this view in its source.
+     *
+     *  @return The start index.
+     */
+    public int start();
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The returned sequence is a view on the same source.</p>
+     */
+    @Override
+    public CharSequenceView subSequence( final int start, final int end );
+}
+//  interface CharSequenceView
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,1318 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.util;
+
+import static java.nio.channels.Channels.newWriter;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.util.IOUtils.DEFAULT_BUFFER_SIZE;
+import static org.tquadrat.foundation.util.Template.VARIABLE_TEMPLATE;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.NotRecord;
+import org.tquadrat.foundation.exception.UnexpectedExceptionError;
+import org.tquadrat.foundation.exception.ValidationException;
+
+/**
+ *  <p>{@summary The compiled form of a
+ *  {@link Template}: an immutable sequence of literal segments and variable
+ *  slots.}</p>
+ *  <p>The template text is scanned only once, when the instance is created
+ *  by a call to
+ *  {@link Template#compile()}
+ *  or
+ *  {@link Template#compile(CharSequence)}.
+ *  Rendering the compiled template is a single pass over the segments that
+ *  does neither need a regular expression nor any escaping of the
+ *  replacement values; this makes it the preferred choice if the same
+ *  template will be rendered many times.</p>
+ *  <p>The recognised variables are exactly the same as those that are
+ *  matched by
+ *  {@link Template#VARIABLE_PATTERN},
+ *  and the rendering results are the same as those from the
+ *  {@code replaceVariable()} methods of
+ *  {@link Template}.</p>
+ *  <p>Instances of this class are immutable and therefore thread-safe; to
+ *  render the same template for a large number of records, use
+ *  {@link #replaceVariableForEachSource(Stream)}
+ *  and its siblings, optionally with parallel execution.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.26.0" )
+@NotRecord
+public final class CompiledTemplate implements Serializable
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary The renderer for template text that is read from a
+     *  {@link Reader}.}</p>
+     *  <p>The renderer is a state machine that is fed with the characters
+     *  from the template text; literal text is written to the target
+     *  immediately, only a potential variable is buffered until it is either
+     *  complete or proven invalid. As a variable cannot span more than one
+     *  line, the buffer will never be larger than the longest line of the
+     *  template text.</p>
+     *  <p>The recognised variables are the same as for
+     *  {@link CompiledTemplate#compile(CharSequence)}.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private static final class StreamRenderer
+    {
+            /*-----------*\
+        ====** Constants **====================================================
+            \*-----------*/
+        /**
+         *  State: plain text.
+         */
+        private static final int STATE_LITERAL = 0;
+
+        /**
+         *  State: a dollar sign was read.
+         */
+        private static final int STATE_DOLLAR = 1;
+
+        /**
+         *  State: &quot;<code>${</code>&quot; was read.
+         */
+        private static final int STATE_BRACE = 2;
+
+        /**
+         *  State: &quot;<code>${_</code>&quot; was read.
+         */
+        private static final int STATE_UNDERSCORE = 3;
+
+        /**
+         *  State: a prefix was read after &quot;<code>${</code>&quot;.
+         */
+        private static final int STATE_PREFIX = 4;
+
+        /**
+         *  State: the high surrogate of the first character of the variable
+         *  name was read.
+         */
+        private static final int STATE_SURROGATE = 5;
+
+        /**
+         *  State: inside the variable name.
+         */
+        private static final int STATE_NAME = 6;
+
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The buffer for a potential variable.
+         */
+        private final StringBuilder m_Pending = new StringBuilder();
+
+        /**
+         *  The characters that have to be processed again after a potential
+         *  variable turned out to be invalid.
+         */
+        private final StringBuilder m_Replay = new StringBuilder();
+
+        /**
+         *  The position of the next character in
+         *  {@link #m_Replay}.
+         */
+        private int m_ReplayPosition = 0;
+
+        /**
+         *  The function that retrieves the values for the variables.
+         */
+        private final Function<String,CharSequence> m_Resolver;
+
+        /**
+         *  The current state.
+         */
+        private int m_State = STATE_LITERAL;
+
+        /**
+         *  The target for the result.
+         */
+        private final Appendable m_Target;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new instance of {@code StreamRenderer}.
+         *
+         *  @param  target  The target for the result.
+         *  @param  resolver    The function that retrieves the values for the
+         *      variables; it returns the original form of the variable if it
+         *      cannot be resolved.
+         */
+        public StreamRenderer( final Appendable target, final Function<String,CharSequence> resolver )
+        {
+            m_Target = target;
+            m_Resolver = resolver;
+        }   //  StreamRenderer()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Writes the given range from the given buffer to the target.
+         *
+         *  @param  buffer  The buffer.
+         *  @param  start   The start of the range.
+         *  @param  end The end of the range.
+         *  @throws IOException Writing to the target failed.
+         */
+        private final void appendRange( final char [] buffer, final int start, final int end ) throws IOException
+        {
+            if( start < end )
+            {
+                switch( m_Target )
+                {
+                    case final Writer writer -> writer.write( buffer, start, end - start );
+                    case final StringBuilder builder -> builder.append( buffer, start, end - start );
+                    default -> m_Target.append( CharBuffer.wrap( buffer, start, end - start ) );
+                }
+            }
+        }   //  appendRange()
+
+        /**
+         *  Processes the given chunk of template text.
+         *
+         *  @param  buffer  The buffer with the template text.
+         *  @param  len The number of valid characters in the buffer.
+         *  @throws IOException Writing to the target failed.
+         */
+        public final void feed( final char [] buffer, final int len ) throws IOException
+        {
+            var runStart = 0;
+            for( var i = 0; i < len; ++i )
+            {
+                if( m_State == STATE_LITERAL )
+                {
+                    if( buffer [i] == '$' )
+                    {
+                        appendRange( buffer, runStart, i );
+                        process( '$' );
+                    }
+                }
+                else
+                {
+                    process( buffer [i] );
+                    if( m_State == STATE_LITERAL ) runStart = i + 1;
+                }
+            }
+            if( m_State == STATE_LITERAL ) appendRange( buffer, runStart, len );
+        }   //  feed()
+
+        /**
+         *  Writes the buffered text to the target as it is; this is done
+         *  after the end of the template text was reached, or when it is
+         *  certain that the buffered text does not contain a variable.
+         *
+         *  @throws IOException Writing to the target failed.
+         */
+        public final void finish() throws IOException
+        {
+            /*
+             * The pending text cannot contain another variable: any dollar
+             * sign in it would need the same closing bracket that is missing
+             * for the first one.
+             */
+            m_Target.append( m_Pending );
+            m_Pending.setLength( 0 );
+            m_State = STATE_LITERAL;
+        }   //  finish()
+
+        /**
+         *  The buffered text is not a variable: the leading dollar sign is
+         *  written to the target, and the remaining characters are processed
+         *  again.
+         *
+         *  @throws IOException Writing to the target failed.
+         */
+        private final void reject() throws IOException
+        {
+            final var remainder = m_Replay.substring( m_ReplayPosition );
+            m_Replay.setLength( 0 );
+            m_Replay.append( m_Pending, 1, m_Pending.length() ).append( remainder );
+            m_ReplayPosition = 0;
+            m_Pending.setLength( 0 );
+            m_State = STATE_LITERAL;
+            m_Target.append( '$' );
+        }   //  reject()
+
+        /**
+         *  Processes a single character from the template text, and then
+         *  those characters that were scheduled to be processed again.
+         *
+         *  @param  c   The character.
+         *  @throws IOException Writing to the target failed.
+         */
+        private final void process( final char c ) throws IOException
+        {
+            step( c );
+            while( m_ReplayPosition < m_Replay.length() ) step( m_Replay.charAt( m_ReplayPosition++ ) );
+            m_Replay.setLength( 0 );
+            m_ReplayPosition = 0;
+        }   //  process()
+
+        /**
+         *  Processes a single character.
+         *
+         *  @param  c   The character.
+         *  @throws IOException Writing to the target failed.
+         */
+        private final void step( final char c ) throws IOException
+        {
+            if( m_State == STATE_LITERAL )
+            {
+                if( c == '$' )
+                {
+                    m_Pending.append( c );
+                    m_State = STATE_DOLLAR;
+                }
+                else
+                {
+                    m_Target.append( c );
+                }
+            }
+            else
+            {
+                m_Pending.append( c );
+                switch( m_State )
+                {
+                    case STATE_DOLLAR ->
+                    {
+                        if( c == '{' ) { m_State = STATE_BRACE; } else { reject(); }
+                    }
+
+                    case STATE_BRACE ->
+                    {
+                        if( c == '_' ) { m_State = STATE_UNDERSCORE; }
+                        else if( VARIABLE_PREFIXES.indexOf( c ) >= 0 ) { m_State = STATE_PREFIX; }
+                        else { startName( c ); }
+                    }
+
+                    case STATE_UNDERSCORE ->
+                    {
+                        if( c == '}' ) { resolve(); } else { reject(); }
+                    }
+
+                    case STATE_PREFIX -> startName( c );
+
+                    case STATE_SURROGATE ->
+                    {
+                        final var high = m_Pending.charAt( m_Pending.length() - 2 );
+                        if( Character.isLowSurrogate( c ) && Character.isAlphabetic( Character.toCodePoint( high, c ) ) ) { m_State = STATE_NAME; } else { reject(); }
+                    }
+
+                    case STATE_NAME ->
+                    {
+                        /*
+                         * The pending text does not contain a closing
+                         * bracket, so none of the dollar signs in it can
+                         * start a variable that ends before the line
+                         * terminator: no need to process it again.
+                         */
+                        if( c == '}' ) { resolve(); }
+                        else if( isLineTerminator( c ) ) { finish(); }
+                    }
+
+                    default -> throw new IllegalStateException( "Invalid state: %d".formatted( m_State ) );
+                }
+            }
+        }   //  step()
+
+        /**
+         *  The buffered text is a complete variable; it will be replaced by
+         *  its value.
+         *
+         *  @throws IOException Writing to the target failed.
+         */
+        private final void resolve() throws IOException
+        {
+            final var name = m_Pending.substring( 2, m_Pending.length() - 1 );
+            m_Pending.setLength( 0 );
+            m_State = STATE_LITERAL;
+            m_Target.append( m_Resolver.apply( name ) );
+        }   //  resolve()
+
+        /**
+         *  Checks whether the given character is a valid first character for
+         *  a variable name.
+         *
+         *  @param  c   The character.
+         *  @throws IOException Writing to the target failed.
+         */
+        private final void startName( final char c ) throws IOException
+        {
+            if( Character.isHighSurrogate( c ) ) { m_State = STATE_SURROGATE; }
+            else if( Character.isAlphabetic( c ) ) { m_State = STATE_NAME; }
+            else { reject(); }
+        }   //  startName()
+    }
+    //  class StreamRenderer
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The estimated average length of a replacement value: {@value}.
+     */
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    /**
+     *  The number of rendering tasks per thread that may be pending at the
+     *  same time during a parallel batch rendering: {@value}.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    /**
+     *  The characters that are allowed as a prefix for a variable name:
+     *  {@value}.
+     */
+    private static final String VARIABLE_PREFIXES = "~/=%:&";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The literal segments; there is always one more segment than there are
+     *  variable slots, some of them may be empty.
+     *
+     *  @serial
+     */
+    private final String [] m_Literals;
+
+    /**
+     *  The total length of all literal segments.
+     *
+     *  @serial
+     */
+    private final int m_LiteralsLength;
+
+    /**
+     *  The distinct variable names, in the sequence of their first
+     *  occurrence.
+     *
+     *  @serial
+     */
+    private final String [] m_Names;
+
+    /**
+     *  The variables in their original form
+     *  (<code>${&lt;<i>name</i>&gt;}</code>); these will be emitted for
+     *  variables that cannot be resolved. The index is the same as for
+     *  {@link #m_Names}.
+     *
+     *  @serial
+     */
+    private final String [] m_Placeholders;
+
+    /**
+     *  The variable slots; each entry is the index of the variable name in
+     *  {@link #m_Names}.
+     *
+     *  @serial
+     */
+    private final int [] m_Slots;
+
+    /**
+     *  The template text.
+     *
+     *  @serial
+     */
+    private final String m_TemplateText;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The serial version UID for objects of this class: {@value}.
+     *
+     *  @hidden
+     */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new instance of {@code CompiledTemplate}.
+     *
+     *  @param  templateText    The template text.
+     *  @param  literals    The literal segments.
+     *  @param  names   The distinct variable names.
+     *  @param  slots   The variable slots.
+     */
+    private CompiledTemplate( final String templateText, final String [] literals, final String [] names, final int [] slots )
+    {
+        m_TemplateText = templateText;
+        m_Literals = literals;
+        m_Names = names;
+        m_Slots = slots;
+
+        m_Placeholders = new String [m_Names.length];
+        for( var i = 0; i < m_Names.length; ++i )
+        {
+            m_Placeholders [i] = VARIABLE_TEMPLATE.formatted( m_Names [i] );
+        }
+
+        var literalsLength = 0;
+        for( final var literal : m_Literals ) literalsLength += literal.length();
+        m_LiteralsLength = literalsLength;
+    }   //  CompiledTemplate()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Compiles the given template text.
+     *
+     *  @param  templateText    The template text.
+     *  @return The compiled template.
+     */
+    static final CompiledTemplate compile( final CharSequence templateText )
+    {
+        final var text = requireNonNullArgument( templateText, "templateText" ).toString();
+        final var len = text.length();
+
+        final List<String> literals = new ArrayList<>();
+        final Map<String,Integer> nameIndexes = new HashMap<>();
+        final List<String> names = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+
+        var literalStart = 0;
+        var pos = text.indexOf( '$' );
+        ScanLoop: while( pos >= 0 )
+        {
+            final var end = findVariableEnd( text, pos, len );
+            if( end < 0 )
+            {
+                pos = text.indexOf( '$', -end - 1 );
+                continue ScanLoop;
+            }
+
+            literals.add( text.substring( literalStart, pos ) );
+            final var name = text.substring( pos + 2, end );
+            final var index = nameIndexes.computeIfAbsent( name, n ->
+            {
+                names.add( n );
+                return Integer.valueOf( names.size() - 1 );
+            } );
+            slots.add( index );
+            literalStart = end + 1;
+            pos = text.indexOf( '$', literalStart );
+        }   //  ScanLoop:
+        literals.add( text.substring( literalStart ) );
+
+        final var retValue = new CompiledTemplate( text, literals.toArray( String []::new ), names.toArray( String []::new ), slots.stream().mapToInt( Integer::intValue ).toArray() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compile()
+
+    /**
+     *  Waits for the given rendering task to complete and returns its result.
+     *  If the task failed, the original exception will be rethrown.
+     *
+     *  @param  <T> The type of the result.
+     *  @param  task    The task.
+     *  @return The result.
+     */
+    private static final <T> T awaitResult( final CompletableFuture<T> task )
+    {
+        assert nonNull( task ) : "task is null";
+
+        final T retValue;
+        try
+        {
+            retValue = task.join();
+        }
+        catch( final CompletionException e )
+        {
+            switch( e.getCause() )
+            {
+                case final RuntimeException runtimeException -> throw runtimeException;
+                case final Error error -> throw error;
+                case null, default -> throw e;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  awaitResult()
+
+    /**
+     *  Passes at least one result from the given pending rendering tasks to
+     *  the given action, and removes the respective task.
+     *
+     *  @param  pending The pending tasks.
+     *  @param  preserveOrder   {@code true} if the results have to be
+     *      processed in the sequence of the tasks, {@code false} if they
+     *      can be processed in the sequence of their completion.
+     *  @param  action  The action that processes the results.
+     */
+    private static final void drainTasks( final Deque<CompletableFuture<String>> pending, final boolean preserveOrder, final Consumer<? super String> action )
+    {
+        assert nonNull( pending ) : "pending is null";
+        assert !pending.isEmpty() : "pending is empty";
+        assert nonNull( action ) : "action is null";
+
+        if( preserveOrder )
+        {
+            action.accept( awaitResult( pending.removeFirst() ) );
+        }
+        else
+        {
+            awaitResult( CompletableFuture.anyOf( pending.toArray( CompletableFuture []::new ) ) );
+            final var iterator = pending.iterator();
+            while( iterator.hasNext() )
+            {
+                final var task = iterator.next();
+                if( task.isDone() )
+                {
+                    iterator.remove();
+                    action.accept( awaitResult( task ) );
+                }
+            }
+        }
+    }   //  drainTasks()
+
+    /**
+     *  Retrieves the value for the variable with the given name, and replaces
+     *  the variables in it recursively.
+     *
+     *  @param  name    The name of the variable.
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @param  cache   The values that were already expanded.
+     *  @param  inProgress  The names of the variables whose values are
+     *      currently expanded, in the sequence of their nesting.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the expanded value; empty if the variable could not be
+     *      resolved.
+     *  @throws ValidationException The value of the variable refers to the
+     *      variable itself.
+     */
+    private static final Optional<String> expandVariable( final String name, final Function<? super String, ? extends Optional<? extends CharSequence>> retriever, final Map<String,Optional<String>> cache, final Set<String> inProgress ) throws ValidationException
+    {
+        assert nonNull( name ) : "name is null";
+        assert nonNull( retriever ) : "retriever is null";
+        assert nonNull( cache ) : "cache is null";
+        assert nonNull( inProgress ) : "inProgress is null";
+
+        var retValue = cache.get( name );
+        if( isNull( retValue ) )
+        {
+            if( !inProgress.add( name ) )
+            {
+                final var cycle = new StringJoiner( " -> " );
+                inProgress.stream().dropWhile( n -> !n.equals( name ) ).forEach( cycle::add );
+                cycle.add( name );
+                throw new ValidationException( "Cyclic variable reference: %s".formatted( cycle ) );
+            }
+
+            final Optional<? extends CharSequence> value = retriever.apply( name );
+            retValue = value.isPresent()
+                ? Optional.of( compile( value.get() ).replaceVariable( n -> expandVariable( n, retriever, cache, inProgress ) ) )
+                : Optional.empty();
+
+            inProgress.remove( name );
+            cache.put( name, retValue );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  expandVariable()
+
+    /**
+     *  <p>{@summary Checks whether at the given position of the given text
+     *  starts a variable as defined by
+     *  {@link Template#VARIABLE_PATTERN}.} If so, the method returns the
+     *  position of the closing curly bracket.</p>
+     *  <p>This is a hand-written equivalent for the regular expression: after
+     *  the opening &quot;<code>${</code>&quot;, either a single underscore or
+     *  an optional prefix followed by an alphabetic character is required,
+     *  then anything except a line terminator up to the next closing
+     *  bracket.</p>
+     *
+     *  @param  text    The text.
+     *  @param  start   The position of the dollar sign.
+     *  @param  len The length of the text.
+     *  @return The position of the closing bracket; if there is no variable
+     *      at the given position, a negative value
+     *      <code>-(<i>next</i>&nbsp;+&nbsp;1)</code>, where <i>next</i> is
+     *      the position where the search for the next variable has to
+     *      continue.
+     */
+    private static final int findVariableEnd( final CharSequence text, final int start, final int len )
+    {
+        var retValue = -(start + 1) - 1;
+        var pos = start + 1;
+        if( (pos + 1 < len) && (text.charAt( pos ) == '{') )
+        {
+            ++pos;
+            if( (text.charAt( pos ) == '_') && (pos + 1 < len) && (text.charAt( pos + 1 ) == '}') )
+            {
+                retValue = pos + 1;
+            }
+            else
+            {
+                if( VARIABLE_PREFIXES.indexOf( text.charAt( pos ) ) >= 0 ) ++pos;
+                if( pos < len )
+                {
+                    final var codePoint = Character.codePointAt( text, pos );
+                    if( Character.isAlphabetic( codePoint ) )
+                    {
+                        pos += Character.charCount( codePoint );
+                        SearchLoop: while( pos < len )
+                        {
+                            final var c = text.charAt( pos );
+                            if( c == '}' )
+                            {
+                                retValue = pos;
+                                break SearchLoop;
+                            }
+                            if( isLineTerminator( c ) ) break SearchLoop;
+                            ++pos;
+                        }   //  SearchLoop:
+
+                        /*
+                         * If there was no closing bracket, none of the
+                         * dollar signs up to the line terminator (or the end
+                         * of the text) can start a variable.
+                         */
+                        if( retValue < 0 ) retValue = -pos - 1;
+                    }
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findVariableEnd()
+
+    /**
+     *  <p>{@summary Returns the names of all variables in this template.}</p>
+     *  <p>If there are not any variables in the template, an empty
+     *  {@link Set}
+     *  will be returned.</p>
+     *
+     *  @return The variable names.
+     *
+     *  @see Template#findVariables()
+     */
+    public final Set<String> findVariables() { return Set.of( m_Names ); }
+
+    /**
+     *  Returns the template text this compiled template was created from.
+     *
+     *  @return The template text.
+     */
+    public final String getTemplateText() { return m_TemplateText; }
+
+    /**
+     *  Checks whether this template contains at least one variable.
+     *
+     *  @return {@code true} if the template contains at least one variable,
+     *      {@code false} otherwise.
+     *
+     *  @see Template#hasVariables()
+     */
+    public final boolean hasVariables() { return m_Slots.length > 0; }
+
+    /**
+     *  Checks whether the given character is a line terminator, as defined
+     *  for the &quot;.&quot; in a regular expression.
+     *
+     *  @param  c   The character to check.
+     *  @return {@code true} if the character is a line terminator,
+     *      {@code false} otherwise.
+     *
+     *  @see java.util.regex.Pattern
+     */
+    private static final boolean isLineTerminator( final char c )
+    {
+        final var retValue = (c == '\n') || (c == '\r') || (c == '\u0085') || (c == '\u2028') || (c == '\u2029');
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isLineTerminator()
+
+    /**
+     *  <p>{@summary Replaces the variables in this template with values from
+     *  the given maps.} The method will try the maps in the given sequence,
+     *  it stops after the first match.</p>
+     *  <p>If no replacement value could be found, the variable will not be
+     *  replaced at all.</p>
+     *  <p>If a value from one of the maps contains a variable itself, this
+     *  will not be replaced.</p>
+     *
+     *  @param  sources The maps with the replacement values.
+     *  @return The new text.
+     *
+     *  @see Template#replaceVariable(CharSequence, Map...)
+     */
+    @SafeVarargs
+    public final String replaceVariable( final Map<String,? extends Object>... sources )
+    {
+        requireNonNullArgument( sources, "sources" );
+
+        final var retValue = replaceVariable( variable -> Template.retrieveVariableSequence( variable, sources ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariable()
+
+    /**
+     *  <p>{@summary Replaces the variables in this template with values
+     *  returned by the given retriever function for the variable name.}</p>
+     *  <p>If no replacement value could be found, the variable will not be
+     *  replaced at all.</p>
+     *  <p>If the retriever function returns a value that contains a variable
+     *  itself, this will not be replaced.</p>
+     *  <p>The retriever function will be called only once for each variable
+     *  name; if the template contains the same variable multiple times, it
+     *  will always be replaced with the same value.</p>
+     *
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @return The new text.
+     *
+     *  @see Template#replaceVariable(CharSequence, Function)
+     */
+    public final String replaceVariable( final Function<? super String, ? extends Optional<? extends CharSequence>> retriever )
+    {
+        final var values = resolveValues( requireNonNullArgument( retriever, "retriever" ) );
+
+        //---* Determine the exact length of the result *----------------------
+        var len = m_LiteralsLength;
+        for( final var slot : m_Slots ) len += values [slot].length();
+
+        final var buffer = new StringBuilder( len );
+        buffer.append( m_Literals [0] );
+        for( var i = 0; i < m_Slots.length; ++i )
+        {
+            buffer.append( values [m_Slots [i]] ).append( m_Literals [i + 1] );
+        }
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariable()
+
+    /**
+     *  <p>{@summary Replaces the variables in this template with values
+     *  returned by the given retriever function for the variable name, and
+     *  writes the result to the given
+     *  {@link Appendable}.}</p>
+     *  <p>If no replacement value could be found, the variable will not be
+     *  replaced at all.</p>
+     *  <p>If the retriever function returns a value that contains a variable
+     *  itself, this will not be replaced.</p>
+     *  <p>The retriever function will be called only once for each variable
+     *  name; if the template contains the same variable multiple times, it
+     *  will always be replaced with the same value.</p>
+     *  <p>The values are written to the target as they are, without being
+     *  converted to a
+     *  {@link String}
+     *  first; the result itself is never held in memory completely.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target for the result.
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    public final <A extends Appendable> A replaceVariable( final A target, final Function<? super String, ? extends Optional<? extends CharSequence>> retriever ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        requireNonNullArgument( retriever, "retriever" );
+
+        final var values = new CharSequence [m_Names.length];
+        target.append( m_Literals [0] );
+        for( var i = 0; i < m_Slots.length; ++i )
+        {
+            final var slot = m_Slots [i];
+            if( isNull( values [slot] ) ) values [slot] = resolveValue( retriever, slot );
+            target.append( values [slot] ).append( m_Literals [i + 1] );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  replaceVariable()
+
+    /**
+     *  <p>{@summary Replaces the variables in this template with values from
+     *  the given maps, and writes the result to the given
+     *  {@link Appendable}.} The method will try the maps in the given
+     *  sequence, it stops after the first match.</p>
+     *  <p>Values that are instances of
+     *  {@link CharSequence}
+     *  are written to the target as they are; for all other values, the
+     *  result of
+     *  {@link Object#toString()}
+     *  is used.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  target  The target for the result.
+     *  @param  sources The maps with the replacement values.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     *
+     *  @see #replaceVariable(Map...)
+     */
+    @SafeVarargs
+    public final <A extends Appendable> A replaceVariable( final A target, final Map<String,? extends Object>... sources ) throws IOException
+    {
+        requireNonNullArgument( sources, "sources" );
+
+        final var retValue = replaceVariable( target, variable -> Template.retrieveVariableSequence( variable, sources ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariable()
+
+    /**
+     *  <p>{@summary Replaces the variables in this template with values
+     *  returned by the given retriever function for the variable name, and
+     *  writes the result, encoded with the given
+     *  {@link Charset},
+     *  to the given
+     *  {@link WritableByteChannel}.}</p>
+     *  <p>The encoding is done through a buffer of fixed size, so the memory
+     *  consumption does not depend on the length of the result. The channel
+     *  will not be closed.</p>
+     *
+     *  @param  <C> The type of the target.
+     *  @param  target  The target for the result.
+     *  @param  charset The character set for the encoding.
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     *
+     *  @see #replaceVariable(Appendable, Function)
+     */
+    public final <C extends WritableByteChannel> C replaceVariable( final C target, final Charset charset, final Function<? super String, ? extends Optional<? extends CharSequence>> retriever ) throws IOException
+    {
+        final var writer = newWriter( requireNonNullArgument( target, "target" ), requireNonNullArgument( charset, "charset" ).newEncoder(), DEFAULT_BUFFER_SIZE );
+        replaceVariable( writer, retriever );
+        writer.flush();
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  replaceVariable()
+
+    /**
+     *  <p>{@summary Replaces the variables in this template with values from
+     *  the given maps, and writes the result, encoded with the given
+     *  {@link Charset},
+     *  to the given
+     *  {@link WritableByteChannel}.} The method will try the maps in the
+     *  given sequence, it stops after the first match.</p>
+     *  <p>The encoding is done through a buffer of fixed size, so the memory
+     *  consumption does not depend on the length of the result. The channel
+     *  will not be closed.</p>
+     *
+     *  @param  <C> The type of the target.
+     *  @param  target  The target for the result.
+     *  @param  charset The character set for the encoding.
+     *  @param  sources The maps with the replacement values.
+     *  @return The target.
+     *  @throws IOException Writing to the target failed.
+     *
+     *  @see #replaceVariable(Appendable, Map...)
+     */
+    @SafeVarargs
+    public final <C extends WritableByteChannel> C replaceVariable( final C target, final Charset charset, final Map<String,? extends Object>... sources ) throws IOException
+    {
+        requireNonNullArgument( sources, "sources" );
+
+        final var retValue = replaceVariable( target, charset, variable -> Template.retrieveVariableSequence( variable, sources ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariable()
+
+    /**
+     *  <p>{@summary Replaces the variables in this template with values
+     *  returned by the given retriever function for the variable name; if a
+     *  value contains variables itself, these will be replaced, too.}</p>
+     *  <p>The expansion is done in a single pass: the value for each variable
+     *  is retrieved and expanded only once per call, and then re-used for
+     *  each further occurrence, regardless whether that is in the template
+     *  itself or in another value.</p>
+     *  <p>If no replacement value could be found for a variable, it will not
+     *  be replaced at all.</p>
+     *
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @return The new text.
+     *  @throws ValidationException The value of a variable refers to the
+     *      variable itself, directly or through other variables.
+     *
+     *  @see Template#replaceVariableRecursively(CharSequence, Function)
+     */
+    public final String replaceVariableRecursively( final Function<? super String, ? extends Optional<? extends CharSequence>> retriever ) throws ValidationException
+    {
+        requireNonNullArgument( retriever, "retriever" );
+
+        final Map<String,Optional<String>> cache = new HashMap<>();
+        final Set<String> inProgress = new LinkedHashSet<>();
+        final var retValue = replaceVariable( name -> expandVariable( name, retriever, cache, inProgress ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariableRecursively()
+
+    /**
+     *  <p>{@summary Replaces the variables in this template with values from
+     *  the given maps; if a value contains variables itself, these will be
+     *  replaced, too.} The method will try the maps in the given sequence, it
+     *  stops after the first match.</p>
+     *  <p>The semantics are the same as for
+     *  {@link #replaceVariableRecursively(Function)}.</p>
+     *
+     *  @param  sources The maps with the replacement values.
+     *  @return The new text.
+     *  @throws ValidationException The value of a variable refers to the
+     *      variable itself, directly or through other variables.
+     *
+     *  @see Template#replaceVariableRecursively(CharSequence, Map...)
+     */
+    @SafeVarargs
+    public final String replaceVariableRecursively( final Map<String,? extends Object>... sources ) throws ValidationException
+    {
+        requireNonNullArgument( sources, "sources" );
+
+        final var retValue = replaceVariableRecursively( variable -> Template.retrieveVariableSequence( variable, sources ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariableRecursively()
+
+    /**
+     *  <p>{@summary Replaces the variables in this template with values
+     *  returned by the given retriever function for the variable name, and
+     *  appends the result to the given
+     *  {@link StringBuilder}.}</p>
+     *  <p>The semantics are the same as for
+     *  {@link #replaceVariable(Function)}.</p>
+     *
+     *  @param  target  The target for the result.
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @return The target.
+     */
+    public final StringBuilder replaceVariable( final StringBuilder target, final Function<? super String, ? extends Optional<? extends CharSequence>> retriever )
+    {
+        requireNonNullArgument( target, "target" ).ensureCapacity( target.length() + m_LiteralsLength + m_Slots.length * ESTIMATED_VALUE_LENGTH );
+        try
+        {
+            replaceVariable( (Appendable) target, retriever );
+        }
+        catch( final IOException e )
+        {
+            throw new UnexpectedExceptionError( "StringBuilder does not throw IOException", e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  replaceVariable()
+
+    /**
+     *  <p>{@summary Renders this template for each of the given retriever
+     *  functions.} The template text is scanned only once, for all
+     *  retrievers.</p>
+     *  <p>The returned stream is lazy, and it is sequential or parallel
+     *  like the given stream; its encounter order is that of the
+     *  retrievers.</p>
+     *
+     *  @param  retrievers  The functions that will retrieve the replacement
+     *      values for the variable names; one per result.
+     *  @return The results.
+     *
+     *  @see #replaceVariable(Function)
+     */
+    public final Stream<String> replaceVariableForEachRetriever( final Stream<? extends Function<? super String, ? extends Optional<? extends CharSequence>>> retrievers )
+    {
+        final Stream<String> retValue = requireNonNullArgument( retrievers, "retrievers" ).map( retriever -> replaceVariable( retriever ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariableForEachRetriever()
+
+    /**
+     *  <p>{@summary Renders this template for each of the given retriever
+     *  functions, using the given
+     *  {@link Executor},
+     *  and passes the results to the given action.}</p>
+     *  <p>The rendering tasks are submitted to the executor, but only a
+     *  limited number of them is pending at any time, so that memory
+     *  consumption does not depend on the number of retrievers. The action
+     *  is always called on the current thread, so it does not need to be
+     *  thread-safe; the method returns after the last result was
+     *  processed.</p>
+     *  <p>If {@code preserveOrder} is {@code true}, the action gets the
+     *  results in the sequence of the retrievers, otherwise in the sequence
+     *  of their completion.</p>
+     *  <p>If one of the rendering tasks fails, the exception will be
+     *  rethrown, and the remaining retrievers will not be processed.</p>
+     *
+     *  @param  retrievers  The functions that will retrieve the replacement
+     *      values for the variable names; one per result. The functions will
+     *      be called on the threads of the executor.
+     *  @param  executor    The executor for the rendering tasks; this could
+     *      be a
+     *      {@link java.util.concurrent.ForkJoinPool}.
+     *  @param  preserveOrder   {@code true} if the results have to be passed
+     *      to the action in the sequence of the retrievers, {@code false}
+     *      otherwise.
+     *  @param  action  The action that processes the results.
+     */
+    public final void replaceVariableForEachRetriever( final Iterable<? extends Function<? super String, ? extends Optional<? extends CharSequence>>> retrievers, final Executor executor, final boolean preserveOrder, final Consumer<? super String> action )
+    {
+        requireNonNullArgument( retrievers, "retrievers" );
+        requireNonNullArgument( executor, "executor" );
+        requireNonNullArgument( action, "action" );
+
+        final var maxPending = TASKS_PER_THREAD * (executor instanceof final ForkJoinPool pool ? pool.getParallelism() : Runtime.getRuntime().availableProcessors());
+        final Deque<CompletableFuture<String>> pending = new ArrayDeque<>( maxPending );
+        for( final var retriever : retrievers )
+        {
+            pending.addLast( CompletableFuture.supplyAsync( () -> replaceVariable( retriever ), executor ) );
+            if( pending.size() >= maxPending ) drainTasks( pending, preserveOrder, action );
+        }
+        while( !pending.isEmpty() ) drainTasks( pending, preserveOrder, action );
+    }   //  replaceVariableForEachRetriever()
+
+    /**
+     *  <p>{@summary Renders this template for each of the given source maps.}
+     *  The template text is scanned only once, for all sources.</p>
+     *  <p>The returned stream is lazy, and it is sequential or parallel
+     *  like the given stream; its encounter order is that of the
+     *  sources.</p>
+     *
+     *  @param  sources The maps with the replacement values; one per result.
+     *  @return The results.
+     *
+     *  @see #replaceVariable(Map...)
+     */
+    public final Stream<String> replaceVariableForEachSource( final Stream<? extends Map<String,? extends Object>> sources )
+    {
+        final Stream<String> retValue = requireNonNullArgument( sources, "sources" ).map( source -> replaceVariable( source ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariableForEachSource()
+
+    /**
+     *  <p>{@summary Renders this template for each of the given source maps,
+     *  using the given
+     *  {@link Executor},
+     *  and passes the results to the given action.}</p>
+     *  <p>The semantics are the same as for
+     *  {@link #replaceVariableForEachRetriever(Iterable, Executor, boolean, Consumer)}.</p>
+     *
+     *  @param  sources The maps with the replacement values; one per result.
+     *  @param  executor    The executor for the rendering tasks; this could
+     *      be a
+     *      {@link java.util.concurrent.ForkJoinPool}.
+     *  @param  preserveOrder   {@code true} if the results have to be passed
+     *      to the action in the sequence of the sources, {@code false}
+     *      otherwise.
+     *  @param  action  The action that processes the results.
+     */
+    public final void replaceVariableForEachSource( final Iterable<? extends Map<String,? extends Object>> sources, final Executor executor, final boolean preserveOrder, final Consumer<? super String> action )
+    {
+        requireNonNullArgument( sources, "sources" );
+
+        final Iterable<Function<String,Optional<CharSequence>>> retrievers = () -> new Iterator<>()
+        {
+            /**
+             *  The iterator for the sources.
+             */
+            private final Iterator<? extends Map<String,? extends Object>> m_Sources = sources.iterator();
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final boolean hasNext() { return m_Sources.hasNext(); }
+
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final Function<String,Optional<CharSequence>> next()
+            {
+                final Map<String,? extends Object> source = m_Sources.next();
+                final Function<String,Optional<CharSequence>> retValue = variable -> Template.retrieveVariableSequence( variable, source );
+
+                //---* Done *--------------------------------------------------
+                return retValue;
+            }   //  next()
+        };
+        replaceVariableForEachRetriever( retrievers, executor, preserveOrder, action );
+    }   //  replaceVariableForEachSource()
+
+    /**
+     *  <p>{@summary Replaces the variables in the template text that is read
+     *  from the given
+     *  {@link Reader}
+     *  with values returned by the given retriever function, and writes the
+     *  result to the given
+     *  {@link Appendable}.}</p>
+     *  <p>The template text is read in chunks and will not be held in memory
+     *  completely.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  source  The source for the template text.
+     *  @param  target  The target for the result.
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @return The target.
+     *  @throws IOException Reading from the source or writing to the target
+     *      failed.
+     */
+    static final <A extends Appendable> A render( final Reader source, final A target, final Function<? super String, ? extends Optional<? extends CharSequence>> retriever ) throws IOException
+    {
+        requireNonNullArgument( source, "source" );
+        requireNonNullArgument( target, "target" );
+        requireNonNullArgument( retriever, "retriever" );
+
+        final Map<String,CharSequence> cache = new HashMap<>();
+        final var renderer = new StreamRenderer( target, name -> cache.computeIfAbsent( name, n ->
+        {
+            final Optional<? extends CharSequence> value = retriever.apply( n );
+            return value.isPresent() ? value.get() : VARIABLE_TEMPLATE.formatted( n );
+        } ) );
+        final var buffer = new char [DEFAULT_BUFFER_SIZE];
+        var len = 0;
+        while( (len = source.read( buffer )) >= 0 ) renderer.feed( buffer, len );
+        renderer.finish();
+
+        //---* Done *----------------------------------------------------------
+        return target;
+    }   //  render()
+
+    /**
+     *  Retrieves the value for the variable with the given index. If the
+     *  variable cannot be resolved, its original form will be returned.
+     *
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @param  index   The index of the variable in
+     *      {@link #m_Names}.
+     *  @return The value.
+     */
+    private final CharSequence resolveValue( final Function<? super String, ? extends Optional<? extends CharSequence>> retriever, final int index )
+    {
+        assert nonNull( retriever ) : "retriever is null";
+
+        final Optional<? extends CharSequence> value = retriever.apply( m_Names [index] );
+        final CharSequence retValue = value.isPresent() ? value.get() : m_Placeholders [index];
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  resolveValue()
+
+    /**
+     *  Retrieves the values for all variables in this template, in the
+     *  sequence of their first occurrence. Variables that cannot be resolved
+     *  will get their original form as the value.
+     *
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @return The values; the index is the same as for
+     *      {@link #m_Names}.
+     */
+    private final CharSequence [] resolveValues( final Function<? super String, ? extends Optional<? extends CharSequence>> retriever )
+    {
+        assert nonNull( retriever ) : "retriever is null";
+
+        final var retValue = new CharSequence [m_Names.length];
+        for( var i = 0; i < m_Names.length; ++i )
+        {
+            retValue [i] = resolveValue( retriever, i );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  resolveValues()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString() { return m_TemplateText; }
+}
+//  class CompiledTemplate
+
+/*
+ *  End of File
+ */
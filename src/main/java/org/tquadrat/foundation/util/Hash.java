@@ -26,20 +26,34 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.zip.Checksum;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.util.internal.HashBuilderImpl;
 import org.tquadrat.foundation.util.internal.HashImpl;
 
 /**
  *  <p>{@summary The definition for a wrapper around hash values of any kind.}
  *  These hashes are often used as checksums to validate the integrity of files
  *  or messages.</p>
+ *  <p>A hash for data that is not available at once can be calculated with
+ *  a
+ *  {@link Builder}
+ *  that is obtained from
+ *  {@link #builder(String)}.</p>
+ *  <p>The methods that take a
+ *  {@link MessageDigest}
+ *  will reset it before use, so that instance must not be used by another
+ *  thread at the same time; use a
+ *  {@link Builder}
+ *  instead if that cannot be guaranteed.</p>
  *
  *  @version $Id: Hash.java 1052 2023-03-06 06:30:36Z tquadrat $
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
@@ -52,9 +66,133 @@ import org.tquadrat.foundation.util.internal.HashImpl;
 public sealed interface Hash extends Cloneable, Serializable
     permits HashImpl
 {
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary A builder that calculates a
+     *  {@link Hash}
+     *  from data that is passed to it piece by piece.}</p>
+     *  <p>The
+     *  {@link MessageDigest}
+     *  that is used by a builder is taken from a cache that is maintained for
+     *  each thread, and it is returned to that cache by
+     *  {@link #finish()};
+     *  so a new instance of {@code MessageDigest} is only created when there
+     *  is no unused one for the algorithm in the cache of the current
+     *  thread.</p>
+     *  <p>After {@code finish()} was called, the builder cannot be used any
+     *  more; all further calls to its methods will cause an
+     *  {@link IllegalStateException}.</p>
+     *
+     *  @note   Like the {@code MessageDigest} itself, a builder is not
+     *      thread-safe.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.26.0" )
+    public sealed interface Builder
+        permits HashBuilderImpl
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Completes the calculation of the hash.
+         *
+         *  @return The hash for all the data that was passed to this
+         *      builder.
+         *  @throws IllegalStateException   The builder was already finished.
+         */
+        public Hash finish() throws IllegalStateException;
+
+        /**
+         *  Adds the given bytes to the data for the hash.
+         *
+         *  @param  data    The bytes.
+         *  @return This builder.
+         *  @throws IllegalStateException   The builder was already finished.
+         */
+        public Builder update( final byte [] data ) throws IllegalStateException;
+
+        /**
+         *  Adds the given bytes to the data for the hash.
+         *
+         *  @param  data    The array with the bytes.
+         *  @param  offset  The index of the first byte.
+         *  @param  length  The number of bytes.
+         *  @return This builder.
+         *  @throws IllegalStateException   The builder was already finished.
+         */
+        public Builder update( final byte [] data, final int offset, final int length ) throws IllegalStateException;
+
+        /**
+         *  Adds the remaining bytes from the given buffer to the data for the
+         *  hash; afterwards, the position of the buffer is its limit.
+         *
+         *  @param  data    The buffer.
+         *  @return This builder.
+         *  @throws IllegalStateException   The builder was already finished.
+         */
+        public Builder update( final ByteBuffer data ) throws IllegalStateException;
+
+        /**
+         *  Adds the given characters, encoded as UTF-8, to the data for the
+         *  hash.
+         *
+         *  @param  data    The characters.
+         *  @return This builder.
+         *  @throws IllegalStateException   The builder was already finished.
+         */
+        public Builder update( final CharSequence data ) throws IllegalStateException;
+
+        /**
+         *  <p>{@summary Adds the given characters, encoded with the given
+         *  character set, to the data for the hash.} The characters are
+         *  encoded in chunks, without creating a byte array for all of
+         *  them.</p>
+         *  <p>Each call is encoded on its own, the same as by
+         *  {@link String#getBytes(Charset)};
+         *  characters that cannot be encoded, including a surrogate
+         *  character without its counterpart, are replaced by the
+         *  replacement bytes of the character set.</p>
+         *
+         *  @param  data    The characters.
+         *  @param  encoding    The character set.
+         *  @return This builder.
+         *  @throws IllegalStateException   The builder was already finished.
+         */
+        public Builder update( final CharSequence data, final Charset encoding ) throws IllegalStateException;
+    }
+    //  interface Builder
+
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  <p>{@summary Returns a builder that calculates a hash with the
+     *  {@link MessageDigest}
+     *  for the given algorithm.}</p>
+     *
+     *  @param  algorithm   The name of the algorithm, like
+     *      &quot;SHA-256&quot;.
+     *  @return The builder.
+     *  @throws NoSuchAlgorithmException    The given algorithm is not
+     *      supported.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static Builder builder( final String algorithm ) throws NoSuchAlgorithmException
+    {
+        return new HashBuilderImpl( algorithm );
+    }   //  builder()
+
     /**
      *  Returns the hash as an array of bytes.
      *
@@ -135,6 +273,8 @@ public sealed interface Hash extends Cloneable, Serializable
     /**
      *  Creates the hash for the given byte array, using the given algorithm.
      *
+     *  @note   See the class comment on sharing the {@code MessageDigest}.
+     *
      *  @param  data    The input data.
      *  @param  algorithm   The algorithm
      *  @return A new instance of {@code Hash}.
@@ -147,6 +287,8 @@ public sealed interface Hash extends Cloneable, Serializable
     /**
      *  Creates the hash for the given String, using the given algorithm.
      *
+     *  @note   See the class comment on sharing the {@code MessageDigest}.
+     *
      *  @param  data    The input data.
      *  @param  algorithm   The algorithm
      *  @return A new instance of {@code Hash}.
@@ -159,6 +301,8 @@ public sealed interface Hash extends Cloneable, Serializable
     /**
      *  Creates the hash for the given String, using the given algorithm.
      *
+     *  @note   See the class comment on sharing the {@code MessageDigest}.
+     *
      *  @param  data    The input data.
      *  @param  encoding    The encoding for the String.
      *  @param  algorithm   The algorithm
@@ -172,6 +316,8 @@ public sealed interface Hash extends Cloneable, Serializable
     /**
      *  Creates the hash for the given file, using the given algorithm.
      *
+     *  @note   See the class comment on sharing the {@code MessageDigest}.
+     *
      *  @param  data    The input data.
      *  @param  algorithm   The algorithm
      *  @throws IOException Problems to process the file.
@@ -185,6 +331,8 @@ public sealed interface Hash extends Cloneable, Serializable
     /**
      *  Creates the hash for the given file, using the given algorithm.
      *
+     *  @note   See the class comment on sharing the {@code MessageDigest}.
+     *
      *  @param  data    The input data.
      *  @param  algorithm   The algorithm
      *  @return A new instance of {@code Hash}.
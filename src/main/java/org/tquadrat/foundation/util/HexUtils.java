@@ -17,10 +17,21 @@
 
 package org.tquadrat.foundation.util;
 
+import static java.lang.invoke.MethodHandles.byteArrayViewVarHandle;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Arrays.fill;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.checkFromIndexSize;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
 
-import java.util.HexFormat;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
@@ -38,6 +49,12 @@ import org.tquadrat.foundation.exception.ValidationException;
  *  <p>Partially, the methods got obsolete with the introduction of
  *  {@link java.util.HexFormat}
  *  in Java&nbsp;17.</p>
+ *  <p>The methods {@code convertFromHex()} and {@code convertToHex()}
+ *  convert whole arrays or buffers in a single pass, using lookup tables,
+ *  and write the result to a target that is provided by the caller. When
+ *  hexadecimal digits are written as bytes, four input bytes are converted
+ *  at once, with the arithmetic on the eight lanes of a {@code long}
+ *  (&quot;SIMD within a register&quot;).</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
  *  @thanks Craig R. McClanahan
@@ -50,6 +67,84 @@ import org.tquadrat.foundation.exception.ValidationException;
 @UtilityClass
 public final class HexUtils
 {
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The size of the buffer that is used when hexadecimal digits are
+     *  written to an
+     *  {@link Appendable},
+     *  or to a
+     *  {@link ByteBuffer}
+     *  without an accessible array: {@value}.
+     */
+    private static final int BUFFER_SIZE = 1024;
+
+    /**
+     *  The message for invalid hexadecimal digits: {@value}.
+     */
+    private static final String MSG_InvalidDigits = "The input contains characters that are not hexadecimal digits";
+
+    /**
+     *  The mask that is used to distribute the nibbles of an {@code int}
+     *  value to the lanes of a {@code long} value: {@value}.
+     */
+    private static final long NIBBLE_MASK = 0x0F0F0F0F0F0F0F0FL;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The view to a byte array as an array of {@code int} values, in big
+     *  endian order.
+     */
+    private static final VarHandle m_IntView = byteArrayViewVarHandle( int [].class, BIG_ENDIAN );
+
+    /**
+     *  The view to a byte array as an array of {@code long} values, in big
+     *  endian order.
+     */
+    private static final VarHandle m_LongView = byteArrayViewVarHandle( long [].class, BIG_ENDIAN );
+
+    /**
+     *  The two lowercase hexadecimal digits for each byte value.
+     */
+    private static final char [] m_LowerCasePairs;
+
+    /**
+     *  The values of the hexadecimal digits, for the characters up to
+     *  U+007F; -1 for all other characters.
+     */
+    private static final int [] m_Nibbles;
+
+    /**
+     *  The two uppercase hexadecimal digits for each byte value.
+     */
+    private static final char [] m_UpperCasePairs;
+
+    static
+    {
+        final var lowerCaseDigits = "0123456789abcdef";
+        final var upperCaseDigits = "0123456789ABCDEF";
+        m_LowerCasePairs = new char [512];
+        m_UpperCasePairs = new char [512];
+        for( var i = 0; i < 256; ++i )
+        {
+            m_LowerCasePairs [i * 2] = lowerCaseDigits.charAt( i >> 4 );
+            m_LowerCasePairs [i * 2 + 1] = lowerCaseDigits.charAt( i & 0xF );
+            m_UpperCasePairs [i * 2] = upperCaseDigits.charAt( i >> 4 );
+            m_UpperCasePairs [i * 2 + 1] = upperCaseDigits.charAt( i & 0xF );
+        }
+
+        m_Nibbles = new int [128];
+        fill( m_Nibbles, -1 );
+        for( var i = 0; i < 16; ++i )
+        {
+            m_Nibbles [lowerCaseDigits.charAt( i )] = i;
+            m_Nibbles [upperCaseDigits.charAt( i )] = i;
+        }
+    }
+
         /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
@@ -61,6 +156,197 @@ public final class HexUtils
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Writes the given characters to the given
+     *  {@link Appendable}.
+     *
+     *  @param  target  The target.
+     *  @param  chars   The array with the characters.
+     *  @param  length  The number of characters to write.
+     *  @throws IOException Writing to the target failed.
+     */
+    private static final void append( final Appendable target, final char [] chars, final int length ) throws IOException
+    {
+        switch( target )
+        {
+            case final StringBuilder builder -> builder.append( chars, 0, length );
+            case final Writer writer -> writer.write( chars, 0, length );
+            default -> target.append( CharBuffer.wrap( chars, 0, length ) );
+        }
+    }   //  append()
+
+    /**
+     *  <p>{@summary Converts the hexadecimal digits from the given buffer
+     *  into the corresponding bytes, and writes these to the given target
+     *  buffer.} Each digit is a single byte with the ASCII code of the
+     *  digit; the method will not distinguish between upper or lower case
+     *  for the digits from {@code 0xA} to {@code 0xF}.</p>
+     *  <p>If the number of digits is odd, an additional 0 will be
+     *  <i>prepended</i> to them. The positions of both buffers will be
+     *  advanced by the number of digits that were read and the number of
+     *  bytes that were written, respectively.</p>
+     *
+     *  @note   If the input contains an invalid character, the content of
+     *      the target buffer is undefined.
+     *
+     *  @param  digits  The buffer with the hexadecimal digits.
+     *  @param  target  The target buffer.
+     *  @return The number of bytes that were written.
+     *  @throws ValidationException The input contains a character that is
+     *      not a hexadecimal digit.
+     *  @throws BufferOverflowException The target buffer does not have
+     *      enough space left; nothing was read or written.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final int convertFromHex( final ByteBuffer digits, final ByteBuffer target ) throws ValidationException, BufferOverflowException
+    {
+        final var length = requireNonNullArgument( digits, "digits" ).remaining();
+        final var retValue = (length + 1) / 2;
+        if( retValue > requireNonNullArgument( target, "target" ).remaining() ) throw new BufferOverflowException();
+        final int check;
+        if( digits.hasArray() && target.hasArray() )
+        {
+            check = decode( digits.array(), digits.arrayOffset() + digits.position(), length, target.array(), target.arrayOffset() + target.position() );
+            digits.position( digits.limit() );
+            target.position( target.position() + retValue );
+        }
+        else
+        {
+            final var input = new byte [BUFFER_SIZE];
+            final var output = new byte [BUFFER_SIZE / 2 + 1];
+            var result = 0;
+
+            //---* The first chunk has an odd length if the input has one *----
+            var count = length % BUFFER_SIZE == 0 ? Math.min( length, BUFFER_SIZE ) : length % BUFFER_SIZE;
+            while( count > 0 )
+            {
+                digits.get( input, 0, count );
+                result |= decode( input, 0, count, output, 0 );
+                target.put( output, 0, (count + 1) / 2 );
+                count = Math.min( digits.remaining(), BUFFER_SIZE );
+            }
+            check = result;
+        }
+        if( check < 0 ) throw new ValidationException( MSG_InvalidDigits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  convertFromHex()
+
+    /**
+     *  <p>{@summary Converts the given hexadecimal digits into the
+     *  corresponding bytes, and writes these to the given array.} The
+     *  method will not distinguish between upper or lower case for the
+     *  digits from {@code 0xA} to {@code 0xF}.</p>
+     *  <p>If the number of digits is odd, an additional 0 will be
+     *  <i>prepended</i> to them. The whole input is validated in the same
+     *  pass as it is converted.</p>
+     *
+     *  @note   If the input contains an invalid character, the content of
+     *      the target array is undefined.
+     *
+     *  @param  digits  The array with the hexadecimal digits.
+     *  @param  offset  The index of the first digit.
+     *  @param  length  The number of digits.
+     *  @param  target  The target array.
+     *  @param  targetOffset    The index in the target array for the first
+     *      byte.
+     *  @return The number of bytes that were written.
+     *  @throws ValidationException The input contains a character that is
+     *      not a hexadecimal digit.
+     *  @throws IndexOutOfBoundsException The range is out of bounds for the
+     *      source, or the target array is too small.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final int convertFromHex( final char [] digits, final int offset, final int length, final byte [] target, final int targetOffset ) throws ValidationException
+    {
+        checkFromIndexSize( offset, length, requireNonNullArgument( digits, "digits" ).length );
+        final var retValue = (length + 1) / 2;
+        checkFromIndexSize( targetOffset, retValue, requireNonNullArgument( target, "target" ).length );
+
+        final var end = offset + length;
+        var position = offset;
+        var index = targetOffset;
+        var check = 0;
+        if( length % 2 > 0 )
+        {
+            final var nibble = nibble( digits [position++] );
+            check |= nibble;
+            target [index++] = (byte) nibble;
+        }
+        while( position < end )
+        {
+            final var high = nibble( digits [position++] );
+            final var low = nibble( digits [position++] );
+            check |= high | low;
+            target [index++] = (byte) ((high << 4) | low);
+        }
+        if( check < 0 ) throw new ValidationException( MSG_InvalidDigits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  convertFromHex()
+
+    /**
+     *  <p>{@summary Converts the given hexadecimal digits into the
+     *  corresponding bytes, and writes these to the given array.} The
+     *  method will not distinguish between upper or lower case for the
+     *  digits from {@code 0xA} to {@code 0xF}.</p>
+     *  <p>If the number of digits is odd, an additional 0 will be
+     *  <i>prepended</i> to them. The whole input is validated in the same
+     *  pass as it is converted.</p>
+     *
+     *  @note   If the input contains an invalid character, the content of
+     *      the target array is undefined.
+     *
+     *  @param  digits  The hexadecimal digits.
+     *  @param  offset  The index of the first digit.
+     *  @param  length  The number of digits.
+     *  @param  target  The target array.
+     *  @param  targetOffset    The index in the target array for the first
+     *      byte.
+     *  @return The number of bytes that were written.
+     *  @throws ValidationException The input contains a character that is
+     *      not a hexadecimal digit.
+     *  @throws IndexOutOfBoundsException The range is out of bounds for the
+     *      source, or the target array is too small.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final int convertFromHex( final CharSequence digits, final int offset, final int length, final byte [] target, final int targetOffset ) throws ValidationException
+    {
+        checkFromIndexSize( offset, length, requireNonNullArgument( digits, "digits" ).length() );
+        final var retValue = (length + 1) / 2;
+        checkFromIndexSize( targetOffset, retValue, requireNonNullArgument( target, "target" ).length );
+
+        final var end = offset + length;
+        var position = offset;
+        var index = targetOffset;
+        var check = 0;
+        if( length % 2 > 0 )
+        {
+            final var nibble = nibble( digits.charAt( position++ ) );
+            check |= nibble;
+            target [index++] = (byte) nibble;
+        }
+        while( position < end )
+        {
+            final var high = nibble( digits.charAt( position++ ) );
+            final var low = nibble( digits.charAt( position++ ) );
+            check |= high | low;
+            target [index++] = (byte) ((high << 4) | low);
+        }
+        if( check < 0 ) throw new ValidationException( MSG_InvalidDigits );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  convertFromHex()
+
     /**
      *  <p>{@summary Converts a String of hexadecimal digits into the
      *  corresponding byte array by encoding each two hexadecimal digits as a
@@ -79,10 +365,8 @@ public final class HexUtils
     public static byte[] convertFromHexString( final CharSequence digits )
     {
         final var len = requireNotEmptyArgument( digits, "digits" ).length();
-        final var buffer = new StringBuilder( len + 1 );
-        if( len % 2 > 0 ) buffer.append( '0' );
-        buffer.append( digits );
-        final var retValue = HexFormat.of().parseHex( buffer );
+        final var retValue = new byte [(len + 1) / 2];
+        convertFromHex( digits, 0, len, retValue, 0 );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -106,12 +390,153 @@ public final class HexUtils
     @API( status = STABLE, since = "0.0.5" )
     public static final byte[] convertFromHexCharArray( final char [] digits )
     {
-        final var retValue = convertFromHexString( new String( requireNotEmptyArgument( digits, "digits" ) ) );
+        final var len = requireNotEmptyArgument( digits, "digits" ).length;
+        final var retValue = new byte [(len + 1) / 2];
+        convertFromHex( digits, 0, len, retValue, 0 );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  convertFromHexCharArray()
 
+    /**
+     *  <p>{@summary Converts the given bytes to hexadecimal digits, and
+     *  appends these to the given
+     *  {@link Appendable}.}</p>
+     *
+     *  @param  target  The target for the digits.
+     *  @param  bytes   The array with the bytes.
+     *  @param  offset  The index of the first byte.
+     *  @param  length  The number of bytes.
+     *  @param  upperCase   {@code true} if the digits from {@code 0xA} to
+     *      {@code 0xF} should be written in upper case, {@code false} if
+     *      they should be written in lower case.
+     *  @throws IOException Writing to the target failed.
+     *  @throws IndexOutOfBoundsException The range is out of bounds for the
+     *      source array.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final void convertToHex( final Appendable target, final byte [] bytes, final int offset, final int length, final boolean upperCase ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        checkFromIndexSize( offset, length, requireNonNullArgument( bytes, "bytes" ).length );
+        final var buffer = new char [Math.min( length, BUFFER_SIZE / 2 ) * 2];
+        for( var position = offset; position < offset + length; )
+        {
+            final var count = Math.min( offset + length - position, buffer.length / 2 );
+            encode( bytes, position, count, buffer, 0, upperCase );
+            append( target, buffer, count * 2 );
+            position += count;
+        }
+    }   //  convertToHex()
+
+    /**
+     *  <p>{@summary Converts the remaining bytes from the given buffer to
+     *  hexadecimal digits, and writes these to the given target buffer.}
+     *  Each digit is written as a single byte with the ASCII code of the
+     *  digit.</p>
+     *  <p>The positions of both buffers will be advanced by the number of
+     *  bytes that were read and the number of digits that were written,
+     *  respectively.</p>
+     *
+     *  @param  bytes   The buffer with the bytes.
+     *  @param  target  The target buffer.
+     *  @param  upperCase   {@code true} if the digits from {@code 0xA} to
+     *      {@code 0xF} should be written in upper case, {@code false} if
+     *      they should be written in lower case.
+     *  @return The number of digits that were written.
+     *  @throws BufferOverflowException The target buffer does not have
+     *      enough space left; nothing was read or written.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final int convertToHex( final ByteBuffer bytes, final ByteBuffer target, final boolean upperCase ) throws BufferOverflowException
+    {
+        final var length = requireNonNullArgument( bytes, "bytes" ).remaining();
+        final var retValue = length * 2;
+        if( (length > Integer.MAX_VALUE / 2) || (retValue > requireNonNullArgument( target, "target" ).remaining()) ) throw new BufferOverflowException();
+        if( bytes.hasArray() && target.hasArray() )
+        {
+            encode( bytes.array(), bytes.arrayOffset() + bytes.position(), length, target.array(), target.arrayOffset() + target.position(), upperCase );
+            bytes.position( bytes.limit() );
+            target.position( target.position() + retValue );
+        }
+        else
+        {
+            final var input = new byte [BUFFER_SIZE / 2];
+            final var output = new byte [BUFFER_SIZE];
+            while( bytes.hasRemaining() )
+            {
+                final var count = Math.min( input.length, bytes.remaining() );
+                bytes.get( input, 0, count );
+                encode( input, 0, count, output, 0, upperCase );
+                target.put( output, 0, count * 2 );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  convertToHex()
+
+    /**
+     *  <p>{@summary Converts the given bytes to hexadecimal digits, and
+     *  writes these to the given array.}</p>
+     *
+     *  @param  bytes   The array with the bytes.
+     *  @param  offset  The index of the first byte.
+     *  @param  length  The number of bytes.
+     *  @param  target  The target array.
+     *  @param  targetOffset    The index in the target array for the first
+     *      digit.
+     *  @param  upperCase   {@code true} if the digits from {@code 0xA} to
+     *      {@code 0xF} should be written in upper case, {@code false} if
+     *      they should be written in lower case.
+     *  @return The number of digits that were written.
+     *  @throws IndexOutOfBoundsException The range is out of bounds for the
+     *      source, or the target array is too small.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final int convertToHex( final byte [] bytes, final int offset, final int length, final char [] target, final int targetOffset, final boolean upperCase )
+    {
+        checkFromIndexSize( offset, length, requireNonNullArgument( bytes, "bytes" ).length );
+        checkFromIndexSize( targetOffset, length * 2, requireNonNullArgument( target, "target" ).length );
+        encode( bytes, offset, length, target, targetOffset, upperCase );
+        final var retValue = length * 2;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  convertToHex()
+
+    /**
+     *  <p>{@summary Converts the given bytes to a String of hexadecimal
+     *  digits.}</p>
+     *  <p>This is the converse operation to
+     *  {@link #convertFromHexString(CharSequence)}.</p>
+     *
+     *  @param  bytes   The bytes.
+     *  @param  upperCase   {@code true} if the digits from {@code 0xA} to
+     *      {@code 0xF} should be written in upper case, {@code false} if
+     *      they should be written in lower case.
+     *  @return The hexadecimal digits.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String convertToHexString( final byte [] bytes, final boolean upperCase )
+    {
+        final var length = requireNonNullArgument( bytes, "bytes" ).length;
+        final var buffer = new byte [length * 2];
+        encode( bytes, 0, length, buffer, 0, upperCase );
+        final var retValue = new String( buffer, ISO_8859_1 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  convertToHexString()
+
     /**
      *  Converts an integer in the range form 0 to 15 to a hex digit.
      *
@@ -127,11 +552,145 @@ public final class HexUtils
             throw new ValidationException( "The value %1$d cannot be converted to a single HexDigit".formatted( value ) );
         }
 
-        final var retValue = HexFormat.of().withUpperCase().toLowHexDigit( value );
+        final var retValue = m_UpperCasePairs [value * 2 + 1];
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  convertToHexDigit()
+
+    /**
+     *  Converts the given hexadecimal digits, given as ASCII codes, into
+     *  the corresponding bytes. The arrays must be large enough.
+     *
+     *  @param  digits  The array with the digits.
+     *  @param  offset  The index of the first digit.
+     *  @param  length  The number of digits.
+     *  @param  target  The target array.
+     *  @param  targetOffset    The index in the target array.
+     *  @return A negative value if the input contains a character that is
+     *      not a hexadecimal digit, 0 or a positive value otherwise.
+     */
+    private static final int decode( final byte [] digits, final int offset, final int length, final byte [] target, final int targetOffset )
+    {
+        final var end = offset + length;
+        var position = offset;
+        var index = targetOffset;
+        var retValue = 0;
+        if( length % 2 > 0 )
+        {
+            final var nibble = nibble( digits [position++] & 0xFF );
+            retValue |= nibble;
+            target [index++] = (byte) nibble;
+        }
+        while( position < end )
+        {
+            final var high = nibble( digits [position++] & 0xFF );
+            final var low = nibble( digits [position++] & 0xFF );
+            retValue |= high | low;
+            target [index++] = (byte) ((high << 4) | low);
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  decode()
+
+    /**
+     *  Converts the given bytes to hexadecimal digits, and writes these as
+     *  ASCII codes to the given array. The arrays must be large enough.
+     *
+     *  @param  bytes   The array with the bytes.
+     *  @param  offset  The index of the first byte.
+     *  @param  length  The number of bytes.
+     *  @param  target  The target array.
+     *  @param  targetOffset    The index in the target array.
+     *  @param  upperCase   {@code true} for upper case digits,
+     *      {@code false} for lower case digits.
+     */
+    private static final void encode( final byte [] bytes, final int offset, final int length, final byte [] target, final int targetOffset, final boolean upperCase )
+    {
+        final var end = offset + length;
+        var position = offset;
+        var index = targetOffset;
+
+        //---* Four bytes at once *--------------------------------------------
+        final var letterOffset = upperCase ? 'A' - '9' - 1 : 'a' - '9' - 1;
+        for( ; position + 4 <= end; position += 4, index += 8 )
+        {
+            m_LongView.set( target, index, toDigits( (int) m_IntView.get( bytes, position ), letterOffset ) );
+        }
+
+        //---* The remaining bytes *-------------------------------------------
+        final var pairs = upperCase ? m_UpperCasePairs : m_LowerCasePairs;
+        for( ; position < end; ++position )
+        {
+            final var pair = (bytes [position] & 0xFF) * 2;
+            target [index++] = (byte) pairs [pair];
+            target [index++] = (byte) pairs [pair + 1];
+        }
+    }   //  encode()
+
+    /**
+     *  Converts the given bytes to hexadecimal digits, and writes these to
+     *  the given array. The arrays must be large enough.
+     *
+     *  @param  bytes   The array with the bytes.
+     *  @param  offset  The index of the first byte.
+     *  @param  length  The number of bytes.
+     *  @param  target  The target array.
+     *  @param  targetOffset    The index in the target array.
+     *  @param  upperCase   {@code true} for upper case digits,
+     *      {@code false} for lower case digits.
+     *  @return The index after the last digit.
+     */
+    private static final int encode( final byte [] bytes, final int offset, final int length, final char [] target, final int targetOffset, final boolean upperCase )
+    {
+        final var pairs = upperCase ? m_UpperCasePairs : m_LowerCasePairs;
+        var retValue = targetOffset;
+        for( var position = offset; position < offset + length; ++position )
+        {
+            final var pair = (bytes [position] & 0xFF) * 2;
+            target [retValue++] = pairs [pair];
+            target [retValue++] = pairs [pair + 1];
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  encode()
+
+    /**
+     *  Returns the value of the given hexadecimal digit, without a branch.
+     *
+     *  @param  c   The digit.
+     *  @return The value, or -1 if the character is not a hexadecimal
+     *      digit.
+     */
+    private static final int nibble( final int c )
+    {
+        return m_Nibbles [c & 0x7F] | ((0x7F - c) >> 31);
+    }   //  nibble()
+
+    /**
+     *  Converts the four bytes of the given value to eight hexadecimal
+     *  digits; the lanes of the returned value hold the ASCII codes of the
+     *  digits, with the first digit in the most significant lane.
+     *
+     *  @param  value   The four bytes.
+     *  @param  letterOffset    The distance between the digit '9' and the
+     *      letter for the value 10, minus 1.
+     *  @return The eight digits.
+     */
+    private static final long toDigits( final int value, final int letterOffset )
+    {
+        //---* One nibble per lane *-------------------------------------------
+        final var nibbles = Long.expand( value & 0xFFFF_FFFFL, NIBBLE_MASK );
+
+        //---* 1 in each lane with a nibble of 10 or more *--------------------
+        final var letters = ((nibbles + 0x0606_0606_0606_0606L) >>> 4) & 0x0101_0101_0101_0101L;
+        final var retValue = nibbles + 0x3030_3030_3030_3030L + letters * letterOffset;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toDigits()
 }
 //  class HexUtils
 
@@ -21,27 +21,21 @@ import static java.lang.Character.charCount;
 import static java.lang.Character.isISOControl;
 import static java.lang.Character.isValidCodePoint;
 import static java.lang.Character.isWhitespace;
-import static java.lang.Character.toChars;
 import static java.lang.Character.toLowerCase;
 import static java.lang.Character.toTitleCase;
 import static java.lang.Character.toUpperCase;
 import static java.lang.Integer.min;
 import static java.net.URLDecoder.decode;
 import static java.net.URLEncoder.encode;
-import static java.text.Normalizer.Form.NFD;
-import static java.text.Normalizer.normalize;
-import static java.util.regex.Pattern.DOTALL;
-import static java.util.regex.Pattern.compile;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.lang.CommonConstants.CHAR_ELLIPSIS;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
-import static org.tquadrat.foundation.lang.CommonConstants.NULL_CHAR;
 import static org.tquadrat.foundation.lang.CommonConstants.UTF8;
 import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
-import static org.tquadrat.foundation.util.CharSetUtils.escapeCharacter;
+import static org.tquadrat.foundation.util.IOUtils.DEFAULT_BUFFER_SIZE;
 import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_ABBREVIATE;
 import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_ABBREVIATE_MIDDLE;
 import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_CUT;
@@ -51,9 +45,16 @@ import static org.tquadrat.foundation.util.StringUtils.Padding.PADDING_LEFT;
 import static org.tquadrat.foundation.util.StringUtils.Padding.PADDING_RIGHT;
 import static org.tquadrat.foundation.util.internal.Entities.HTML50;
 import static org.tquadrat.foundation.util.internal.Entities.XML;
+import static org.tquadrat.foundation.util.internal.TokenSpliterator.INTERNED_STRING_TOKENS;
+import static org.tquadrat.foundation.util.internal.TokenSpliterator.STRING_TOKENS;
+import static org.tquadrat.foundation.util.internal.TokenSpliterator.VIEW_TOKENS;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -62,9 +63,10 @@ import java.util.Optional;
 import java.util.SequencedCollection;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.Stream.Builder;
+import java.util.stream.StreamSupport;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
@@ -76,6 +78,13 @@ import org.tquadrat.foundation.exception.NullArgumentException;
 import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
 import org.tquadrat.foundation.exception.ValidationException;
 import org.tquadrat.foundation.lang.Objects;
+import org.tquadrat.foundation.util.SubstringExtractor.DelimiterPair;
+import org.tquadrat.foundation.util.internal.CodePointTokenSpliterator;
+import org.tquadrat.foundation.util.internal.PatternTokenSpliterator;
+import org.tquadrat.foundation.util.internal.SequenceTokenSpliterator;
+import org.tquadrat.foundation.util.internal.TagStripper;
+import org.tquadrat.foundation.util.internal.TextFolder;
+import org.tquadrat.foundation.util.internal.URLCodec;
 
 /**
  *  Library of utility methods that are useful when dealing with Strings. <br>
@@ -323,15 +332,21 @@ public final class StringUtils
     /**
      *  <p>{@summary The regular expression for an HTML or XML comment:
      *  {@value}.}</p>
-     *  <p>This pattern is used by the
+     *  <p>The method
      *  {@link #stripXMLComments(CharSequence)}
-     *  method.</p>
+     *  removes what is matched by this pattern, without using it.</p>
      *
      *  @since 0.0.5
      */
     @API( status = STABLE, since = "0.0.5" )
     public static final String COMMENTREMOVAL_PATTERN = "<!--.+?-->";
 
+    /**
+     *  The size of the tables that flag the ASCII characters that have to be
+     *  escaped: {@value}.
+     */
+    private static final int ASCII_TABLE_SIZE = 0x80;
+
     /**
      *  The message text indicating that the given value for the abbreviation
      *  target length is too short.
@@ -354,9 +369,9 @@ public final class StringUtils
 
     /**
      *  The regular expression for an HTML or XML tag: {@value}.<br>
-     *  <br>This pattern is used by the
+     *  <br>The method
      *  {@link #stripTags(CharSequence)}
-     *  method.<br>
+     *  removes what is matched by this pattern, without using it.<br>
      *  <br>As HTML/XML comments may contain a &quot;greater than&quot; sign
      *  ('&gt;' or '&amp;gt;'), it is necessary to treat comments
      *  separately.<br>
@@ -377,33 +392,30 @@ public final class StringUtils
     ====** Static Initialisations **===========================================
         \*------------------------*/
     /**
-     *  The pattern that is used to identify an HTML or XML comment.
+     *  Flags the ASCII characters that have to be escaped for JSON, indexed
+     *  by the character.
      *
-     *  @see #stripXMLComments(CharSequence)
-     *  @see #COMMENTREMOVAL_PATTERN
+     *  @see #escapeJSON(CharSequence)
      */
-    private static final Pattern m_CommentRemovalPattern;
+    private static final boolean [] m_JSONEscapes;
 
     /**
-     *  The pattern that is used to identify an HTML or XML tag.
+     *  Flags the ASCII characters that have to be escaped for a regular
+     *  expression, indexed by the character.
      *
-     *  @see #stripTags(CharSequence)
-     *  @see #TAGREMOVAL_PATTERN
+     *  @see #escapeRegex(Appendable, CharSequence)
      */
-    private static final Pattern m_TagRemovalPattern;
+    private static final boolean [] m_RegexEscapes;
 
     static
     {
-        //---* The regex patterns *--------------------------------------------
-        try
-        {
-            m_CommentRemovalPattern = compile( COMMENTREMOVAL_PATTERN, DOTALL );
-            m_TagRemovalPattern = compile( TAGREMOVAL_PATTERN, DOTALL );
-        }
-        catch( final PatternSyntaxException e )
-        {
-            throw new ImpossibleExceptionError( "The patterns are constant values that have been tested", e );
-        }
+        //---* The escape tables *---------------------------------------------
+        m_JSONEscapes = new boolean [ASCII_TABLE_SIZE];
+        for( var c = 0; c < ' '; ++c ) m_JSONEscapes [c] = true;
+        for( final var c : "\\\"<>&".toCharArray() ) m_JSONEscapes [c] = true;
+
+        m_RegexEscapes = new boolean [ASCII_TABLE_SIZE];
+        for( final var c : "\\[]{}()^$&*.+|?\t\n\r\f\u0007\u001B".toCharArray() ) m_RegexEscapes [c] = true;
     }
 
         /*--------------*\
@@ -604,6 +616,25 @@ public final class StringUtils
         return retValue;
     }   //  abbreviateMiddle()
 
+    /**
+     *  Appends the Unicode escape sequence for the given character to the
+     *  given buffer; the result is the same as for
+     *  {@link CharSetUtils#escapeCharacter(char)},
+     *  but without creating an intermediate {@code String}.
+     *
+     *  @param  buffer  The target buffer.
+     *  @param  c   The character.
+     */
+    private static final void appendUnicodeEscape( final StringBuilder buffer, final char c )
+    {
+        buffer.append( '\\' )
+            .append( 'u' )
+            .append( Character.forDigit( (c >> 12) & 0xF, 16 ) )
+            .append( Character.forDigit( (c >> 8) & 0xF, 16 ) )
+            .append( Character.forDigit( (c >> 4) & 0xF, 16 ) )
+            .append( Character.forDigit( c & 0xF, 16 ) );
+    }   //  appendUnicodeEscape()
+
     /**
      *  <p>{@summary Breaks a long string into chunks of the given length.}</p>
      *  <p>This method returns an instance of
@@ -647,6 +678,39 @@ public final class StringUtils
         return retValue;
     }   //  breakString()
 
+    /**
+     *  <p>{@summary Breaks a long string into chunks of the given length,
+     *  returning views on the input instead of copies.}</p>
+     *  <p>The chunks are the same as those returned by
+     *  {@link #breakString(CharSequence, int)},
+     *  but they are created only when consumed, and they refer to the input
+     *  without copying it. Therefore the input must not be modified as long
+     *  as the chunks are in use.</p>
+     *
+     *  @param  input   The string.
+     *  @param  chunk   The chunk size.
+     *  @return The chunks from the string; the last chunk could be shorter
+     *      than the others.
+     *
+     *  @see CharSequenceView
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final Stream<CharSequenceView> breakStringViews( final CharSequence input, final int chunk )
+    {
+        if( chunk < 1 ) throw new ValidationException( "Chunk size must not be zero or a negative number: %d".formatted( chunk ) );
+
+        final var len = requireNonNullArgument( input, "input" ).length();
+        final var count = (int) ((len + (long) chunk - 1) / chunk);
+        final var retValue = IntStream.range( 0, count )
+            .map( i -> i * chunk )
+            .mapToObj( start -> VIEW_TOKENS.createToken( input, start, start + min( chunk, len - start ) ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  breakStringViews()
+
     /**
      *  <p>{@summary Breaks a text into lines of the given length, but
      *  different from
@@ -675,6 +739,7 @@ public final class StringUtils
      *  @see java.util.stream.Collectors#joining(CharSequence)
      *  @see java.util.stream.Collectors#joining(CharSequence, CharSequence, CharSequence)
      *  @see java.util.stream.Collectors#toList()
+     *  @see TextWrapper
      *
      *  @since 0.0.5
      */
@@ -991,6 +1056,42 @@ public final class StringUtils
         return retValue;
     }   //  decapitalize()
 
+    /**
+     *  Underlying method for
+     *  {@link #escapeRegex(Appendable, CharSequence)}
+     *  that writes runs of characters that need no escaping as a whole to the
+     *  target.
+     *
+     *  @param  appendable  The appendable receiving the escaped string.
+     *  @param  input   The {@code String} to escape.
+     *  @param  start   The index of the first character in the input that
+     *      may need escaping; all characters before it are copied as they
+     *      are.
+     *  @throws IOException when {@code Appendable} passed throws the exception
+     *      from calls to the
+     *      {@link Appendable#append(CharSequence)}
+     *      method.
+     */
+    private static final void doEscapeRegex( final Appendable appendable, final CharSequence input, final int start ) throws IOException
+    {
+        assert nonNull( appendable ) : "appendable is null";
+        assert nonNull( input ) : "input is null";
+
+        final var len = input.length();
+        var runStart = 0;
+        ScanLoop: for( var i = start; i < len; ++i )
+        {
+            final var c = input.charAt( i );
+            if( !needsRegexEscape( c ) ) continue ScanLoop;
+
+            //---* Write the unchanged characters *----------------------------
+            if( runStart < i ) appendable.append( input, runStart, i );
+            escapeRegex( appendable, c );
+            runStart = i + 1;
+        }   //  ScanLoop:
+        if( runStart < len ) appendable.append( input, runStart, len );
+    }   //  doEscapeRegex()
+
     /**
      *  <p>{@summary Escapes the non-ASCII and special characters in a
      *  {@code String} so that the result can be used in the context of HTML.}
@@ -1046,6 +1147,8 @@ public final class StringUtils
      *  {@link Appendable}.
      *  For details, refer to
      *  {@link #escapeHTML(CharSequence)}.
+     *  The escaped text is written piecewise to the {@code Appendable}, no
+     *  intermediate copy of the complete result will be created.
      *
      *  @param  appendable  The appendable object receiving the escaped string.
      *  @param  input   The {@code String} to escape, may be {@code null}.
@@ -1089,7 +1192,6 @@ public final class StringUtils
      *
      *  @since 0.0.5
      */
-    @SuppressWarnings( "OverlyComplexMethod" )
     @API( status = STABLE, since = "0.0.5" )
     public static final String escapeJSON( final CharSequence input )
     {
@@ -1097,15 +1199,21 @@ public final class StringUtils
         final var len = requireNonNullArgument( input, "input" ).length();
         if( len > 0 )
         {
-            final var buffer = new StringBuilder( len * 2 ).append( '"' );
-            char c;
-            for( var i = 0; i < len; ++i )
+            //---* Find the first character that has to be escaped *-----------
+            var pos = 0;
+            while( (pos < len) && !needsJSONEscape( input.charAt( pos ) ) ) ++pos;
+
+            final var buffer = new StringBuilder( pos < len ? len * 2 : len + 2 ).append( '"' );
+            var runStart = 0;
+            ScanLoop: for( var i = pos; i < len; ++i )
             {
-                c = input.charAt( i );
+                final var c = input.charAt( i );
+                if( !needsJSONEscape( c ) ) continue ScanLoop;
+
+                //---* Write the unchanged characters *------------------------
+                if( runStart < i ) buffer.append( input, runStart, i );
                 switch( c )
                 {
-                    case '\\', '"', '<', '>', '&' -> buffer.append( escapeCharacter( c ) );
-
                     case '\b' -> buffer.append( "\\b" );
 
                     case '\t' -> buffer.append( "\\t" );
@@ -1116,22 +1224,11 @@ public final class StringUtils
 
                     case '\r' -> buffer.append( "\\r" );
 
-                    default ->
-                    {
-                        //noinspection OverlyComplexBooleanExpression,CharacterComparison,UnnecessaryUnicodeEscape
-                        if( (c < ' ')
-                            || ((c >= '\u0080') && (c < '\u00a0'))
-                            || ((c >= '\u2000') && (c < '\u2100')) )
-                        {
-                            buffer.append( escapeCharacter( c ) );
-                        }
-                        else
-                        {
-                            buffer.append( c );
-                        }
-                    }
+                    default -> appendUnicodeEscape( buffer, c );
                 }
-            }
+                runStart = i + 1;
+            }   //  ScanLoop:
+            if( runStart < len ) buffer.append( input, runStart, len );
             buffer.append( '"' );
             retValue = buffer.toString();
         }
@@ -1219,12 +1316,17 @@ public final class StringUtils
         if( nonNull( input ) )
         {
             final var len = input.length();
-            if( len > 0 )
+
+            //---* Find the first character that has to be escaped *-----------
+            var pos = 0;
+            while( (pos < len) && !needsRegexEscape( input.charAt( pos ) ) ) ++pos;
+
+            if( pos < len )
             {
                 final var buffer = new StringBuilder( (len * 12) / 10 );
                 try
                 {
-                    escapeRegex( buffer, input );
+                    doEscapeRegex( buffer, input, pos );
                 }
                 catch( final IOException e )
                 {
@@ -1238,7 +1340,7 @@ public final class StringUtils
             }
             else
             {
-                retValue = EMPTY_STRING;
+                retValue = input.toString();
             }
         }
 
@@ -1267,13 +1369,7 @@ public final class StringUtils
     {
         requireNonNullArgument( appendable, "appendable" );
 
-        if( isNotEmpty( input ) )
-        {
-            ScanLoop: for( var i = 0; i < input.length(); ++i )
-            {
-                escapeRegex( appendable, input.charAt( i ) );
-            }   //  ScanLoop:
-        }
+        if( isNotEmpty( input ) ) doEscapeRegex( appendable, input, 0 );
     }   //  escapeRegex()
 
     /**
@@ -1309,6 +1405,8 @@ public final class StringUtils
      *  <p>becomes:</p>
      *  <p><code>&amp;quot;bread&amp;quot; &amp;amp;
      *  &amp;quot;butter&amp;quot;</code>.</p>
+     *  <p>The escaped text is written piecewise to the {@code Appendable}, no
+     *  intermediate copy of the complete result will be created.</p>
      *
      *  @param  appendable  The appendable object receiving the escaped string.
      *  @param  input   The {@code String} to escape, may be {@code null}.
@@ -1331,6 +1429,98 @@ public final class StringUtils
         if( nonNull( input ) ) XML.escape( appendable, input );
     }   //  escapeXML()
 
+    /**
+     *  Passes the given text through a
+     *  {@link TextFolder}.
+     *
+     *  @param  input   The text.
+     *  @param  toASCII {@code true} if the text should be reduced to ASCII,
+     *      {@code false} if only the diacritical marks should be removed.
+     *  @return The result.
+     */
+    private static final String fold( final CharSequence input, final boolean toASCII )
+    {
+        final var len = input.length();
+        final var retValue = new StringBuilder( len );
+        try
+        {
+            final var folder = new TextFolder( retValue, toASCII );
+            folder.accept( input, 0, len );
+            folder.finish();
+        }
+        catch( final IOException e )
+        {
+            /*
+             * We append to a StringBuilder, and StringBuilder.append() does
+             * not define an IOException.
+             */
+            throw new ImpossibleExceptionError( e );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue.toString();
+    }   //  fold()
+
+    /**
+     *  Passes the text from the given
+     *  {@link Reader}
+     *  through the given
+     *  {@link TextFolder}.
+     *
+     *  @param  folder  The folder.
+     *  @param  input   The source for the text.
+     *  @throws IOException Reading the text or writing the result failed.
+     */
+    private static final void fold( final TextFolder folder, final Reader input ) throws IOException
+    {
+        final var buffer = new char [DEFAULT_BUFFER_SIZE];
+        int read;
+        while( (read = input.read( buffer )) >= 0 ) folder.accept( buffer, 0, read );
+        folder.finish();
+    }   //  fold()
+
+    /**
+     *  Returns the index of the first occurrence of the given target in the
+     *  given input, starting at the given index.
+     *
+     *  @param  input   The input.
+     *  @param  target  The target; it may not be empty.
+     *  @param  from    The index to start the search from.
+     *  @return The index of the target, or -1 if the input does not contain
+     *      the target after {@code from}.
+     */
+    private static final int indexOf( final CharSequence input, final CharSequence target, final int from )
+    {
+        assert nonNull( input ) : "input is null";
+        assert isNotEmpty( target ) : "target is empty";
+
+        var retValue = -1;
+        if( (input instanceof final String string) && (target instanceof final String targetString) )
+        {
+            retValue = string.indexOf( targetString, from );
+        }
+        else
+        {
+            final var first = target.charAt( 0 );
+            final var targetLen = target.length();
+            final var last = input.length() - targetLen;
+            SearchLoop: for( var i = from; i <= last; ++i )
+            {
+                if( input.charAt( i ) != first ) continue SearchLoop;
+                var j = 1;
+                while( (j < targetLen) && (input.charAt( i + j ) == target.charAt( j )) ) ++j;
+                if( j == targetLen )
+                {
+                    retValue = i;
+                    break SearchLoop;
+                }
+            }   //  SearchLoop:
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  indexOf()
+
     /**
      *  Tests if the given String is {@code null} or the empty String.
      *
@@ -1514,6 +1704,44 @@ public final class StringUtils
         return retValue;
     }   //  maxContentLength()
 
+    /**
+     *  Checks whether the given character has to be escaped for JSON.
+     *
+     *  @param  c   The character to check.
+     *  @return {@code true} if the character has to be escaped,
+     *      {@code false} otherwise.
+     *
+     *  @see #escapeJSON(CharSequence)
+     */
+    @SuppressWarnings( "UnnecessaryUnicodeEscape" )
+    private static final boolean needsJSONEscape( final char c )
+    {
+        final var retValue = c < ASCII_TABLE_SIZE
+            ? m_JSONEscapes [c]
+            : (c < '\u00a0') || ((c >= '\u2000') && (c < '\u2100'));
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  needsJSONEscape()
+
+    /**
+     *  Checks whether the given character has to be escaped for a regular
+     *  expression.
+     *
+     *  @param  c   The character to check.
+     *  @return {@code true} if the character has to be escaped,
+     *      {@code false} otherwise.
+     *
+     *  @see #escapeRegex(char)
+     */
+    private static final boolean needsRegexEscape( final char c )
+    {
+        final var retValue = (c < ASCII_TABLE_SIZE) && m_RegexEscapes [c];
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  needsRegexEscape()
+
     /**
      *  <p>{@summary Normalizes the given String to a pure ASCII String.} This
      *  replaces 'ß' by 'ss' and replaces all diacritical characters by their
@@ -1525,6 +1753,12 @@ public final class StringUtils
      *  @note   The Scandinavian letters 'ø' and 'Ø' are not diacritical
      *      letters, nevertheless they will be replaced.
      *
+     *  @note   An input that consists of ASCII characters only is returned
+     *      as it is. The Latin characters up to U+024F and from U+1E00 to
+     *      U+1EFF are mapped with the help of a table; only the other
+     *      characters are decomposed by
+     *      {@link java.text.Normalizer}.
+     *
      *  @param  input   The input string.
      *  @return The normalised String, only containing ASCII characters; it
      *      could be empty.
@@ -1533,17 +1767,33 @@ public final class StringUtils
      */
     public static final String normalizeToASCII( final CharSequence input )
     {
-        final var str = requireNonNullArgument( input, "s" ).toString()
-            .replace( "ß", "ss" )
-            .replace( 'ø', 'o' )
-            .replace( 'Ø', 'O' );
-        final var retValue = normalize( str, NFD )
-            .replaceAll( "[^\\p{ASCII}]", EMPTY_STRING );
+        final var retValue = TextFolder.isASCII( requireNonNullArgument( input, "s" ) ) ? input.toString() : fold( input, true );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  normalizeToASCII()
 
+    /**
+     *  <p>{@summary Normalizes the text that is read from the given
+     *  {@link Reader}
+     *  to pure ASCII, and writes the result to the given target.} The result
+     *  is the same as that of
+     *  {@link #normalizeToASCII(CharSequence)}
+     *  for the same text.</p>
+     *
+     *  @param  target  The target for the normalised text.
+     *  @param  input   The source for the text.
+     *  @throws IOException Reading the text or writing to the target
+     *      failed.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final void normalizeToASCII( final Appendable target, final Reader input ) throws IOException
+    {
+        fold( new TextFolder( target, true ), requireNonNullArgument( input, "input" ) );
+    }   //  normalizeToASCII()
+
     /**
      *  Brings the given string to the given length and uses the provided
      *  padding character to fill up the string.
@@ -1581,6 +1831,8 @@ public final class StringUtils
      *      {@linkplain StringUtils.Clipping clipping mode}.
      *  @return The re-formatted string.
      *
+     *  @see TableFormatter
+     *
      *  @since 0.0.5
      */
     @API( status = STABLE, since = "0.0.5" )
@@ -1706,6 +1958,12 @@ public final class StringUtils
      *  @note   The Scandinavian letters 'ø' and 'Ø' are not diacritical
      *      letters, meaning they will not be replaced.
      *
+     *  @note   An input that consists of ASCII characters only is returned
+     *      as it is. The Latin characters up to U+024F and from U+1E00 to
+     *      U+1EFF are mapped with the help of a table; only the other
+     *      characters are decomposed by
+     *      {@link java.text.Normalizer}.
+     *
      *  @param  input   The input string.
      *  @return The normalised String, not containing any diacritical
      *      characters.
@@ -1714,13 +1972,34 @@ public final class StringUtils
      */
     public static final String removeDiacriticalMarks( final CharSequence input )
     {
-        final var retValue = normalize( requireNonNullArgument( input, "input" ), NFD )
-            .replaceAll("\\p{InCombiningDiacriticalMarks}+", EMPTY_STRING );
+        final var retValue = TextFolder.isASCII( requireNonNullArgument( input, "input" ) ) ? input.toString() : fold( input, false );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  removeDiacriticalMarks()
 
+    /**
+     *  <p>{@summary Removes the diacritical marks from the text that is read
+     *  from the given
+     *  {@link Reader},
+     *  and writes the result to the given target.} The result is the same as
+     *  that of
+     *  {@link #removeDiacriticalMarks(CharSequence)}
+     *  for the same text.</p>
+     *
+     *  @param  target  The target for the normalised text.
+     *  @param  input   The source for the text.
+     *  @throws IOException Reading the text or writing to the target
+     *      failed.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final void removeDiacriticalMarks( final Appendable target, final Reader input ) throws IOException
+    {
+        fold( new TextFolder( target, false ), requireNonNullArgument( input, "input" ) );
+    }   //  removeDiacriticalMarks()
+
     /**
      *  Repeats the given char {@code repeat} to form a new String. The table
      *  below shows the various  result for some argument combinations.<br>
@@ -1904,6 +2183,57 @@ public final class StringUtils
         return retValue;
     }   //  splitString()
 
+    /**
+     *  <p>{@summary Splits a String by the given separator character,
+     *  identified by its Unicode code point, and returns an array of views on
+     *  all parts.}</p>
+     *  <p>The parts are the same as those returned by
+     *  {@link #splitString(CharSequence, int)},
+     *  but they refer to the input without copying it. Therefore the input
+     *  must not be modified as long as the parts are in use.</p>
+     *
+     *  @param  input  The String to split.
+     *  @param  separator   The code point for the separator character.
+     *  @return The parts of the String.
+     *
+     *  @see CharSequenceView
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final CharSequenceView [] splitStringViews( final CharSequence input, final int separator )
+    {
+        final var retValue = streamViews( input, separator ).toArray( CharSequenceView []::new );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  splitStringViews()
+
+    /**
+     *  <p>{@summary Splits a String by the given separator sequence and
+     *  returns an array of views on all parts.}</p>
+     *  <p>The parts are the same as those returned by
+     *  {@link #splitString(CharSequence, CharSequence)},
+     *  but they refer to the input without copying it. Therefore the input
+     *  must not be modified as long as the parts are in use.</p>
+     *
+     *  @param  input  The String to split.
+     *  @param  separator   The separator sequence.
+     *  @return The parts of the String.
+     *
+     *  @see CharSequenceView
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final CharSequenceView [] splitStringViews( final CharSequence input, final CharSequence separator )
+    {
+        final var retValue = streamViews( input, separator ).toArray( CharSequenceView []::new );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  splitStringViews()
+
     /**
      *  <p>{@summary Splits a String by the given separator character and
      *  returns an instance of
@@ -1945,6 +2275,9 @@ public final class StringUtils
      *  <p>In case the String is empty, the return value will be a
      *  {@code Stream} containing just the empty String. It will not be
      *  empty.</p>
+     *  <p>The returned {@code Stream} is lazy, and the parts are not
+     *  interned; refer to
+     *  {@link #stream(CharSequence, int, boolean)}.</p>
      *
      *  @param  input  The String to split.
      *  @param  separator   The code point for the separator character.
@@ -1955,35 +2288,45 @@ public final class StringUtils
     @API( status = STABLE, since = "0.0.7" )
     public static final Stream<String> stream( final CharSequence input, final int separator )
     {
-        //---* Process the string *--------------------------------------------
-        final var codepoints = requireNonNullArgument( input, "input" ).codePoints().toArray();
-        final var builder = Stream.<String>builder();
-        var begin = -1;
-        for( var i = 0 ; i < codepoints.length; ++i )
-        {
-            if( begin == -1 )
-            {
-                begin = i;
-            }
-            if( codepoints [i] == separator )
-            {
-                builder.add( new String( codepoints, begin, i - begin ).intern() );
-                begin = -1;
-            }
-        }
-
-        //---* Add the rest *--------------------------------------------------
-        if( begin >= 0 )
-        {
-            builder.add( new String( codepoints, begin, codepoints.length - begin ).intern() );
-        }
-        if( (codepoints.length == 0) || (codepoints [codepoints.length - 1] == separator) )
-        {
-            builder.add( EMPTY_STRING );
-        }
+        return stream( input, separator, false );
+    }   //  stream()
 
-        //---* Create the return value *---------------------------------------
-        final var retValue = builder.build();
+    /**
+     *  <p>{@summary Splits a String by the given separator character,
+     *  identified by its Unicode code point, and returns a
+     *  {@link Stream}
+     *  of all parts, optionally
+     *  {@linkplain String#intern() interned}.}
+     *  In case a separator character is immediately followed by another
+     *  separator char, an empty String will be put to the
+     *  {@code Stream}.</p>
+     *  <p>Beginning and end of the String are treated as
+     *  separators, so if the first character of the String is a separator, the
+     *  returned {@code Stream} will start with an empty String, as it will end
+     *  with an empty String if the last character is a separator.</p>
+     *  <p>In case the String is empty, the return value will be a
+     *  {@code Stream} containing just the empty String. It will not be
+     *  empty.</p>
+     *  <p>The returned {@code Stream} is lazy: the input is scanned only as
+     *  far as required for the next part, and no copy of the complete input
+     *  will be made. Therefore the input must not be modified before the
+     *  {@code Stream} was consumed. The {@code Stream} can be processed in
+     *  parallel.</p>
+     *
+     *  @param  input  The String to split.
+     *  @param  separator   The code point for the separator character.
+     *  @param  intern  {@code true} if the parts should be interned,
+     *      {@code false} otherwise. Interning makes sense only if the input
+     *      contains many repeated values.
+     *  @return A {@code Stream} instance with the parts of the String.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final Stream<String> stream( final CharSequence input, final int separator, final boolean intern )
+    {
+        final var spliterator = new CodePointTokenSpliterator<>( requireNonNullArgument( input, "input" ), separator, intern ? INTERNED_STRING_TOKENS : STRING_TOKENS );
+        final var retValue = StreamSupport.stream( spliterator, false );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -2003,6 +2346,13 @@ public final class StringUtils
      *  <p>In case the String is empty, the return value will be a
      *  {@code Stream} containing just the empty String. It will not be
      *  empty.</p>
+     *  <p>The separators are located from left to right and do not overlap:
+     *  {@code "aaa"} split by {@code "aa"} results in {@code ""} and
+     *  {@code "a"}.</p>
+     *  <p>The returned {@code Stream} is lazy: the input is scanned only as
+     *  far as required for the next part, and no copy of the complete input
+     *  will be made. Therefore the input must not be modified before the
+     *  {@code Stream} was consumed.</p>
      *
      *  @param  input   The String to split.
      *  @param  separator   The separator sequence.
@@ -2013,36 +2363,8 @@ public final class StringUtils
     @API( status = STABLE, since = "0.0.7" )
     public static final Stream<String> stream( final CharSequence input, final CharSequence separator )
     {
-        //---* Process the string *--------------------------------------------
-        var s = requireNonNullArgument( input, "input" ).toString();
-        final var t = requireNotEmptyArgument( separator, "separator" ).toString();
-
-        final var builder = Stream.<String>builder();
-        var pos = Integer.MAX_VALUE;
-        while( isNotEmpty( s ) && (pos >= 0) )
-        {
-            pos = s.indexOf( t );
-            switch( Integer.signum( pos ) )
-            {
-                case 0 -> /* String starts with separator */
-                    {
-                        builder.add( EMPTY_STRING );
-                        s = s.substring( t.length() );
-                    }
-                case 1 -> /* String contains a separator somewhere */
-                    {
-                        builder.add( s.substring( 0, pos ) );
-                        s = s.substring( pos + t.length() );
-                    }
-                default -> { /* Just leave the loop */ }
-            }   //  ResultHandlerSwitch:
-        }
-
-        //---* Add the rest *--------------------------------------------------
-        builder.add( s );
-
-        //---* Create the return value *---------------------------------------
-        final var retValue = builder.build();
+        final var spliterator = new SequenceTokenSpliterator<>( requireNonNullArgument( input, "input" ), separator, STRING_TOKENS );
+        final var retValue = StreamSupport.stream( spliterator, false );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -2063,6 +2385,13 @@ public final class StringUtils
      *  {@code Stream} containing just the empty String. It will not be
      *  empty.</p>
      *
+     *  <p>The returned {@code Stream} is lazy: the parts are taken from a
+     *  single
+     *  {@link java.util.regex.Matcher}
+     *  as they are consumed, and no copy of the complete input will be
+     *  made. Therefore the input must not be modified before the
+     *  {@code Stream} was consumed.</p>
+     *
      *  @note This method behaves different from
      *      {@link String#split(String)}
      *      as it will return trailing empty Strings.
@@ -2079,37 +2408,114 @@ public final class StringUtils
     @API( status = STABLE, since = "0.0.7" )
     public static final Stream<String> stream( final CharSequence input, final Pattern pattern )
     {
-        requireNonNullArgument( pattern, "pattern" );
+        final var spliterator = new PatternTokenSpliterator<>( requireNonNullArgument( input, "input" ), requireNonNullArgument( pattern, "pattern" ), STRING_TOKENS );
+        final var retValue = StreamSupport.stream( spliterator, false );
 
-        //---* Process the string *--------------------------------------------
-        final var builder = Stream.<String>builder();
-        if( isEmpty( requireNonNullArgument( input, "s" ) ) )
-        {
-            builder.add( EMPTY_STRING );
-        }
-        else
-        {
-            final var parts = pattern.split( input );
-            for( final var part : parts )
-            {
-                builder.add( part );
-            }
-            final var matcher = pattern.matcher( input );
-            var count = 0;
-            while( matcher.find() ) ++count;
-            //noinspection ForLoopWithMissingComponent
-            for( ; count >= parts.length; --count )
-            {
-                builder.add( EMPTY_STRING );
-            }
-        }
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  stream()
 
-        //---* Create the return value *---------------------------------------
-        final var retValue = builder.build();
+    /**
+     *  <p>{@summary Splits a String by the given separator character,
+     *  identified by its Unicode code point, and returns a
+     *  {@link Stream}
+     *  of views on all parts.}</p>
+     *  <p>The parts are the same as those provided by
+     *  {@link #stream(CharSequence, int)},
+     *  but they refer to the input without copying it. Therefore the input
+     *  must not be modified as long as the parts are in use.</p>
+     *
+     *  @param  input  The String to split.
+     *  @param  separator   The code point for the separator character.
+     *  @return A {@code Stream} instance with the parts of the String.
+     *
+     *  @see CharSequenceView
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final Stream<CharSequenceView> streamViews( final CharSequence input, final int separator )
+    {
+        final var spliterator = new CodePointTokenSpliterator<>( requireNonNullArgument( input, "input" ), separator, VIEW_TOKENS );
+        final var retValue = StreamSupport.stream( spliterator, false );
 
         //---* Done *----------------------------------------------------------
         return retValue;
-    }   //  stream()
+    }   //  streamViews()
+
+    /**
+     *  <p>{@summary Splits a String by the given separator sequence and
+     *  returns a
+     *  {@link Stream}
+     *  of views on all parts.}</p>
+     *  <p>The parts are the same as those provided by
+     *  {@link #stream(CharSequence, CharSequence)},
+     *  but they refer to the input without copying it. Therefore the input
+     *  must not be modified as long as the parts are in use.</p>
+     *
+     *  @param  input   The String to split.
+     *  @param  separator   The separator sequence.
+     *  @return A {@code Stream} instance with the parts of the String.
+     *
+     *  @see CharSequenceView
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final Stream<CharSequenceView> streamViews( final CharSequence input, final CharSequence separator )
+    {
+        final var spliterator = new SequenceTokenSpliterator<>( requireNonNullArgument( input, "input" ), separator, VIEW_TOKENS );
+        final var retValue = StreamSupport.stream( spliterator, false );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  streamViews()
+
+    /**
+     *  <p>{@summary Splits a String using the given regular expression and
+     *  returns a
+     *  {@link Stream}
+     *  of views on all parts.}</p>
+     *  <p>The parts are the same as those provided by
+     *  {@link #stream(CharSequence, Pattern)},
+     *  but they refer to the input without copying it. Therefore the input
+     *  must not be modified as long as the parts are in use.</p>
+     *
+     *  @param  input  The String to split.
+     *  @param  pattern The separator sequence.
+     *  @return A {@code Stream} instance with the parts of the String.
+     *
+     *  @see CharSequenceView
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final Stream<CharSequenceView> streamViews( final CharSequence input, final Pattern pattern )
+    {
+        final var spliterator = new PatternTokenSpliterator<>( requireNonNullArgument( input, "input" ), requireNonNullArgument( pattern, "pattern" ), VIEW_TOKENS );
+        final var retValue = StreamSupport.stream( spliterator, false );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  streamViews()
+
+    /**
+     *  Passes the text from the given
+     *  {@link Reader}
+     *  through the given
+     *  {@link TagStripper}.
+     *
+     *  @param  stripper    The state machine.
+     *  @param  input   The source for the text.
+     *  @throws IOException Reading the text or writing the result failed.
+     */
+    private static final void strip( final TagStripper stripper, final Reader input ) throws IOException
+    {
+        final var buffer = new char [DEFAULT_BUFFER_SIZE];
+        int read;
+        while( (read = input.read( buffer )) >= 0 ) stripper.accept( buffer, 0, read );
+        stripper.finish();
+    }   //  strip()
 
     /**
      *  <p>{@summary Strips HTML or XML tags from the given String, without
@@ -2140,35 +2546,54 @@ public final class StringUtils
     @API( status = STABLE, since = "0.0.5" )
     public static final String stripTags( final CharSequence input )
     {
-        final var retValue = new StringBuilder();
-        if( isNotEmptyOrBlank( requireNonNullArgument( input, "input" ) ) )
+        final var len = requireNonNullArgument( input, "input" ).length();
+        final var retValue = new StringBuilder( len );
+        try
         {
-            final var matcher = m_TagRemovalPattern.matcher( input );
-            final var buffer = matcher.replaceAll( " " ).trim().codePoints().toArray();
-            int lastChar = NULL_CHAR;
-            ScanLoop: for( final var codePoint : buffer )
-            {
-                if( isWhitespace( codePoint ) )
-                {
-                    //---* Consecutive whitespace detected *-------------------
-                    if( isWhitespace( lastChar ) ) continue ScanLoop;
-
-                    //---* All resulting whitespace have to be blanks *--------
-                    retValue.append( " " );
-                }
-                else
-                {
-                    //---* Write the character *-------------------------------
-                    retValue.append( toChars( codePoint ) );
-                }
-                lastChar = codePoint;
-            }   //  ScanLoop:
+            final var stripper = new TagStripper( retValue, true );
+            stripper.accept( input, 0, len );
+            stripper.finish();
+        }
+        catch( final IOException e )
+        {
+            /*
+             * We append to a StringBuilder, and StringBuilder.append() does
+             * not define an IOException.
+             */
+            throw new ImpossibleExceptionError( e );
         }
 
         //---* Done *----------------------------------------------------------
         return retValue.toString();
     }   //  stripTags()
 
+    /**
+     *  <p>{@summary Strips HTML or XML tags from the text that is read from
+     *  the given
+     *  {@link Reader},
+     *  and writes the result to the given target.} The result is the same as
+     *  that of
+     *  {@link #stripTags(CharSequence)}
+     *  for the same text.</p>
+     *  <p>The text is processed in a single pass, and only the characters
+     *  from a '&lt;' up to the end of a tag or comment are buffered.</p>
+     *
+     *  @note   An unterminated tag or comment is buffered until the end of
+     *      the input, before it is written as text.
+     *
+     *  @param  target  The target for the text without the tags.
+     *  @param  input   The source for the HTML/XML text.
+     *  @throws IOException Reading the text or writing to the target
+     *      failed.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final void stripTags( final Appendable target, final Reader input ) throws IOException
+    {
+        strip( new TagStripper( target, true ), requireNonNullArgument( input, "input" ) );
+    }   //  stripTags()
+
     /**
      *  <p>{@summary Strips characters from the given input that are not
      *  allowed (or should be at least avoided) for a file or folder name on
@@ -2297,11 +2722,50 @@ public final class StringUtils
     @API( status = STABLE, since = "0.0.5" )
     public static final String stripXMLComments( final CharSequence input )
     {
-        final var matcher = m_CommentRemovalPattern.matcher( requireNonNullArgument( input, "input" ) );
-        final var retValue = matcher.replaceAll( EMPTY_STRING );
+        final var len = requireNonNullArgument( input, "input" ).length();
+        final var retValue = new StringBuilder( len );
+        try
+        {
+            final var stripper = new TagStripper( retValue, false );
+            stripper.accept( input, 0, len );
+            stripper.finish();
+        }
+        catch( final IOException e )
+        {
+            /*
+             * We append to a StringBuilder, and StringBuilder.append() does
+             * not define an IOException.
+             */
+            throw new ImpossibleExceptionError( e );
+        }
 
         //---* Done *----------------------------------------------------------
-        return retValue;
+        return retValue.toString();
+    }   //  stripXMLComments()
+
+    /**
+     *  <p>{@summary Strips HTML or XML comments from the text that is read
+     *  from the given
+     *  {@link Reader},
+     *  and writes the result to the given target.} The result is the same as
+     *  that of
+     *  {@link #stripXMLComments(CharSequence)}
+     *  for the same text.</p>
+     *
+     *  @note   An unterminated comment is buffered until the end of the
+     *      input, before it is written as text.
+     *
+     *  @param  target  The target for the text without the comments.
+     *  @param  input   The source for the HTML/XML text.
+     *  @throws IOException Reading the text or writing to the target
+     *      failed.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final void stripXMLComments( final Appendable target, final Reader input ) throws IOException
+    {
+        strip( new TagStripper( target, false ), requireNonNullArgument( input, "input" ) );
     }   //  stripXMLComments()
 
     /**
@@ -2421,6 +2885,90 @@ public final class StringUtils
         return retValue;
     }   //  substringsBetween()
 
+    /**
+     *  <p>{@summary Searches a String for substrings delimited by several
+     *  pairs of start and end tags, scanning the String only once.}</p>
+     *  <p>The entry with index <i>n</i> of the returned list holds the
+     *  substrings for the pair with the same index; it is the same as the
+     *  result of
+     *  {@link #substringsBetween(String, String, String)}
+     *  for that pair; in particular, each entry is empty if the input is
+     *  {@code null}.</p>
+     *  <p>If the same pairs will be used for several Strings, it is more
+     *  efficient to create a
+     *  {@link SubstringExtractor}
+     *  once and to use it for all of them.</p>
+     *
+     *  @param  input   The String containing the substrings, may be
+     *      {@code null}.
+     *  @param  pairs   The pairs of start and end tags.
+     *  @return The found substrings, grouped by the pairs of tags.
+     *
+     *  @see SubstringExtractor#extract(CharSequence)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final List<SequencedCollection<String>> substringsBetween( final CharSequence input, final DelimiterPair... pairs )
+    {
+        final var retValue = SubstringExtractor.of( pairs ).extract( isNull( input ) ? EMPTY_STRING : input );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  substringsBetween()
+
+    /**
+     *  <p>{@summary Searches a String for substrings delimited by a start and
+     *  end tag, returning views on all matching substrings in a
+     *  {@link java.util.SequencedCollection Collection}.} That collection is
+     *  empty if no match was found.</p>
+     *  <p>The substrings are the same as those returned by
+     *  {@link #substringsBetween(String, String, String)},
+     *  but they refer to the input without copying it. Therefore the input
+     *  must not be modified as long as the substrings are in use.</p>
+     *
+     *  @param  input   The String containing the substrings, may be
+     *      {@code null}.
+     *  @param  open    The String identifying the start of the substring, may
+     *      be {@code null}.
+     *  @param  close   The String identifying the end of the substring, may be
+     *      {@code null}.
+     *  @return A
+     *      {@link SequencedCollection Collection}
+     *      with the found substrings, in the sequence they have in the input
+     *      String. The collection is mutable.
+     *
+     *  @see CharSequenceView
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final SequencedCollection<CharSequenceView> substringsBetweenViews( final CharSequence input, final CharSequence open, final CharSequence close )
+    {
+        final SequencedCollection<CharSequenceView> retValue = new ArrayList<>();
+
+        if( isNotEmpty( input ) && isNotEmpty( open ) && isNotEmpty( close ) )
+        {
+            final var strLen = input.length();
+            final var closeLen = close.length();
+            final var openLen = open.length();
+            var pos = 0;
+            ScanLoop: while( pos < strLen - closeLen )
+            {
+                var start = indexOf( input, open, pos );
+                if( start < 0 ) break ScanLoop;
+                start += openLen;
+                final var end = indexOf( input, close, start );
+                if( end < 0 ) break ScanLoop;
+                retValue.add( VIEW_TOKENS.createToken( input, start, end ) );
+                pos = end + closeLen;
+            }   //  ScanLoop:
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  substringsBetweenViews()
+
     /**
      *  Unescapes a string containing entity escapes to a string containing the
      *  actual Unicode characters corresponding to the escapes. Supports HTML
@@ -2565,6 +3113,36 @@ public final class StringUtils
         return retValue;
     }   //  urlDecode()
 
+    /**
+     *  <p>{@summary Writes the UTF-8 bytes of the decoded form of the given
+     *  URL encoded String to the given
+     *  {@link OutputStream}.}</p>
+     *  <p>The bytes are the same as those of the result of
+     *  {@link #urlDecode(CharSequence)},
+     *  but the escaped bytes are written as they are when they form valid
+     *  UTF-8 sequences, and no intermediate String is created.</p>
+     *
+     *  @note   If the input contains an invalid escape sequence, the bytes
+     *      for the part of the input before it may have been written already
+     *      when the exception is thrown.
+     *
+     *  @param  target  The target for the decoded bytes.
+     *  @param  input   The input String.
+     *  @throws IOException Writing to the target failed.
+     *  @throws IllegalArgumentException    The input contains an invalid
+     *      escape sequence.
+     *
+     *  @see java.net.URLDecoder#decode(String, java.nio.charset.Charset)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final void urlDecode( final OutputStream target, final CharSequence input ) throws IOException, IllegalArgumentException
+    {
+        requireNonNullArgument( target, "target" );
+        URLCodec.decode( requireNonNullArgument( input, "input" ), target );
+    }   //  urlDecode()
+
     /**
      *  Returns the given String in its URL encoded form, using the
      *  UTF-8 character encoding.
@@ -2585,6 +3163,89 @@ public final class StringUtils
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  urlEncode()
+
+    /**
+     *  <p>{@summary Writes the URL encoded form of the given String, using
+     *  the UTF-8 character encoding, to the given
+     *  {@link ByteBuffer},
+     *  starting at its current position.}</p>
+     *  <p>The bytes are the same as those of the result of
+     *  {@link #urlEncode(CharSequence)}.
+     *  If the buffer does not have enough space left for all of them,
+     *  nothing is written; use
+     *  {@link #urlEncodedLength(CharSequence)}
+     *  to allocate a buffer with the right size.</p>
+     *  <p>A large input can be split into chunks that are encoded in
+     *  parallel; each chunk is written directly to its place in the buffer,
+     *  and the chunks are never split between the two characters of a
+     *  surrogate pair.</p>
+     *
+     *  @param  target  The target buffer; its position will be advanced by
+     *      the number of bytes that were written.
+     *  @param  input   The input String.
+     *  @param  parallel    {@code true} if a large input should be encoded
+     *      in parallel, {@code false} if it should be encoded in the current
+     *      thread only.
+     *  @return The number of bytes that were written.
+     *  @throws BufferOverflowException The buffer does not have enough space
+     *      left.
+     *
+     *  @see java.net.URLEncoder#encode(String, java.nio.charset.Charset)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final int urlEncode( final ByteBuffer target, final CharSequence input, final boolean parallel ) throws BufferOverflowException
+    {
+        requireNonNullArgument( target, "target" );
+        final var retValue = URLCodec.encode( requireNonNullArgument( input, "input" ), target, parallel );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  urlEncode()
+
+    /**
+     *  <p>{@summary Writes the URL encoded form of the given String, using
+     *  the UTF-8 character encoding, to the given
+     *  {@link OutputStream}.}</p>
+     *  <p>The bytes are the same as those of the result of
+     *  {@link #urlEncode(CharSequence)},
+     *  but no intermediate String is created.</p>
+     *
+     *  @param  target  The target for the encoded bytes.
+     *  @param  input   The input String.
+     *  @throws IOException Writing to the target failed.
+     *
+     *  @see java.net.URLEncoder#encode(String, java.nio.charset.Charset)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final void urlEncode( final OutputStream target, final CharSequence input ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        URLCodec.encode( requireNonNullArgument( input, "input" ), target );
+    }   //  urlEncode()
+
+    /**
+     *  Returns the number of bytes for the URL encoded form of the given
+     *  String, using the UTF-8 character encoding.
+     *
+     *  @param  input   The input String.
+     *  @return The number of bytes that
+     *      {@link #urlEncode(ByteBuffer, CharSequence, boolean)}
+     *      will write for the input.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final int urlEncodedLength( final CharSequence input )
+    {
+        final var retValue = URLCodec.encodedLength( requireNonNullArgument( input, "input" ), 0, input.length() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  urlEncodedLength()
 }
 //  class StringUtils
 
@@ -0,0 +1,553 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+import static org.tquadrat.foundation.util.internal.TokenSpliterator.VIEW_TOKENS;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SequencedCollection;
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary Extracts the substrings between several pairs of
+ *  delimiters from a text in a single pass.}</p>
+ *  <p>All opening and closing delimiters are compiled into one
+ *  Aho-Corasick automaton when the instance is created; each text is then
+ *  scanned only once, regardless of the number of delimiter pairs. For
+ *  each pair, the results are the same as those of
+ *  {@link StringUtils#substringsBetween(String, String, String)}
+ *  with that pair: after a substring was found, the search for the next
+ *  opening delimiter starts behind its closing delimiter. The pairs do not
+ *  influence each other, so the substrings for different pairs may
+ *  overlap.</p>
+ *  <p>Instances of this class are immutable and therefore thread-safe.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.26.0" )
+public final class SubstringExtractor
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A pair of delimiters.
+     *
+     *  @param  open    The opening delimiter; it may not be empty.
+     *  @param  close   The closing delimiter; it may not be empty.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.26.0" )
+    public static record DelimiterPair( String open, String close )
+    {
+        /**
+         *  Creates a new {@code DelimiterPair} instance.
+         *
+         *  @param  open    The opening delimiter; it may not be empty.
+         *  @param  close   The closing delimiter; it may not be empty.
+         */
+        public DelimiterPair
+        {
+            requireNotEmptyArgument( open, "open" );
+            requireNotEmptyArgument( close, "close" );
+        }   //  DelimiterPair()
+    }
+    //  record DelimiterPair
+
+    /**
+     *  A substring that was found between a pair of delimiters.
+     *
+     *  @param  pairIndex   The index of the delimiter pair in the list
+     *      returned by
+     *      {@link SubstringExtractor#pairs()}.
+     *  @param  value   The substring, as a view on the text.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.26.0" )
+    public static record Match( int pairIndex, CharSequenceView value )
+    {
+        /**
+         *  Returns the index after the last character of the substring in
+         *  the text; this is the position of the closing delimiter.
+         *
+         *  @return The end index.
+         */
+        public final int end() { return value.end(); }
+
+        /**
+         *  Returns the index of the first character of the substring in the
+         *  text; this is the position after the opening delimiter.
+         *
+         *  @return The start index.
+         */
+        public final int start() { return value.start(); }
+    }
+    //  record Match
+
+    /**
+     *  The scanner that runs the automaton over a text, and provides the
+     *  matches in the order their closing delimiters are found.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private final class Scanner extends AbstractSpliterator<Match>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The start of the substring for each pair, or -1 if the opening
+         *  delimiter was not yet found.
+         */
+        private final int [] m_ContentStart;
+
+        /**
+         *  The index of the next character to read.
+         */
+        private int m_Index = 0;
+
+        /**
+         *  The text.
+         */
+        private final CharSequence m_Input;
+
+        /**
+         *  The length of the text.
+         */
+        private final int m_Length;
+
+        /**
+         *  The matches that were found, but not yet provided.
+         */
+        private final Deque<Match> m_Pending = new ArrayDeque<>();
+
+        /**
+         *  The index from where the next opening delimiter is searched for
+         *  each pair.
+         */
+        private final int [] m_Position;
+
+        /**
+         *  The current state of the automaton.
+         */
+        private int m_State = 0;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Scanner} instance.
+         *
+         *  @param  input   The text.
+         */
+        public Scanner( final CharSequence input )
+        {
+            super( Long.MAX_VALUE, ORDERED | NONNULL );
+            m_Input = input;
+            m_Length = input.length();
+            m_ContentStart = new int [m_Pairs.size()];
+            Arrays.fill( m_ContentStart, -1 );
+            m_Position = new int [m_Pairs.size()];
+        }   //  Scanner()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Processes the given occurrence of a delimiter.
+         *
+         *  @param  delimiter   The index of the delimiter.
+         *  @param  end The index after the last character of the
+         *      occurrence.
+         */
+        private final void process( final int delimiter, final int end )
+        {
+            final var start = end - m_DelimiterLengths [delimiter];
+            for( final var pair : m_ClosedBy [delimiter] )
+            {
+                final var contentStart = m_ContentStart [pair];
+                if( (contentStart >= 0) && (start >= contentStart) )
+                {
+                    m_Pending.add( new Match( pair, VIEW_TOKENS.createToken( m_Input, contentStart, start ) ) );
+                    m_ContentStart [pair] = -1;
+                    m_Position [pair] = end;
+                }
+            }
+            for( final var pair : m_OpenedBy [delimiter] )
+            {
+                if( (m_ContentStart [pair] < 0) && (start >= m_Position [pair]) && (m_Position [pair] < m_Length - m_CloseLengths [pair]) )
+                {
+                    m_ContentStart [pair] = end;
+                }
+            }
+        }   //  process()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final boolean tryAdvance( final Consumer<? super Match> action )
+        {
+            requireNonNullArgument( action, "action" );
+
+            while( m_Pending.isEmpty() && (m_Index < m_Length) )
+            {
+                m_State = nextState( m_State, m_Input.charAt( m_Index++ ) );
+                for( var node = m_Output [m_State] >= 0 ? m_State : m_DictionaryLinks [m_State]; node > 0; node = m_DictionaryLinks [node] )
+                {
+                    process( m_Output [node], m_Index );
+                }
+            }
+            final var retValue = !m_Pending.isEmpty();
+            if( retValue ) action.accept( m_Pending.poll() );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  tryAdvance()
+    }
+    //  class Scanner
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The indexes of the pairs that use a delimiter as the closing
+     *  delimiter, indexed by the delimiter.
+     */
+    private final int [] [] m_ClosedBy;
+
+    /**
+     *  The lengths of the closing delimiters, indexed by the pair.
+     */
+    private final int [] m_CloseLengths;
+
+    /**
+     *  The lengths of the delimiters.
+     */
+    private final int [] m_DelimiterLengths;
+
+    /**
+     *  The dictionary links of the automaton: for each node, the next node
+     *  on its chain of failure links that completes a delimiter, or -1.
+     */
+    private final int [] m_DictionaryLinks;
+
+    /**
+     *  The failure links of the automaton.
+     */
+    private final int [] m_FailureLinks;
+
+    /**
+     *  The characters for the transitions of each node of the automaton, in
+     *  ascending order.
+     */
+    private final char [] [] m_Labels;
+
+    /**
+     *  The indexes of the pairs that use a delimiter as the opening
+     *  delimiter, indexed by the delimiter.
+     */
+    private final int [] [] m_OpenedBy;
+
+    /**
+     *  The delimiter that is completed by each node of the automaton, or -1.
+     */
+    private final int [] m_Output;
+
+    /**
+     *  The delimiter pairs.
+     */
+    private final List<DelimiterPair> m_Pairs;
+
+    /**
+     *  The targets for the transitions of each node of the automaton, in the
+     *  same order as the labels.
+     */
+    private final int [] [] m_Targets;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SubstringExtractor} instance.
+     *
+     *  @param  pairs   The delimiter pairs.
+     */
+    private SubstringExtractor( final List<DelimiterPair> pairs )
+    {
+        m_Pairs = pairs;
+        final var pairCount = pairs.size();
+
+        //---* Collect the distinct delimiters *-------------------------------
+        final Map<String,Integer> delimiters = new LinkedHashMap<>();
+        final List<List<Integer>> openedBy = new ArrayList<>();
+        final List<List<Integer>> closedBy = new ArrayList<>();
+        m_CloseLengths = new int [pairCount];
+        for( var pair = 0; pair < pairCount; ++pair )
+        {
+            final var delimiterPair = pairs.get( pair );
+            for( final var delimiter : List.of( delimiterPair.open(), delimiterPair.close() ) )
+            {
+                if( !delimiters.containsKey( delimiter ) )
+                {
+                    delimiters.put( delimiter, delimiters.size() );
+                    openedBy.add( new ArrayList<>() );
+                    closedBy.add( new ArrayList<>() );
+                }
+            }
+            openedBy.get( delimiters.get( delimiterPair.open() ) ).add( pair );
+            closedBy.get( delimiters.get( delimiterPair.close() ) ).add( pair );
+            m_CloseLengths [pair] = delimiterPair.close().length();
+        }
+        final var delimiterCount = delimiters.size();
+        m_DelimiterLengths = new int [delimiterCount];
+        m_OpenedBy = new int [delimiterCount] [];
+        m_ClosedBy = new int [delimiterCount] [];
+        for( final var entry : delimiters.entrySet() )
+        {
+            final int delimiter = entry.getValue();
+            m_DelimiterLengths [delimiter] = entry.getKey().length();
+            m_OpenedBy [delimiter] = openedBy.get( delimiter ).stream().mapToInt( Integer::intValue ).toArray();
+            m_ClosedBy [delimiter] = closedBy.get( delimiter ).stream().mapToInt( Integer::intValue ).toArray();
+        }
+
+        //---* Build the trie *------------------------------------------------
+        final List<TreeMap<Character,Integer>> children = new ArrayList<>();
+        final List<Integer> output = new ArrayList<>();
+        children.add( new TreeMap<>() );
+        output.add( -1 );
+        for( final var entry : delimiters.entrySet() )
+        {
+            var node = 0;
+            for( final var c : entry.getKey().toCharArray() )
+            {
+                var next = children.get( node ).get( c );
+                if( next == null )
+                {
+                    next = children.size();
+                    children.get( node ).put( c, next );
+                    children.add( new TreeMap<>() );
+                    output.add( -1 );
+                }
+                node = next;
+            }
+            output.set( node, entry.getValue() );
+        }
+        final var nodeCount = children.size();
+        m_Labels = new char [nodeCount] [];
+        m_Targets = new int [nodeCount] [];
+        m_Output = new int [nodeCount];
+        for( var node = 0; node < nodeCount; ++node )
+        {
+            final var transitions = children.get( node );
+            m_Labels [node] = new char [transitions.size()];
+            m_Targets [node] = new int [transitions.size()];
+            var i = 0;
+            for( final var transition : transitions.entrySet() )
+            {
+                m_Labels [node] [i] = transition.getKey();
+                m_Targets [node] [i] = transition.getValue();
+                ++i;
+            }
+            m_Output [node] = output.get( node );
+        }
+
+        //---* Add the failure and dictionary links, breadth first *-----------
+        m_FailureLinks = new int [nodeCount];
+        m_DictionaryLinks = new int [nodeCount];
+        Arrays.fill( m_DictionaryLinks, -1 );
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for( final var child : m_Targets [0] ) queue.add( child );
+        while( !queue.isEmpty() )
+        {
+            final int node = queue.poll();
+            for( var i = 0; i < m_Labels [node].length; ++i )
+            {
+                final var child = m_Targets [node] [i];
+                final var failure = nextState( m_FailureLinks [node], m_Labels [node] [i] );
+                m_FailureLinks [child] = failure;
+                m_DictionaryLinks [child] = m_Output [failure] >= 0 ? failure : m_DictionaryLinks [failure];
+                queue.add( child );
+            }
+        }
+    }   //  SubstringExtractor()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  <p>{@summary Extracts the substrings for all delimiter pairs from the
+     *  given text.}</p>
+     *  <p>The entry with index <i>n</i> of the returned list holds the
+     *  substrings for the pair with the same index in the list returned by
+     *  {@link #pairs()};
+     *  it is the same as the result of
+     *  {@link StringUtils#substringsBetween(String, String, String)}
+     *  for that pair.</p>
+     *
+     *  @param  input   The text.
+     *  @return The substrings, grouped by the delimiter pairs. The
+     *      collections are mutable.
+     */
+    public final List<SequencedCollection<String>> extract( final CharSequence input )
+    {
+        final List<SequencedCollection<String>> retValue = new ArrayList<>( m_Pairs.size() );
+        for( var i = 0; i < m_Pairs.size(); ++i ) retValue.add( new ArrayList<>() );
+        matches( input ).forEach( match -> retValue.get( match.pairIndex() ).add( match.value().toString() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  extract()
+
+    /**
+     *  <p>{@summary Returns the substrings for all delimiter pairs from the
+     *  given text, together with their positions.}</p>
+     *  <p>The returned
+     *  {@link Stream}
+     *  is lazy: the text is scanned only as far as required for the next
+     *  match, and the substrings are views on the text. Therefore the text
+     *  must not be modified before the {@code Stream} was consumed. The
+     *  matches are provided in the order of the positions of their closing
+     *  delimiters.</p>
+     *
+     *  @param  input   The text.
+     *  @return The matches.
+     */
+    public final Stream<Match> matches( final CharSequence input )
+    {
+        final var retValue = StreamSupport.stream( new Scanner( requireNonNullArgument( input, "input" ) ), false );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  matches()
+
+    /**
+     *  Returns the next state of the automaton.
+     *
+     *  @param  state   The current state.
+     *  @param  c   The next character from the text.
+     *  @return The next state.
+     */
+    private final int nextState( final int state, final char c )
+    {
+        var node = state;
+        var retValue = -1;
+        while( retValue < 0 )
+        {
+            final var index = Arrays.binarySearch( m_Labels [node], c );
+            if( index >= 0 )
+            {
+                retValue = m_Targets [node] [index];
+            }
+            else if( node == 0 )
+            {
+                retValue = 0;
+            }
+            else
+            {
+                node = m_FailureLinks [node];
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nextState()
+
+    /**
+     *  Creates a new {@code SubstringExtractor} for the given delimiter
+     *  pairs.
+     *
+     *  @param  pairs   The delimiter pairs.
+     *  @return The new instance.
+     */
+    public static final SubstringExtractor of( final Collection<DelimiterPair> pairs )
+    {
+        final var retValue = new SubstringExtractor( List.copyOf( requireNotEmptyArgument( pairs, "pairs" ) ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Creates a new {@code SubstringExtractor} for the given delimiter
+     *  pairs.
+     *
+     *  @param  pairs   The delimiter pairs.
+     *  @return The new instance.
+     */
+    public static final SubstringExtractor of( final DelimiterPair... pairs )
+    {
+        final var retValue = of( List.of( requireNonNullArgument( pairs, "pairs" ) ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Returns the delimiter pairs.
+     *
+     *  @return The delimiter pairs.
+     */
+    public final List<DelimiterPair> pairs() { return m_Pairs; }
+}
+//  class SubstringExtractor
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,488 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util;
+
+import static java.lang.Integer.max;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_ABBREVIATE;
+import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_ABBREVIATE_MIDDLE;
+import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_NONE;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.util.StringUtils.Clipping;
+import org.tquadrat.foundation.util.StringUtils.Padding;
+
+/**
+ *  <p>{@summary Formats rows of cells as a table with columns of a fixed
+ *  width, and writes them directly to an
+ *  {@link Appendable}.}</p>
+ *  <p>Each cell is formatted as
+ *  {@link StringUtils#pad(CharSequence, int, char, Padding, Clipping)}
+ *  would do it with the settings of its
+ *  {@linkplain Column column},
+ *  but without creating a String for it; the cells of a row are separated
+ *  by the column separator, and each row is terminated by the line
+ *  separator.</p>
+ *  <p>A column with a width of zero or less gets its width from the data:
+ *  {@link #measure(Iterable)}
+ *  determines the length of the longest cell for all these columns in a
+ *  single pass over the rows, and returns a new formatter with these
+ *  widths. This allows to format a table of any size without holding it in
+ *  memory: the rows can be read twice (that is what
+ *  {@link #format(Appendable, Iterable)}
+ *  does), or the widths can be measured on a sample and the rows are then
+ *  written as a
+ *  {@link Stream}
+ *  by
+ *  {@link #write(Appendable, Stream)}.</p>
+ *  <p>A cell that is {@code null} is written as an empty cell, as are the
+ *  missing cells of a row that has less cells than the table has columns. A
+ *  row with more cells than columns causes a
+ *  {@link ValidationException}.</p>
+ *  <p>Instances of this class are immutable and can be shared between
+ *  threads.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.26.0" )
+public final class TableFormatter
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The definition of a column.
+     *
+     *  @param  width   The width of the column; if zero or less, the width
+     *      will be determined by
+     *      {@link TableFormatter#measure(Iterable)}.
+     *  @param  padChar The pad character.
+     *  @param  padding The
+     *      {@linkplain Padding padding mode}.
+     *  @param  clipping    The
+     *      {@linkplain Clipping clipping mode}.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = STABLE, since = "0.26.0" )
+    public static record Column( int width, char padChar, Padding padding, Clipping clipping )
+    {
+        /**
+         *  Creates a new {@code Column} instance.
+         *
+         *  @param  width   The width of the column; if zero or less, the
+         *      width will be determined by
+         *      {@link TableFormatter#measure(Iterable)}.
+         *  @param  padChar The pad character.
+         *  @param  padding The
+         *      {@linkplain Padding padding mode}.
+         *  @param  clipping    The
+         *      {@linkplain Clipping clipping mode}.
+         *  @throws ValidationException The width is too short for the
+         *      clipping mode.
+         */
+        public Column
+        {
+            requireNonNullArgument( padding, "padding" );
+            requireNonNullArgument( clipping, "clipping" );
+            //noinspection OverlyComplexBooleanExpression
+            if( (width > 0) && (((clipping == CLIPPING_ABBREVIATE) && (width < 4)) || ((clipping == CLIPPING_ABBREVIATE_MIDDLE) && (width < 5))) )
+            {
+                throw new ValidationException( "Width %d is too short for clipping mode %s".formatted( width, clipping.toString() ) );
+            }
+        }   //  Column()
+
+        /**
+         *  Creates a new {@code Column} instance whose width will be
+         *  determined by
+         *  {@link TableFormatter#measure(Iterable)};
+         *  the pad character is the blank.
+         *
+         *  @param  padding The
+         *      {@linkplain Padding padding mode}.
+         */
+        public Column( final Padding padding )
+        {
+            this( 0, ' ', padding, CLIPPING_NONE );
+        }   //  Column()
+
+        /**
+         *  Creates a new {@code Column} instance with the blank as the pad
+         *  character.
+         *
+         *  @param  width   The width of the column; if zero or less, the
+         *      width will be determined by
+         *      {@link TableFormatter#measure(Iterable)}.
+         *  @param  padding The
+         *      {@linkplain Padding padding mode}.
+         *  @param  clipping    The
+         *      {@linkplain Clipping clipping mode}.
+         *  @throws ValidationException The width is too short for the
+         *      clipping mode.
+         */
+        public Column( final int width, final Padding padding, final Clipping clipping )
+        {
+            this( width, ' ', padding, clipping );
+        }   //  Column()
+    }
+    //  record Column
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The column definitions.
+     */
+    private final Column [] m_Columns;
+
+    /**
+     *  The column separator.
+     */
+    private final String m_ColumnSeparator;
+
+    /**
+     *  The line separator.
+     */
+    private final String m_LineSeparator;
+
+    /**
+     *  The padding for each column; each String consists of the pad
+     *  character of the column, repeated to the width of the column.
+     */
+    private final String [] m_Paddings;
+
+    /**
+     *  The effective widths of the columns.
+     */
+    private final int [] m_Widths;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code TableFormatter} instance.
+     *
+     *  @param  columnSeparator The separator that is written between two
+     *      cells of a row; it may be empty.
+     *  @param  lineSeparator   The separator that is written after each
+     *      row.
+     *  @param  columns The column definitions.
+     */
+    public TableFormatter( final CharSequence columnSeparator, final CharSequence lineSeparator, final Column... columns )
+    {
+        this( columnSeparator, lineSeparator, requireNotEmptyArgument( columns, "columns" ).clone(), null );
+    }   //  TableFormatter()
+
+    /**
+     *  Creates a new {@code TableFormatter} instance.
+     *
+     *  @param  columnSeparator The separator that is written between two
+     *      cells of a row.
+     *  @param  lineSeparator   The separator that is written after each
+     *      row.
+     *  @param  columns The column definitions; the array will not be copied.
+     *  @param  widths  The measured widths of the columns; {@code null} if
+     *      the widths from the column definitions should be used. The array
+     *      will not be copied.
+     */
+    private TableFormatter( final CharSequence columnSeparator, final CharSequence lineSeparator, final Column [] columns, final int [] widths )
+    {
+        m_ColumnSeparator = requireNonNullArgument( columnSeparator, "columnSeparator" ).toString();
+        m_LineSeparator = requireNonNullArgument( lineSeparator, "lineSeparator" ).toString();
+        m_Columns = columns;
+        m_Widths = isNull( widths ) ? Arrays.stream( m_Columns ).mapToInt( c -> requireNonNullArgument( c, "columns" ).width() ).toArray() : widths;
+        m_Paddings = new String [m_Columns.length];
+        for( var i = 0; i < m_Columns.length; ++i )
+        {
+            m_Paddings [i] = Character.toString( m_Columns [i].padChar() ).repeat( max( m_Widths [i], 0 ) );
+        }
+    }   //  TableFormatter()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Writes the given range of the given text to the given target.
+     *
+     *  @param  target  The target.
+     *  @param  text    The text.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range.
+     *  @throws IOException Writing to the target failed.
+     */
+    private static final void append( final Appendable target, final CharSequence text, final int start, final int end ) throws IOException
+    {
+        /*
+         * Writer.append(CharSequence,int,int) creates a sub sequence, so
+         * Writer.write() is called directly if possible.
+         */
+        if( (target instanceof final Writer writer) && (text instanceof final String string) )
+        {
+            writer.write( string, start, end - start );
+        }
+        else
+        {
+            target.append( text, start, end );
+        }
+    }   //  append()
+
+    /**
+     *  Checks whether the given column index is valid.
+     *
+     *  @param  column  The column index.
+     *  @throws ValidationException The row has too many cells.
+     */
+    private final void checkColumn( final int column ) throws ValidationException
+    {
+        if( column >= m_Columns.length ) throw new ValidationException( "The row has more than %d cells".formatted( m_Columns.length ) );
+    }   //  checkColumn()
+
+    /**
+     *  Returns the column definitions.
+     *
+     *  @return The column definitions.
+     */
+    public final List<Column> columns() { return List.of( m_Columns ); }
+
+    /**
+     *  <p>{@summary Writes the given rows as a table to the given target,
+     *  after the widths of the columns were
+     *  {@linkplain #measure(Iterable) measured}.}</p>
+     *  <p>The rows are iterated twice, but they are not held in memory.</p>
+     *
+     *  @param  target  The target.
+     *  @param  rows    The rows.
+     *  @throws IOException Writing to the target failed.
+     *  @throws ValidationException A row has more cells than the table has
+     *      columns.
+     */
+    public final void format( final Appendable target, final Iterable<? extends Iterable<? extends CharSequence>> rows ) throws IOException, ValidationException
+    {
+        requireNonNullArgument( target, "target" );
+        final var formatter = measure( rows );
+        for( final var row : rows ) formatter.writeRow( target, row );
+    }   //  format()
+
+    /**
+     *  <p>{@summary Determines the width of all columns whose width is zero
+     *  or less from the given rows, and returns a new formatter that uses
+     *  these widths.} The width of such a column is the length of the
+     *  longest cell in that column; all columns are measured in a single
+     *  pass over the rows.</p>
+     *  <p>Columns with a fixed width keep that width.</p>
+     *
+     *  @param  rows    The rows.
+     *  @return The new formatter.
+     *  @throws ValidationException A row has more cells than the table has
+     *      columns.
+     */
+    public final TableFormatter measure( final Iterable<? extends Iterable<? extends CharSequence>> rows ) throws ValidationException
+    {
+        requireNonNullArgument( rows, "rows" );
+
+        final var widths = new int [m_Columns.length];
+        final var isMeasured = new boolean [m_Columns.length];
+        for( var i = 0; i < m_Columns.length; ++i )
+        {
+            isMeasured [i] = m_Columns [i].width() <= 0;
+            widths [i] = isMeasured [i] ? 0 : m_Columns [i].width();
+        }
+
+        for( final var row : rows )
+        {
+            var column = 0;
+            for( final var cell : requireNonNullArgument( row, "row" ) )
+            {
+                checkColumn( column );
+                if( isMeasured [column] && !isNull( cell ) ) widths [column] = max( widths [column], cell.length() );
+                ++column;
+            }
+        }
+        final var retValue = new TableFormatter( m_ColumnSeparator, m_LineSeparator, m_Columns, widths );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  measure()
+
+    /**
+     *  Returns the effective widths of the columns. For a formatter that is
+     *  not the result of a call to
+     *  {@link #measure(Iterable)},
+     *  these are the widths from the column definitions.
+     *
+     *  @return The widths.
+     */
+    public final int [] widths() { return m_Widths.clone(); }
+
+    /**
+     *  Writes the rows from the given
+     *  {@link Stream}
+     *  to the given target, using the current widths of the columns. The
+     *  stream is consumed row by row.
+     *
+     *  @param  target  The target.
+     *  @param  rows    The rows.
+     *  @return The number of rows that were written.
+     *  @throws IOException Writing to the target failed.
+     *  @throws ValidationException A row has more cells than the table has
+     *      columns, or a cell is too long for the clipping mode of its
+     *      column.
+     */
+    public final long write( final Appendable target, final Stream<? extends Iterable<? extends CharSequence>> rows ) throws IOException, ValidationException
+    {
+        requireNonNullArgument( target, "target" );
+        var retValue = 0L;
+        for( final Iterator<? extends Iterable<? extends CharSequence>> iterator = requireNonNullArgument( rows, "rows" ).iterator(); iterator.hasNext(); ++retValue )
+        {
+            writeRow( target, iterator.next() );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  write()
+
+    /**
+     *  Writes the given cell to the given target.
+     *
+     *  @param  target  The target.
+     *  @param  column  The column index.
+     *  @param  cell    The cell; can be {@code null}.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void writeCell( final Appendable target, final int column, final CharSequence cell ) throws IOException
+    {
+        final var text = isNull( cell ) ? EMPTY_STRING : cell;
+        final var length = text.length();
+        final var width = m_Widths [column];
+        final var definition = m_Columns [column];
+
+        if( (width <= 0) || (length == width) )
+        {
+            append( target, text, 0, length );
+        }
+        else if( length > width )
+        {
+            switch( definition.clipping() )
+            {
+                case CLIPPING_NONE -> append( target, text, 0, length );
+                case CLIPPING_CUT -> append( target, text, 0, width );
+                default -> target.append( definition.clipping().clip( text, width ) );
+            }
+        }
+        else
+        {
+            final var padding = m_Paddings [column];
+            final var padSize = width - length;
+            switch( definition.padding() )
+            {
+                case PADDING_CENTER ->
+                {
+                    final var rightSize = padSize / 2;
+                    append( target, padding, 0, padSize - rightSize );
+                    append( target, text, 0, length );
+                    append( target, padding, 0, rightSize );
+                }
+                case PADDING_LEFT ->
+                {
+                    append( target, padding, 0, padSize );
+                    append( target, text, 0, length );
+                }
+                case PADDING_RIGHT ->
+                {
+                    append( target, text, 0, length );
+                    append( target, padding, 0, padSize );
+                }
+            }
+        }
+    }   //  writeCell()
+
+    /**
+     *  Writes the given row to the given target, using the current widths
+     *  of the columns.
+     *
+     *  @param  target  The target.
+     *  @param  row The cells of the row.
+     *  @throws IOException Writing to the target failed.
+     *  @throws ValidationException The row has more cells than the table
+     *      has columns, or a cell is too long for the clipping mode of its
+     *      column.
+     */
+    public final void writeRow( final Appendable target, final CharSequence... row ) throws IOException, ValidationException
+    {
+        writeRow( target, Arrays.asList( requireNonNullArgument( row, "row" ) ) );
+    }   //  writeRow()
+
+    /**
+     *  Writes the given row to the given target, using the current widths
+     *  of the columns.
+     *
+     *  @param  target  The target.
+     *  @param  row The cells of the row.
+     *  @throws IOException Writing to the target failed.
+     *  @throws ValidationException The row has more cells than the table
+     *      has columns, or a cell is too long for the clipping mode of its
+     *      column.
+     */
+    public final void writeRow( final Appendable target, final Iterable<? extends CharSequence> row ) throws IOException, ValidationException
+    {
+        requireNonNullArgument( target, "target" );
+
+        var column = 0;
+        for( final var cell : requireNonNullArgument( row, "row" ) )
+        {
+            checkColumn( column );
+            if( column > 0 ) target.append( m_ColumnSeparator );
+            writeCell( target, column, cell );
+            ++column;
+        }
+        for( ; column < m_Columns.length; ++column )
+        {
+            if( column > 0 ) target.append( m_ColumnSeparator );
+            writeCell( target, column, EMPTY_STRING );
+        }
+        target.append( m_LineSeparator );
+    }   //  writeRow()
+}
+//  class TableFormatter
+
+/*
+ *  End of File
+ */
@@ -21,9 +21,9 @@ import static java.lang.String.format;
 import static java.lang.System.arraycopy;
 import static java.lang.System.getProperties;
 import static java.lang.System.getenv;
-import static java.util.regex.Pattern.compile;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.util.StringUtils.isNotEmptyOrBlank;
@@ -32,9 +32,12 @@ import static org.tquadrat.foundation.util.SystemUtils.getMACAddress;
 import static org.tquadrat.foundation.util.SystemUtils.getNodeId;
 import static org.tquadrat.foundation.util.SystemUtils.getPID;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.io.Serial;
 import java.io.Serializable;
 import java.net.SocketException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.HashMap;
@@ -51,6 +54,7 @@ import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.MountPoint;
 import org.tquadrat.foundation.annotation.NotRecord;
 import org.tquadrat.foundation.exception.ImpossibleExceptionError;
+import org.tquadrat.foundation.exception.ValidationException;
 
 /**
  *  <p>{@summary An instance of this class is basically a wrapper around a
@@ -89,6 +93,12 @@ import org.tquadrat.foundation.exception.ImpossibleExceptionError;
  *      <dt>{@value #VARNAME_pid}</dt>
  *      <dd>The process id of the current program.</dd>
  *  </dl>
+ *  <p>Except for {@value #VARNAME_Now}, these values are expensive to
+ *  determine; therefore they are taken from a snapshot that is created on
+ *  first use and that will be refreshed after its
+ *  {@linkplain #setSystemDataTimeToLive(Duration) time to live}
+ *  has expired, or after it was
+ *  {@linkplain #invalidateSystemData() invalidated explicitly}.</p>
  *
  *  @see #VARNAME_IPAddress
  *  @see #VARNAME_MACAddress
@@ -107,6 +117,27 @@ import org.tquadrat.foundation.exception.ImpossibleExceptionError;
 @NotRecord
 public class Template implements Serializable
 {
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The snapshot of the system data.
+     *
+     *  @param  data    The system data.
+     *  @param  createdAt   The value of
+     *      {@link System#nanoTime()}
+     *      when the snapshot was taken.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: Template.java 1151 2025-10-01 21:32:15Z tquadrat $
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: Template.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    private record SystemDataSnapshot( Map<String,Object> data, long createdAt ) {}
+
         /*-----------*\
     ====** Constants **========================================================
         \*-----------*/
@@ -193,6 +224,17 @@ public class Template implements Serializable
     @API( status = STABLE, since = "0.1.0" )
     public static final String VARIABLE_TEMPLATE = "${%1$s}";
 
+    /**
+     *  The default time to live for the snapshot of the system data: five
+     *  minutes.
+     *
+     *  @see #setSystemDataTimeToLive(Duration)
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final Duration DEFAULT_SYSTEMDATA_TTL = Duration.ofMinutes( 5 );
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
@@ -203,6 +245,12 @@ public class Template implements Serializable
      */
     private final String m_TemplateText;
 
+    /**
+     *  The compiled form of the adjusted template text; it will be created
+     *  on first use.
+     */
+    private transient CompiledTemplate m_CompiledTemplate;
+
         /*------------------------*\
     ====** Static Initialisations **===========================================
         \*------------------------*/
@@ -217,6 +265,22 @@ public class Template implements Serializable
      */
     private static final Pattern m_VariablePattern;
 
+    /**
+     *  The current snapshot of the system data; will be {@code null} if no
+     *  snapshot was taken yet, or if it was invalidated.
+     */
+    private static volatile SystemDataSnapshot m_SystemData = null;
+
+    /**
+     *  The lock that guards the refresh of the snapshot of the system data.
+     */
+    private static final Object m_SystemDataLock = new Object();
+
+    /**
+     *  The time to live for the snapshot of the system data, in nanoseconds.
+     */
+    private static volatile long m_SystemDataTTL = DEFAULT_SYSTEMDATA_TTL.toNanos();
+
     /**
      *  The serial version UID for objects of this class: {@value}.
      *
@@ -230,7 +294,7 @@ public class Template implements Serializable
         //---* The regex patterns *--------------------------------------------
         try
         {
-            m_VariablePattern = compile( VARIABLE_PATTERN );
+            m_VariablePattern = Pattern.compile( VARIABLE_PATTERN );
         }
         catch( final PatternSyntaxException e )
         {
@@ -259,6 +323,10 @@ public class Template implements Serializable
      *  <p>{@summary The mount point for template manipulations in derived
      *  classes.}</p>
      *  <p>The default implementation will just return the argument.</p>
+     *  <p>As the result is compiled only once and then cached by
+     *  {@link #compile()},
+     *  an implementation must return the same text on each call; it is
+     *  effectively evaluated only once per instance.</p>
      *
      *  @param  templateText    The template text, as it was given to the
      *      constructor on creation of the object instance.
@@ -272,67 +340,114 @@ public class Template implements Serializable
     }   //  adjustTemplate()
 
     /**
-     *  Builds the source map with the additional data.
+     *  Builds the source map with the additional data, except for the
+     *  current time.
      *
      *  @return The source map.
      *
      *  @see #VARNAME_IPAddress
      *  @see #VARNAME_MACAddress
      *  @see #VARNAME_NodeId
-     *  @see #VARNAME_Now
      *  @see #VARNAME_pid
      */
     private static final Map<String,Object> createAdditionalSource()
     {
-        final Map<String,Object> retValue = new HashMap<>(
-            Map.of( VARNAME_MACAddress, getMACAddress(), VARNAME_pid, Long.valueOf( getPID() ), VARNAME_NodeId, Long.valueOf( getNodeId() ), VARNAME_Now, Instant.now() )
+        final Map<String,Object> buffer = new HashMap<>(
+            Map.of( VARNAME_MACAddress, getMACAddress(), VARNAME_pid, Long.valueOf( getPID() ), VARNAME_NodeId, Long.valueOf( getNodeId() ) )
         );
         try
         {
-            determineIPAddress().ifPresent( inetAddress -> retValue.put( VARNAME_IPAddress, inetAddress ) );
+            determineIPAddress().ifPresent( inetAddress -> buffer.put( VARNAME_IPAddress, inetAddress ) );
         }
         catch( final SocketException ignored ) { /* Deliberately ignored */ }
+        final var retValue = Map.copyOf( buffer );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  createAdditionalSource()
 
     /**
-     *  Escapes backslash ('\') and dollar sign ('$') for regex replacements.
+     *  <p>{@summary Returns the compiled form of the adjusted template
+     *  text.}</p>
+     *  <p>The template text will be compiled only once, on the first call
+     *  to this method; subsequent calls return the same instance.</p>
+     *  <p>Keep in mind that the compiled template does not know about
+     *  {@link #formatResult(String)}.</p>
      *
-     *  @param  input   The source string.
-     *  @return The string with the escaped characters.
+     *  @return The compiled template.
      *
-     *  @see java.util.regex.Matcher#appendReplacement(StringBuffer,String)
+     *  @see #getTemplateText()
      *
-     *  @since 0.1.0
+     *  @since 0.26.0
      */
-    @API( status = INTERNAL, since = "0.1.0" )
-    private static String escapeRegexReplacement( final CharSequence input )
+    @API( status = STABLE, since = "0.26.0" )
+    public final CompiledTemplate compile()
     {
-        assert nonNull( input ) : "input is null";
+        var retValue = m_CompiledTemplate;
+        if( isNull( retValue ) )
+        {
+            retValue = CompiledTemplate.compile( getTemplateText() );
+            m_CompiledTemplate = retValue;
+        }
 
-        //---* Escape the backslashes and dollar signs *-------------------
-        final var len = input.length();
-        final var retValue = new StringBuilder( (len * 12) / 10 );
-        char c;
-        EscapeLoop: for( var i = 0; i < len; ++i )
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compile()
+
+    /**
+     *  <p>{@summary Compiles the given template text.}</p>
+     *  <p>The returned
+     *  {@link CompiledTemplate}
+     *  can be rendered any number of times, without scanning the text
+     *  again.</p>
+     *
+     *  @param  templateText    The template text, containing variables in the
+     *      form <code>${&lt;<i>name</i>&gt;}</code>.
+     *  @return The compiled template.
+     *
+     *  @see #VARIABLE_PATTERN
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final CompiledTemplate compile( final CharSequence templateText )
+    {
+        final var retValue = CompiledTemplate.compile( templateText );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compile()
+
+    /**
+     *  Builds the list of sources for the system data, followed by the given
+     *  additional sources.
+     *
+     *  @param  additionalSources The maps with additional replacement values.
+     *  @return The sources.
+     */
+    @SafeVarargs
+    private static final Map<String,? extends Object> [] createSystemDataSources( final Map<String,? extends Object>... additionalSources )
+    {
+        final var currentLen = requireNonNullArgument( additionalSources, "additionalSources" ).length;
+        final var newLen = currentLen + 4;
+        @SuppressWarnings( "unchecked" )
+        final Map<String,? extends Object> [] retValue =  new Map [newLen];
+        if( currentLen > 0 )
         {
-            c = input.charAt( i );
-            switch( c )
-            {
-                case '\\':
-                case '$':
-                    retValue.append( '\\' ); // The fall through is intended here!
-                    //$FALL-THROUGH$
-                default: // Do nothing ...
-            }
-            retValue.append( c );
-        }   //  EscapeLoop:
+            arraycopy( additionalSources, 0, retValue, 4, currentLen );
+        }
+
+        @SuppressWarnings( {"unchecked", "rawtypes"} )
+        final Map<String,? extends Object> systemProperties = (Map) getProperties();
+
+        retValue [0] = Map.of( VARNAME_Now, Instant.now() );
+        retValue [1] = getSystemData();
+        retValue [2] = systemProperties;
+        retValue [3] = getenv();
 
         //---* Done *----------------------------------------------------------
-        return retValue.toString();
-    }   //  escapeRegexReplacement()
+        return retValue;
+    }   //  createSystemDataSources()
 
     /**
      *  <p>{@summary Collects all the variables of the form
@@ -399,7 +514,7 @@ public class Template implements Serializable
      */
     public final Set<String> findVariables()
     {
-        final var retValue = findVariables( getTemplateText() );
+        final var retValue = compile().findVariables();
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -421,6 +536,51 @@ public class Template implements Serializable
         return text;
     }   //  formatResult()
 
+    /**
+     *  <p>{@summary Returns the snapshot of the system data.} If there is no
+     *  snapshot yet, or if the current one has expired, a new one will be
+     *  taken.</p>
+     *  <p>The snapshot does not contain the value for
+     *  {@value #VARNAME_Now}.</p>
+     *
+     *  @return The system data.
+     */
+    private static final Map<String,Object> getSystemData()
+    {
+        var snapshot = m_SystemData;
+        if( isNull( snapshot ) || (System.nanoTime() - snapshot.createdAt() >= m_SystemDataTTL) )
+        {
+            synchronized( m_SystemDataLock )
+            {
+                //---* Another thread may have refreshed it in the meantime *--
+                snapshot = m_SystemData;
+                final var now = System.nanoTime();
+                if( isNull( snapshot ) || (now - snapshot.createdAt() >= m_SystemDataTTL) )
+                {
+                    snapshot = new SystemDataSnapshot( createAdditionalSource(), now );
+                    m_SystemData = snapshot;
+                }
+            }
+        }
+        final var retValue = snapshot.data();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getSystemData()
+
+    /**
+     *  Returns the time to live for the snapshot of the system data.
+     *
+     *  @return The time to live.
+     *
+     *  @see #setSystemDataTimeToLive(Duration)
+     *  @see #DEFAULT_SYSTEMDATA_TTL
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final Duration getSystemDataTimeToLive() { return Duration.ofNanos( m_SystemDataTTL ); }
+
     /**
      *  Returns the template text after it has been processed by
      *  {@link #adjustTemplate(String)}.
@@ -487,7 +647,7 @@ public class Template implements Serializable
      *
      *  @see #VARIABLE_PATTERN
      */
-    public final boolean hasVariables() { return hasVariables( getTemplateText() ); }
+    public final boolean hasVariables() { return compile().hasVariables(); }
 
     /**
      *  Test whether the given String is a valid variable name.
@@ -517,6 +677,28 @@ public class Template implements Serializable
         return retValue;
     }   //  isValidVariableName()
 
+    /**
+     *  <p>{@summary Invalidates the current snapshot of the system data.} The
+     *  next call to
+     *  {@link #replaceVariableFromSystemData(CharSequence, Map...)}
+     *  or to
+     *  {@link #replaceVariable(boolean, Map...)}
+     *  with {@code addSystemData} set to {@code true} will take a new
+     *  one.</p>
+     *  <p>Call this method when the configuration of the network interfaces
+     *  has changed.</p>
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final void invalidateSystemData()
+    {
+        synchronized( m_SystemDataLock )
+        {
+            m_SystemData = null;
+        }
+    }   //  invalidateSystemData()
+
     /**
      *  Checks whether the given String is a variable in the form
      *  <code>${<i>&lt;name&gt;</i>}</code>, according to the pattern provided
@@ -655,10 +837,11 @@ public class Template implements Serializable
     @SafeVarargs
     public final String replaceVariable( final boolean addSystemData, final Map<String,? extends Object>... sources )
     {
-        final var rawTemplate = getTemplateText();
+        requireNonNullArgument( sources, "sources" );
+
         final var processedText = addSystemData
-            ? replaceVariableFromSystemData( rawTemplate, sources )
-            : replaceVariable( rawTemplate, sources );
+            ? compile().replaceVariable( createSystemDataSources( sources ) )
+            : compile().replaceVariable( sources );
         final var retValue = formatResult( processedText );
 
         //---* Done *----------------------------------------------------------
@@ -698,7 +881,7 @@ public class Template implements Serializable
      */
     public final String replaceVariable( final Function<? super String, Optional<String>> retriever )
     {
-        final var retValue = formatResult( replaceVariable( getTemplateText(), retriever ) );
+        final var retValue = formatResult( compile().replaceVariable( retriever ) );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -742,22 +925,91 @@ public class Template implements Serializable
     {
         requireNonNullArgument( retriever, "retriever" );
 
-        final Map<String,String> cache = new HashMap<>();
+        final var retValue = nonNull( text ) ? CompiledTemplate.compile( text ).replaceVariable( retriever ) : null;
 
-        String retValue = null;
-        if( nonNull( text ) )
-        {
-            final var matcher = m_VariablePattern.matcher( text );
-            final var buffer = new StringBuilder();
-            while( matcher.find() )
-            {
-                final var variable = matcher.group( 0 );
-                final var replacement = cache.computeIfAbsent( variable, v -> escapeRegexReplacement( retriever.apply( matcher.group( 1 ) ).orElse( v ) ) );
-                matcher.appendReplacement( buffer, replacement );
-            }
-            matcher.appendTail( buffer );
-            retValue = buffer.toString();
-        }
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariable()
+
+    /**
+     *  <p>{@summary Replaces the variables of the form
+     *  <code>${<i>&lt;name&gt;</i>}</code> in the text that is read from the
+     *  given
+     *  {@link Reader}
+     *  with values from the given maps, and writes the result to the given
+     *  {@link Appendable}.} The method will try the maps in the given
+     *  sequence, it stops after the first match.</p>
+     *  <p>Neither the text nor the result will be held in memory completely;
+     *  only a potential variable is buffered until it is complete. As a
+     *  variable cannot span more than one line, the memory consumption is
+     *  limited by the length of the longest line in the text.</p>
+     *  <p>Values that are instances of
+     *  {@link CharSequence}
+     *  are written to the target as they are; for all other values, the
+     *  result of
+     *  {@link Object#toString()}
+     *  is used.</p>
+     *  <p>Otherwise, the semantics are the same as for
+     *  {@link #replaceVariable(CharSequence, Map...)}.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  source  The source for the text with the variables. It will
+     *      not be closed.
+     *  @param  target  The target for the result.
+     *  @param  sources The maps with the replacement values.
+     *  @return The target.
+     *  @throws IOException Reading from the source or writing to the target
+     *      failed.
+     *
+     *  @since 0.26.0
+     */
+    @SafeVarargs
+    @API( status = STABLE, since = "0.26.0" )
+    public static final <A extends Appendable> A replaceVariable( final Reader source, final A target, final Map<String,? extends Object>... sources ) throws IOException
+    {
+        requireNonNullArgument( sources, "sources" );
+
+        final var retValue = CompiledTemplate.render( source, target, variable -> retrieveVariableSequence( variable, sources ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariable()
+
+    /**
+     *  <p>{@summary Replaces the variables of the form
+     *  <code>${<i>&lt;name&gt;</i>}</code> in the text that is read from the
+     *  given
+     *  {@link Reader}
+     *  with values returned by the given retriever function, and writes the
+     *  result to the given
+     *  {@link Appendable}.}</p>
+     *  <p>Neither the text nor the result will be held in memory completely;
+     *  only a potential variable is buffered until it is complete. As a
+     *  variable cannot span more than one line, the memory consumption is
+     *  limited by the length of the longest line in the text.</p>
+     *  <p>The values returned by the retriever are written to the target as
+     *  they are, without being converted to a
+     *  {@link String}
+     *  first.</p>
+     *  <p>Otherwise, the semantics are the same as for
+     *  {@link #replaceVariable(CharSequence, Function)}.</p>
+     *
+     *  @param  <A> The type of the target.
+     *  @param  source  The source for the text with the variables. It will
+     *      not be closed.
+     *  @param  target  The target for the result.
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @return The target.
+     *  @throws IOException Reading from the source or writing to the target
+     *      failed.
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final <A extends Appendable> A replaceVariable( final Reader source, final A target, final Function<? super String, ? extends Optional<? extends CharSequence>> retriever ) throws IOException
+    {
+        final var retValue = CompiledTemplate.render( source, target, retriever );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -787,10 +1039,16 @@ public class Template implements Serializable
      *      <dt><b><code>{@value #VARNAME_pid}</code></b></dt>
      *      <dd>The process id of this Java virtual machine.</dd>
      *  </dl>
+     *  <p>Except for {@value #VARNAME_Now}, the values for these variables
+     *  are taken from a snapshot that will be refreshed after the
+     *  {@linkplain #getSystemDataTimeToLive() time to live}
+     *  has expired.</p>
      *  <p>If no replacement value could be found, the variable will not be
      *  replaced at all; no exception will be thrown.</p>
      *  <p>If a value from one of the maps contains a variable itself, this
-     *  will not be replaced.</p>
+     *  will not be replaced; use
+     *  {@link #replaceVariableRecursively(boolean, Map...)}
+     *  for that purpose.</p>
      *  <p>The variables names are case-sensitive.</p>
      *
      *  @param  text    The text with the variables; can be {@code null}.
@@ -805,21 +1063,7 @@ public class Template implements Serializable
     @API( status = STABLE, since = "0.1.0" )
     public static final String replaceVariableFromSystemData( final CharSequence text, final Map<String,? extends Object>... additionalSources )
     {
-        final var currentLen = requireNonNullArgument( additionalSources, "additionalSources" ).length;
-        final var newLen = currentLen + 3;
-        @SuppressWarnings( "unchecked" )
-        final Map<String,? extends Object> [] sources =  new Map [newLen];
-        if( currentLen > 0 )
-        {
-            arraycopy( additionalSources, 0, sources, 3, currentLen );
-        }
-
-        @SuppressWarnings( {"unchecked", "rawtypes"} )
-        final Map<String,? extends Object> systemProperties = (Map) getProperties();
-
-        sources [0] = createAdditionalSource();
-        sources [1] = systemProperties;
-        sources [2] = getenv();
+        final var sources = createSystemDataSources( additionalSources );
 
         final var retValue = replaceVariable( text, sources );
 
@@ -827,9 +1071,160 @@ public class Template implements Serializable
         return retValue;
     }   //  replaceVariableFromSystemData()
 
+    /**
+     *  <p>{@summary Replaces the variables of the form
+     *  <code>${&lt;<i>name</i>&gt;}</code> in the adjusted template with
+     *  values from the given maps and returns it after formatting the result;
+     *  if a value contains variables itself, these will be replaced,
+     *  too.} The method will try the maps in the given sequence, it stops
+     *  after the first match.</p>
+     *  <p>If {@code addSystemData} is provided as {@code true}, the system
+     *  data, the
+     *  {@linkplain System#getProperties() system properties}
+     *  and the
+     *  {@linkplain System#getenv() system environment}
+     *  will be searched for replacement values before any other source.</p>
+     *  <p>Otherwise the semantics are the same as for
+     *  {@link #replaceVariableRecursively(CharSequence, Map...)}.</p>
+     *
+     *  @param  addSystemData   {@code true} if the system data, the system
+     *      properties and the system environment should be searched for
+     *      replacement values, too, otherwise {@code false}.
+     *  @param  sources The maps with the replacement values.
+     *  @return The new text.
+     *  @throws ValidationException The value of a variable refers to the
+     *      variable itself, directly or through other variables.
+     *
+     *  @since 0.26.0
+     */
+    @SafeVarargs
+    @API( status = STABLE, since = "0.26.0" )
+    public final String replaceVariableRecursively( final boolean addSystemData, final Map<String,? extends Object>... sources ) throws ValidationException
+    {
+        requireNonNullArgument( sources, "sources" );
+
+        final var processedText = addSystemData
+            ? compile().replaceVariableRecursively( createSystemDataSources( sources ) )
+            : compile().replaceVariableRecursively( sources );
+        final var retValue = formatResult( processedText );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariableRecursively()
+
+    /**
+     *  <p>{@summary Replaces the variables of the form
+     *  <code>${<i>&lt;name&gt;</i>}</code> in the given String with values
+     *  from the given maps; if a value contains variables itself, these will
+     *  be replaced, too.} The method will try the maps in the given sequence,
+     *  it stops after the first match.</p>
+     *  <p>The semantics are the same as for
+     *  {@link #replaceVariableRecursively(CharSequence, Function)}.</p>
+     *
+     *  @param  text    The text with the variables; may be {@code null}.
+     *  @param  sources The maps with the replacement values.
+     *  @return The new text, or {@code null} if the provided value for
+     *      {@code text} was already {@code null}.
+     *  @throws ValidationException The value of a variable refers to the
+     *      variable itself, directly or through other variables.
+     *
+     *  @since 0.26.0
+     */
+    @SafeVarargs
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String replaceVariableRecursively( final CharSequence text, final Map<String,? extends Object>... sources ) throws ValidationException
+    {
+        requireNonNullArgument( sources, "sources" );
+
+        final var retValue = replaceVariableRecursively( text, variable -> retrieveVariableSequence( variable, sources ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariableRecursively()
+
+    /**
+     *  <p>{@summary Replaces the variables of the form
+     *  <code>${<i>&lt;name&gt;</i>}</code> in the given String with values
+     *  returned by the given retriever function; if a value contains
+     *  variables itself, these will be replaced, too.}</p>
+     *  <p>The text is traversed only once: the value for each variable is
+     *  retrieved and expanded only once per call, and then re-used for any
+     *  further occurrence, regardless whether that is in the text itself or
+     *  in another value. This replaces repeated calls to
+     *  {@link #replaceVariable(CharSequence, Function)}
+     *  until the result does not change any more.</p>
+     *  <p>If the value of a variable refers to the variable itself, either
+     *  directly or through other variables, a
+     *  {@link ValidationException}
+     *  is thrown that names the variables that are involved.</p>
+     *  <p>If no replacement value could be found for a variable, it will not
+     *  be replaced at all.</p>
+     *
+     *  @param  text    The text with the variables; may be {@code null}.
+     *  @param  retriever   The function that will retrieve the replacement
+     *      values for the given variable names.
+     *  @return The new text, or {@code null} if the provided value for
+     *      {@code text} was already {@code null}.
+     *  @throws ValidationException The value of a variable refers to the
+     *      variable itself, directly or through other variables.
+     *
+     *  @see #VARIABLE_PATTERN
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final String replaceVariableRecursively( final CharSequence text, final Function<? super String, ? extends Optional<? extends CharSequence>> retriever ) throws ValidationException
+    {
+        requireNonNullArgument( retriever, "retriever" );
+
+        final var retValue = nonNull( text ) ? CompiledTemplate.compile( text ).replaceVariableRecursively( retriever ) : null;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  replaceVariableRecursively()
+
+    /**
+     *  <p>{@summary Sets the time to live for the snapshot of the system
+     *  data.} The new value applies also to the current snapshot.</p>
+     *  <p>A time to live of
+     *  {@link Duration#ZERO}
+     *  means that a new snapshot will be taken for each call to
+     *  {@link #replaceVariableFromSystemData(CharSequence, Map...)}
+     *  &ndash; that was the behaviour before the snapshot was
+     *  introduced.</p>
+     *
+     *  @param  ttl The time to live; may not be negative.
+     *
+     *  @see #DEFAULT_SYSTEMDATA_TTL
+     *  @see #invalidateSystemData()
+     *
+     *  @since 0.26.0
+     */
+    @API( status = STABLE, since = "0.26.0" )
+    public static final void setSystemDataTimeToLive( final Duration ttl )
+    {
+        if( requireNonNullArgument( ttl, "ttl" ).isNegative() ) throw new ValidationException( "ttl is negative: %s".formatted( ttl ) );
+
+        long nanos;
+        try
+        {
+            nanos = ttl.toNanos();
+        }
+        catch( final ArithmeticException ignored )
+        {
+            nanos = Long.MAX_VALUE;
+        }
+        m_SystemDataTTL = nanos;
+    }   //  setSystemDataTimeToLive()
+
     /**
      *  Tries to obtain a value for the given key from one of the given
-     *  sources that will be searched in the given sequence order.
+     *  sources that will be searched in the given sequence order. Values that
+     *  are instances of
+     *  {@link CharSequence}
+     *  will be returned as they are, for all others, the result of
+     *  {@link Object#toString()}
+     *  is returned.
      *
      *  @param  name    The name of the value.
      *  @param  sources The maps with the values.
@@ -838,12 +1233,12 @@ public class Template implements Serializable
      *      that holds the value from one of the sources.
      */
     @SafeVarargs
-    private static final Optional<String> retrieveVariableValue( final String name, final Map<String,? extends Object>... sources )
+    static final Optional<CharSequence> retrieveVariableSequence( final String name, final Map<String,? extends Object>... sources )
     {
         assert nonNull( name ) : "name is null";
         assert nonNull( sources ) : "sources is null";
 
-        Optional<String> retValue = Optional.empty();
+        Optional<CharSequence> retValue = Optional.empty();
 
         //---* Search the sources *--------------------------------------------
         Object value = null;
@@ -853,12 +1248,34 @@ public class Template implements Serializable
             if( nonNull( value ) ) break SearchLoop;
         }   //  SearchLoop:
 
-        if( nonNull( value ) )
+        if( value instanceof final CharSequence charSequence )
+        {
+            retValue = Optional.of( charSequence );
+        }
+        else if( nonNull( value ) )
         {
-            //---* Escape the backslashes and dollar signs *-------------------
             retValue = Optional.of( value.toString() );
         }
 
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  retrieveVariableSequence()
+
+    /**
+     *  Tries to obtain a value for the given key from one of the given
+     *  sources that will be searched in the given sequence order.
+     *
+     *  @param  name    The name of the value.
+     *  @param  sources The maps with the values.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the value from one of the sources.
+     */
+    @SafeVarargs
+    static final Optional<String> retrieveVariableValue( final String name, final Map<String,? extends Object>... sources )
+    {
+        final var retValue = retrieveVariableSequence( name, sources ).map( CharSequence::toString );
+
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  retrieveVariableValue()
@@ -0,0 +1,349 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util;
+
+import static java.lang.Character.isHighSurrogate;
+import static java.lang.Character.isWhitespace;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.util.IOUtils.DEFAULT_BUFFER_SIZE;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+
+/**
+ *  <p>{@summary Breaks text into lines of a given length, honouring
+ *  whitespace, and writes the lines directly to an
+ *  {@link Appendable}.}</p>
+ *  <p>The lines are the same as those returned by
+ *  {@link StringUtils#breakText(CharSequence, int)}
+ *  for the same line length: words are separated by the whitespace
+ *  characters that are matched by the regular expression {@code \s}, a line
+ *  that contains only whitespace results in an empty line, and a line with
+ *  more than one word is always shorter than the line length. Each line is
+ *  terminated by the configured line separator. In addition, words that
+ *  are longer than the line length can be broken into pieces.</p>
+ *  <p>Different from {@code breakText()}, no objects are created per line
+ *  or per word: the text is written to the target as it is, with the line
+ *  separators inserted at the right places. An instance keeps the buffers
+ *  for reading text from a
+ *  {@link Reader}
+ *  so it can be reused for any number of texts; for that reason, it is
+ *  <i>not</i> thread-safe.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = STABLE, since = "0.26.0" )
+public final class TextWrapper
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  {@code true} if words that are longer than the line length will be
+     *  broken into pieces, {@code false} if they are written to a line of
+     *  their own.
+     */
+    private final boolean m_BreakLongWords;
+
+    /**
+     *  The buffer for the current line when the text is read from a
+     *  {@link Reader}.
+     */
+    private char [] m_Line = new char [DEFAULT_BUFFER_SIZE];
+
+    /**
+     *  The length of a line.
+     */
+    private final int m_LineLength;
+
+    /**
+     *  The line separator.
+     */
+    private final String m_LineSeparator;
+
+    /**
+     *  The view on
+     *  {@link #m_Line}.
+     */
+    private CharBuffer m_LineView = CharBuffer.wrap( m_Line );
+
+    /**
+     *  The buffer for reading from a
+     *  {@link Reader}.
+     */
+    private final char [] m_ReadBuffer = new char [DEFAULT_BUFFER_SIZE];
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code TextWrapper} instance that terminates each line
+     *  with a newline character, and that does not break long words.
+     *
+     *  @param  lineLength  The length of a line.
+     *  @throws ValidationException The line length is zero or negative.
+     */
+    public TextWrapper( final int lineLength ) throws ValidationException
+    {
+        this( lineLength, "\n", false );
+    }   //  TextWrapper()
+
+    /**
+     *  Creates a new {@code TextWrapper} instance.
+     *
+     *  @param  lineLength  The length of a line.
+     *  @param  lineSeparator   The line separator; it will be written after
+     *      each line.
+     *  @param  breakLongWords  {@code true} if words that are longer than
+     *      the line length should be broken into pieces of the line length,
+     *      {@code false} if they should be written to a line of their own.
+     *  @throws ValidationException The line length is zero or negative.
+     */
+    public TextWrapper( final int lineLength, final CharSequence lineSeparator, final boolean breakLongWords ) throws ValidationException
+    {
+        if( lineLength < 1 ) throw new ValidationException( "Line length size must not be zero or a negative number: %d".formatted( lineLength ) );
+        m_LineLength = lineLength;
+        m_LineSeparator = requireNonNullArgument( lineSeparator, "lineSeparator" ).toString();
+        m_BreakLongWords = breakLongWords;
+    }   //  TextWrapper()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Writes the given range of the given text to the given target.
+     *
+     *  @param  target  The target.
+     *  @param  text    The text.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void append( final Appendable target, final CharSequence text, final int start, final int end ) throws IOException
+    {
+        /*
+         * Writer.append(CharSequence,int,int) creates a sub sequence, so
+         * Writer.write() is called directly if possible.
+         */
+        if( (target instanceof final Writer writer) && (text instanceof final String string) )
+        {
+            writer.write( string, start, end - start );
+        }
+        else if( (target instanceof final Writer writer) && (text == m_LineView) )
+        {
+            writer.write( m_Line, start, end - start );
+        }
+        else
+        {
+            target.append( text, start, end );
+        }
+    }   //  append()
+
+    /**
+     *  Checks whether the given character separates two words.
+     *
+     *  @param  c   The character.
+     *  @return {@code true} if the character is one of those that are matched
+     *      by the regular expression {@code \s}, {@code false} otherwise.
+     */
+    private static final boolean isWordSeparator( final char c )
+    {
+        return switch( c )
+        {
+            case ' ', '\t', '\n', '\u000B', '\f', '\r' -> true;
+            default -> false;
+        };
+    }   //  isWordSeparator()
+
+    /**
+     *  Returns the length of a line.
+     *
+     *  @return The line length.
+     */
+    public final int lineLength() { return m_LineLength; }
+
+    /**
+     *  Breaks the text read from the given
+     *  {@link Reader}
+     *  into lines and writes them to the given target.
+     *
+     *  @note   Each line of the text is buffered until it is complete, so a
+     *      text with very long lines needs a lot of memory.
+     *
+     *  @param  target  The target.
+     *  @param  text    The source for the text.
+     *  @throws IOException Reading the text or writing to the target
+     *      failed.
+     */
+    public final void wrap( final Appendable target, final Reader text ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        requireNonNullArgument( text, "text" );
+
+        var lineEnd = 0;
+        int read;
+        while( (read = text.read( m_ReadBuffer )) >= 0 )
+        {
+            var segmentStart = 0;
+            while( segmentStart < read )
+            {
+                var segmentEnd = segmentStart;
+                while( (segmentEnd < read) && (m_ReadBuffer [segmentEnd] != '\n') ) ++segmentEnd;
+
+                //---* Copy the segment to the line buffer *-------------------
+                final var segmentLength = segmentEnd - segmentStart;
+                if( lineEnd + segmentLength > m_Line.length )
+                {
+                    final var newLine = new char [Math.max( m_Line.length * 2, lineEnd + segmentLength )];
+                    System.arraycopy( m_Line, 0, newLine, 0, lineEnd );
+                    m_Line = newLine;
+                    m_LineView = CharBuffer.wrap( m_Line );
+                }
+                System.arraycopy( m_ReadBuffer, segmentStart, m_Line, lineEnd, segmentLength );
+                lineEnd += segmentLength;
+
+                //---* Process a complete line *-------------------------------
+                if( segmentEnd < read )
+                {
+                    wrapLine( target, m_LineView, 0, lineEnd );
+                    lineEnd = 0;
+                    ++segmentEnd;
+                }
+                segmentStart = segmentEnd;
+            }
+        }
+
+        //---* Process the last line *-----------------------------------------
+        wrapLine( target, m_LineView, 0, lineEnd );
+    }   //  wrap()
+
+    /**
+     *  Breaks the given text into lines and writes them to the given
+     *  target.
+     *
+     *  @param  target  The target.
+     *  @param  text    The text.
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void wrap( final Appendable target, final CharSequence text ) throws IOException
+    {
+        requireNonNullArgument( target, "target" );
+        final var len = requireNonNullArgument( text, "text" ).length();
+
+        var lineStart = 0;
+        for( var i = 0; i < len; ++i )
+        {
+            if( text.charAt( i ) == '\n' )
+            {
+                wrapLine( target, text, lineStart, i );
+                lineStart = i + 1;
+            }
+        }
+        wrapLine( target, text, lineStart, len );
+    }   //  wrap()
+
+    /**
+     *  Breaks a single line of the given text into lines and writes them to
+     *  the given target.
+     *
+     *  @param  target  The target.
+     *  @param  text    The text.
+     *  @param  start   The start of the line.
+     *  @param  end The end of the line, without the newline character.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void wrapLine( final Appendable target, final CharSequence text, final int start, final int end ) throws IOException
+    {
+        var isBlank = true;
+        BlankLoop: for( var i = start; i < end; ++i )
+        {
+            if( !isWhitespace( text.charAt( i ) ) )
+            {
+                isBlank = false;
+                break BlankLoop;
+            }
+        }   //  BlankLoop:
+
+        if( !isBlank )
+        {
+            //---* -1 indicates an empty output line *-------------------------
+            var lineLength = -1;
+            var i = start;
+            WordLoop: while( i < end )
+            {
+                if( isWordSeparator( text.charAt( i ) ) )
+                {
+                    ++i;
+                    continue WordLoop;
+                }
+                var wordStart = i;
+                while( (i < end) && !isWordSeparator( text.charAt( i ) ) ) ++i;
+
+                //---* Break a long word *-------------------------------------
+                if( m_BreakLongWords )
+                {
+                    while( i - wordStart > m_LineLength )
+                    {
+                        var pieceEnd = wordStart + m_LineLength;
+                        if( (m_LineLength > 1) && isHighSurrogate( text.charAt( pieceEnd - 1 ) ) ) --pieceEnd;
+                        if( lineLength >= 0 ) target.append( m_LineSeparator );
+                        append( target, text, wordStart, pieceEnd );
+                        lineLength = pieceEnd - wordStart;
+                        wordStart = pieceEnd;
+                    }
+                }
+
+                //---* Place the word *----------------------------------------
+                final var wordLength = i - wordStart;
+                if( lineLength < 0 )
+                {
+                    lineLength = wordLength;
+                }
+                else if( lineLength + 1 + wordLength < m_LineLength )
+                {
+                    target.append( ' ' );
+                    lineLength += 1 + wordLength;
+                }
+                else
+                {
+                    target.append( m_LineSeparator );
+                    lineLength = wordLength;
+                }
+                append( target, text, wordStart, i );
+            }   //  WordLoop:
+        }
+        target.append( m_LineSeparator );
+    }   //  wrapLine()
+}
+//  class TextWrapper
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,237 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.checkFromToIndex;
+import static org.tquadrat.foundation.lang.Objects.checkIndex;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.util.CharSequenceView;
+
+/**
+ *  The implementation for the interface
+ *  {@link CharSequenceView}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class CharSequenceViewImpl implements CharSequenceView
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The index after the last character of this view in the source.
+     */
+    private final int m_End;
+
+    /**
+     *  The cached hash code; 0 if it was not yet calculated.
+     */
+    private int m_Hash = 0;
+
+    /**
+     *  The source.
+     */
+    private final CharSequence m_Source;
+
+    /**
+     *  The index of the first character of this view in the source.
+     */
+    private final int m_Start;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code CharSequenceViewImpl} instance.
+     *
+     *  @param  source  The source.
+     *  @param  start   The index of the first character of the view; the
+     *      range will not be checked.
+     *  @param  end The index after the last character of the view.
+     */
+    public CharSequenceViewImpl( final CharSequence source, final int start, final int end )
+    {
+        assert nonNull( source ) : "source is null";
+        assert (start >= 0) && (start <= end) && (end <= source.length()) : "Invalid range";
+
+        m_Source = source instanceof final CharSequenceViewImpl view ? view.m_Source : source;
+        final var offset = source instanceof final CharSequenceViewImpl view ? view.m_Start : 0;
+        m_Start = start + offset;
+        m_End = end + offset;
+    }   //  CharSequenceViewImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final char charAt( final int index )
+    {
+        final var retValue = m_Source.charAt( m_Start + checkIndex( index, length() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  charAt()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean contentEquals( final CharSequence other )
+    {
+        final var len = length();
+        var retValue = nonNull( other ) && (other.length() == len);
+        if( retValue && (other != this) )
+        {
+            final var otherSource = other instanceof final CharSequenceViewImpl view ? view.m_Source : other;
+            final var otherStart = other instanceof final CharSequenceViewImpl view ? view.m_Start : 0;
+            if( (m_Source instanceof final String string) && (otherSource instanceof final String otherString) )
+            {
+                retValue = string.regionMatches( m_Start, otherString, otherStart, len );
+            }
+            else
+            {
+                CompareLoop: for( var i = 0; i < len; ++i )
+                {
+                    if( m_Source.charAt( m_Start + i ) != otherSource.charAt( otherStart + i ) )
+                    {
+                        retValue = false;
+                        break CompareLoop;
+                    }
+                }   //  CompareLoop:
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  contentEquals()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int end() { return m_End; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean equals( final Object o )
+    {
+        var retValue = this == o;
+        if( !retValue && (o instanceof final CharSequenceViewImpl other) )
+        {
+            retValue = (other.length() == length())
+                && ((m_Hash == 0) || (other.m_Hash == 0) || (m_Hash == other.m_Hash))
+                && contentEquals( other );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  equals()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int hashCode()
+    {
+        var retValue = m_Hash;
+        if( retValue == 0 )
+        {
+            if( m_Source instanceof final String string && (m_Start == 0) && (m_End == string.length()) )
+            {
+                retValue = string.hashCode();
+            }
+            else
+            {
+                for( var i = m_Start; i < m_End; ++i ) retValue = 31 * retValue + m_Source.charAt( i );
+            }
+            m_Hash = retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  hashCode()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean isEmpty() { return m_Start == m_End; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int length() { return m_End - m_Start; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CharSequence source() { return m_Source; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int start() { return m_Start; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final CharSequenceView subSequence( final int start, final int end )
+    {
+        checkFromToIndex( start, end, length() );
+        final var retValue = new CharSequenceViewImpl( m_Source, m_Start + start, m_Start + end );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  subSequence()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString()
+    {
+        final var retValue = m_Source.subSequence( m_Start, m_End ).toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+}
+//  class CharSequenceViewImpl
+
+/*
+ *  End of File
+ */
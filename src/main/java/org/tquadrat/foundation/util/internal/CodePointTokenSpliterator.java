@@ -0,0 +1,178 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static java.lang.Character.charCount;
+import static java.lang.Character.highSurrogate;
+import static java.lang.Character.isBmpCodePoint;
+import static java.lang.Character.isHighSurrogate;
+import static java.lang.Character.isLowSurrogate;
+import static java.lang.Character.isSurrogate;
+import static java.lang.Character.isValidCodePoint;
+import static java.lang.Character.lowSurrogate;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary An implementation of
+ *  {@link TokenSpliterator}
+ *  that splits the input on a single character, identified by its Unicode
+ *  code point.}</p>
+ *  <p>The input is processed as a sequence of code points, like
+ *  {@link CharSequence#codePoints()}
+ *  does it: a supplementary separator matches only a complete surrogate
+ *  pair, and a separator that is a surrogate character matches only an
+ *  unpaired surrogate in the input.</p>
+ *
+ *  @param  <T> The type of the tokens.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class CodePointTokenSpliterator<T> extends TokenSpliterator<T>
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The code point for the separator.
+     */
+    private final int m_Separator;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code CodePointTokenSpliterator} instance for the whole
+     *  input.
+     *
+     *  @param  input   The input.
+     *  @param  separator   The code point for the separator.
+     *  @param  tokenFactory    The factory for the tokens.
+     */
+    public CodePointTokenSpliterator( final CharSequence input, final int separator, final TokenFactory<? extends T> tokenFactory )
+    {
+        this( input, separator, 0, input.length(), tokenFactory );
+    }   //  CodePointTokenSpliterator()
+
+    /**
+     *  Creates a new {@code CodePointTokenSpliterator} instance for the
+     *  given range of the input.
+     *
+     *  @param  input   The input.
+     *  @param  separator   The code point for the separator.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range.
+     *  @param  tokenFactory    The factory for the tokens.
+     */
+    private CodePointTokenSpliterator( final CharSequence input, final int separator, final int start, final int end, final TokenFactory<? extends T> tokenFactory )
+    {
+        super( input, start, end, tokenFactory );
+        m_Separator = separator;
+    }   //  CodePointTokenSpliterator()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final TokenSpliterator<T> createPrefix( final int start, final int end )
+    {
+        return new CodePointTokenSpliterator<>( input(), m_Separator, start, end, tokenFactory() );
+    }   //  createPrefix()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final long findSeparator( final int from, final int to )
+    {
+        final var input = input();
+        var pos = -1;
+        if( !isValidCodePoint( m_Separator ) )
+        {
+            //---* An invalid code point will never match *--------------------
+            pos = -1;
+        }
+        else if( isBmpCodePoint( m_Separator ) && isSurrogate( (char) m_Separator ) )
+        {
+            //---* Only unpaired surrogates will match *-----------------------
+            final var separator = (char) m_Separator;
+            final var len = input.length();
+            SearchLoop: for( var i = from; i < to; ++i )
+            {
+                if( input.charAt( i ) != separator ) continue SearchLoop;
+                final var isPaired = isHighSurrogate( separator )
+                    ? (i + 1 < len) && isLowSurrogate( input.charAt( i + 1 ) )
+                    : (i > 0) && isHighSurrogate( input.charAt( i - 1 ) );
+                if( !isPaired )
+                {
+                    pos = i;
+                    break SearchLoop;
+                }
+            }   //  SearchLoop:
+        }
+        else if( input instanceof final String string )
+        {
+            pos = string.indexOf( m_Separator, from, to );
+        }
+        else if( isBmpCodePoint( m_Separator ) )
+        {
+            final var separator = (char) m_Separator;
+            SearchLoop: for( var i = from; i < to; ++i )
+            {
+                if( input.charAt( i ) == separator )
+                {
+                    pos = i;
+                    break SearchLoop;
+                }
+            }   //  SearchLoop:
+        }
+        else
+        {
+            final var high = highSurrogate( m_Separator );
+            final var low = lowSurrogate( m_Separator );
+            SearchLoop: for( var i = from; i < to - 1; ++i )
+            {
+                if( (input.charAt( i ) == high) && (input.charAt( i + 1 ) == low) )
+                {
+                    pos = i;
+                    break SearchLoop;
+                }
+            }   //  SearchLoop:
+        }
+        final var retValue = pos < 0 ? -1L : ((long) pos << 32) | (pos + charCount( m_Separator ));
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findSeparator()
+}
+//  class CodePointTokenSpliterator
+
+/*
+ *  End of File
+ */
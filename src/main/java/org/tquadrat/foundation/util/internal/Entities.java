@@ -17,10 +17,13 @@
 
 package org.tquadrat.foundation.util.internal;
 
+import static java.lang.Character.MIN_SUPPLEMENTARY_CODE_POINT;
 import static java.lang.String.format;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.sort;
 import static java.util.Arrays.stream;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Stream.builder;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.tquadrat.foundation.lang.CommonConstants.UTF8;
 import static org.tquadrat.foundation.lang.Objects.isNull;
@@ -28,24 +31,21 @@ import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
 import static org.tquadrat.foundation.util.StringUtils.isEmptyOrBlank;
-import static org.tquadrat.foundation.util.StringUtils.isNotEmptyOrBlank;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.URL;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
-import java.util.stream.Stream.Builder;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.exception.UnexpectedExceptionError;
 import org.tquadrat.foundation.lang.Lazy;
-import org.tquadrat.foundation.util.StringUtils;
 
 /**
  *  Provides HTML and XML entity utilities.
@@ -93,21 +93,27 @@ public final class Entities
         ====** Methods **======================================================
             \*---------*/
         /**
-         *  Adds an entry to this entity map.<br>
-         *  <br>If the value is negative, only the name to value relation will
-         *  be stored.
+         *  Returns the entities.
          *
-         *  @param  name    The entity name.
-         *  @param  value   The entity value (the Unicode code).
+         *  @return The entities.
          */
-        public void add( String name, Integer value );
+        public Stream<String> list();
 
         /**
-         *  Returns the entities.
+         *  <p>{@summary Looks up the entity name that starts at the given
+         *  position of the given text and that is terminated by a
+         *  semicolon.}</p>
+         *  <p>This method does not allocate any memory.</p>
          *
-         *  @return The entities.
+         *  @param  source  The text.
+         *  @param  start   The position of the first character of the entity
+         *      name.
+         *  @return -1 if there is no entity name at the given position,
+         *      otherwise the position of the terminating semicolon in the
+         *      upper 32 bits, and the code point of the entity in the lower
+         *      32 bits.
          */
-        public Stream<String> list();
+        public long match( CharSequence source, int start );
 
         /**
          *  Returns the name of the entity identified by the specified value.
@@ -120,6 +126,16 @@ public final class Entities
          */
         public Optional<String> name( int value );
 
+        /**
+         *  Returns the entity reference (&quot;<code>&amp;<i>name</i>;</code>&quot;)
+         *  for the given code point.
+         *
+         *  @param  codePoint   The code point.
+         *  @return The entity reference, or {@code null} if there is no
+         *      entity for the given code point.
+         */
+        public String reference( int codePoint );
+
         /**
          *  Returns the value of the entity identified by the specified name.
          *
@@ -133,8 +149,37 @@ public final class Entities
     //  interface EntityMap
 
     /**
-     *  A simple implementation for the interface
-     *  {@link EntityMap}.
+     *  A single entity definition from a resource file. The natural order of
+     *  the definitions is that of their names.
+     *
+     *  @param  name    The entity name.
+     *  @param  value   The entity value (the Unicode code point); a negative
+     *      value indicates that the entity will be used only for unescaping.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id$" )
+    private static record EntityDefinition( String name, int value ) implements Comparable<EntityDefinition>
+    {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final int compareTo( final EntityDefinition other ) { return name.compareTo( other.name ); }
+    }
+    //  record EntityDefinition
+
+    /**
+     *  <p>{@summary A simple implementation for the interface
+     *  {@link EntityMap}.}</p>
+     *  <p>All data is held in sorted arrays that are built once, when the
+     *  instance is created: the entity names with their values for the
+     *  lookup by name, the pre-rendered references indexed by code point for
+     *  escaping, and a trie over the names for unescaping.</p>
      *
      *  @extauthor Alexander Day Chaffee - alex@purpletech.com
      *  @extauthor Gary Gregory - ggregory@seagullsw.com
@@ -151,59 +196,318 @@ public final class Entities
         ====** Attributes **===================================================
             \*------------*/
         /**
-         *  The map that holds the references from the name to the value.
+         *  The entity references for the code points from the Basic
+         *  Multilingual Plane (BMP), indexed by the code point; the array
+         *  ends with the highest code point that has an entity. Entries for
+         *  code points without an entity are {@code null}.
+         */
+        private final String [] m_BMPReferences;
+
+        /**
+         *  The entity names, in ascending order.
          */
-        private final Map<String,Integer> m_NameToValue = new TreeMap<>();
+        private final String [] m_Names;
 
         /**
-         *  The map that holds the references from the value to the name.
+         *  The code points outside the BMP that have an entity, in ascending
+         *  order.
          */
-        private final Map<Integer,String> m_ValueToName = new TreeMap<>();
+        private final int [] m_SupplementaryCodePoints;
+
+        /**
+         *  The entity references for the code points in
+         *  {@link #m_SupplementaryCodePoints},
+         *  with the same index.
+         */
+        private final String [] m_SupplementaryReferences;
+
+        /**
+         *  <p>{@summary The index of the first child for each node of the
+         *  trie over the entity names.} The children of a node are stored
+         *  contiguously, ordered by their label, so the children of node
+         *  {@code n} have the indexes from {@code m_TrieChildren [n]}
+         *  (inclusive) to {@code m_TrieChildren [n + 1]} (exclusive). The
+         *  node with the index 0 is the root.</p>
+         */
+        private final int [] m_TrieChildren;
+
+        /**
+         *  The labels of the nodes of the trie; the label of node {@code n}
+         *  is the last character of the name prefix that is represented by
+         *  that node.
+         */
+        private final char [] m_TrieLabels;
+
+        /**
+         *  The code points for the nodes of the trie; 0 if the name prefix
+         *  that is represented by the node is not a complete entity name.
+         */
+        private final int [] m_TrieValues;
+
+        /**
+         *  The code points for the entity names, with the same index as for
+         *  {@link #m_Names}.
+         */
+        private final int [] m_Values;
 
             /*--------------*\
         ====** Constructors **=================================================
             \*--------------*/
         /**
-         *  Creates a new primitive entity map.
+         *  Creates a new primitive entity map from the given entity
+         *  definitions. If a name is defined more than once, the last
+         *  definition is used.
+         *
+         *  @param  definitions The entity definitions, one array for each
+         *      resource file.
          */
-        public PrimitiveEntityMap() { /* Does nothing but exist */ }
+        public PrimitiveEntityMap( final EntityDefinition [] [] definitions )
+        {
+            //---* Merge the definitions *-------------------------------------
+            var count = 0;
+            for( final var definition : definitions ) count += definition.length;
+            final var all = new EntityDefinition [count];
+            var offset = 0;
+            for( final var definition : definitions )
+            {
+                arraycopy( definition, 0, all, offset, definition.length );
+                offset += definition.length;
+            }
+
+            /*
+             * Sort by name; the sort is stable, so for duplicate names, the
+             * last definition comes last.
+             */
+            sort( all );
+            final var names = new String [count];
+            final var values = new int [count];
+            var size = 0;
+            for( var i = 0; i < count; ++i )
+            {
+                if( (i + 1 < count) && all [i + 1].name().equals( all [i].name() ) ) continue;
+                names [size] = all [i].name();
+                values [size] = all [i].value();
+                ++size;
+            }
+
+            //---* Create the tables for escaping *----------------------------
+            var maxBMPCodePoint = -1;
+            var supplementaryCount = 0;
+            for( var i = 0; i < size; ++i )
+            {
+                if( values [i] >= MIN_SUPPLEMENTARY_CODE_POINT )
+                {
+                    ++supplementaryCount;
+                }
+                else if( values [i] > maxBMPCodePoint )
+                {
+                    maxBMPCodePoint = values [i];
+                }
+            }
+            m_BMPReferences = new String [maxBMPCodePoint + 1];
+            final var supplementary = new long [supplementaryCount];
+            supplementaryCount = 0;
+            for( var i = 0; i < size; ++i )
+            {
+                if( values [i] <= 0 ) continue;
+                if( values [i] < MIN_SUPPLEMENTARY_CODE_POINT )
+                {
+                    assert isNull( m_BMPReferences [values [i]] ) : "Duplicate: %s, %d".formatted( names [i], values [i] );
+                    m_BMPReferences [values [i]] = createReference( names [i] );
+                }
+                else
+                {
+                    //---* Code point in the upper, name index in the lower bits *---
+                    supplementary [supplementaryCount++] = ((long) values [i] << 32) | i;
+                }
+            }
+            sort( supplementary );
+            m_SupplementaryCodePoints = new int [supplementaryCount];
+            m_SupplementaryReferences = new String [supplementaryCount];
+            for( var i = 0; i < supplementaryCount; ++i )
+            {
+                m_SupplementaryCodePoints [i] = (int) (supplementary [i] >>> 32);
+                m_SupplementaryReferences [i] = createReference( names [(int) supplementary [i]] );
+            }
+
+            //---* Create the table for unescaping *---------------------------
+            m_Names = copyOf( names, size );
+            m_Values = new int [size];
+            for( var i = 0; i < size; ++i ) m_Values [i] = Math.abs( values [i] );
+
+            final var trieChildren = new int [countTrieNodes( m_Names ) + 1];
+            final var trieLabels = new char [trieChildren.length - 1];
+            final var trieValues = new int [trieChildren.length - 1];
+            buildTrie( m_Names, m_Values, trieChildren, trieLabels, trieValues );
+            m_TrieChildren = trieChildren;
+            m_TrieLabels = trieLabels;
+            m_TrieValues = trieValues;
+        }   //  PrimitiveEntityMap()
 
             /*---------*\
         ====** Methods **======================================================
             \*---------*/
         /**
-         * {@inheritDoc}
+         *  <p>{@summary Builds the trie over the given entity names.}</p>
+         *  <p>The trie is built breadth-first; each entry in the queue is a
+         *  node, given by the range of the names that share its prefix, and
+         *  the length of that prefix. As the names are sorted, the names for
+         *  each node form a contiguous range, and the children of a node are
+         *  found in ascending order.</p>
+         *
+         *  @param  names   The entity names, in ascending order.
+         *  @param  values  The code points for the names.
+         *  @param  children    Receives the index of the first child for each
+         *      node; the array has one element more than there are nodes.
+         *  @param  labels  Receives the labels for the nodes.
+         *  @param  nodeValues  Receives the code points for the nodes.
          */
-        @Override
-        public final void add( final String name, final Integer value )
+        private static final void buildTrie( final String [] names, final int [] values, final int [] children, final char [] labels, final int [] nodeValues )
         {
-            assert isNotEmptyOrBlank( name ) : "name is empty or null";
-            assert nonNull( value ) : "value is null";
-            assert value.intValue() != 0 : "value is 0";
-
-            if( value.intValue() > 0 )
+            final var nodeCount = labels.length;
+            final var queue = new int [nodeCount * 3];
+            queue [1] = names.length;
+            var queueSize = 1;
+            for( var node = 0; node < nodeCount; ++node )
             {
-                m_NameToValue.put( name, value );
-                final var previousName = m_ValueToName.put( value, name );
-                assert isNull( previousName ) : "Duplicate: %s, %s, %d".formatted( name, previousName, value );
+                var from = queue [node * 3];
+                final var to = queue [node * 3 + 1];
+                final var depth = queue [node * 3 + 2];
+
+                //---* A name that ends here comes first *---------------------
+                if( (from < to) && (names [from].length() == depth) )
+                {
+                    nodeValues [node] = values [from];
+                    ++from;
+                }
+                children [node] = queueSize;
+
+                while( from < to )
+                {
+                    final var label = names [from].charAt( depth );
+                    var end = from + 1;
+                    while( (end < to) && (names [end].charAt( depth ) == label) ) ++end;
+                    queue [queueSize * 3] = from;
+                    queue [queueSize * 3 + 1] = end;
+                    queue [queueSize * 3 + 2] = depth + 1;
+                    labels [queueSize] = label;
+                    ++queueSize;
+                    from = end;
+                }
             }
-            else
+            children [nodeCount] = queueSize;
+        }   //  buildTrie()
+
+        /**
+         *  Returns the number of nodes of the trie over the given names,
+         *  including the root.
+         *
+         *  @param  names   The entity names, in ascending order.
+         *  @return The number of nodes.
+         */
+        private static final int countTrieNodes( final String [] names )
+        {
+            /*
+             * Each name adds as many nodes as it has characters beyond the
+             * prefix it shares with its predecessor.
+             */
+            var retValue = 1;
+            var previous = "";
+            for( final var name : names )
             {
-                m_NameToValue.put( name, Integer.valueOf( -value.intValue() ) );
+                final var common = Math.min( previous.length(), name.length() );
+                var shared = 0;
+                while( (shared < common) && (previous.charAt( shared ) == name.charAt( shared )) ) ++shared;
+                retValue += name.length() - shared;
+                previous = name;
             }
-        }   //  add()
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  countTrieNodes()
+
+        /**
+         *  Creates the entity reference for the given name.
+         *
+         *  @param  name    The entity name.
+         *  @return The entity reference.
+         */
+        private static final String createReference( final String name )
+        {
+            final var retValue = new StringBuilder( name.length() + 2 )
+                .append( '&' )
+                .append( name )
+                .append( ';' )
+                .toString();
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  createReference()
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public final Stream<String> list() { return m_NameToValue.keySet().stream(); }
+        public final Stream<String> list() { return stream( m_Names ); }
 
         /**
          * {@inheritDoc}
          */
         @Override
-        public final Optional<String> name( final int value ) { return Optional.ofNullable( m_ValueToName.get( value ) ); }
+        public final long match( final CharSequence source, final int start )
+        {
+            var retValue = -1L;
+            final var len = source.length();
+            var node = 0;
+            SearchLoop: for( var pos = start; pos < len; ++pos )
+            {
+                final var c = source.charAt( pos );
+                if( c == ';' )
+                {
+                    if( m_TrieValues [node] > 0 ) retValue = ((long) pos << 32) | m_TrieValues [node];
+                    break SearchLoop;
+                }
+                node = binarySearch( m_TrieLabels, m_TrieChildren [node], m_TrieChildren [node + 1], c );
+                if( node < 0 ) break SearchLoop;
+            }   //  SearchLoop:
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  match()
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final Optional<String> name( final int value )
+        {
+            final var retValue = Optional.ofNullable( reference( value ) )
+                .map( reference -> reference.substring( 1, reference.length() - 1 ) );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  name()
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final String reference( final int codePoint )
+        {
+            String retValue = null;
+            if( codePoint < m_BMPReferences.length )
+            {
+                if( codePoint >= 0 ) retValue = m_BMPReferences [codePoint];
+            }
+            else if( codePoint >= MIN_SUPPLEMENTARY_CODE_POINT )
+            {
+                final var index = binarySearch( m_SupplementaryCodePoints, codePoint );
+                if( index >= 0 ) retValue = m_SupplementaryReferences [index];
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  reference()
 
         /**
          * {@inheritDoc}
@@ -211,7 +515,8 @@ public final class Entities
         @Override
         public final Optional<Integer> value( final String name )
         {
-            final var retValue = Optional.ofNullable( m_NameToValue.get( requireNotEmptyArgument( name, "name" ) ) );
+            final var index = binarySearch( m_Names, requireNotEmptyArgument( name, "name" ) );
+            final var retValue = index >= 0 ? Optional.of( Integer.valueOf( m_Values [index] ) ) : Optional.<Integer>empty();
 
             //---* Done *------------------------------------------------------
             return retValue;
@@ -234,6 +539,17 @@ public final class Entities
      */
     public static final String BASIC_ENTITIES = "basic_entities.data";
 
+    /**
+     *  The additional capacity for the buffer that takes an escaped text:
+     *  {@value}.
+     */
+    private static final int ESCAPE_RESERVE = 16;
+
+    /**
+     *  The digits for the numerical references: {@value}.
+     */
+    private static final String HEX_DIGITS = "0123456789ABCDEF";
+
     /**
      *  The name for the resource final that holds the entities that were
      *  introduced for HTML&nbsp;3.2: {@value}.
@@ -252,6 +568,11 @@ public final class Entities
      */
     public static final String HTML50_ENTITIES = "html50_entities.data";
 
+    /**
+     *  The highest ASCII character: {@value}.
+     */
+    private static final int MAX_ASCII = 0x7F;
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
@@ -263,6 +584,13 @@ public final class Entities
         /*------------------------*\
     ====** Static Initialisations **===========================================
         \*------------------------*/
+    /**
+     *  The entity definitions that were already loaded, by the name of the
+     *  resource file. As the entity sets build on each other, each resource
+     *  file will be read and parsed only once.
+     */
+    private static final Map<String,EntityDefinition []> m_DefinitionsCache = new ConcurrentHashMap<>();
+
     /**
      *  The set of basic entities.
      */
@@ -317,26 +645,14 @@ public final class Entities
      */
     private Entities( final String... resourceNames )
     {
-        final var thisClass = getClass();
-        final var packageName = thisClass.getPackageName().replace( '.', '/' );
-        final var resourceURLs = stream( resourceNames )
-            .map( name ->
-            {
-                final var resourceName = format( "/%s/%s", packageName, name );
-                final var resourceURL = thisClass.getResource( resourceName );
-                assert nonNull( resourceURL ) : "URL is null for %s".formatted( resourceName );
-                return resourceURL;
-            } )
-            .toArray( URL []::new );
-
         final var supplier = (Supplier<EntityMap>) () ->
         {
-            final EntityMap map = new PrimitiveEntityMap();
-            for( final var resourceURL : resourceURLs )
+            final var definitions = new EntityDefinition [resourceNames.length] [];
+            for( var i = 0; i < resourceNames.length; ++i )
             {
-                loadEntities( map, resourceURL );
+                definitions [i] = m_DefinitionsCache.computeIfAbsent( resourceNames [i], Entities::loadEntities );
             }
-            return map;
+            return new PrimitiveEntityMap( definitions );
         };
 
         m_EntityMap = Lazy.use( supplier );
@@ -346,95 +662,166 @@ public final class Entities
     ====** Methods **==========================================================
         \*---------*/
     /**
-     *  Underlying unescape method that allows the optimisation of not starting
-     *  from the 0 index again.
+     *  Appends the numerical reference (&quot;<code>&amp;#x<i>hex</i>;</code>&quot;)
+     *  for the given character to the given buffer.
      *
+     *  @param  buffer  The buffer.
+     *  @param  c   The character.
+     *  @throws IOException Problems on writing to the {@code buffer}.
+     */
+    private static final void appendNumericReference( final Appendable buffer, final char c ) throws IOException
+    {
+        buffer.append( "&#x" );
+        var shift = Integer.SIZE - Integer.numberOfLeadingZeros( c ) - 1;
+        shift -= shift % 4;
+        for( ; shift >= 0; shift -= 4 ) buffer.append( HEX_DIGITS.charAt( (c >> shift) & 0xF ) );
+        buffer.append( ';' );
+    }   //  appendNumericReference()
+
+    /**
+     *  Writes the given range of the source to the given buffer. If the
+     *  buffer is a
+     *  {@link Writer}
+     *  and the source is a
+     *  {@link String},
+     *  the range is written without creating a substring first.
+     *
+     *  @param  buffer  The buffer to write the range to.
+     *  @param  source  The source.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range.
+     *  @throws IOException Problems on writing to the {@code buffer}.
+     */
+    private static final void appendRun( final Appendable buffer, final CharSequence source, final int start, final int end ) throws IOException
+    {
+        if( (buffer instanceof final Writer writer) && (source instanceof final String string) )
+        {
+            writer.write( string, start, end - start );
+        }
+        else
+        {
+            buffer.append( source, start, end );
+        }
+    }   //  appendRun()
+
+    /**
+     *  Underlying escape method that writes runs of characters that need no
+     *  escaping as a whole to the target.
+     *
+     *  @param  entityMap   The entity map.
      *  @param  buffer  The buffer to write the results to.
-     *  @param  source  The source {@code String} to unescape.
-     *  @param  firstAmp    The index of the first ampersand in the source.
+     *  @param  source  The source {@code String} to escape.
+     *  @param  start   The index of the first character in the source that
+     *      may need escaping; all characters before it are copied as they
+     *      are.
      *  @throws IOException Problems on writing to the {@code buffer}.
      */
-    @SuppressWarnings( {"MagicNumber", "OverlyNestedMethod", "OverlyComplexMethod"} )
-    private void doUnescape( final Appendable buffer, final CharSequence source, final int firstAmp ) throws IOException
+    private static final void doEscape( final EntityMap entityMap, final Appendable buffer, final CharSequence source, final int start ) throws IOException
     {
+        assert nonNull( entityMap ) : "entityMap is null";
         assert nonNull( buffer ) : "buffer is null";
         assert nonNull( source ) : "source is null";
-        assert firstAmp >= 0 : "firstAmp is less than 0";
+        assert start >= 0 : "start is less than 0";
 
-        buffer.append( source, 0, firstAmp );
-        final var str = source.toString();
-        final var len = str.length();
-        char isHexChar;
-        int nextIndex;
-        int semiColonIndex;
-        int ampersandIndex;
-        int entityContentLen;
-        Optional<Integer> entityValue;
-        ScanLoop: for( var i = firstAmp; i < len; ++i )
+        final var len = source.length();
+        var runStart = 0;
+        ScanLoop: for( var i = start; i < len; ++i )
         {
-            final var currentCharacter = str.charAt( i );
-            if( currentCharacter == '&' )
+            final var c = source.charAt( i );
+            if( !needsEscaping( entityMap, c ) ) continue ScanLoop;
+
+            //---* Write the unchanged characters *----------------------------
+            if( runStart < i ) appendRun( buffer, source, runStart, i );
+
+            if( Character.isHighSurrogate( c ) && (i + 1 < len) && Character.isLowSurrogate( source.charAt( i + 1 ) ) )
             {
-                nextIndex = i + 1;
-                semiColonIndex = str.indexOf( ';', nextIndex );
-                if( semiColonIndex == -1 )
+                final var low = source.charAt( ++i );
+                final var reference = entityMap.reference( Character.toCodePoint( c, low ) );
+                if( nonNull( reference ) )
                 {
-                    buffer.append( '&' );
-                    continue ScanLoop;
+                    buffer.append( reference );
                 }
-                ampersandIndex = str.indexOf( '&', i + 1 );
-                if( (ampersandIndex != -1) && (ampersandIndex < semiColonIndex) )
+                else
                 {
-                    //---* The text looks like "&...&...;" *-------------------
-                    buffer.append( '&' );
-                    continue ScanLoop;
+                    appendNumericReference( buffer, c );
+                    appendNumericReference( buffer, low );
                 }
-                final var entityContent = str.substring( nextIndex, semiColonIndex );
-                entityValue = Optional.empty();
-                entityContentLen = entityContent.length();
-                if( entityContentLen > 0 )
+            }
+            else
+            {
+                final var reference = entityMap.reference( c );
+                if( nonNull( reference ) )
                 {
-                    if( entityContent.charAt( 0 ) == '#' )
-                    {
-                        /*
-                         * Escaped value content is an integer (decimal or
-                         * hexadecimal)
-                         */
-                        if( entityContentLen > 1 )
-                        {
-                            isHexChar = entityContent.charAt( 1 );
-                            try
-                            {
-                                final var value = switch( isHexChar )
-                                {
-                                    case 'X', 'x' -> Integer.parseInt( entityContent.substring( 2 ), 0x10 );
-                                    default -> Integer.parseInt( entityContent.substring( 1 ), 10 );
-                                };
-                                entityValue = value > 0xFFFFFF ? Optional.empty() : Optional.of( Integer.valueOf( value ) );
-                            }
-                            catch( final NumberFormatException ignored )
-                            {
-                                entityValue = Optional.empty();
-                            }
-                        }
-                    }
-                    else
-                    {
-                        //---* Escaped value content is an entity name *-------
-                        entityValue = entityValue( entityContent );
-                    }
+                    buffer.append( reference );
                 }
-                buffer.append( entityValue.map( v -> Character.toString( v.intValue() ) ).orElseGet( () -> format( "&%s;", entityContent ) ) );
+                else
+                {
+                    //---* c is not ASCII *------------------------------------
+                    appendNumericReference( buffer, c );
+                }
+            }
+            runStart = i + 1;
+        }   //  ScanLoop:
+        if( runStart < len ) appendRun( buffer, source, runStart, len );
+    }   //  doEscape()
 
-                //---* Move  the index up to the semi-colon *------------------
-                //noinspection AssignmentToForLoopParameter
-                i = semiColonIndex;
+    /**
+     *  <p>{@summary Underlying unescape method that allows the optimisation of
+     *  not starting from the 0 index again.}</p>
+     *  <p>Named references are resolved by walking the trie over the entity
+     *  names, numerical references are parsed in place; text between the
+     *  references is written in runs, as it is. Invalid or unknown
+     *  references are copied unchanged.</p>
+     *
+     *  @param  buffer  The buffer to write the results to.
+     *  @param  source  The source {@code String} to unescape.
+     *  @param  firstAmp    The index of the first ampersand in the source,
+     *      or any index before it; all characters before that index are
+     *      copied as they are.
+     *  @throws IOException Problems on writing to the {@code buffer}.
+     */
+    private void doUnescape( final Appendable buffer, final CharSequence source, final int firstAmp ) throws IOException
+    {
+        assert nonNull( buffer ) : "buffer is null";
+        assert nonNull( source ) : "source is null";
+        assert firstAmp >= 0 : "firstAmp is less than 0";
+
+        final var entityMap = m_EntityMap.get();
+        final var len = source.length();
+        var runStart = 0;
+        var pos = firstAmp;
+        ScanLoop: while( pos < len )
+        {
+            if( source.charAt( pos ) != '&' )
+            {
+                ++pos;
+                continue ScanLoop;
+            }
+
+            final var match = (pos + 1 < len) && (source.charAt( pos + 1 ) == '#')
+                ? matchNumericReference( source, pos + 2 )
+                : entityMap.match( source, pos + 1 );
+            if( match < 0 )
+            {
+                //---* Not a reference: the ampersand remains *----------------
+                ++pos;
+                continue ScanLoop;
+            }
+
+            if( runStart < pos ) appendRun( buffer, source, runStart, pos );
+            final var codePoint = (int) match;
+            if( Character.isBmpCodePoint( codePoint ) )
+            {
+                buffer.append( (char) codePoint );
             }
             else
             {
-                buffer.append( currentCharacter );
+                buffer.append( Character.highSurrogate( codePoint ) ).append( Character.lowSurrogate( codePoint ) );
             }
+            pos = (int) (match >>> 32) + 1;
+            runStart = pos;
         }   //  ScanLoop:
+        if( runStart < len ) appendRun( buffer, source, runStart, len );
     }   //  doUnescape()
 
     /**
@@ -459,10 +846,14 @@ public final class Entities
     public final Optional<Integer> entityValue( final String name ) { return m_EntityMap.get().value( name ); }
 
     /**
-     *  Escapes the characters in a {@code String}.<br>
-     *  <br>For example, if you have called
+     *  <p>{@summary Escapes the characters in a {@code String}.}</p>
+     *  <p>For example, if you have called
      *  {@code addEntity( "foo", "0xA1" )}, a call to
-     *  {@code escape( "\u00A1" )} will return {@code "&foo;"}.
+     *  {@code escape( "\u00A1" )} will return {@code "&foo;"}.</p>
+     *  <p>Characters without an entity that are not ASCII will be replaced by
+     *  numerical references, for each UTF-16 character separately.</p>
+     *  <p>If the source does not contain any character that has to be
+     *  escaped, it will be returned as it is, without any copying.</p>
      *
      *  @param  source  The {@code String} to escape.
      *  @return A new escaped {@code String}.
@@ -470,22 +861,50 @@ public final class Entities
     @SuppressWarnings( "UnnecessaryUnicodeEscape" )
     public final String escape( final CharSequence source )
     {
-        @SuppressWarnings( "NumericCastThatLosesPrecision" )
-        final var retValue = requireNonNullArgument( source, "source" )
-            .codePoints()
-            .mapToObj( codePoint -> entityName( codePoint ).map( name -> format( "&%s;", name ) )
-                .orElseGet( () -> codePoint > 0x7F ? formatCodePoint( codePoint ) : Character.toString( (char) codePoint ) ) )
-            .collect( joining() );
+        final var len = requireNonNullArgument( source, "source" ).length();
+        final var entityMap = m_EntityMap.get();
+
+        //---* Find the first character that has to be escaped *---------------
+        var pos = 0;
+        while( (pos < len) && !needsEscaping( entityMap, source.charAt( pos ) ) ) ++pos;
+
+        final String retValue;
+        if( pos == len )
+        {
+            retValue = source.toString();
+        }
+        else
+        {
+            final var buffer = new StringBuilder( len + (len >> 2) + ESCAPE_RESERVE );
+            try
+            {
+                doEscape( entityMap, buffer, source, pos );
+            }
+            catch( final IOException e )
+            {
+                /*
+                 * Operations on a StringBuilder should not cause an
+                 * IOException.
+                 */
+                throw new UnexpectedExceptionError( e );
+            }
+            retValue = buffer.toString();
+        }
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  escape()
 
     /**
-     *  Escapes the characters in the {@code String} passed and writes the
-     *  result to the
+     *  <p>{@summary Escapes the characters in the {@code String} passed and
+     *  writes the result to the
      *  {@link Appendable}
-     *  passed.
+     *  passed.}</p>
+     *  <p>The result is written piecewise: runs of characters that need no
+     *  escaping are written with
+     *  {@link Appendable#append(CharSequence, int, int)},
+     *  the entity references in between. No intermediate copy of the
+     *  result is created.</p>
      *
      *  @param  appendable  The {@code Appendable} to write the results of the
      *      escaping to.
@@ -498,27 +917,11 @@ public final class Entities
      */
     public final void escape( final Appendable appendable, final CharSequence input ) throws IOException
     {
-        requireNonNullArgument( appendable, "appendable" ).append( escape( requireNonNullArgument( input, "input" ) ) );
-    }   //  escape()
+        requireNonNullArgument( appendable, "appendable" );
+        requireNonNullArgument( input, "input" );
 
-    /**
-     *  Converts a code point into the numerical HTML escape format.
-     *
-     *  @param  codePoint   The code point.
-     *  @return The HTML escaped code point.
-     */
-    private static final String formatCodePoint( final int codePoint )
-    {
-        final Builder<String> builder = builder();
-        for( final var c : Character.toChars( codePoint ) )
-        {
-            builder.add( format( "&#x%X;", (int) c ) );
-        }
-        final var retValue = builder.build().collect( joining() );
-
-        //---* Done *----------------------------------------------------------
-        return retValue;
-    }   //  formatCodePoint()
+        doEscape( m_EntityMap.get(), appendable, input, 0 );
+    }   //  escape()
 
     /**
      *  Returns a list of all known entities.
@@ -548,60 +951,175 @@ public final class Entities
     }   //  listEntities()
 
     /**
-     *  Load the entities from the resource identified by the given URL to the
-     *  given target entity map.
+     *  <p>{@summary Parses the numerical reference that starts at the given
+     *  position of the given text, after the leading
+     *  &quot;<code>&amp;#</code>&quot;.} A hexadecimal value is introduced by
+     *  &quot;x&quot; or &quot;X&quot;, the value is terminated by a
+     *  semicolon. Like for
+     *  {@link Integer#parseInt(String, int)},
+     *  a leading plus sign is allowed.</p>
+     *  <p>This method does not allocate any memory.</p>
      *
-     *  @param  entityMap   The map that is the target for the entities.
-     *  @param  resourceURL The URL for the resource.
+     *  @param  source  The text.
+     *  @param  start   The position after the number sign.
+     *  @return -1 if there is no valid numerical reference at the given
+     *      position, otherwise the position of the terminating semicolon in
+     *      the upper 32 bits, and the code point in the lower 32 bits.
+     */
+    private static final long matchNumericReference( final CharSequence source, final int start )
+    {
+        final var len = source.length();
+        var pos = start;
+        var radix = 10;
+        if( (pos < len) && ((source.charAt( pos ) == 'x') || (source.charAt( pos ) == 'X')) )
+        {
+            radix = 0x10;
+            ++pos;
+        }
+        if( (pos < len) && (source.charAt( pos ) == '+') ) ++pos;
+
+        var retValue = -1L;
+        final var digitsStart = pos;
+        var value = 0;
+        ScanLoop: for( ; pos < len; ++pos )
+        {
+            final var c = source.charAt( pos );
+            if( c == ';' )
+            {
+                if( pos > digitsStart ) retValue = ((long) pos << 32) | value;
+                break ScanLoop;
+            }
+            final var digit = Character.digit( c, radix );
+            if( digit < 0 ) break ScanLoop;
+            value = value * radix + digit;
+            if( value > Character.MAX_CODE_POINT ) break ScanLoop;
+        }   //  ScanLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  matchNumericReference()
+
+    /**
+     *  Checks whether the given character has to be escaped.
+     *
+     *  @param  entityMap   The entity map.
+     *  @param  c   The character.
+     *  @return {@code true} if the character has to be escaped,
+     *      {@code false} otherwise.
+     */
+    private static final boolean needsEscaping( final EntityMap entityMap, final char c )
+    {
+        final var retValue = (c > MAX_ASCII) || nonNull( entityMap.reference( c ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  needsEscaping()
+
+    /**
+     *  <p>{@summary Loads the entity definitions from the resource with the
+     *  given name.}</p>
+     *  <p>The resource is read completely and then parsed in place, without
+     *  creating a {@code String} for each line, or a boxed value for each
+     *  code point.</p>
+     *
+     *  @param  resourceName    The name of the resource file.
+     *  @return The entity definitions from the resource, in the sequence of
+     *      the file.
      */
     @SuppressWarnings( "ProhibitedExceptionThrown" )
-    private static void loadEntities( final EntityMap entityMap, final URL resourceURL )
+    private static EntityDefinition [] loadEntities( final String resourceName )
     {
-        assert nonNull( entityMap ) : "entityMap is null";
-        assert nonNull( resourceURL ) : "resourceURL is null";
+        assert nonNull( resourceName ) : "resourceName is null";
 
-        try( final var reader = new BufferedReader( new InputStreamReader( resourceURL.openStream(), UTF8 ) ) )
+        final var resourceURL = Entities.class.getResource( resourceName );
+        assert nonNull( resourceURL ) : "URL is null for %s".formatted( resourceName );
+
+        final String data;
+        try( final var inputStream = resourceURL.openStream() )
         {
-            reader.lines()
-                .filter( StringUtils::isNotEmptyOrBlank )
-                .filter( line -> !line.startsWith( "#" ) )
-                .forEach( line -> parseAndAdd( entityMap, line ) );
+            data = new String( inputStream.readAllBytes(), UTF8 );
         }
         catch( final IOException e )
         {
             throw new Error( "Failed to read resource " + resourceURL, e );
         }
+
+        final List<EntityDefinition> definitions = new ArrayList<>();
+        final var len = data.length();
+        var lineStart = 0;
+        while( lineStart < len )
+        {
+            var lineEnd = data.indexOf( '\n', lineStart );
+            if( lineEnd < 0 ) lineEnd = len;
+
+            //---* Strip the comment *-----------------------------------------
+            var dataEnd = data.indexOf( '#', lineStart );
+            if( (dataEnd < 0) || (dataEnd > lineEnd) ) dataEnd = lineEnd;
+            final var separator = data.indexOf( '=', lineStart );
+            if( (separator >= 0) && (separator < dataEnd) )
+            {
+                final var nameStart = skipWhitespace( data, lineStart, separator );
+                final var nameEnd = trimWhitespace( data, nameStart, separator );
+                final var valueStart = skipWhitespace( data, separator + 1, dataEnd );
+                final var valueEnd = trimWhitespace( data, valueStart, dataEnd );
+                try
+                {
+                    definitions.add( new EntityDefinition( data.substring( nameStart, nameEnd ), Integer.parseInt( data, valueStart, valueEnd, 10 ) ) );
+                }
+                catch( final NumberFormatException e )
+                {
+                    throw new Error( "Invalid input data: " + data.substring( lineStart, lineEnd ), e );
+                }
+            }
+            else if( skipWhitespace( data, lineStart, dataEnd ) < dataEnd )
+            {
+                throw new Error( "Invalid input data: " + data.substring( lineStart, lineEnd ) );
+            }
+            lineStart = lineEnd + 1;
+        }
+        final var retValue = definitions.toArray( EntityDefinition []::new );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
     }   //  loadEntities()
 
     /**
-     *  Parses the given input line for an entity name and the related code
-     *  point, and adds both to the given entity map.
+     *  Returns the position of the first character in the given range of
+     *  the given text that is not whitespace.
      *
-     *  @param  entityMap   The map that is the target for the entities.
-     *  @param  inputLine   The input line.
+     *  @param  text    The text.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range.
+     *  @return The position; {@code end} if the range contains only
+     *      whitespace.
      */
-    @SuppressWarnings( "ProhibitedExceptionThrown" )
-    private static void parseAndAdd( final EntityMap entityMap, final String inputLine )
+    private static final int skipWhitespace( final CharSequence text, final int start, final int end )
     {
-        //---* Strip the comment *---------------------------------------------
-        var pos = inputLine.indexOf( "#" );
-        final var data = (pos < 0 ? inputLine : inputLine.substring( 0, pos )).trim();
-
-        //---* Split the data *------------------------------------------------
-        pos = data.indexOf( "=" );
-        if( pos < 0 ) throw new Error( "Invalid input data: " + inputLine );
-        final var entityName = data.substring( 0, pos ).trim();
-        final var value = data.substring( pos + 1 ).trim();
-        try
-        {
-            final var codePoint = Integer.valueOf( value );
-            entityMap.add( entityName, codePoint );
-        }
-        catch( final NumberFormatException e )
-        {
-            throw new Error( "Invalid input data: " + inputLine, e );
-        }
-    }   //  parseAndAdd()
+        var retValue = start;
+        while( (retValue < end) && Character.isWhitespace( text.charAt( retValue ) ) ) ++retValue;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  skipWhitespace()
+
+    /**
+     *  Returns the end of the given range of the given text without the
+     *  trailing whitespace.
+     *
+     *  @param  text    The text.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range.
+     *  @return The new end of the range; {@code start} if the range
+     *      contains only whitespace.
+     */
+    private static final int trimWhitespace( final CharSequence text, final int start, final int end )
+    {
+        var retValue = end;
+        while( (retValue > start) && Character.isWhitespace( text.charAt( retValue - 1 ) ) ) --retValue;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  trimWhitespace()
 
     /**
      *  <p>{@summary Unescapes the entities in a {@code String}.}</p>
@@ -618,7 +1136,8 @@ public final class Entities
         final var firstAmp = retValue.indexOf( '&' );
         if( firstAmp >= 0 )
         {
-            final var buffer = new StringBuilder( input.length() * 2 );
+            //---* The result cannot be longer than the input *----------------
+            final var buffer = new StringBuilder( input.length() );
             try
             {
                 doUnescape( buffer, input, firstAmp );
@@ -654,15 +1173,9 @@ public final class Entities
      */
     public final void unescape( final Appendable appendable, final CharSequence input ) throws IOException
     {
-        final var firstAmp = requireNonNullArgument( input, "input" ).toString().indexOf( "&" );
-        if( firstAmp >= 0 )
-        {
-            doUnescape( requireNonNullArgument( appendable, "appendable" ), input, firstAmp );
-        }
-        else
-        {
-            requireNonNullArgument( appendable, "appendable" ).append( input );
-        }
+        requireNonNullArgument( input, "input" );
+
+        doUnescape( requireNonNullArgument( appendable, "appendable" ), input, 0 );
     }   //  unescape()
 }
 //  class Entities
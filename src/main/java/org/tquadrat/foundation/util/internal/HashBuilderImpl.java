@@ -0,0 +1,316 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static java.lang.Character.isHighSurrogate;
+import static java.lang.Character.isLowSurrogate;
+import static java.lang.Character.isSurrogate;
+import static java.lang.Character.toCodePoint;
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.checkFromIndexSize;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+import static org.tquadrat.foundation.util.IOUtils.DEFAULT_BUFFER_SIZE;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.util.Hash;
+
+/**
+ *  <p>{@summary The implementation for the interface
+ *  {@link org.tquadrat.foundation.util.Hash.Builder}.}</p>
+ *  <p>The instances of
+ *  {@link MessageDigest}
+ *  are kept in a cache for each thread, with at most one unused instance
+ *  per algorithm. A builder removes the instance from the cache when it is
+ *  created, so that two builders for the same algorithm on the same thread
+ *  will never share an instance, and puts it back when it is finished. An
+ *  instance from a builder that is never finished is just dropped.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class HashBuilderImpl implements Hash.Builder
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The name of the algorithm.
+     */
+    private final String m_Algorithm;
+
+    /**
+     *  The buffer for the encoded characters; it is allocated on first use.
+     */
+    private byte [] m_Buffer;
+
+    /**
+     *  The message digest; {@code null} after the builder was finished.
+     */
+    private MessageDigest m_Digest;
+
+    /**
+     *  The encoder for the last character set other than UTF-8 that was
+     *  used; {@code null} if there was none yet.
+     */
+    private CharsetEncoder m_Encoder;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The unused message digests of the current thread, by algorithm.
+     */
+    private static final ThreadLocal<Map<String,MessageDigest>> m_DigestCache = ThreadLocal.withInitial( HashMap::new );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code HashBuilderImpl} instance.
+     *
+     *  @param  algorithm   The name of the algorithm.
+     *  @throws NoSuchAlgorithmException    The given algorithm is not
+     *      supported.
+     */
+    public HashBuilderImpl( final String algorithm ) throws NoSuchAlgorithmException
+    {
+        m_Algorithm = requireNotEmptyArgument( algorithm, "algorithm" );
+        final var digest = m_DigestCache.get().remove( m_Algorithm );
+        m_Digest = digest == null ? MessageDigest.getInstance( m_Algorithm ) : digest;
+    }   //  HashBuilderImpl()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the buffer for the encoded characters.
+     *
+     *  @return The buffer.
+     */
+    private final byte [] buffer()
+    {
+        if( m_Buffer == null ) m_Buffer = new byte [DEFAULT_BUFFER_SIZE];
+
+        //---* Done *----------------------------------------------------------
+        return m_Buffer;
+    }   //  buffer()
+
+    /**
+     *  Returns the message digest.
+     *
+     *  @return The message digest.
+     *  @throws IllegalStateException   The builder was already finished.
+     */
+    private final MessageDigest digest() throws IllegalStateException
+    {
+        if( m_Digest == null ) throw new IllegalStateException( "The hash builder was already finished" );
+
+        //---* Done *----------------------------------------------------------
+        return m_Digest;
+    }   //  digest()
+
+    /**
+     *  Encodes the given characters as UTF-8 and passes the bytes to the
+     *  message digest. An unpaired surrogate character is replaced by
+     *  '?', as by
+     *  {@link String#getBytes(Charset)}.
+     *
+     *  @param  digest  The message digest.
+     *  @param  data    The characters.
+     */
+    private final void encodeUTF8( final MessageDigest digest, final CharSequence data )
+    {
+        final var buffer = buffer();
+        final var limit = buffer.length - 4;
+        final var len = data.length();
+        var position = 0;
+        for( var i = 0; i < len; ++i )
+        {
+            if( position > limit )
+            {
+                digest.update( buffer, 0, position );
+                position = 0;
+            }
+            final var c = data.charAt( i );
+            if( c < 0x80 )
+            {
+                buffer [position++] = (byte) c;
+            }
+            else if( c < 0x800 )
+            {
+                buffer [position++] = (byte) (0xC0 | (c >> 6));
+                buffer [position++] = (byte) (0x80 | (c & 0x3F));
+            }
+            else if( isHighSurrogate( c ) && (i + 1 < len) && isLowSurrogate( data.charAt( i + 1 ) ) )
+            {
+                final var codePoint = toCodePoint( c, data.charAt( ++i ) );
+                buffer [position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer [position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer [position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer [position++] = (byte) (0x80 | (codePoint & 0x3F));
+            }
+            else if( isSurrogate( c ) )
+            {
+                buffer [position++] = '?';
+            }
+            else
+            {
+                buffer [position++] = (byte) (0xE0 | (c >> 12));
+                buffer [position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer [position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        digest.update( buffer, 0, position );
+    }   //  encodeUTF8()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Hash finish() throws IllegalStateException
+    {
+        final var digest = digest();
+        final var retValue = new HashImpl( digest.digest() );
+        m_Digest = null;
+        m_DigestCache.get().putIfAbsent( m_Algorithm, digest );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  finish()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final HashBuilderImpl update( final byte [] data ) throws IllegalStateException
+    {
+        requireNonNullArgument( data, "data" );
+        digest().update( data );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  update()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final HashBuilderImpl update( final byte [] data, final int offset, final int length ) throws IllegalStateException
+    {
+        checkFromIndexSize( offset, length, requireNonNullArgument( data, "data" ).length );
+        digest().update( data, offset, length );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  update()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final HashBuilderImpl update( final ByteBuffer data ) throws IllegalStateException
+    {
+        requireNonNullArgument( data, "data" );
+        digest().update( data );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  update()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final HashBuilderImpl update( final CharSequence data ) throws IllegalStateException
+    {
+        requireNonNullArgument( data, "data" );
+        encodeUTF8( digest(), data );
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  update()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final HashBuilderImpl update( final CharSequence data, final Charset encoding ) throws IllegalStateException
+    {
+        requireNonNullArgument( data, "data" );
+        final var digest = digest();
+        if( UTF_8.equals( requireNonNullArgument( encoding, "encoding" ) ) )
+        {
+            encodeUTF8( digest, data );
+        }
+        else
+        {
+            if( (m_Encoder == null) || !m_Encoder.charset().equals( encoding ) )
+            {
+                m_Encoder = encoding.newEncoder()
+                    .onMalformedInput( REPLACE )
+                    .onUnmappableCharacter( REPLACE );
+            }
+            final var encoder = m_Encoder.reset();
+            final var buffer = buffer();
+            final var output = ByteBuffer.wrap( buffer );
+            final var input = CharBuffer.wrap( data );
+            var isComplete = false;
+            while( !isComplete )
+            {
+                final var result = encoder.encode( input, output, true );
+                digest.update( buffer, 0, output.position() );
+                output.clear();
+                isComplete = result.isUnderflow();
+            }
+            isComplete = false;
+            while( !isComplete )
+            {
+                final var result = encoder.flush( output );
+                digest.update( buffer, 0, output.position() );
+                output.clear();
+                isComplete = result.isUnderflow();
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return this;
+    }   //  update()
+}
+//  class HashBuilderImpl
+
+/*
+ *  End of File
+ */
@@ -23,6 +23,7 @@ import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotBlankArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
 import static org.tquadrat.foundation.util.HexUtils.convertFromHexString;
+import static org.tquadrat.foundation.util.HexUtils.convertToHexString;
 import static org.tquadrat.foundation.util.IOUtils.DEFAULT_BUFFER_SIZE;
 
 import java.io.IOException;
@@ -31,7 +32,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.util.Arrays;
-import java.util.HexFormat;
 import java.util.zip.Checksum;
 
 import org.apiguardian.api.API;
@@ -246,7 +246,7 @@ public final class HashImpl implements Hash
      *  {@inheritDoc}
      */
     @Override
-    public final String toString() { return HexFormat.of().formatHex( m_HashValue ); }
+    public final String toString() { return convertToHexString( m_HashValue, false ); }
 }
 //  class HashImpl
 
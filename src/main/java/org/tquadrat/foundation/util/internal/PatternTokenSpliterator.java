@@ -0,0 +1,185 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.Spliterators.AbstractSpliterator;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.util.internal.TokenSpliterator.TokenFactory;
+
+/**
+ *  <p>{@summary An implementation of
+ *  {@link java.util.Spliterator}
+ *  that splits a
+ *  {@link CharSequence}
+ *  on the matches of a regular expression.}</p>
+ *  <p>All tokens are created from a single
+ *  {@link Matcher},
+ *  and the input is scanned only as far as required for the next token.
+ *  The tokens are the same as those returned by
+ *  {@link Pattern#split(CharSequence, int)}
+ *  with a negative limit: a match of zero length at the beginning of the
+ *  input does not produce a leading empty token, but trailing empty tokens
+ *  will be provided. In addition, such a skipped match adds one empty token
+ *  at the end, so that the number of tokens is always the number of matches
+ *  plus one. An empty input provides exactly one empty token.</p>
+ *  <p>Unlike
+ *  {@link TokenSpliterator},
+ *  this spliterator cannot search from the middle of the input, as a match
+ *  found from there may differ from one found by a search from the
+ *  beginning; a parallel stream will process batches of tokens
+ *  instead.</p>
+ *  <p>The input must not be modified while it is processed by an instance
+ *  of this class.</p>
+ *
+ *  @param  <T> The type of the tokens.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class PatternTokenSpliterator<T> extends AbstractSpliterator<T>
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  {@code true} if the last token was already provided.
+     */
+    private boolean m_Done = false;
+
+    /**
+     *  {@code true} if a match of zero length at the beginning of the input
+     *  was skipped, so that an additional empty token has to be provided at
+     *  the end.
+     */
+    private boolean m_HasSkippedMatch = false;
+
+    /**
+     *  The input.
+     */
+    private final CharSequence m_Input;
+
+    /**
+     *  The matcher for the separators.
+     */
+    private final Matcher m_Matcher;
+
+    /**
+     *  The start of the next token, or -1 if no match was searched yet.
+     */
+    private int m_Position = -1;
+
+    /**
+     *  The factory for the tokens.
+     */
+    private final TokenFactory<? extends T> m_TokenFactory;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code PatternTokenSpliterator} instance.
+     *
+     *  @param  input   The input.
+     *  @param  pattern The regular expression for the separators.
+     *  @param  tokenFactory    The factory for the tokens.
+     */
+    public PatternTokenSpliterator( final CharSequence input, final Pattern pattern, final TokenFactory<? extends T> tokenFactory )
+    {
+        super( Long.MAX_VALUE, ORDERED | NONNULL );
+        m_Input = requireNonNullArgument( input, "input" );
+        m_Matcher = requireNonNullArgument( pattern, "pattern" ).matcher( input );
+        m_TokenFactory = requireNonNullArgument( tokenFactory, "tokenFactory" );
+    }   //  PatternTokenSpliterator()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean tryAdvance( final Consumer<? super T> action )
+    {
+        requireNonNullArgument( action, "action" );
+
+        var retValue = true;
+        if( m_Done )
+        {
+            retValue = m_HasSkippedMatch;
+            if( retValue )
+            {
+                m_HasSkippedMatch = false;
+                final var end = m_Input.length();
+                action.accept( m_TokenFactory.createToken( m_Input, end, end ) );
+            }
+        }
+        else
+        {
+            var found = false;
+            if( m_Position < 0 )
+            {
+                m_Position = 0;
+                if( !m_Input.isEmpty() )
+                {
+                    found = m_Matcher.find();
+                    if( found && (m_Matcher.end() == 0) )
+                    {
+                        m_HasSkippedMatch = true;
+                        found = m_Matcher.find();
+                    }
+                }
+            }
+            else
+            {
+                found = m_Matcher.find();
+            }
+
+            if( found )
+            {
+                action.accept( m_TokenFactory.createToken( m_Input, m_Position, m_Matcher.start() ) );
+                m_Position = m_Matcher.end();
+            }
+            else
+            {
+                action.accept( m_TokenFactory.createToken( m_Input, m_Position, m_Input.length() ) );
+                m_Done = true;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAdvance()
+}
+//  class PatternTokenSpliterator
+
+/*
+ *  End of File
+ */
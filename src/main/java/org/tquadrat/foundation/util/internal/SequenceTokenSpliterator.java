@@ -0,0 +1,221 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.util.Arrays;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary An implementation of
+ *  {@link TokenSpliterator}
+ *  that splits the input on a separator sequence.}</p>
+ *  <p>The separators are located from left to right and do not overlap, so
+ *  that {@code "aaa"} split by {@code "aa"} results in {@code ""} and
+ *  {@code "a"}. A
+ *  {@link String}
+ *  input is searched with
+ *  {@link String#indexOf(String, int, int)};
+ *  for other implementations of
+ *  {@link CharSequence},
+ *  the Boyer-Moore-Horspool algorithm is used, so each character of the
+ *  input is inspected only once in most cases.</p>
+ *  <p>If the separator can overlap with itself (like {@code "aa"} or
+ *  {@code "abab"}), the spliterator cannot be split, as a search that
+ *  starts in the middle of the input may find a separator that overlaps
+ *  with one found by a search from the start.</p>
+ *
+ *  @param  <T> The type of the tokens.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class SequenceTokenSpliterator<T> extends TokenSpliterator<T>
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The size of the table with the shift distances for the
+     *  Boyer-Moore-Horspool algorithm: {@value}. The characters are mapped
+     *  to the table by their lower bits.
+     */
+    private static final int SHIFT_TABLE_SIZE = 0x100;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  {@code true} if the separator can overlap with itself.
+     */
+    private final boolean m_IsSelfOverlapping;
+
+    /**
+     *  The separator.
+     */
+    private final String m_Separator;
+
+    /**
+     *  The characters of the separator.
+     */
+    private final char [] m_SeparatorChars;
+
+    /**
+     *  The shift distances for the Boyer-Moore-Horspool algorithm, indexed
+     *  by the lower bits of the character.
+     */
+    private final int [] m_Shifts;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SequenceTokenSpliterator} instance for the whole
+     *  input.
+     *
+     *  @param  input   The input.
+     *  @param  separator   The separator; it may not be empty.
+     *  @param  tokenFactory    The factory for the tokens.
+     */
+    public SequenceTokenSpliterator( final CharSequence input, final CharSequence separator, final TokenFactory<? extends T> tokenFactory )
+    {
+        super( input, 0, input.length(), tokenFactory );
+        m_Separator = requireNotEmptyArgument( separator, "separator" ).toString();
+        m_SeparatorChars = m_Separator.toCharArray();
+
+        //---* Create the table with the shift distances *---------------------
+        final var len = m_SeparatorChars.length;
+        m_Shifts = new int [SHIFT_TABLE_SIZE];
+        Arrays.fill( m_Shifts, len );
+        for( var i = 0; i < len - 1; ++i )
+        {
+            /*
+             * Characters that are mapped to the same entry get the shortest
+             * distance, as it is the last that is written.
+             */
+            m_Shifts [m_SeparatorChars [i] & (SHIFT_TABLE_SIZE - 1)] = len - 1 - i;
+        }
+
+        //---* Check for a border (a prefix that is also a suffix) *-----------
+        final var border = new int [len + 1];
+        border [0] = -1;
+        for( var i = 0; i < len; ++i )
+        {
+            var candidate = border [i];
+            while( (candidate >= 0) && (m_SeparatorChars [candidate] != m_SeparatorChars [i]) ) candidate = border [candidate];
+            border [i + 1] = candidate + 1;
+        }
+        m_IsSelfOverlapping = border [len] > 0;
+    }   //  SequenceTokenSpliterator()
+
+    /**
+     *  Creates a new {@code SequenceTokenSpliterator} instance for the
+     *  given range of the input, with the configuration of the given
+     *  spliterator.
+     *
+     *  @param  other   The spliterator that provides the configuration.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range.
+     */
+    private SequenceTokenSpliterator( final SequenceTokenSpliterator<T> other, final int start, final int end )
+    {
+        super( other.input(), start, end, other.tokenFactory() );
+        m_IsSelfOverlapping = other.m_IsSelfOverlapping;
+        m_Separator = other.m_Separator;
+        m_SeparatorChars = other.m_SeparatorChars;
+        m_Shifts = other.m_Shifts;
+    }   //  SequenceTokenSpliterator()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final TokenSpliterator<T> createPrefix( final int start, final int end )
+    {
+        return new SequenceTokenSpliterator<>( this, start, end );
+    }   //  createPrefix()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final long findSeparator( final int from, final int to )
+    {
+        final var input = input();
+        final var len = m_SeparatorChars.length;
+        var pos = -1;
+        if( input instanceof final String string )
+        {
+            pos = string.indexOf( m_Separator, from, to );
+        }
+        else
+        {
+            final var last = len - 1;
+            final var lastChar = m_SeparatorChars [last];
+            var i = from;
+            SearchLoop: while( i + len <= to )
+            {
+                final var c = input.charAt( i + last );
+                if( c == lastChar )
+                {
+                    var j = last - 1;
+                    while( (j >= 0) && (input.charAt( i + j ) == m_SeparatorChars [j]) ) --j;
+                    if( j < 0 )
+                    {
+                        pos = i;
+                        break SearchLoop;
+                    }
+                }
+                i += m_Shifts [c & (SHIFT_TABLE_SIZE - 1)];
+            }   //  SearchLoop:
+        }
+        final var retValue = pos < 0 ? -1L : ((long) pos << 32) | (pos + len);
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findSeparator()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final TokenSpliterator<T> trySplit()
+    {
+        final var retValue = m_IsSelfOverlapping ? null : super.trySplit();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  trySplit()
+}
+//  class SequenceTokenSpliterator
+
+/*
+ *  End of File
+ */
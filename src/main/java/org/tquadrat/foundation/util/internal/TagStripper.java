@@ -0,0 +1,400 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static java.lang.Character.isWhitespace;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.io.IOException;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.util.StringUtils;
+
+/**
+ *  <p>{@summary A state machine that removes HTML or XML tags and comments
+ *  from a text that is passed to it character by character.}</p>
+ *  <p>The result is the same as that of the regular expressions
+ *  {@link StringUtils#TAGREMOVAL_PATTERN}
+ *  and
+ *  {@link StringUtils#COMMENTREMOVAL_PATTERN},
+ *  but each character is inspected at most three times, so the time needed
+ *  is linear to the length of the input, even for malformed input with
+ *  stray '&lt;' characters or with unterminated comments.</p>
+ *  <p>Starting with a '&lt;', the characters are kept until it is clear
+ *  whether they form a tag or a comment. When the end of the input is
+ *  reached without that, the kept characters are passed through the
+ *  machine again, after the recognition of comments, or of tags and
+ *  comments, was switched off: if no {@code -->} follows a {@code <!--},
+ *  there cannot be a comment in the remaining input, and if no '&gt;'
+ *  follows a '&lt;', there cannot be a tag.</p>
+ *  <p>When tags are stripped, each tag or comment is replaced by a blank,
+ *  and the whitespace of the result is normalised as by
+ *  {@link StringUtils#stripTags(CharSequence)}:
+ *  leading and trailing characters up to the blank are removed, and any
+ *  sequence of whitespace characters is replaced by a single blank. The
+ *  result for an input that consists only of whitespace is empty.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class TagStripper
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The start of a comment: {@value}.
+     */
+    private static final String COMMENT_START = "<!--";
+
+    /**
+     *  The minimum length of a comment, including the start and the end:
+     *  {@value}. The regular expression requires at least one character in
+     *  between.
+     */
+    private static final int MIN_COMMENT_LENGTH = 8;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The characters, starting with a '&lt;', that may form a tag or a
+     *  comment.
+     */
+    private final StringBuilder m_Candidate = new StringBuilder();
+
+    /**
+     *  The index of the first '&gt;' in
+     *  {@link #m_Candidate}
+     *  after the second character; -1 if there is none yet.
+     */
+    private int m_FirstGreater = -1;
+
+    /**
+     *  {@code true} if a blank is the first character of the result, but
+     *  it is not yet known whether the input is blank.
+     */
+    private boolean m_HasHeldBlank = false;
+
+    /**
+     *  {@code true} if all characters of the input were whitespace so far.
+     */
+    private boolean m_IsBlank = true;
+
+    /**
+     *  {@code true} if
+     *  {@link #m_Candidate}
+     *  may still be a comment.
+     */
+    private boolean m_IsCommentCandidate = false;
+
+    /**
+     *  {@code true} if comments can still be found in the remaining input.
+     */
+    private boolean m_IsCommentsEnabled = true;
+
+    /**
+     *  {@code true} if the leading characters up to the blank were skipped.
+     */
+    private boolean m_IsStarted = false;
+
+    /**
+     *  {@code true} if tags can still be found in the remaining input.
+     */
+    private boolean m_IsTagsEnabled;
+
+    /**
+     *  {@code true} if the last character that was written was whitespace.
+     */
+    private boolean m_LastWasWhitespace = false;
+
+    /**
+     *  The characters up to the blank that follow the last character that
+     *  was written; they will be dropped if they are at the end of the
+     *  result. Consecutive whitespace characters are stored only once.
+     */
+    private final StringBuilder m_Pending = new StringBuilder();
+
+    /**
+     *  {@code true} if tags are stripped, {@code false} if only comments
+     *  are stripped.
+     */
+    private final boolean m_StripTags;
+
+    /**
+     *  The target.
+     */
+    private final Appendable m_Target;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code TagStripper} instance.
+     *
+     *  @param  target  The target for the result.
+     *  @param  stripTags   {@code true} if tags and comments should be
+     *      stripped, with the whitespace normalised, {@code false} if only
+     *      comments should be stripped.
+     */
+    public TagStripper( final Appendable target, final boolean stripTags )
+    {
+        m_Target = requireNonNullArgument( target, "target" );
+        m_StripTags = stripTags;
+        m_IsTagsEnabled = stripTags;
+    }   //  TagStripper()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Passes the next character of the input to the state machine.
+     *
+     *  @param  c   The character.
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void accept( final char c ) throws IOException
+    {
+        if( m_IsBlank && !isWhitespace( c ) )
+        {
+            m_IsBlank = false;
+            if( m_HasHeldBlank )
+            {
+                m_HasHeldBlank = false;
+                m_Target.append( ' ' );
+            }
+        }
+        process( c );
+    }   //  accept()
+
+    /**
+     *  Passes the given characters of the input to the state machine.
+     *
+     *  @param  input   The input.
+     *  @param  start   The index of the first character.
+     *  @param  end The index after the last character.
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void accept( final CharSequence input, final int start, final int end ) throws IOException
+    {
+        for( var i = start; i < end; ++i ) accept( input.charAt( i ) );
+    }   //  accept()
+
+    /**
+     *  Passes the given characters of the input to the state machine.
+     *
+     *  @param  input   The input.
+     *  @param  start   The index of the first character.
+     *  @param  end The index after the last character.
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void accept( final char [] input, final int start, final int end ) throws IOException
+    {
+        for( var i = start; i < end; ++i ) accept( input [i] );
+    }   //  accept()
+
+    /**
+     *  Writes the given character of the result, normalising the
+     *  whitespace if tags are stripped.
+     *
+     *  @param  c   The character.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void emit( final char c ) throws IOException
+    {
+        if( !m_StripTags )
+        {
+            m_Target.append( c );
+        }
+        else if( c <= ' ' )
+        {
+            //---* Leading or maybe trailing characters *----------------------
+            if( m_IsStarted && !(isWhitespace( c ) && (m_Pending.isEmpty() ? m_LastWasWhitespace : isWhitespace( m_Pending.charAt( m_Pending.length() - 1 ) ))) )
+            {
+                m_Pending.append( c );
+            }
+        }
+        else
+        {
+            m_IsStarted = true;
+            for( var i = 0; i < m_Pending.length(); ++i ) write( m_Pending.charAt( i ) );
+            m_Pending.setLength( 0 );
+            write( c );
+        }
+    }   //  emit()
+
+    /**
+     *  Signals the end of the input; the characters that are kept by the
+     *  state machine are processed now.
+     *
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void finish() throws IOException
+    {
+        while( !m_Candidate.isEmpty() )
+        {
+            if( m_IsCommentCandidate && (m_FirstGreater >= 0) )
+            {
+                /*
+                 * There is no end for the comment, but the comment start can
+                 * still be the start of a tag.
+                 */
+                m_IsCommentsEnabled = false;
+                final var tail = m_Candidate.substring( m_FirstGreater + 1 );
+                replace();
+                for( var i = 0; i < tail.length(); ++i ) process( tail.charAt( i ) );
+            }
+            else
+            {
+                //---* There is no '>' in the remaining input *----------------
+                m_IsCommentsEnabled = false;
+                m_IsTagsEnabled = false;
+                reject();
+            }
+        }
+
+        //---* Trailing whitespace and a blank input are dropped *-------------
+        m_Pending.setLength( 0 );
+        m_HasHeldBlank = false;
+    }   //  finish()
+
+    /**
+     *  Processes the given character.
+     *
+     *  @param  c   The character.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void process( final char c ) throws IOException
+    {
+        if( m_Candidate.isEmpty() )
+        {
+            if( (c == '<') && (m_IsTagsEnabled || m_IsCommentsEnabled) )
+            {
+                m_Candidate.append( c );
+                m_IsCommentCandidate = m_IsCommentsEnabled;
+                m_FirstGreater = -1;
+            }
+            else
+            {
+                emit( c );
+            }
+        }
+        else
+        {
+            final var index = m_Candidate.length();
+            m_Candidate.append( c );
+            if( (index == 1) && (c == '>') )
+            {
+                //---* "<>" is neither a tag nor a comment *-------------------
+                reject();
+            }
+            else if( m_IsCommentCandidate && (index < COMMENT_START.length()) && (c != COMMENT_START.charAt( index )) )
+            {
+                m_IsCommentCandidate = false;
+                if( m_IsTagsEnabled ) processTag( c ); else reject();
+            }
+            else if( m_IsCommentCandidate )
+            {
+                if( (c == '>') && (index >= MIN_COMMENT_LENGTH - 1) && (m_Candidate.charAt( index - 1 ) == '-') && (m_Candidate.charAt( index - 2 ) == '-') )
+                {
+                    replace();
+                }
+                else if( (c == '>') && (m_FirstGreater < 0) && m_IsTagsEnabled )
+                {
+                    m_FirstGreater = index;
+                }
+            }
+            else
+            {
+                processTag( c );
+            }
+        }
+    }   //  process()
+
+    /**
+     *  Processes the given character for a tag.
+     *
+     *  @param  c   The character.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void processTag( final char c ) throws IOException
+    {
+        if( c == '>' ) replace();
+    }   //  processTag()
+
+    /**
+     *  Rejects the current candidate: the '&lt;' is written as it is, and
+     *  the remaining characters of the candidate are processed again.
+     *
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void reject() throws IOException
+    {
+        final var tail = m_Candidate.substring( 1 );
+        m_Candidate.setLength( 0 );
+        emit( '<' );
+        for( var i = 0; i < tail.length(); ++i ) process( tail.charAt( i ) );
+    }   //  reject()
+
+    /**
+     *  Replaces the current candidate, as it is a tag or a comment.
+     *
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void replace() throws IOException
+    {
+        m_Candidate.setLength( 0 );
+        if( m_StripTags ) emit( ' ' );
+    }   //  replace()
+
+    /**
+     *  Writes the given character to the target, replacing a sequence of
+     *  whitespace characters by a single blank.
+     *
+     *  @param  c   The character.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void write( final char c ) throws IOException
+    {
+        if( isWhitespace( c ) )
+        {
+            if( !m_LastWasWhitespace )
+            {
+                if( m_IsBlank ) m_HasHeldBlank = true; else m_Target.append( ' ' );
+            }
+            m_LastWasWhitespace = true;
+        }
+        else
+        {
+            m_Target.append( c );
+            m_LastWasWhitespace = false;
+        }
+    }   //  write()
+}
+//  class TagStripper
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,392 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static java.lang.Character.COMBINING_SPACING_MARK;
+import static java.lang.Character.ENCLOSING_MARK;
+import static java.lang.Character.NON_SPACING_MARK;
+import static java.lang.Character.getType;
+import static java.lang.Character.isHighSurrogate;
+import static java.lang.Character.isLowSurrogate;
+import static java.lang.Character.toCodePoint;
+import static java.text.Normalizer.Form.NFD;
+import static java.text.Normalizer.normalize;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.util.IOUtils.DEFAULT_BUFFER_SIZE;
+
+import java.io.IOException;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.util.StringUtils;
+
+/**
+ *  <p>{@summary Removes the diacritical marks from a text that is passed to
+ *  it character by character, or reduces it to ASCII.}</p>
+ *  <p>The result is the same as that of
+ *  {@link StringUtils#removeDiacriticalMarks(CharSequence)}
+ *  or
+ *  {@link StringUtils#normalizeToASCII(CharSequence)},
+ *  but the characters from the ranges Basic Latin up to Latin Extended-B
+ *  (U+0000 to U+024F) and Latin Extended Additional (U+1E00 to U+1EFF) are
+ *  looked up in tables that are built once, instead of being decomposed by
+ *  {@link java.text.Normalizer}
+ *  each time.</p>
+ *  <p>All other characters are collected and passed to the
+ *  {@code Normalizer}
+ *  together. The decomposition of a table character starts with a base
+ *  character, and its diacritical marks are all from the block Combining
+ *  Diacritical Marks (U+0300 to U+036F); therefore the text can be split
+ *  before and after a table character without changing the result. A long
+ *  sequence of other characters is split before a character that is not a
+ *  combining mark, so that the memory needed is limited; for that
+ *  decision, a high surrogate is held back until its low surrogate arrives,
+ *  so that the complete code point is tested.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class TextFolder
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The end of the ASCII range: {@value}.
+     */
+    private static final int ASCII_END = 0x80;
+
+    /**
+     *  The end of the first range of Latin characters in the tables (Latin
+     *  Extended-B): {@value}.
+     */
+    private static final int LATIN_END = 0x0250;
+
+    /**
+     *  The start of the range Latin Extended Additional: {@value}.
+     */
+    private static final int LATIN_EXTENDED_ADDITIONAL_START = 0x1E00;
+
+    /**
+     *  The end of the range Latin Extended Additional: {@value}.
+     */
+    private static final int LATIN_EXTENDED_ADDITIONAL_END = 0x1F00;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The high surrogate that was passed last and that is still waiting for
+     *  its low surrogate; 0 if there is none.
+     */
+    private char m_HighSurrogate = 0;
+
+    /**
+     *  The characters that are not in the tables and that have not yet been
+     *  processed.
+     */
+    private final StringBuilder m_Segment = new StringBuilder();
+
+    /**
+     *  The target.
+     */
+    private final Appendable m_Target;
+
+    /**
+     *  {@code true} if the text is reduced to ASCII, {@code false} if only
+     *  the diacritical marks are removed.
+     */
+    private final boolean m_ToASCII;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The ASCII representations of the table characters.
+     */
+    private static final String [] m_ASCIIFolds;
+
+    /**
+     *  The table characters without diacritical marks.
+     */
+    private static final String [] m_DiacriticFolds;
+
+    static
+    {
+        final var size = LATIN_END + LATIN_EXTENDED_ADDITIONAL_END - LATIN_EXTENDED_ADDITIONAL_START;
+        m_ASCIIFolds = new String [size];
+        m_DiacriticFolds = new String [size];
+        for( var c = 0; c < LATIN_EXTENDED_ADDITIONAL_END; ++c )
+        {
+            final var index = tableIndex( (char) c );
+            if( index >= 0 )
+            {
+                final var s = Character.toString( c );
+                m_ASCIIFolds [index] = switch( c )
+                {
+                    case 'ß' -> "ss";
+                    case 'ø' -> "o";
+                    case 'Ø' -> "O";
+                    default -> foldToASCII( s ).intern();
+                };
+                m_DiacriticFolds [index] = removeMarks( s ).intern();
+            }
+        }
+    }
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code TextFolder} instance.
+     *
+     *  @param  target  The target for the result.
+     *  @param  toASCII {@code true} if the text should be reduced to ASCII,
+     *      {@code false} if only the diacritical marks should be removed.
+     */
+    public TextFolder( final Appendable target, final boolean toASCII )
+    {
+        m_Target = requireNonNullArgument( target, "target" );
+        m_ToASCII = toASCII;
+    }   //  TextFolder()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Passes the next character of the input to the folder.
+     *
+     *  @param  c   The character.
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void accept( final char c ) throws IOException
+    {
+        if( (m_HighSurrogate != 0) && isLowSurrogate( c ) )
+        {
+            //---* The decision is made for the complete code point *---------
+            if( (m_Segment.length() >= DEFAULT_BUFFER_SIZE) && !isMark( toCodePoint( m_HighSurrogate, c ) ) ) flush();
+            m_Segment.append( m_HighSurrogate ).append( c );
+            m_HighSurrogate = 0;
+        }
+        else
+        {
+            if( m_HighSurrogate != 0 )
+            {
+                append( m_HighSurrogate );
+                m_HighSurrogate = 0;
+            }
+            final var index = tableIndex( c );
+            if( index >= 0 )
+            {
+                flush();
+                m_Target.append( m_ToASCII ? m_ASCIIFolds [index] : m_DiacriticFolds [index] );
+            }
+            else if( isHighSurrogate( c ) )
+            {
+                m_HighSurrogate = c;
+            }
+            else
+            {
+                append( c );
+            }
+        }
+    }   //  accept()
+
+    /**
+     *  Passes the given characters of the input to the folder.
+     *
+     *  @param  input   The input.
+     *  @param  start   The index of the first character.
+     *  @param  end The index after the last character.
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void accept( final CharSequence input, final int start, final int end ) throws IOException
+    {
+        for( var i = start; i < end; ++i ) accept( input.charAt( i ) );
+    }   //  accept()
+
+    /**
+     *  Passes the given characters of the input to the folder.
+     *
+     *  @param  input   The input.
+     *  @param  start   The index of the first character.
+     *  @param  end The index after the last character.
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void accept( final char [] input, final int start, final int end ) throws IOException
+    {
+        for( var i = start; i < end; ++i ) accept( input [i] );
+    }   //  accept()
+
+    /**
+     *  Adds the given character, that is not in the tables, to the
+     *  collected characters; a long sequence is processed before a character
+     *  that is not a combining mark.
+     *
+     *  @param  c   The character; it is not a high surrogate that is
+     *      followed by its low surrogate.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void append( final char c ) throws IOException
+    {
+        if( (m_Segment.length() >= DEFAULT_BUFFER_SIZE) && !isLowSurrogate( c ) && !isMark( c ) ) flush();
+        m_Segment.append( c );
+    }   //  append()
+
+    /**
+     *  Signals the end of the input.
+     *
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void finish() throws IOException
+    {
+        if( m_HighSurrogate != 0 )
+        {
+            append( m_HighSurrogate );
+            m_HighSurrogate = 0;
+        }
+        flush();
+    }   //  finish()
+
+    /**
+     *  Processes the collected characters that are not in the tables.
+     *
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void flush() throws IOException
+    {
+        if( !m_Segment.isEmpty() )
+        {
+            m_Target.append( m_ToASCII ? foldToASCII( m_Segment ) : removeMarks( m_Segment ) );
+            m_Segment.setLength( 0 );
+        }
+    }   //  flush()
+
+    /**
+     *  Reduces the given text to ASCII, using
+     *  {@link java.text.Normalizer}.
+     *  The characters 'ß', 'ø' and 'Ø' are not handled.
+     *
+     *  @param  input   The text.
+     *  @return The ASCII characters from the decomposed text.
+     */
+    private static final String foldToASCII( final CharSequence input )
+    {
+        final var decomposed = normalize( input, NFD );
+        final var buffer = new StringBuilder( decomposed.length() );
+        for( var i = 0; i < decomposed.length(); ++i )
+        {
+            final var c = decomposed.charAt( i );
+            if( c < ASCII_END ) buffer.append( c );
+        }
+        final var retValue = buffer.isEmpty() ? EMPTY_STRING : buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  foldToASCII()
+
+    /**
+     *  Checks whether the given text consists only of ASCII characters.
+     *
+     *  @param  input   The text.
+     *  @return {@code true} if all characters are ASCII characters,
+     *      {@code false} otherwise.
+     */
+    public static final boolean isASCII( final CharSequence input )
+    {
+        var retValue = true;
+        final var len = input.length();
+        ScanLoop: for( var i = 0; i < len; ++i )
+        {
+            if( input.charAt( i ) >= ASCII_END )
+            {
+                retValue = false;
+                break ScanLoop;
+            }
+        }   //  ScanLoop:
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isASCII()
+
+    /**
+     *  Checks whether the given code point is a combining mark.
+     *
+     *  @param  codePoint   The code point.
+     *  @return {@code true} if the code point is a combining mark,
+     *      {@code false} otherwise.
+     */
+    private static final boolean isMark( final int codePoint )
+    {
+        final var type = getType( codePoint );
+        final var retValue = (type == NON_SPACING_MARK) || (type == COMBINING_SPACING_MARK) || (type == ENCLOSING_MARK);
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isMark()
+
+    /**
+     *  Removes the diacritical marks from the given text, using
+     *  {@link java.text.Normalizer}.
+     *
+     *  @param  input   The text.
+     *  @return The text without the diacritical marks.
+     */
+    private static final String removeMarks( final CharSequence input )
+    {
+        return normalize( input, NFD ).replaceAll( "\\p{InCombiningDiacriticalMarks}+", EMPTY_STRING );
+    }   //  removeMarks()
+
+    /**
+     *  Returns the index of the given character in the tables.
+     *
+     *  @param  c   The character.
+     *  @return The index, or -1 if the character is not in the tables.
+     */
+    private static final int tableIndex( final char c )
+    {
+        final int retValue;
+        if( c < LATIN_END )
+        {
+            retValue = c;
+        }
+        else if( (c >= LATIN_EXTENDED_ADDITIONAL_START) && (c < LATIN_EXTENDED_ADDITIONAL_END) )
+        {
+            retValue = LATIN_END + c - LATIN_EXTENDED_ADDITIONAL_START;
+        }
+        else
+        {
+            retValue = -1;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tableIndex()
+}
+//  class TextFolder
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,286 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.util.CharSequenceView;
+
+/**
+ *  <p>{@summary The base class for the implementations of
+ *  {@link Spliterator}
+ *  that split a
+ *  {@link CharSequence}
+ *  into tokens on demand.}</p>
+ *  <p>The input is scanned only as far as required for the next token, and
+ *  the tokens are created only when they are consumed; no copy of the
+ *  complete input will be made. Beginning and end of the input are treated
+ *  as separators, so a sequence with <i>n</i> separators will always
+ *  provide <i>n</i>&nbsp;+&nbsp;1 tokens, some of which may be empty.</p>
+ *  <p>The input must not be modified while it is processed by an instance
+ *  of this class.</p>
+ *
+ *  @param  <T> The type of the tokens.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.26.0" )
+public abstract class TokenSpliterator<T> implements Spliterator<T>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The factory for the tokens.
+     *
+     *  @param  <T> The type of the tokens.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id$
+     *  @since 0.26.0
+     *
+     *  @UMLGraph.link
+     */
+    @FunctionalInterface
+    @ClassVersion( sourceVersion = "$Id$" )
+    @API( status = INTERNAL, since = "0.26.0" )
+    public static interface TokenFactory<T>
+    {
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Creates the token for the given range of the given input.
+         *
+         *  @param  input   The input.
+         *  @param  start   The index of the first character of the token.
+         *  @param  end The index after the last character of the token.
+         *  @return The token.
+         */
+        public T createToken( final CharSequence input, final int start, final int end );
+    }
+    //  interface TokenFactory
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The factory for tokens of type
+     *  {@link String}
+     *  that are
+     *  {@linkplain String#intern() interned}.
+     */
+    public static final TokenFactory<String> INTERNED_STRING_TOKENS = ( input, start, end ) -> input.subSequence( start, end ).toString().intern();
+
+    /**
+     *  The minimum number of remaining characters for a split: {@value}.
+     *  Splitting smaller inputs does not pay off.
+     */
+    public static final int MIN_SPLIT_SIZE = 4096;
+
+    /**
+     *  The factory for tokens of type
+     *  {@link String}.
+     */
+    public static final TokenFactory<String> STRING_TOKENS = ( input, start, end ) -> input.subSequence( start, end ).toString();
+
+    /**
+     *  The factory for tokens of type
+     *  {@link CharSequenceView}
+     *  that refer to the input without copying it.
+     */
+    public static final TokenFactory<CharSequenceView> VIEW_TOKENS = CharSequenceViewImpl::new;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  {@code true} if the last token was already provided.
+     */
+    private boolean m_Done = false;
+
+    /**
+     *  The end of the range of the input that is covered by this
+     *  spliterator.
+     */
+    private final int m_End;
+
+    /**
+     *  The input.
+     */
+    private final CharSequence m_Input;
+
+    /**
+     *  The start of the next token.
+     */
+    private int m_Position;
+
+    /**
+     *  The factory for the tokens.
+     */
+    private final TokenFactory<? extends T> m_TokenFactory;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code TokenSpliterator} instance.
+     *
+     *  @param  input   The input.
+     *  @param  start   The start of the range of the input that is covered
+     *      by the new spliterator; this must be the start of a token.
+     *  @param  end The end of the range; this must be the end of a token.
+     *  @param  tokenFactory    The factory for the tokens.
+     */
+    protected TokenSpliterator( final CharSequence input, final int start, final int end, final TokenFactory<? extends T> tokenFactory )
+    {
+        m_Input = requireNonNullArgument( input, "input" );
+        m_TokenFactory = requireNonNullArgument( tokenFactory, "tokenFactory" );
+        assert (start >= 0) && (start <= end) && (end <= input.length()) : "Invalid range";
+        m_Position = start;
+        m_End = end;
+    }   //  TokenSpliterator()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public int characteristics() { return ORDERED | NONNULL; }
+
+    /**
+     *  Creates a new spliterator with the same configuration as this one, but
+     *  for the given range of the input.
+     *
+     *  @param  start   The start of the range; this is the start of a token.
+     *  @param  end The end of the range; this is the end of a token.
+     *  @return The new spliterator.
+     */
+    protected abstract TokenSpliterator<T> createPrefix( final int start, final int end );
+
+    /**
+     *  {@inheritDoc}
+     *
+     *  @return The number of remaining characters plus one, as an upper bound
+     *      for the number of remaining tokens.
+     */
+    @Override
+    public final long estimateSize() { return m_Done ? 0 : m_End - m_Position + 1; }
+
+    /**
+     *  <p>{@summary Searches the next separator in the given range of the
+     *  input.}</p>
+     *
+     *  @param  from    The index to start the search from.
+     *  @param  to  The end of the range to search; the separator must end at
+     *      or before this index.
+     *  @return The start of the separator in the upper 32&nbsp;bits, and its
+     *      end in the lower 32&nbsp;bits, or -1 if there is no further
+     *      separator in the given range.
+     */
+    protected abstract long findSeparator( final int from, final int to );
+
+    /**
+     *  Returns the input.
+     *
+     *  @return The input.
+     */
+    protected final CharSequence input() { return m_Input; }
+
+    /**
+     *  Returns the factory for the tokens.
+     *
+     *  @return The token factory.
+     */
+    protected final TokenFactory<? extends T> tokenFactory() { return m_TokenFactory; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean tryAdvance( final Consumer<? super T> action )
+    {
+        requireNonNullArgument( action, "action" );
+
+        final var retValue = !m_Done;
+        if( retValue )
+        {
+            final var separator = findSeparator( m_Position, m_End );
+            if( separator < 0 )
+            {
+                action.accept( m_TokenFactory.createToken( m_Input, m_Position, m_End ) );
+                m_Position = m_End;
+                m_Done = true;
+            }
+            else
+            {
+                final var tokenEnd = (int) (separator >>> 32);
+                action.accept( m_TokenFactory.createToken( m_Input, m_Position, tokenEnd ) );
+                m_Position = (int) separator;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tryAdvance()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The split point is the first separator after the middle of the
+     *  remaining range. Implementations for separators that may overlap
+     *  with themselves, so that a search starting in the middle could find a
+     *  separator that a search from the start would not find, have to
+     *  override this method.</p>
+     */
+    @Override
+    public TokenSpliterator<T> trySplit()
+    {
+        TokenSpliterator<T> retValue = null;
+        final var remaining = m_End - m_Position;
+        if( !m_Done && (remaining >= MIN_SPLIT_SIZE) )
+        {
+            final var separator = findSeparator( m_Position + (remaining >> 1), m_End );
+            if( separator >= 0 )
+            {
+                retValue = createPrefix( m_Position, (int) (separator >>> 32) );
+                m_Position = (int) separator;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  trySplit()
+}
+//  class TokenSpliterator
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,604 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static java.lang.Character.isHighSurrogate;
+import static java.lang.Character.isLowSurrogate;
+import static java.lang.Character.isSurrogate;
+import static java.lang.Character.toCodePoint;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.util.StringUtils;
+
+/**
+ *  <p>{@summary The implementation of the URL encoding and decoding into
+ *  bytes for
+ *  {@link StringUtils}.}</p>
+ *  <p>The results are the same as the UTF-8 bytes of the Strings that are
+ *  returned by
+ *  {@link java.net.URLEncoder#encode(String, java.nio.charset.Charset)}
+ *  and
+ *  {@link java.net.URLDecoder#decode(String, java.nio.charset.Charset)},
+ *  but no intermediate Strings are created. The encoded form for the
+ *  characters up to U+00FF is taken from a table.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@API( status = INTERNAL, since = "0.26.0" )
+public final class URLCodec
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of characters that are encoded or decoded into the
+     *  buffer at once: {@value}.
+     */
+    private static final int BUFFER_CHARS = 2048;
+
+    /**
+     *  The size of the buffer for the decoded bytes: {@value}.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     *  The number of characters in a chunk for the parallel encoding:
+     *  {@value}.
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     *  The hexadecimal digits, as used for the encoding.
+     */
+    private static final byte [] HEX_DIGITS = "0123456789ABCDEF".getBytes( UTF_8 );
+
+    /**
+     *  The maximum number of bytes for the encoded form of a single
+     *  character: {@value}.
+     */
+    private static final int MAX_ENCODED_BYTES = 9;
+
+    /**
+     *  The number of escaped bytes that are collected before they are
+     *  decoded, if the sequence can be split at that point: {@value}.
+     */
+    private static final int MAX_ESCAPED_RUN = 4096;
+
+    /**
+     *  The size of the table with the encoded forms: {@value}.
+     */
+    private static final int TABLE_SIZE = 0x100;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The encoded forms of the characters up to U+00FF.
+     */
+    private static final byte [] [] m_EncodingTable;
+
+    static
+    {
+        m_EncodingTable = new byte [TABLE_SIZE] [];
+        for( var c = 0; c < TABLE_SIZE; ++c )
+        {
+            final var isSafe = ((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) || ((c >= '0') && (c <= '9')) || (c == '-') || (c == '_') || (c == '.') || (c == '*');
+            if( isSafe )
+            {
+                m_EncodingTable [c] = new byte [] {(byte) c};
+            }
+            else if( c == ' ' )
+            {
+                m_EncodingTable [c] = new byte [] {'+'};
+            }
+            else
+            {
+                final var bytes = Character.toString( c ).getBytes( UTF_8 );
+                final var escaped = new byte [bytes.length * 3];
+                for( var i = 0; i < bytes.length; ++i ) writeEscape( bytes [i], escaped, i * 3 );
+                m_EncodingTable [c] = escaped;
+            }
+        }
+    }
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private URLCodec() { throw new PrivateConstructorForStaticClassCalledError( URLCodec.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Writes the UTF-8 bytes of the URL decoded form of the given text to
+     *  the given
+     *  {@link OutputStream}.
+     *
+     *  @param  input   The URL encoded text.
+     *  @param  target  The target.
+     *  @throws IOException Writing to the target failed.
+     *  @throws IllegalArgumentException    The input contains an invalid
+     *      escape sequence; the bytes for the part of the input before it
+     *      may have been written already.
+     */
+    public static final void decode( final CharSequence input, final OutputStream target ) throws IOException, IllegalArgumentException
+    {
+        final var buffer = new byte [BUFFER_SIZE];
+        var run = new byte [MAX_ESCAPED_RUN];
+        var runLength = 0;
+        final var validator = new int [3];
+        var position = 0;
+        final var len = input.length();
+        var i = 0;
+        while( i < len )
+        {
+            final var c = input.charAt( i );
+            if( c == '%' )
+            {
+                if( i + 2 >= len ) throw new IllegalArgumentException( "URLDecoder: Incomplete trailing escape (%) pattern" );
+                final var b = parseEscape( input, i + 1 );
+
+                /*
+                 * A long sequence of escaped bytes is split after a complete
+                 * and well-formed UTF-8 sequence, or before an ASCII byte;
+                 * the replacement of malformed bytes does not depend on what
+                 * follows at these points.
+                 */
+                if( (runLength >= MAX_ESCAPED_RUN) && ((validator [0] == 0) || (b >= 0)) )
+                {
+                    position = flushRun( run, runLength, validator, buffer, position, target );
+                    runLength = 0;
+                }
+                if( runLength == run.length ) run = Arrays.copyOf( run, runLength * 2 );
+                run [runLength++] = b;
+                validate( validator, b );
+                i += 3;
+            }
+            else
+            {
+                if( runLength > 0 )
+                {
+                    position = flushRun( run, runLength, validator, buffer, position, target );
+                    runLength = 0;
+                }
+                if( position > buffer.length - 4 )
+                {
+                    target.write( buffer, 0, position );
+                    position = 0;
+                }
+                if( c == '+' )
+                {
+                    buffer [position++] = ' ';
+                    ++i;
+                }
+                else if( isHighSurrogate( c ) && (i + 1 < len) && isLowSurrogate( input.charAt( i + 1 ) ) )
+                {
+                    position = writeUTF8( toCodePoint( c, input.charAt( i + 1 ) ), buffer, position );
+                    i += 2;
+                }
+                else
+                {
+                    //---* An unpaired surrogate is replaced by '?' *----------
+                    position = writeUTF8( isSurrogate( c ) ? '?' : c, buffer, position );
+                    ++i;
+                }
+            }
+        }
+        if( runLength > 0 ) position = flushRun( run, runLength, validator, buffer, position, target );
+        target.write( buffer, 0, position );
+    }   //  decode()
+
+    /**
+     *  Writes the URL encoded form of the given range of the given text to
+     *  the given byte array. The array must be large enough.
+     *
+     *  @param  input   The text.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range; it may not be between the two
+     *      characters of a surrogate pair.
+     *  @param  target  The target array.
+     *  @param  offset  The position in the target array.
+     *  @return The position after the last byte that was written.
+     */
+    private static final int encode( final CharSequence input, final int start, final int end, final byte [] target, final int offset )
+    {
+        var retValue = offset;
+        for( var i = start; i < end; ++i )
+        {
+            final var c = input.charAt( i );
+            if( c < TABLE_SIZE )
+            {
+                final var encoded = m_EncodingTable [c];
+                if( encoded.length == 1 )
+                {
+                    target [retValue++] = encoded [0];
+                }
+                else
+                {
+                    System.arraycopy( encoded, 0, target, retValue, encoded.length );
+                    retValue += encoded.length;
+                }
+            }
+            else
+            {
+                int codePoint = c;
+                if( isHighSurrogate( c ) && (i + 1 < end) && isLowSurrogate( input.charAt( i + 1 ) ) )
+                {
+                    codePoint = toCodePoint( c, input.charAt( ++i ) );
+                }
+                else if( isSurrogate( c ) )
+                {
+                    //---* An unpaired surrogate is replaced by '?' *----------
+                    codePoint = '?';
+                }
+                final var count = writeUTF8( codePoint, target, retValue ) - retValue;
+
+                //---* Replace the bytes by their escapes, from the end *------
+                for( var j = count - 1; j >= 0; --j ) writeEscape( target [retValue + j], target, retValue + j * 3 );
+                retValue += count * 3;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  encode()
+
+    /**
+     *  Writes the URL encoded form of the given text to the given
+     *  {@link ByteBuffer},
+     *  starting at its current position; the position is advanced by the
+     *  number of bytes that were written.
+     *
+     *  @param  input   The text.
+     *  @param  target  The target buffer.
+     *  @param  parallel    {@code true} if a large input should be split
+     *      into chunks that are encoded in parallel, {@code false} if the
+     *      input should be encoded in the current thread only.
+     *  @return The number of bytes that were written.
+     *  @throws BufferOverflowException The buffer does not have enough
+     *      space left; nothing was written.
+     */
+    public static final int encode( final CharSequence input, final ByteBuffer target, final boolean parallel ) throws BufferOverflowException
+    {
+        final var len = input.length();
+        final var chunkCount = parallel ? Math.max( 1, len / CHUNK_SIZE ) : 1;
+
+        //---* Determine the chunks and their encoded lengths *----------------
+        final var bounds = new int [chunkCount + 1];
+        for( var i = 1; i < chunkCount; ++i ) bounds [i] = safeBoundary( input, i * CHUNK_SIZE );
+        bounds [chunkCount] = len;
+        final var offsets = new int [chunkCount + 1];
+        final var lengths = IntStream.range( 0, chunkCount );
+        (chunkCount > 1 ? lengths.parallel() : lengths).forEach( i -> offsets [i + 1] = encodedLength( input, bounds [i], bounds [i + 1] ) );
+        for( var i = 0; i < chunkCount; ++i ) offsets [i + 1] += offsets [i];
+        final var retValue = offsets [chunkCount];
+        if( retValue > target.remaining() ) throw new BufferOverflowException();
+
+        //---* Encode the chunks *---------------------------------------------
+        final var position = target.position();
+        final var chunks = IntStream.range( 0, chunkCount );
+        (chunkCount > 1 ? chunks.parallel() : chunks).forEach( i -> encodeChunk( input, bounds [i], bounds [i + 1], target, position + offsets [i] ) );
+        target.position( position + retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  encode()
+
+    /**
+     *  Writes the URL encoded form of the given text to the given
+     *  {@link OutputStream}.
+     *
+     *  @param  input   The text.
+     *  @param  target  The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    public static final void encode( final CharSequence input, final OutputStream target ) throws IOException
+    {
+        final var buffer = new byte [(BUFFER_CHARS + 1) * MAX_ENCODED_BYTES];
+        final var len = input.length();
+        for( var start = 0; start < len; )
+        {
+            final var end = safeBoundary( input, Math.min( len, start + BUFFER_CHARS ) );
+            final var count = encode( input, start, end, buffer, 0 );
+            target.write( buffer, 0, count );
+            start = end;
+        }
+    }   //  encode()
+
+    /**
+     *  Writes the URL encoded form of the given range of the given text to
+     *  the given
+     *  {@link ByteBuffer},
+     *  at the given index; the position of the buffer is not changed.
+     *
+     *  @param  input   The text.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range.
+     *  @param  target  The target buffer.
+     *  @param  index   The index in the buffer.
+     */
+    private static final void encodeChunk( final CharSequence input, final int start, final int end, final ByteBuffer target, final int index )
+    {
+        if( target.hasArray() )
+        {
+            encode( input, start, end, target.array(), target.arrayOffset() + index );
+        }
+        else
+        {
+            final var buffer = new byte [(BUFFER_CHARS + 1) * MAX_ENCODED_BYTES];
+            var position = index;
+            for( var sliceStart = start; sliceStart < end; )
+            {
+                final var sliceEnd = safeBoundary( input, Math.min( end, sliceStart + BUFFER_CHARS ) );
+                final var count = encode( input, sliceStart, sliceEnd, buffer, 0 );
+                target.put( position, buffer, 0, count );
+                position += count;
+                sliceStart = sliceEnd;
+            }
+        }
+    }   //  encodeChunk()
+
+    /**
+     *  Returns the number of bytes for the URL encoded form of the given
+     *  range of the given text.
+     *
+     *  @param  input   The text.
+     *  @param  start   The start of the range.
+     *  @param  end The end of the range; it may not be between the two
+     *      characters of a surrogate pair.
+     *  @return The number of bytes.
+     */
+    public static final int encodedLength( final CharSequence input, final int start, final int end )
+    {
+        var retValue = 0;
+        for( var i = start; i < end; ++i )
+        {
+            final var c = input.charAt( i );
+            if( c < TABLE_SIZE )
+            {
+                retValue += m_EncodingTable [c].length;
+            }
+            else if( c < 0x800 )
+            {
+                retValue += 6;
+            }
+            else if( isHighSurrogate( c ) && (i + 1 < end) && isLowSurrogate( input.charAt( i + 1 ) ) )
+            {
+                retValue += 12;
+                ++i;
+            }
+            else
+            {
+                retValue += isSurrogate( c ) ? 3 : 9;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  encodedLength()
+
+    /**
+     *  Writes the UTF-8 bytes for the given escaped bytes to the given
+     *  buffer, or directly to the target if the buffer is too small. If the
+     *  bytes are not well-formed UTF-8, each malformed sequence is replaced
+     *  by U+FFFD, as
+     *  {@link String#String(byte[], int, int, java.nio.charset.Charset)}
+     *  does it.
+     *
+     *  @param  run The escaped bytes.
+     *  @param  length  The number of escaped bytes.
+     *  @param  validator   The state of the validation; it will be reset.
+     *  @param  buffer  The buffer.
+     *  @param  position    The position in the buffer.
+     *  @param  target  The target.
+     *  @return The new position in the buffer.
+     *  @throws IOException Writing to the target failed.
+     */
+    private static final int flushRun( final byte [] run, final int length, final int [] validator, final byte [] buffer, final int position, final OutputStream target ) throws IOException
+    {
+        final var isWellFormed = validator [0] == 0;
+        validator [0] = 0;
+        final var bytes = isWellFormed ? run : new String( run, 0, length, UTF_8 ).getBytes( UTF_8 );
+        final var count = isWellFormed ? length : bytes.length;
+
+        var retValue = position;
+        if( retValue + count > buffer.length )
+        {
+            target.write( buffer, 0, retValue );
+            retValue = 0;
+        }
+        if( count > buffer.length )
+        {
+            target.write( bytes, 0, count );
+        }
+        else
+        {
+            System.arraycopy( bytes, 0, buffer, retValue, count );
+            retValue += count;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  flushRun()
+
+    /**
+     *  Parses the two characters after a '%' in the same way as
+     *  {@link java.net.URLDecoder}
+     *  does it, using
+     *  {@link Integer#parseInt(CharSequence, int, int, int)}.
+     *
+     *  @param  input   The text.
+     *  @param  index   The index of the first character after the '%'.
+     *  @return The byte.
+     *  @throws IllegalArgumentException    The characters are not a valid
+     *      hexadecimal number, or the number is negative.
+     */
+    private static final byte parseEscape( final CharSequence input, final int index ) throws IllegalArgumentException
+    {
+        final int value;
+        try
+        {
+            value = Integer.parseInt( input, index, index + 2, 16 );
+        }
+        catch( final NumberFormatException e )
+        {
+            throw new IllegalArgumentException( "URLDecoder: Illegal hex characters in escape (%) pattern - " + e.getMessage() );
+        }
+        if( value < 0 ) throw new IllegalArgumentException( "URLDecoder: Illegal hex characters in escape (%) pattern - negative value" );
+
+        //---* Done *----------------------------------------------------------
+        return (byte) value;
+    }   //  parseEscape()
+
+    /**
+     *  Returns a boundary for a chunk of the given text that is not between
+     *  the two characters of a surrogate pair.
+     *
+     *  @param  input   The text.
+     *  @param  index   The proposed boundary.
+     *  @return The boundary.
+     */
+    private static final int safeBoundary( final CharSequence input, final int index )
+    {
+        final var retValue = (index > 0) && (index < input.length()) && isHighSurrogate( input.charAt( index - 1 ) ) && isLowSurrogate( input.charAt( index ) )
+            ? index + 1
+            : index;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  safeBoundary()
+
+    /**
+     *  Updates the validation of a sequence of UTF-8 bytes with the given
+     *  byte, according to table 3-7 &quot;Well-Formed UTF-8 Byte
+     *  Sequences&quot; of the Unicode standard.
+     *
+     *  @param  validator   The state of the validation: at index 0, the
+     *      number of continuation bytes that are still needed, or -1 if the
+     *      sequence is malformed; at the indexes 1 and 2, the lower and upper
+     *      limit for the next continuation byte.
+     *  @param  b   The byte.
+     */
+    private static final void validate( final int [] validator, final byte b )
+    {
+        final var value = b & 0xFF;
+        if( validator [0] == 0 )
+        {
+            validator [1] = 0x80;
+            validator [2] = 0xBF;
+            if( value < 0x80 ) validator [0] = 0;
+            else if( (value >= 0xC2) && (value <= 0xDF) ) validator [0] = 1;
+            else if( value == 0xE0 ) { validator [0] = 2; validator [1] = 0xA0; }
+            else if( value == 0xED ) { validator [0] = 2; validator [2] = 0x9F; }
+            else if( (value >= 0xE1) && (value <= 0xEF) ) validator [0] = 2;
+            else if( value == 0xF0 ) { validator [0] = 3; validator [1] = 0x90; }
+            else if( (value >= 0xF1) && (value <= 0xF3) ) validator [0] = 3;
+            else if( value == 0xF4 ) { validator [0] = 3; validator [2] = 0x8F; }
+            else validator [0] = -1;
+        }
+        else if( validator [0] > 0 )
+        {
+            if( (value >= validator [1]) && (value <= validator [2]) )
+            {
+                --validator [0];
+                validator [1] = 0x80;
+                validator [2] = 0xBF;
+            }
+            else
+            {
+                validator [0] = -1;
+            }
+        }
+    }   //  validate()
+
+    /**
+     *  Writes the escape sequence for the given byte to the given array.
+     *
+     *  @param  b   The byte.
+     *  @param  target  The target array.
+     *  @param  offset  The position in the target array.
+     */
+    private static final void writeEscape( final byte b, final byte [] target, final int offset )
+    {
+        target [offset] = '%';
+        target [offset + 1] = HEX_DIGITS [(b >> 4) & 0xF];
+        target [offset + 2] = HEX_DIGITS [b & 0xF];
+    }   //  writeEscape()
+
+    /**
+     *  Writes the UTF-8 bytes for the given code point to the given array.
+     *
+     *  @param  codePoint   The code point; it may not be a surrogate.
+     *  @param  target  The target array.
+     *  @param  offset  The position in the target array.
+     *  @return The position after the last byte that was written.
+     */
+    private static final int writeUTF8( final int codePoint, final byte [] target, final int offset )
+    {
+        var retValue = offset;
+        if( codePoint < 0x80 )
+        {
+            target [retValue++] = (byte) codePoint;
+        }
+        else if( codePoint < 0x800 )
+        {
+            target [retValue++] = (byte) (0xC0 | (codePoint >> 6));
+            target [retValue++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+        else if( codePoint < 0x10000 )
+        {
+            target [retValue++] = (byte) (0xE0 | (codePoint >> 12));
+            target [retValue++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            target [retValue++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+        else
+        {
+            target [retValue++] = (byte) (0xF0 | (codePoint >> 18));
+            target [retValue++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            target [retValue++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            target [retValue++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  writeUTF8()
+}
+//  class URLCodec
+
+/*
+ *  End of File
+ */
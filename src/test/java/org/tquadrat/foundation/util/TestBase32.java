@@ -17,19 +17,33 @@
 
 package org.tquadrat.foundation.util;
 
+import static java.util.Locale.ROOT;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+import static org.tquadrat.foundation.lang.CommonConstants.UTF8;
 import static org.tquadrat.foundation.util.Base32.Decoder;
 import static org.tquadrat.foundation.util.Base32.EMPTY_byte_ARRAY;
 import static org.tquadrat.foundation.util.Base32.Encoder;
+import static org.tquadrat.foundation.util.Base32.LONG_SYMBOL_COUNT;
+import static org.tquadrat.foundation.util.Base32.UUID_SYMBOL_COUNT;
 import static org.tquadrat.foundation.util.Base32.getDecoder;
 import static org.tquadrat.foundation.util.Base32.getEncoder;
-
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -201,6 +215,261 @@ public class TestBase32 extends TestBaseClass
         assertEquals( expected, result );
     }   //  someTestsWithStrings()
 
+    /**
+     *  Encodes the given bytes as groups of 5 bits each, using a string of
+     *  binary digits.
+     *
+     *  @param  input   The bytes.
+     *  @return The Base&nbsp;32 symbols.
+     */
+    private static final String referenceEncodeBytes( final byte [] input )
+    {
+        final var alphabet = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+        final var bits = new StringBuilder();
+        for( final var b : input ) bits.append( "%8s".formatted( Integer.toBinaryString( b & 0xFF ) ).replace( ' ', '0' ) );
+        while( bits.length() % 5 != 0 ) bits.append( '0' );
+        final var buffer = new StringBuilder();
+        for( var i = 0; i < bits.length(); i += 5 ) buffer.append( alphabet.charAt( Integer.parseInt( bits.substring( i, i + 5 ), 2 ) ) );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceEncodeBytes()
+
+    /**
+     *  Some tests for
+     *  {@link Encoder#encodeBytes(byte[])},
+     *  {@link Encoder#encodeBytesToString(byte[])},
+     *  {@link Decoder#decodeBytes(byte[])}
+     *  and
+     *  {@link Decoder#decodeBytes(CharSequence)}.
+     *
+     *  @throws Exception   Something unexpected gone wrong.
+     */
+    @Test
+    final void testBytes() throws Exception
+    {
+        skipThreadTest();
+
+        final var encoder = getEncoder();
+        final var decoder = getDecoder();
+
+        assertArrayEquals( EMPTY_byte_ARRAY, encoder.encodeBytes( EMPTY_byte_ARRAY ) );
+        assertArrayEquals( EMPTY_byte_ARRAY, decoder.decodeBytes( EMPTY_byte_ARRAY ) );
+        assertEquals( "CR", encoder.encodeBytesToString( "f".getBytes( UTF8 ) ) );
+        assertEquals( "CSQPYRK1E8", encoder.encodeBytesToString( "foobar".getBytes( UTF8 ) ) );
+        assertEquals( "00", encoder.encodeBytesToString( new byte [] {0} ) );
+        assertEquals( "ZW", encoder.encodeBytesToString( new byte [] {-1} ) );
+        assertArrayEquals( "foobar".getBytes( UTF8 ), decoder.decodeBytes( "CSQPYRK1E8" ) );
+        assertArrayEquals( "foobar".getBytes( UTF8 ), decoder.decodeBytes( "csqpyrkie8" ) );
+        assertArrayEquals( "foobar".getBytes( UTF8 ), decoder.decodeBytes( "CSQPYRK1E8".getBytes( UTF8 ) ) );
+
+        //---* Leading zeros are retained *------------------------------------
+        final var input = new byte [] {0, 0, 1};
+        assertArrayEquals( input, decoder.decodeBytes( encoder.encodeBytes( input ) ) );
+
+        //---* Offsets and buffers *-------------------------------------------
+        final var target = new byte [12];
+        assertEquals( 10, encoder.encodeBytes( "xfoobarx".getBytes( UTF8 ), 1, 6, target, 2 ) );
+        assertEquals( "CSQPYRK1E8", new String( target, 2, 10, UTF8 ) );
+        final var decoded = new byte [8];
+        assertEquals( 6, decoder.decodeBytes( target, 2, 10, decoded, 1 ) );
+        assertEquals( "foobar", new String( decoded, 1, 6, UTF8 ) );
+    }   //  testBytes()
+
+    /**
+     *  Tests for
+     *  {@link Encoder#encodeBytes(byte[], int, int, byte[], int)},
+     *  {@link Encoder#encodeBytes(ByteBuffer, ByteBuffer)},
+     *  {@link Decoder#decodeBytes(byte[], int, int, byte[], int)}
+     *  and
+     *  {@link Decoder#decodeBytes(ByteBuffer, ByteBuffer)}
+     *  with invalid arguments.
+     *
+     *  @throws Exception   Something unexpected gone wrong.
+     */
+    @Test
+    final void testBytesValidation() throws Exception
+    {
+        skipThreadTest();
+
+        final var encoder = getEncoder();
+        final var decoder = getDecoder();
+
+        assertThrows( NullArgumentException.class, () -> encoder.encodeBytes( (byte []) null ) );
+        assertThrows( NullArgumentException.class, () -> encoder.encodeBytes( null, 0, 0, new byte [1], 0 ) );
+        assertThrows( NullArgumentException.class, () -> encoder.encodeBytes( new byte [1], 0, 1, null, 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> encoder.encodeBytes( new byte [1], 0, 2, new byte [4], 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> encoder.encodeBytes( new byte [1], 0, 1, new byte [2], 1 ) );
+        assertThrows( NullArgumentException.class, () -> encoder.encodeBytes( null, ByteBuffer.allocate( 2 ) ) );
+        assertThrows( NullArgumentException.class, () -> encoder.encodeBytes( ByteBuffer.allocate( 2 ), null ) );
+        assertThrows( BufferOverflowException.class, () -> encoder.encodeBytes( ByteBuffer.allocate( 2 ), ByteBuffer.allocate( 3 ) ) );
+        assertThrows( ValidationException.class, () -> encoder.encodedLength( -1 ) );
+
+        assertThrows( NullArgumentException.class, () -> decoder.decodeBytes( (byte []) null ) );
+        assertThrows( NullArgumentException.class, () -> decoder.decodeBytes( (CharSequence) null ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( "0" ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( "000" ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( "000000" ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( "0U" ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( "0-" ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( "0\u00E4" ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( "00000U00" ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( new byte [] {'0', (byte) 0x81} ) );
+
+        //---* The unused bits must be zero *----------------------------------
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( "01" ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeBytes( "CSQPYRK1E9" ) );
+
+        assertThrows( NullArgumentException.class, () -> decoder.decodeBytes( null, 0, 0, new byte [1], 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> decoder.decodeBytes( "CR".getBytes( UTF8 ), 0, 2, new byte [1], 1 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> decoder.decodeBytes( "CR".getBytes( UTF8 ), 1, 2, new byte [1], 0 ) );
+        assertThrows( BufferOverflowException.class, () -> decoder.decodeBytes( ByteBuffer.wrap( "CSQPYRK1E8".getBytes( UTF8 ) ), ByteBuffer.allocate( 5 ) ) );
+        assertThrows( ValidationException.class, () -> decoder.decodedLength( -8 ) );
+    }   //  testBytesValidation()
+
+    /**
+     *  Compares the results of the methods for the encoding and decoding
+     *  as groups of 5 bits with those of a reference implementation, for
+     *  random input.
+     *
+     *  @throws Exception   Something unexpected gone wrong.
+     */
+    @Test
+    final void testBytesWithRandomInput() throws Exception
+    {
+        skipThreadTest();
+
+        final var encoder = getEncoder();
+        final var decoder = getDecoder();
+        final var random = getRandom();
+        for( var i = 0; i < 300; ++i )
+        {
+            final var input = new byte [i < 10 ? random.nextInt( 20_000 ) : random.nextInt( 40 )];
+            random.nextBytes( input );
+            final var expected = referenceEncodeBytes( input );
+            assertEquals( expected.length(), encoder.encodedLength( input.length ) );
+            assertEquals( expected, encoder.encodeBytesToString( input ) );
+            assertEquals( input.length, decoder.decodedLength( expected.length() ) );
+            assertArrayEquals( input, decoder.decodeBytes( expected ) );
+            assertArrayEquals( input, decoder.decodeBytes( expected.toLowerCase( ROOT ) ) );
+
+            //---* Heap buffers *----------------------------------------------
+            final var symbols = ByteBuffer.allocate( expected.length() );
+            final var source = ByteBuffer.wrap( input );
+            assertEquals( expected.length(), encoder.encodeBytes( source, symbols ) );
+            assertEquals( input.length, source.position() );
+            assertEquals( expected, new String( symbols.array(), UTF8 ) );
+            final var bytes = ByteBuffer.allocate( input.length );
+            assertEquals( input.length, decoder.decodeBytes( symbols.flip(), bytes ) );
+            assertArrayEquals( input, bytes.array() );
+
+            //---* Direct buffers *--------------------------------------------
+            final var directSource = ByteBuffer.allocateDirect( input.length ).put( input ).flip();
+            final var directSymbols = ByteBuffer.allocateDirect( expected.length() );
+            assertEquals( expected.length(), encoder.encodeBytes( directSource, directSymbols ) );
+            final var directBytes = ByteBuffer.allocateDirect( input.length );
+            assertEquals( input.length, decoder.decodeBytes( directSymbols.flip(), directBytes ) );
+            final var actual = new byte [input.length];
+            directBytes.flip().get( actual );
+            assertArrayEquals( input, actual );
+        }
+    }   //  testBytesWithRandomInput()
+
+    /**
+     *  Tests for the fixed width encoding of {@code long} values, pairs of
+     *  {@code long} values and UUIDs, and for
+     *  {@link Decoder#decodeToLong(CharSequence, int)},
+     *  {@link Decoder#decodeToLong(byte[], int)},
+     *  {@link Decoder#decodeToUUID(CharSequence, int)}
+     *  and
+     *  {@link Decoder#decodeToUUID(byte[], int)}.
+     *
+     *  @throws Exception   Something unexpected gone wrong.
+     */
+    @Test
+    final void testFixedWidth() throws Exception
+    {
+        skipThreadTest();
+
+        final var encoder = getEncoder();
+        final var decoder = getDecoder();
+
+        assertEquals( "0000000000000", encoder.encode( 0L, new StringBuilder() ).toString() );
+        assertEquals( "00000003NQK8N", encoder.encode( 123456789L, new StringBuilder() ).toString() );
+        assertEquals( "FZZZZZZZZZZZZ", encoder.encode( -1L, new StringBuilder() ).toString() );
+        assertEquals( "7ZZZZZZZZZZZZ", encoder.encode( Long.MAX_VALUE, new StringBuilder() ).toString() );
+        assertEquals( "00000000000000000000000000", encoder.encode( new UUID( 0L, 0L ), new StringBuilder() ).toString() );
+        assertEquals( "7ZZZZZZZZZZZZZZZZZZZZZZZZZ", encoder.encode( -1L, -1L, new StringBuilder() ).toString() );
+
+        final var random = getRandom();
+        final var chars = new char [LONG_SYMBOL_COUNT + UUID_SYMBOL_COUNT + 2];
+        final var bytes = new byte [chars.length];
+        final var builder = new StringBuilder();
+        for( var i = 0; i < 1000; ++i )
+        {
+            //---* long *------------------------------------------------------
+            final var value = random.nextLong() >>> random.nextInt( 64 );
+            final var expectedLong = "0".repeat( LONG_SYMBOL_COUNT ) + encoder.encodeToString( new BigInteger( Long.toUnsignedString( value ) ) );
+            final var expected = expectedLong.substring( expectedLong.length() - LONG_SYMBOL_COUNT );
+            builder.setLength( 0 );
+            builder.append( '#' );
+            assertEquals( expected, encoder.encode( value, builder ).substring( 1 ) );
+            assertEquals( LONG_SYMBOL_COUNT, encoder.encode( value, chars, 1 ) );
+            assertEquals( expected, new String( chars, 1, LONG_SYMBOL_COUNT ) );
+            assertEquals( LONG_SYMBOL_COUNT, encoder.encode( value, bytes, 1 ) );
+            assertEquals( expected, new String( bytes, 1, LONG_SYMBOL_COUNT, UTF8 ) );
+            assertEquals( value, decoder.decodeToLong( builder, 1 ) );
+            assertEquals( value, decoder.decodeToLong( expected.toLowerCase( ROOT ), 0 ) );
+            assertEquals( value, decoder.decodeToLong( bytes, 1 ) );
+
+            //---* UUID *------------------------------------------------------
+            final var uuid = new UUID( random.nextLong(), random.nextLong() );
+            final var uuidBytes = ByteBuffer.allocate( 16 ).putLong( uuid.getMostSignificantBits() ).putLong( uuid.getLeastSignificantBits() ).array();
+            final var expectedUUID = "0".repeat( UUID_SYMBOL_COUNT ) + encoder.encodeToString( new BigInteger( 1, uuidBytes ) );
+            final var expected128 = expectedUUID.substring( expectedUUID.length() - UUID_SYMBOL_COUNT );
+            builder.setLength( 0 );
+            assertEquals( expected128, encoder.encode( uuid, builder ).toString() );
+            assertEquals( expected128, encoder.encode( uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), new StringBuilder() ).toString() );
+            assertEquals( UUID_SYMBOL_COUNT, encoder.encode( uuid, chars, 2 ) );
+            assertEquals( expected128, new String( chars, 2, UUID_SYMBOL_COUNT ) );
+            assertEquals( UUID_SYMBOL_COUNT, encoder.encode( uuid, bytes, 2 ) );
+            assertEquals( expected128, new String( bytes, 2, UUID_SYMBOL_COUNT, UTF8 ) );
+            assertEquals( uuid, decoder.decodeToUUID( builder, 0 ) );
+            assertEquals( uuid, decoder.decodeToUUID( bytes, 2 ) );
+        }
+    }   //  testFixedWidth()
+
+    /**
+     *  Tests for the fixed width encoding and decoding with invalid
+     *  arguments.
+     *
+     *  @throws Exception   Something unexpected gone wrong.
+     */
+    @Test
+    final void testFixedWidthValidation() throws Exception
+    {
+        skipThreadTest();
+
+        final var encoder = getEncoder();
+        final var decoder = getDecoder();
+
+        assertThrows( NullArgumentException.class, () -> encoder.encode( 1L, (StringBuilder) null ) );
+        assertThrows( NullArgumentException.class, () -> encoder.encode( 1L, (char []) null, 0 ) );
+        assertThrows( NullArgumentException.class, () -> encoder.encode( (UUID) null, new StringBuilder() ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> encoder.encode( 1L, new char [LONG_SYMBOL_COUNT], 1 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> encoder.encode( 1L, 1L, new byte [UUID_SYMBOL_COUNT - 1], 0 ) );
+
+        assertThrows( NullArgumentException.class, () -> decoder.decodeToLong( (CharSequence) null, 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> decoder.decodeToLong( "000000000000", 0 ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeToLong( "000000000000U", 0 ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeToLong( "G000000000000", 0 ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeToLong( "000000000000\u0130", 0 ) );
+        assertThrows( NullArgumentException.class, () -> decoder.decodeToUUID( (byte []) null, 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> decoder.decodeToUUID( "0".repeat( UUID_SYMBOL_COUNT ), 1 ) );
+        assertThrows( ValidationException.class, () -> decoder.decodeToUUID( "8" + "0".repeat( UUID_SYMBOL_COUNT - 1 ), 0 ) );
+    }   //  testFixedWidthValidation()
+
     /**
      *  The validation tests for
      *  {@link Decoder#decode(byte[])},
@@ -279,6 +548,153 @@ public class TestBase32 extends TestBaseClass
         assertThrows( ValidationException.class, () -> candidate.encodeToString( value ) );
     }   //  testEncoderEncodeValidation()
 
+    /**
+     *  Tests for
+     *  {@link Encoder#wrap(OutputStream)}
+     *  and
+     *  {@link Decoder#wrap(InputStream)}.
+     *
+     *  @throws Exception   Something unexpected gone wrong.
+     */
+    @Test
+    final void testWrap() throws Exception
+    {
+        skipThreadTest();
+
+        final var encoder = getEncoder();
+        final var decoder = getDecoder();
+        final var random = getRandom();
+        for( var i = 0; i < 100; ++i )
+        {
+            final var input = new byte [i < 10 ? random.nextInt( 100_000 ) : random.nextInt( 50 )];
+            random.nextBytes( input );
+            final var expected = encoder.encodeBytes( input );
+
+            //---* Encode with single bytes and chunks of random sizes *-------
+            final var symbols = new ByteArrayOutputStream();
+            try( final var stream = encoder.wrap( symbols ) )
+            {
+                var position = 0;
+                while( position < input.length )
+                {
+                    if( random.nextBoolean() )
+                    {
+                        stream.write( input [position++] );
+                    }
+                    else
+                    {
+                        final var count = Math.min( input.length - position, random.nextInt( 20_000 ) );
+                        stream.write( input, position, count );
+                        position += count;
+                    }
+                    if( random.nextInt( 10 ) == 0 ) stream.flush();
+                }
+            }
+            assertArrayEquals( expected, symbols.toByteArray() );
+
+            //---* Decode from a source that returns only a few bytes *--------
+            final var source = new FilterInputStream( new ByteArrayInputStream( expected ) )
+            {
+                @Override
+                public final int read( final byte [] b, final int off, final int len ) throws IOException
+                {
+                    return super.read( b, off, Math.min( len, 3 ) );
+                }
+            };
+            final var bytes = new ByteArrayOutputStream();
+            try( final var stream = decoder.wrap( random.nextBoolean() ? source : new ByteArrayInputStream( expected ) ) )
+            {
+                final var buffer = new byte [random.nextInt( 1, 10_000 )];
+                var isEndOfInput = false;
+                while( !isEndOfInput )
+                {
+                    if( random.nextBoolean() )
+                    {
+                        final var count = stream.read( buffer, 0, buffer.length );
+                        if( count < 0 ) isEndOfInput = true; else bytes.write( buffer, 0, count );
+                    }
+                    else
+                    {
+                        final var b = stream.read();
+                        if( b < 0 ) isEndOfInput = true; else bytes.write( b );
+                    }
+                }
+            }
+            assertArrayEquals( input, bytes.toByteArray() );
+        }
+    }   //  testWrap()
+
+    /**
+     *  Tests for
+     *  {@link Encoder#wrap(OutputStream)}
+     *  with an input that ends with an incomplete group right after the
+     *  internal buffer was filled up.
+     *
+     *  @throws Exception   Something unexpected gone wrong.
+     */
+    @Test
+    final void testWrapWithFullBuffer() throws Exception
+    {
+        skipThreadTest();
+
+        final var encoder = getEncoder();
+        final var random = getRandom();
+        for( var chunks = 1; chunks <= 3; ++chunks )
+        {
+            for( var rest = 1; rest <= 4; ++rest )
+            {
+                final var input = new byte [5120 * chunks + rest];
+                random.nextBytes( input );
+                final var symbols = new ByteArrayOutputStream();
+                try( final var stream = encoder.wrap( symbols ) )
+                {
+                    stream.write( input );
+                }
+                assertArrayEquals( encoder.encodeBytes( input ), symbols.toByteArray(), () -> "Length: %d".formatted( input.length ) );
+            }
+        }
+    }   //  testWrapWithFullBuffer()
+
+    /**
+     *  Tests for
+     *  {@link Encoder#wrap(OutputStream)}
+     *  and
+     *  {@link Decoder#wrap(InputStream)}
+     *  with invalid arguments and invalid input.
+     *
+     *  @throws Exception   Something unexpected gone wrong.
+     */
+    @Test
+    final void testWrapValidation() throws Exception
+    {
+        skipThreadTest();
+
+        final var encoder = getEncoder();
+        final var decoder = getDecoder();
+
+        assertThrows( NullArgumentException.class, () -> encoder.wrap( null ) );
+        assertThrows( NullArgumentException.class, () -> decoder.wrap( null ) );
+
+        for( final var input : new String [] {"0", "000", "CSQPYRK1E9", "CSQ-YRK1E8", "CSQPYRK1E8U"} )
+        {
+            try( final var stream = decoder.wrap( new ByteArrayInputStream( input.getBytes( UTF8 ) ) ) )
+            {
+                final var exception = assertThrows( IOException.class, stream::readAllBytes );
+                assertTrue( exception.getCause() instanceof ValidationException );
+            }
+        }
+
+        //---* Closed streams *------------------------------------------------
+        final var encoding = encoder.wrap( new ByteArrayOutputStream() );
+        encoding.close();
+        encoding.close();
+        assertThrows( IOException.class, () -> encoding.write( 1 ) );
+        final var decoding = decoder.wrap( new ByteArrayInputStream( EMPTY_byte_ARRAY ) );
+        assertEquals( -1, decoding.read() );
+        decoding.close();
+        assertThrows( IOException.class, decoding::read );
+    }   //  testWrapValidation()
+
     /**
      *  Validates whether the class is static.
      */
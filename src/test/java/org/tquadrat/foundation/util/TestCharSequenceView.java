@@ -0,0 +1,185 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.util.HashSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the interface
+ *  {@link CharSequenceView}
+ *  and its implementation
+ *  {@link org.tquadrat.foundation.util.internal.CharSequenceViewImpl}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.TestCharSequenceView" )
+public class TestCharSequenceView extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for
+     *  {@link CharSequenceView}.
+     */
+    @Test
+    final void testCharSequenceView()
+    {
+        skipThreadTest();
+
+        final var source = "Hello, World!";
+        final var candidate = CharSequenceView.of( source, 7, 12 );
+        assertEquals( "World", candidate.toString() );
+        assertEquals( 5, candidate.length() );
+        assertEquals( 'W', candidate.charAt( 0 ) );
+        assertEquals( 'd', candidate.charAt( 4 ) );
+        assertSame( source, candidate.source() );
+        assertEquals( 7, candidate.start() );
+        assertEquals( 12, candidate.end() );
+        assertFalse( candidate.isEmpty() );
+        assertEquals( "World".hashCode(), candidate.hashCode() );
+
+        //---* A view on a view refers to the original source *----------------
+        final var subView = candidate.subSequence( 1, 4 );
+        assertEquals( "orl", subView.toString() );
+        assertSame( source, subView.source() );
+        assertEquals( 8, subView.start() );
+        assertEquals( 11, subView.end() );
+        final var viewOnView = CharSequenceView.of( candidate, 1, 4 );
+        assertEquals( subView, viewOnView );
+        assertSame( source, viewOnView.source() );
+
+        final var empty = CharSequenceView.of( source, 3, 3 );
+        assertTrue( empty.isEmpty() );
+        assertEquals( 0, empty.hashCode() );
+        assertEquals( "", empty.toString() );
+
+        assertEquals( source, CharSequenceView.of( source ).toString() );
+        assertEquals( source.hashCode(), CharSequenceView.of( new StringBuilder( source ) ).hashCode() );
+
+        //---* Equality *------------------------------------------------------
+        final var other = CharSequenceView.of( new StringBuilder( "The World is round" ), 4, 9 );
+        assertEquals( candidate, other );
+        assertEquals( other, candidate );
+        assertEquals( candidate.hashCode(), other.hashCode() );
+        assertNotEquals( candidate, CharSequenceView.of( source, 0, 5 ) );
+        assertFalse( candidate.equals( "World" ) );
+        assertTrue( candidate.contentEquals( "World" ) );
+        assertTrue( candidate.contentEquals( new StringBuilder( "World" ) ) );
+        assertTrue( candidate.contentEquals( other ) );
+        assertFalse( candidate.contentEquals( "Worlds" ) );
+        assertFalse( candidate.contentEquals( "world" ) );
+        assertFalse( candidate.contentEquals( null ) );
+
+        final var set = new HashSet<CharSequenceView>();
+        set.add( candidate );
+        assertTrue( set.contains( other ) );
+    }   //  testCharSequenceView()
+
+    /**
+     *  Tests for
+     *  {@link CharSequenceView#of(CharSequence, int, int)}
+     *  and
+     *  {@link CharSequenceView#charAt(int)}
+     *  with invalid indexes.
+     */
+    @Test
+    final void testCharSequenceViewWithInvalidIndex()
+    {
+        skipThreadTest();
+
+        final Class<? extends Throwable> expectedException = IndexOutOfBoundsException.class;
+        final Runnable [] calls =
+        {
+            () -> CharSequenceView.of( "abc", 2, 4 ),
+            () -> CharSequenceView.of( "abc", 2, 1 ),
+            () -> CharSequenceView.of( "abc", -1, 1 ),
+            () -> CharSequenceView.of( "abcdef", 1, 3 ).charAt( 2 ),
+            () -> CharSequenceView.of( "abcdef", 1, 3 ).charAt( -1 ),
+            () -> CharSequenceView.of( "abcdef", 1, 3 ).subSequence( 1, 3 )
+        };
+        for( final var call : calls )
+        {
+            try
+            {
+                call.run();
+                fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+            }
+            catch( final AssertionError e ) { throw e; }
+            catch( final Throwable t )
+            {
+                final var isExpectedException = expectedException.isInstance( t );
+                if( !isExpectedException ) t.printStackTrace( out );
+                assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+            }
+        }
+    }   //  testCharSequenceViewWithInvalidIndex()
+
+    /**
+     *  Compares views on random input with the respective Strings.
+     */
+    @Test
+    final void testCharSequenceViewWithRandomInput()
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        final var alphabet = "abc\u00e4\u00f6\u00fc\u20ac\uD83D\uDE00";
+        for( var i = 0; i < 500; ++i )
+        {
+            final var buffer = new StringBuilder();
+            final var len = random.nextInt( 40 ) + 1;
+            for( var j = 0; j < len; ++j ) buffer.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+            final var input = buffer.toString();
+            final var start = random.nextInt( len );
+            final var end = start + random.nextInt( len - start + 1 );
+            final var expected = input.substring( start, end );
+
+            for( final var view : new CharSequenceView [] {CharSequenceView.of( input, start, end ), CharSequenceView.of( buffer, start, end )} )
+            {
+                assertEquals( expected, view.toString() );
+                assertEquals( expected.hashCode(), view.hashCode() );
+                assertTrue( view.contentEquals( expected ) );
+                assertEquals( 0, CharSequence.compare( expected, view ) );
+                assertEquals( expected.chars().sum(), view.chars().sum() );
+            }
+        }
+    }   //  testCharSequenceViewWithRandomInput()
+}
+//  class TestCharSequenceView
+
+/*
+ *  End of File
+ */
@@ -17,20 +17,29 @@
 
 package org.tquadrat.foundation.util;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.tquadrat.foundation.lang.CommonConstants.UTF8;
 import static org.tquadrat.foundation.util.Hash.create;
 import static org.tquadrat.foundation.util.Hash.from;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
 import org.tquadrat.foundation.exception.NullArgumentException;
 import org.tquadrat.foundation.testutil.TestBaseClass;
 import org.tquadrat.foundation.util.internal.HashImpl;
@@ -112,6 +121,130 @@ public class TestHash extends TestBaseClass
         assertThrows( NullArgumentException.class, () -> from( (CharSequence) null ) );
         assertThrows( NullArgumentException.class, () -> from( (byte []) null ) );
     }   //  testArgumentValidation()
+
+    /**
+     *  Some tests for
+     *  {@link Hash.Builder}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testBuilder() throws Exception
+    {
+        skipThreadTest();
+
+        final var messageDigest = MessageDigest.getInstance( "SHA-256" );
+        assertEquals( create( new byte [0], messageDigest ), Hash.builder( "SHA-256" ).finish() );
+        assertEquals( create( "abc", messageDigest ), Hash.builder( "SHA-256" ).update( "a" ).update( "bc" ).finish() );
+        assertEquals( "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", Hash.builder( "SHA-256" ).update( new byte [] {'a', 'b', 'c'} ).finish().toString() );
+
+        //---* Two builders on the same thread do not share a digest *---------
+        final var builder1 = Hash.builder( "MD5" ).update( "first" );
+        final var builder2 = Hash.builder( "MD5" ).update( "second" );
+        final var hash1 = builder1.update( "!" ).finish();
+        final var hash2 = builder2.update( "!" ).finish();
+        assertEquals( create( "first!", MessageDigest.getInstance( "MD5" ) ), hash1 );
+        assertEquals( create( "second!", MessageDigest.getInstance( "MD5" ) ), hash2 );
+        assertNotEquals( hash1, hash2 );
+
+        //---* Characters that cannot be encoded *-----------------------------
+        final var text = "A\u00E4\u20AC\uD83D\uDE00\uD800x\uDC00";
+        for( final var charset : new Charset [] {UTF8, ISO_8859_1, US_ASCII, UTF_16} )
+        {
+            assertEquals( create( text, charset, messageDigest ), Hash.builder( "SHA-256" ).update( text, charset ).finish(), charset.name() );
+        }
+        assertEquals( create( text, messageDigest ), Hash.builder( "SHA-256" ).update( text ).finish() );
+    }   //  testBuilder()
+
+    /**
+     *  Tests for
+     *  {@link Hash.Builder}
+     *  with invalid arguments, and after it was finished.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @SuppressWarnings( "DataFlowIssue" )
+    @Test
+    final void testBuilderValidation() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( NullArgumentException.class, () -> Hash.builder( null ) );
+        assertThrows( EmptyArgumentException.class, () -> Hash.builder( "" ) );
+        assertThrows( NoSuchAlgorithmException.class, () -> Hash.builder( "NoSuchAlgorithm" ) );
+
+        final var candidate = Hash.builder( "SHA-1" );
+        assertThrows( NullArgumentException.class, () -> candidate.update( (byte []) null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.update( null, 0, 0 ) );
+        assertThrows( NullArgumentException.class, () -> candidate.update( (ByteBuffer) null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.update( (CharSequence) null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.update( null, UTF8 ) );
+        assertThrows( NullArgumentException.class, () -> candidate.update( "", null ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> candidate.update( new byte [4], 2, 3 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> candidate.update( new byte [4], -1, 1 ) );
+
+        candidate.finish();
+        assertThrows( IllegalStateException.class, candidate::finish );
+        assertThrows( IllegalStateException.class, () -> candidate.update( new byte [1] ) );
+        assertThrows( IllegalStateException.class, () -> candidate.update( new byte [1], 0, 1 ) );
+        assertThrows( IllegalStateException.class, () -> candidate.update( ByteBuffer.allocate( 1 ) ) );
+        assertThrows( IllegalStateException.class, () -> candidate.update( "a" ) );
+        assertThrows( IllegalStateException.class, () -> candidate.update( "a", UTF8 ) );
+    }   //  testBuilderValidation()
+
+    /**
+     *  Compares the hashes from
+     *  {@link Hash.Builder}
+     *  for random data, passed in random pieces, with those for the complete
+     *  data.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testBuilderWithRandomInput() throws Exception
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        final var messageDigest = MessageDigest.getInstance( "SHA-512" );
+        for( var i = 0; i < 300; ++i )
+        {
+            //---* Bytes *-----------------------------------------------------
+            final var bytes = new byte [random.nextInt( i % 30 == 0 ? 100_000 : 500 )];
+            random.nextBytes( bytes );
+            final var builder = Hash.builder( "SHA-512" );
+            var position = 0;
+            while( position < bytes.length )
+            {
+                final var length = Math.min( bytes.length - position, random.nextInt( 1_000 ) );
+                switch( random.nextInt( 3 ) )
+                {
+                    case 0 -> builder.update( bytes, position, length );
+                    case 1 -> builder.update( ByteBuffer.wrap( bytes, position, length ) );
+                    default -> builder.update( ByteBuffer.allocateDirect( length ).put( bytes, position, length ).flip() );
+                }
+                position += length;
+            }
+            assertEquals( create( bytes, messageDigest ), builder.finish() );
+
+            //---* Characters, including unpaired surrogates *-----------------
+            final var text = new StringBuilder();
+            final var length = random.nextInt( i % 30 == 0 ? 20_000 : 200 );
+            while( text.length() < length )
+            {
+                text.append( switch( random.nextInt( 5 ) )
+                {
+                    case 0 -> (char) random.nextInt( 0x80 );
+                    case 1 -> (char) random.nextInt( 0x800 );
+                    case 2 -> (char) random.nextInt( 0x10000 );
+                    case 3 -> Character.toString( 0x10000 + random.nextInt( 0x100000 ) );
+                    default -> "xyz";
+                } );
+            }
+            final var charset = new Charset [] {UTF8, ISO_8859_1, UTF_16} [random.nextInt( 3 )];
+            assertEquals( create( text, charset, messageDigest ), Hash.builder( "SHA-512" ).update( text, charset ).finish(), charset.name() );
+        }
+    }   //  testBuilderWithRandomInput()
 }
 //  class TestHash
 
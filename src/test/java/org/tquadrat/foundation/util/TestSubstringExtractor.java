@@ -0,0 +1,196 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.util.StringUtils.substringsBetween;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.SubstringExtractor.DelimiterPair;
+
+/**
+ *  Some tests for the class
+ *  {@link SubstringExtractor}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.TestSubstringExtractor" )
+public class TestSubstringExtractor extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for
+     *  {@link SubstringExtractor#extract(CharSequence)}
+     *  and
+     *  {@link SubstringExtractor#matches(CharSequence)}.
+     */
+    @Test
+    final void testSubstringExtractor()
+    {
+        skipThreadTest();
+
+        final var candidate = SubstringExtractor.of( new DelimiterPair( "[", "]" ), new DelimiterPair( "<b>", "</b>" ), new DelimiterPair( "<", ">" ) );
+        assertEquals( 3, candidate.pairs().size() );
+
+        final var input = "[a] <b>bold</b> [c]";
+        final var result = candidate.extract( input );
+        assertEquals( 3, result.size() );
+        assertEquals( List.of( "a", "c" ), List.copyOf( result.get( 0 ) ) );
+        assertEquals( List.of( "bold" ), List.copyOf( result.get( 1 ) ) );
+        assertEquals( List.of( "b", "/b" ), List.copyOf( result.get( 2 ) ) );
+
+        final var matches = candidate.matches( input ).toList();
+        assertEquals( 5, matches.size() );
+        final var first = matches.getFirst();
+        assertEquals( 0, first.pairIndex() );
+        assertEquals( 1, first.start() );
+        assertEquals( 2, first.end() );
+        assertSame( input, first.value().source() );
+        assertTrue( first.value().contentEquals( "a" ) );
+        for( final var match : matches )
+        {
+            assertEquals( input.substring( match.start(), match.end() ), match.value().toString() );
+        }
+
+        assertEquals( result, StringUtils.substringsBetween( input, new DelimiterPair( "[", "]" ), new DelimiterPair( "<b>", "</b>" ), new DelimiterPair( "<", ">" ) ) );
+        assertEquals( List.of( List.of() ), candidate.extract( "" ).subList( 0, 1 ) );
+        assertEquals( List.of( List.of(), List.of() ), StringUtils.substringsBetween( null, new DelimiterPair( "[", "]" ), new DelimiterPair( "<", ">" ) ) );
+    }   //  testSubstringExtractor()
+
+    /**
+     *  Tests whether
+     *  {@link SubstringExtractor#matches(CharSequence)}
+     *  reads the input only as far as required.
+     */
+    @Test
+    final void testSubstringExtractorLazy()
+    {
+        skipThreadTest();
+
+        final var input = "[first] [second] " + "x".repeat( 1_000_000 );
+        final var maxIndex = new AtomicInteger( -1 );
+        final var tracker = new CharSequence()
+        {
+            @Override
+            public final char charAt( final int index )
+            {
+                maxIndex.accumulateAndGet( index, Math::max );
+                return input.charAt( index );
+            }   //  charAt()
+
+            @Override
+            public final int length() { return input.length(); }
+
+            @Override
+            public final CharSequence subSequence( final int start, final int end ) { return input.subSequence( start, end ); }
+
+            @Override
+            public final String toString() { return input; }
+        };
+
+        final var stream = SubstringExtractor.of( new DelimiterPair( "[", "]" ) ).matches( tracker );
+        assertEquals( -1, maxIndex.get() );
+        assertEquals( List.of( "first", "second" ), stream.limit( 2 ).map( match -> match.value().toString() ).toList() );
+        assertEquals( "[first] [second".length(), maxIndex.get() );
+    }   //  testSubstringExtractorLazy()
+
+    /**
+     *  Tests for
+     *  {@link SubstringExtractor#of(DelimiterPair...)}
+     *  and
+     *  {@link DelimiterPair}
+     *  with invalid arguments.
+     */
+    @Test
+    final void testSubstringExtractorWithInvalidArguments()
+    {
+        skipThreadTest();
+
+        assertThrows( NullArgumentException.class, () -> new DelimiterPair( null, "]" ) );
+        assertThrows( NullArgumentException.class, () -> new DelimiterPair( "[", null ) );
+        assertThrows( EmptyArgumentException.class, () -> new DelimiterPair( "", "]" ) );
+        assertThrows( EmptyArgumentException.class, () -> new DelimiterPair( "[", "" ) );
+        assertThrows( EmptyArgumentException.class, () -> SubstringExtractor.of() );
+        assertThrows( NullArgumentException.class, () -> SubstringExtractor.of( new DelimiterPair( "[", "]" ) ).extract( null ) );
+    }   //  testSubstringExtractorWithInvalidArguments()
+
+    /**
+     *  Compares the results of
+     *  {@link SubstringExtractor#extract(CharSequence)}
+     *  with those of
+     *  {@link StringUtils#substringsBetween(String, String, String)}
+     *  for random input and random delimiters, including delimiters that
+     *  overlap with each other.
+     */
+    @Test
+    final void testSubstringExtractorWithRandomInput()
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        final var alphabet = "ab[]<>/";
+        final String [] delimiters = {"[", "]", "[[", "]]", "<", ">", "</", "<a>", "</a>", "a", "ab", "ba", "aba", "/"};
+        for( var i = 0; i < 1_000; ++i )
+        {
+            final var pairs = new ArrayList<DelimiterPair>();
+            final var pairCount = random.nextInt( 6 ) + 1;
+            for( var j = 0; j < pairCount; ++j )
+            {
+                pairs.add( new DelimiterPair( delimiters [random.nextInt( delimiters.length )], delimiters [random.nextInt( delimiters.length )] ) );
+            }
+            final var candidate = SubstringExtractor.of( pairs );
+
+            final var buffer = new StringBuilder();
+            final var len = random.nextInt( 60 );
+            for( var j = 0; j < len; ++j ) buffer.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+            final var input = buffer.toString();
+
+            final var result = candidate.extract( input );
+            assertEquals( result, candidate.extract( buffer ) );
+            for( var j = 0; j < pairCount; ++j )
+            {
+                final var pair = pairs.get( j );
+                final var expected = List.copyOf( substringsBetween( input, pair.open(), pair.close() ) );
+                assertEquals( expected, List.copyOf( result.get( j ) ), () -> format( "Input: %s, Pair: %s", input, pair ) );
+            }
+        }
+    }   //  testSubstringExtractorWithRandomInput()
+}
+//  class TestSubstringExtractor
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,210 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_ABBREVIATE;
+import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_ABBREVIATE_MIDDLE;
+import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_CUT;
+import static org.tquadrat.foundation.util.StringUtils.Clipping.CLIPPING_NONE;
+import static org.tquadrat.foundation.util.StringUtils.Padding.PADDING_CENTER;
+import static org.tquadrat.foundation.util.StringUtils.Padding.PADDING_LEFT;
+import static org.tquadrat.foundation.util.StringUtils.Padding.PADDING_RIGHT;
+import static org.tquadrat.foundation.util.StringUtils.maxContentLength;
+import static org.tquadrat.foundation.util.StringUtils.pad;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.StringUtils.Clipping;
+import org.tquadrat.foundation.util.StringUtils.Padding;
+import org.tquadrat.foundation.util.TableFormatter.Column;
+
+/**
+ *  Some tests for the class
+ *  {@link TableFormatter}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.TestTableFormatter" )
+public class TestTableFormatter extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for
+     *  {@link TableFormatter}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testTableFormatter() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new TableFormatter( "|", "\n", new Column( PADDING_RIGHT ), new Column( PADDING_LEFT ), new Column( 6, '.', PADDING_CENTER, CLIPPING_CUT ) );
+        assertEquals( 3, candidate.columns().size() );
+        assertArrayEquals( new int [] {0, 0, 6}, candidate.widths() );
+
+        final List<List<String>> rows = List.of(
+            List.of( "Name", "Count", "State" ),
+            List.of( "alpha", "1", "ok" ),
+            List.of( "b", "1000", "failed" ),
+            List.of( "gamma", "20", "unknown" ) );
+        final var measured = candidate.measure( rows );
+        assertArrayEquals( new int [] {5, 5, 6}, measured.widths() );
+
+        final var buffer = new StringBuilder();
+        candidate.format( buffer, rows );
+        assertEquals( """
+            Name |Count|.State
+            alpha|    1|..ok..
+            b    | 1000|failed
+            gamma|   20|unknow
+            """, buffer.toString() );
+
+        final var writer = new StringWriter();
+        assertEquals( 4L, measured.write( writer, rows.stream() ) );
+        assertEquals( buffer.toString(), writer.toString() );
+
+        //---* Missing and null cells *----------------------------------------
+        buffer.setLength( 0 );
+        measured.writeRow( buffer, "x" );
+        measured.writeRow( buffer, null, "2" );
+        assertEquals( "x    |     |......\n     |    2|......\n", buffer.toString() );
+
+        //---* Without any rows *----------------------------------------------
+        assertArrayEquals( new int [] {0, 0, 6}, candidate.measure( List.of() ).widths() );
+    }   //  testTableFormatter()
+
+    /**
+     *  Tests for
+     *  {@link TableFormatter}
+     *  with invalid arguments.
+     */
+    @Test
+    final void testTableFormatterWithInvalidArguments()
+    {
+        skipThreadTest();
+
+        final var candidate = new TableFormatter( " ", "\n", new Column( 4, PADDING_LEFT, CLIPPING_NONE ) );
+        assertThrows( NullArgumentException.class, () -> new Column( 10, null, CLIPPING_NONE ) );
+        assertThrows( NullArgumentException.class, () -> new Column( 10, PADDING_LEFT, null ) );
+        assertThrows( NullArgumentException.class, () -> new Column( 0, ' ', PADDING_RIGHT, null ) );
+        assertThrows( ValidationException.class, () -> new Column( 3, PADDING_LEFT, CLIPPING_ABBREVIATE ) );
+        assertThrows( ValidationException.class, () -> new Column( 4, PADDING_LEFT, CLIPPING_ABBREVIATE_MIDDLE ) );
+        assertThrows( NullArgumentException.class, () -> new TableFormatter( null, "\n", new Column( PADDING_LEFT ) ) );
+        assertThrows( NullArgumentException.class, () -> new TableFormatter( " ", null, new Column( PADDING_LEFT ) ) );
+        assertThrows( NullArgumentException.class, () -> new TableFormatter( " ", "\n", (Column []) null ) );
+        assertThrows( EmptyArgumentException.class, () -> new TableFormatter( " ", "\n" ) );
+        assertThrows( NullArgumentException.class, () -> new TableFormatter( " ", "\n", (Column) null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.measure( null ) );
+        assertThrows( ValidationException.class, () -> candidate.measure( List.of( List.of( "a", "b" ) ) ) );
+        assertThrows( ValidationException.class, () -> candidate.writeRow( new StringBuilder(), "a", "b" ) );
+        assertThrows( NullArgumentException.class, () -> candidate.writeRow( null, "a" ) );
+    }   //  testTableFormatterWithInvalidArguments()
+
+    /**
+     *  Compares the results of
+     *  {@link TableFormatter}
+     *  with those of
+     *  {@link StringUtils#pad(CharSequence, int, char, Padding, Clipping)}
+     *  and
+     *  {@link StringUtils#maxContentLength(java.util.Collection)}
+     *  for random tables.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testTableFormatterWithRandomTables() throws Exception
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        final var paddings = Padding.values();
+        final var clippings = Clipping.values();
+        for( var i = 0; i < 200; ++i )
+        {
+            final var columnCount = random.nextInt( 5 ) + 1;
+            final var columns = new Column [columnCount];
+            for( var c = 0; c < columnCount; ++c )
+            {
+                columns [c] = new Column( random.nextBoolean() ? 0 : random.nextInt( 8 ) + 5, random.nextBoolean() ? ' ' : '*', paddings [random.nextInt( paddings.length )], clippings [random.nextInt( clippings.length )] );
+            }
+            final var rows = new ArrayList<List<String>>();
+            final var rowCount = random.nextInt( 20 );
+            for( var r = 0; r < rowCount; ++r )
+            {
+                final var row = new ArrayList<String>();
+                for( var c = 0; c < columnCount; ++c ) row.add( "x".repeat( random.nextInt( 15 ) ) );
+                rows.add( row );
+            }
+
+            //---* The expected result *---------------------------------------
+            final var widths = new int [columnCount];
+            for( var c = 0; c < columnCount; ++c )
+            {
+                final var column = c;
+                widths [c] = columns [c].width() > 0 ? columns [c].width() : Math.max( 0, maxContentLength( rows.stream().map( row -> row.get( column ) ).toList() ) );
+            }
+            final var expected = new StringBuilder();
+            for( final var row : rows )
+            {
+                for( var c = 0; c < columnCount; ++c )
+                {
+                    if( c > 0 ) expected.append( " | " );
+                    //---* A measured column will never be clipped *---------------
+                    final var clipping = columns [c].width() > 0 ? columns [c].clipping() : CLIPPING_NONE;
+                    expected.append( pad( row.get( c ), widths [c], columns [c].padChar(), columns [c].padding(), clipping ) );
+                }
+                expected.append( '\n' );
+            }
+
+            final var candidate = new TableFormatter( " | ", "\n", columns );
+            final var measured = candidate.measure( rows );
+            assertArrayEquals( widths, measured.widths() );
+
+            final var buffer = new StringBuilder();
+            candidate.format( buffer, rows );
+            assertEquals( expected.toString(), buffer.toString() );
+
+            final var writer = new StringWriter();
+            assertEquals( rowCount, measured.write( writer, rows.stream() ) );
+            assertEquals( expected.toString(), writer.toString() );
+        }
+    }   //  testTableFormatterWithRandomTables()
+}
+//  class TestTableFormatter
+
+/*
+ *  End of File
+ */
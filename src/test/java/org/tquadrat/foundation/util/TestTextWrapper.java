@@ -0,0 +1,213 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.util.StringUtils.breakText;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link TextWrapper}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.TestTextWrapper" )
+public class TestTextWrapper extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a
+     *  {@link Reader}
+     *  that returns the given text in chunks of random size.
+     *
+     *  @param  random  The source for the chunk sizes.
+     *  @param  text    The text.
+     *  @return The reader.
+     */
+    private static final Reader createChunkedReader( final Random random, final String text )
+    {
+        final var retValue = new StringReader( text )
+        {
+            @Override
+            public final int read( final char [] buffer, final int offset, final int length ) throws IOException
+            {
+                return super.read( buffer, offset, Math.min( length, random.nextInt( 7 ) + 1 ) );
+            }   //  read()
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createChunkedReader()
+
+    /**
+     *  Creates a random text.
+     *
+     *  @param  random  The source for the characters.
+     *  @return The text.
+     */
+    private static final String createText( final Random random )
+    {
+        final var alphabet = "abcdefgh      \t\n\n\r ä";
+        final var buffer = new StringBuilder();
+        final var len = random.nextInt( 200 );
+        for( var i = 0; i < len; ++i ) buffer.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createText()
+
+    /**
+     *  Some tests for
+     *  {@link TextWrapper}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testTextWrapper() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new TextWrapper( 12 );
+        assertEquals( 12, candidate.lineLength() );
+
+        var buffer = new StringBuilder();
+        candidate.wrap( buffer, "The quick brown fox jumps over the lazy dog." );
+        assertEquals( "The quick\nbrown fox\njumps over\nthe lazy\ndog.\n", buffer.toString() );
+
+        buffer = new StringBuilder();
+        candidate.wrap( buffer, "first\n   \nsecond" );
+        assertEquals( "first\n\nsecond\n", buffer.toString() );
+
+        buffer = new StringBuilder();
+        candidate.wrap( buffer, "" );
+        assertEquals( "\n", buffer.toString() );
+
+        buffer = new StringBuilder();
+        new TextWrapper( 5, "\r\n", true ).wrap( buffer, "ab Donaudampfschiff cd" );
+        assertEquals( "ab\r\nDonau\r\ndampf\r\nschif\r\nf cd\r\n", buffer.toString() );
+
+        buffer = new StringBuilder();
+        new TextWrapper( 5, "\r\n", false ).wrap( buffer, "ab Donaudampfschiff cd" );
+        assertEquals( "ab\r\nDonaudampfschiff\r\ncd\r\n", buffer.toString() );
+
+        //---* A surrogate pair will not be broken *---------------------------
+        buffer = new StringBuilder();
+        new TextWrapper( 3, "|", true ).wrap( buffer, "ab\uD83D\uDE00cd" );
+        assertEquals( "ab|\uD83D\uDE00c|d|", buffer.toString() );
+    }   //  testTextWrapper()
+
+    /**
+     *  Tests for
+     *  {@link TextWrapper#TextWrapper(int)}
+     *  with an invalid line length.
+     */
+    @Test
+    final void testTextWrapperWithInvalidLineLength()
+    {
+        skipThreadTest();
+
+        for( final var lineLength : new int [] {0, -1, Integer.MIN_VALUE} )
+        {
+            assertThrows( ValidationException.class, () -> new TextWrapper( lineLength ) );
+        }
+    }   //  testTextWrapperWithInvalidLineLength()
+
+    /**
+     *  Tests for
+     *  {@link TextWrapper#wrap(Appendable, CharSequence)}
+     *  and
+     *  {@link TextWrapper#wrap(Appendable, Reader)}
+     *  with {@code null} arguments.
+     */
+    @Test
+    final void testTextWrapperWithNullArgument()
+    {
+        skipThreadTest();
+
+        final var candidate = new TextWrapper( 10 );
+        assertThrows( NullArgumentException.class, () -> new TextWrapper( 10, null, false ) );
+        assertThrows( NullArgumentException.class, () -> candidate.wrap( null, "text" ) );
+        assertThrows( NullArgumentException.class, () -> candidate.wrap( new StringBuilder(), (CharSequence) null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.wrap( new StringBuilder(), (Reader) null ) );
+    }   //  testTextWrapperWithNullArgument()
+
+    /**
+     *  Compares the results of
+     *  {@link TextWrapper}
+     *  with those of
+     *  {@link StringUtils#breakText(CharSequence, int)}
+     *  for random texts.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testTextWrapperWithRandomText() throws Exception
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        for( var lineLength = 1; lineLength < 20; ++lineLength )
+        {
+            final var candidate = new TextWrapper( lineLength );
+            for( var i = 0; i < 100; ++i )
+            {
+                final var text = createText( random );
+                final var expected = new StringBuilder();
+                breakText( text, lineLength ).forEach( line -> expected.append( line ).append( '\n' ) );
+
+                final var buffer = new StringBuilder();
+                candidate.wrap( buffer, text );
+                assertEquals( expected.toString(), buffer.toString(), () -> format( "Text: '%s'", text ) );
+
+                final var writer = new StringWriter();
+                candidate.wrap( writer, new StringBuilder( text ) );
+                assertEquals( expected.toString(), writer.toString(), () -> format( "Text: '%s'", text ) );
+
+                final var readerTarget = new StringWriter();
+                candidate.wrap( readerTarget, createChunkedReader( random, text ) );
+                assertEquals( expected.toString(), readerTarget.toString(), () -> format( "Text: '%s'", text ) );
+            }
+        }
+    }   //  testTextWrapperWithRandomText()
+}
+//  class TestTextWrapper
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,173 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.tquadrat.foundation.util.hexutils;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.copyOfRange;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.util.HexUtils.convertFromHex;
+import static org.tquadrat.foundation.util.HexUtils.convertFromHexCharArray;
+import static org.tquadrat.foundation.util.HexUtils.convertFromHexString;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.HexUtils;
+
+/**
+ *  Tests for the methods
+ *  {@link HexUtils#convertFromHex(CharSequence, int, int, byte[], int)},
+ *  {@link HexUtils#convertFromHex(char[], int, int, byte[], int)}
+ *  and
+ *  {@link HexUtils#convertFromHex(ByteBuffer, ByteBuffer)}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.hexutils.TestConvertFromHex" )
+public class TestConvertFromHex extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for the conversion of hexadecimal digits to bytes.
+     */
+    @Test
+    final void testConvertFromHex()
+    {
+        skipThreadTest();
+
+        final var expected = new byte [] {(byte) 0x01, (byte) 0x23, (byte) 0x45, (byte) 0x67, (byte) 0x89, (byte) 0xAB, (byte) 0xCD, (byte) 0xEF};
+        final var target = new byte [10];
+        assertEquals( 8, convertFromHex( "x0123456789abCDefx", 1, 16, target, 1 ) );
+        assertArrayEquals( expected, copyOfRange( target, 1, 9 ) );
+
+        //---* An odd number of digits *---------------------------------------
+        assertEquals( 2, convertFromHex( "abc".toCharArray(), 0, 3, target, 0 ) );
+        assertEquals( (byte) 0x0A, target [0] );
+        assertEquals( (byte) 0xBC, target [1] );
+        assertEquals( 0, convertFromHex( "", 0, 0, target, 10 ) );
+
+        final var digits = ByteBuffer.wrap( "<0123456789ABCDEF>".getBytes( ISO_8859_1 ), 1, 16 );
+        final var buffer = ByteBuffer.allocateDirect( 8 );
+        assertEquals( 8, convertFromHex( digits, buffer ) );
+        assertEquals( 17, digits.position() );
+        final var actual = new byte [8];
+        buffer.flip().get( actual );
+        assertArrayEquals( expected, actual );
+    }   //  testConvertFromHex()
+
+    /**
+     *  Tests for the conversion of hexadecimal digits to bytes with invalid
+     *  arguments.
+     */
+    @SuppressWarnings( "DataFlowIssue" )
+    @Test
+    final void testConvertFromHexWithInvalidArguments()
+    {
+        skipThreadTest();
+
+        final var target = new byte [4];
+        assertThrows( NullArgumentException.class, () -> convertFromHex( (CharSequence) null, 0, 0, target, 0 ) );
+        assertThrows( NullArgumentException.class, () -> convertFromHex( (char []) null, 0, 0, target, 0 ) );
+        assertThrows( NullArgumentException.class, () -> convertFromHex( "00", 0, 2, null, 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> convertFromHex( "00", 1, 2, target, 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> convertFromHex( "000000000", 0, 9, target, 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> convertFromHex( "00".toCharArray(), 0, 2, target, 4 ) );
+        assertThrows( ValidationException.class, () -> convertFromHex( "0g", 0, 2, target, 0 ) );
+        assertThrows( ValidationException.class, () -> convertFromHex( "0 ", 0, 2, target, 0 ) );
+        assertThrows( ValidationException.class, () -> convertFromHex( "\u0130", 0, 1, target, 0 ) );
+        assertThrows( ValidationException.class, () -> convertFromHex( "00\uFF10".toCharArray(), 0, 3, target, 0 ) );
+        assertThrows( ValidationException.class, () -> convertFromHex( "x0".toCharArray(), 0, 2, target, 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> convertFromHexString( "12G4" ) );
+        assertThrows( IllegalArgumentException.class, () -> convertFromHexCharArray( "1-34".toCharArray() ) );
+        assertThrows( NullArgumentException.class, () -> convertFromHex( null, ByteBuffer.allocate( 4 ) ) );
+        assertThrows( NullArgumentException.class, () -> convertFromHex( ByteBuffer.allocate( 4 ), null ) );
+        assertThrows( ValidationException.class, () -> convertFromHex( ByteBuffer.wrap( new byte [] {'0', (byte) 0xB0} ), ByteBuffer.allocate( 1 ) ) );
+        assertThrows( ValidationException.class, () -> convertFromHex( ByteBuffer.wrap( new byte [] {'0', '1', 'Z'} ), ByteBuffer.allocateDirect( 2 ) ) );
+        assertThrows( BufferOverflowException.class, () -> convertFromHex( ByteBuffer.wrap( new byte [] {'0', '1', '2'} ), ByteBuffer.allocate( 1 ) ) );
+    }   //  testConvertFromHexWithInvalidArguments()
+
+    /**
+     *  Compares the results of the conversion of random hexadecimal digits
+     *  to bytes with those of
+     *  {@link HexFormat},
+     *  and checks that a single invalid character anywhere in the input is
+     *  detected.
+     */
+    @Test
+    final void testConvertFromHexWithRandomInput()
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        final var digitChars = "0123456789abcdefABCDEF";
+        final var invalidChars = "gG/:@`\u0000\u0080\u00FF\u0100\u0660\uFF10\uFFFF";
+        for( var i = 0; i < 2_000; ++i )
+        {
+            final var length = random.nextInt( i % 100 == 0 ? 5_000 : 70 );
+            final var builder = new StringBuilder( length );
+            for( var j = 0; j < length; ++j ) builder.append( digitChars.charAt( random.nextInt( digitChars.length() ) ) );
+            final var digits = builder.toString();
+            final var expected = HexFormat.of().parseHex( length % 2 == 0 ? digits : "0" + digits );
+
+            final var target = new byte [expected.length + 1];
+            assertEquals( expected.length, convertFromHex( digits, 0, length, target, 1 ) );
+            assertArrayEquals( expected, copyOfRange( target, 1, target.length ) );
+            assertEquals( expected.length, convertFromHex( digits.toCharArray(), 0, length, target, 0 ) );
+            assertArrayEquals( expected, copyOf( target, expected.length ) );
+
+            final var bytes = digits.getBytes( ISO_8859_1 );
+            final var source = random.nextBoolean() ? ByteBuffer.wrap( bytes ) : ByteBuffer.allocateDirect( length ).put( bytes ).flip();
+            final var buffer = random.nextBoolean() ? ByteBuffer.allocate( expected.length ) : ByteBuffer.allocateDirect( expected.length );
+            assertEquals( expected.length, convertFromHex( source, buffer ) );
+            final var actual = new byte [expected.length];
+            buffer.flip().get( actual );
+            assertArrayEquals( expected, actual );
+
+            if( length > 0 )
+            {
+                builder.setCharAt( random.nextInt( length ), invalidChars.charAt( random.nextInt( invalidChars.length() ) ) );
+                final var invalid = builder.toString();
+                assertThrows( ValidationException.class, () -> convertFromHex( invalid, 0, length, target, 0 ) );
+                assertThrows( ValidationException.class, () -> convertFromHex( invalid.toCharArray(), 0, length, target, 0 ) );
+                if( invalid.chars().allMatch( c -> c < 0x100 ) )
+                {
+                    assertThrows( ValidationException.class, () -> convertFromHex( ByteBuffer.allocateDirect( length ).put( invalid.getBytes( ISO_8859_1 ) ).flip(), ByteBuffer.allocate( expected.length ) ) );
+                }
+            }
+        }
+    }   //  testConvertFromHexWithRandomInput()
+}
+//  class TestConvertFromHex
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,164 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.tquadrat.foundation.util.hexutils;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.util.HexUtils.convertToHex;
+import static org.tquadrat.foundation.util.HexUtils.convertToHexString;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.HexUtils;
+
+/**
+ *  Tests for the methods
+ *  {@link HexUtils#convertToHex(byte[], int, int, char[], int, boolean)},
+ *  {@link HexUtils#convertToHex(Appendable, byte[], int, int, boolean)},
+ *  {@link HexUtils#convertToHex(ByteBuffer, ByteBuffer, boolean)}
+ *  and
+ *  {@link HexUtils#convertToHexString(byte[], boolean)}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.hexutils.TestConvertToHex" )
+public class TestConvertToHex extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for the conversion of bytes to hexadecimal digits.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testConvertToHex() throws Exception
+    {
+        skipThreadTest();
+
+        final var bytes = new byte [] {(byte) 0x01, (byte) 0x23, (byte) 0x45, (byte) 0x67, (byte) 0x89, (byte) 0xAB, (byte) 0xCD, (byte) 0xEF, (byte) 0xF0};
+        assertEquals( "0123456789abcdeff0", convertToHexString( bytes, false ) );
+        assertEquals( "0123456789ABCDEFF0", convertToHexString( bytes, true ) );
+        assertEquals( "", convertToHexString( new byte [0], true ) );
+
+        final var chars = new char [] {'x', 'x', 'x', 'x', 'x', 'x', 'x', 'x'};
+        assertEquals( 6, convertToHex( bytes, 6, 3, chars, 1, true ) );
+        assertEquals( "xCDEFF0x", new String( chars ) );
+
+        final var buffer = new StringBuilder( "<" );
+        convertToHex( buffer, bytes, 1, 2, false );
+        assertEquals( "<2345", buffer.toString() );
+
+        final var target = ByteBuffer.allocate( 20 );
+        target.put( (byte) '<' );
+        final var source = ByteBuffer.wrap( bytes, 1, 5 );
+        assertEquals( 10, convertToHex( source, target, false ) );
+        assertEquals( 6, source.position() );
+        assertEquals( 11, target.position() );
+        assertEquals( "<23456789ab", new String( target.array(), 0, target.position(), ISO_8859_1 ) );
+    }   //  testConvertToHex()
+
+    /**
+     *  Tests for the conversion of bytes to hexadecimal digits with invalid
+     *  arguments.
+     */
+    @SuppressWarnings( "DataFlowIssue" )
+    @Test
+    final void testConvertToHexWithInvalidArguments()
+    {
+        skipThreadTest();
+
+        final var bytes = new byte [4];
+        assertThrows( NullArgumentException.class, () -> convertToHexString( null, false ) );
+        assertThrows( NullArgumentException.class, () -> convertToHex( null, 0, 0, new char [2], 0, false ) );
+        assertThrows( NullArgumentException.class, () -> convertToHex( bytes, 0, 0, null, 0, false ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> convertToHex( bytes, 2, 3, new char [8], 0, false ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> convertToHex( bytes, 0, 4, new char [7], 0, false ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> convertToHex( bytes, 0, 1, new char [8], 7, false ) );
+        assertThrows( NullArgumentException.class, () -> convertToHex( null, bytes, 0, 4, false ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> convertToHex( new StringBuilder(), bytes, -1, 4, false ) );
+        assertThrows( NullArgumentException.class, () -> convertToHex( null, ByteBuffer.allocate( 8 ), false ) );
+        assertThrows( NullArgumentException.class, () -> convertToHex( ByteBuffer.wrap( bytes ), null, false ) );
+        assertThrows( BufferOverflowException.class, () -> convertToHex( ByteBuffer.wrap( bytes ), ByteBuffer.allocate( 7 ), false ) );
+
+        //---* Nothing was consumed after an overflow *------------------------
+        final var source = ByteBuffer.wrap( bytes );
+        assertThrows( BufferOverflowException.class, () -> convertToHex( source, ByteBuffer.allocateDirect( 7 ), false ) );
+        assertEquals( 0, source.position() );
+    }   //  testConvertToHexWithInvalidArguments()
+
+    /**
+     *  Compares the results of the conversion of random bytes to
+     *  hexadecimal digits with those of
+     *  {@link HexFormat}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testConvertToHexWithRandomInput() throws Exception
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        for( var i = 0; i < 2_000; ++i )
+        {
+            final var bytes = new byte [random.nextInt( i % 100 == 0 ? 5_000 : 70 )];
+            random.nextBytes( bytes );
+            final var upperCase = random.nextBoolean();
+            final var format = upperCase ? HexFormat.of().withUpperCase() : HexFormat.of();
+            final var expected = format.formatHex( bytes );
+
+            assertEquals( expected, convertToHexString( bytes, upperCase ) );
+
+            final var offset = bytes.length == 0 ? 0 : random.nextInt( bytes.length );
+            final var length = bytes.length - offset;
+            final var chars = new char [length * 2 + 3];
+            assertEquals( length * 2, convertToHex( bytes, offset, length, chars, 3, upperCase ) );
+            assertEquals( expected.substring( offset * 2 ), new String( chars, 3, length * 2 ) );
+
+            final var writer = new StringWriter();
+            convertToHex( writer, bytes, offset, length, upperCase );
+            assertEquals( expected.substring( offset * 2 ), writer.toString() );
+
+            final var source = random.nextBoolean() ? ByteBuffer.wrap( bytes ) : ByteBuffer.allocateDirect( bytes.length ).put( bytes ).flip();
+            final var target = random.nextBoolean() ? ByteBuffer.allocate( bytes.length * 2 ) : ByteBuffer.allocateDirect( bytes.length * 2 );
+            assertEquals( bytes.length * 2, convertToHex( source, target, upperCase ) );
+            assertEquals( 0, target.remaining() );
+            final var digits = new byte [bytes.length * 2];
+            target.flip().get( digits );
+            assertEquals( expected, new String( digits, ISO_8859_1 ) );
+        }
+    }   //  testConvertToHexWithRandomInput()
+}
+//  class TestConvertToHex
+
+/*
+ *  End of File
+ */
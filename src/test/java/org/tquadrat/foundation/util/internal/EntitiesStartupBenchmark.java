@@ -0,0 +1,211 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static java.lang.System.err;
+import static java.lang.System.out;
+import static org.tquadrat.foundation.lang.CommonConstants.UTF8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.PlaygroundClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+
+/**
+ *  <p>{@summary Measures the time that is needed to load all entity sets of
+ *  {@link Entities}
+ *  in a fresh JVM.}</p>
+ *  <p>The program compares the current loader with the former one that
+ *  parsed each resource file line by line into a {@code TreeMap}, once for
+ *  each entity set. Each measurement runs in a JVM of its own, so that
+ *  class loading and the cold JIT are part of the result.</p>
+ *  <p>Called without arguments, the program starts the child JVMs and
+ *  prints the median of the runs for each loader; called with
+ *  {@code legacy} or {@code current}, it performs a single measurement and
+ *  prints the elapsed time in nanoseconds.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@PlaygroundClass
+@ClassVersion( sourceVersion = "$Id$" )
+public final class EntitiesStartupBenchmark
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The resource files for the entity sets, in the sequence as they are
+     *  loaded by
+     *  {@link Entities}.
+     */
+    private static final String [] [] ENTITY_SETS =
+    {
+        { Entities.BASIC_ENTITIES },
+        { Entities.BASIC_ENTITIES, Entities.HTML32_ENTITIES },
+        { Entities.BASIC_ENTITIES, Entities.HTML32_ENTITIES, Entities.HTML40_ENTITIES },
+        { Entities.BASIC_ENTITIES, Entities.HTML32_ENTITIES, Entities.HTML40_ENTITIES, Entities.HTML50_ENTITIES },
+        { Entities.BASIC_ENTITIES, Entities.ADDITIONAL_XML_ENTITIES }
+    };
+
+    /**
+     *  The number of child JVMs per loader: {@value}.
+     */
+    private static final int RUNS = 15;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private EntitiesStartupBenchmark() { throw new PrivateConstructorForStaticClassCalledError( EntitiesStartupBenchmark.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Loads all entity sets the way it was done before the entity
+     *  definitions were cached and held in arrays.
+     *
+     *  @return A value that depends on the loaded data, to keep the JIT from
+     *      removing the work.
+     *  @throws IOException Reading a resource failed.
+     */
+    private static final long loadLegacy() throws IOException
+    {
+        var retValue = 0L;
+        for( final var resourceNames : ENTITY_SETS )
+        {
+            final Map<String,Integer> nameToValue = new TreeMap<>();
+            final Map<Integer,String> valueToName = new TreeMap<>();
+            for( final var resourceName : resourceNames )
+            {
+                final var resourceURL = Entities.class.getResource( resourceName );
+                try( final var reader = new BufferedReader( new InputStreamReader( resourceURL.openStream(), UTF8 ) ) )
+                {
+                    reader.lines()
+                        .filter( line -> !line.isBlank() )
+                        .filter( line -> !line.startsWith( "#" ) )
+                        .forEach( line ->
+                        {
+                            final var pos = line.indexOf( "#" );
+                            final var data = (pos < 0 ? line : line.substring( 0, pos )).trim();
+                            final var separator = data.indexOf( "=" );
+                            final var name = data.substring( 0, separator ).trim();
+                            final var value = Integer.valueOf( data.substring( separator + 1 ).trim() );
+                            if( value.intValue() > 0 )
+                            {
+                                nameToValue.put( name, value );
+                                valueToName.put( value, name );
+                            }
+                            else
+                            {
+                                nameToValue.put( name, Integer.valueOf( -value.intValue() ) );
+                            }
+                        } );
+                }
+            }
+            retValue += nameToValue.size() + valueToName.size();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  loadLegacy()
+
+    /**
+     *  Loads all entity sets with the current implementation.
+     *
+     *  @return A value that depends on the loaded data, to keep the JIT from
+     *      removing the work.
+     */
+    private static final long loadCurrent()
+    {
+        var retValue = 0L;
+        for( final var entities : new Entities [] { Entities.BASIC, Entities.HTML32, Entities.HTML40, Entities.HTML50, Entities.XML } )
+        {
+            //---* The first lookup forces the loading *-----------------------
+            retValue += entities.entityValue( "amp" ).orElseThrow().intValue();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  loadCurrent()
+
+    /**
+     *  The program entry point.
+     *
+     *  @param  args    The command line arguments; either none, or the name
+     *      of the loader to measure.
+     *  @throws Exception   Something went wrong.
+     */
+    public static final void main( final String... args ) throws Exception
+    {
+        if( args.length > 0 )
+        {
+            final var start = System.nanoTime();
+            final var check = switch( args [0] )
+            {
+                case "legacy" -> loadLegacy();
+                case "current" -> loadCurrent();
+                default -> throw new IllegalArgumentException( "Unknown loader: " + args [0] );
+            };
+            final var elapsed = System.nanoTime() - start;
+            out.printf( "%d %d%n", elapsed, check );
+        }
+        else
+        {
+            final var java = Path.of( System.getProperty( "java.home" ), "bin", "java" ).toString();
+            final var classPath = System.getProperty( "java.class.path" );
+            for( final var loader : new String [] { "legacy", "current" } )
+            {
+                final var results = new long [RUNS];
+                for( var i = 0; i < RUNS; ++i )
+                {
+                    final var process = new ProcessBuilder( java, "-cp", classPath, EntitiesStartupBenchmark.class.getName(), loader )
+                        .redirectError( ProcessBuilder.Redirect.INHERIT )
+                        .start();
+                    final var output = new String( process.getInputStream().readAllBytes(), UTF8 ).trim();
+                    if( process.waitFor() != 0 )
+                    {
+                        err.printf( "Run for '%s' failed%n", loader );
+                        return;
+                    }
+                    results [i] = Long.parseLong( output.substring( 0, output.indexOf( ' ' ) ) );
+                }
+                Arrays.sort( results );
+                out.printf( "%-8s median: %8.3f ms, min: %8.3f ms%n", loader, results [RUNS / 2] / 1_000_000.0, results [0] / 1_000_000.0 );
+            }
+        }
+    }   //  main()
+}
+//  class EntitiesStartupBenchmark
+
+/*
+ *  End of File
+ */
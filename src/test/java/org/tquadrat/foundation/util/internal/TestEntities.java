@@ -0,0 +1,390 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.internal;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link Entities}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.internal.TestEntities" )
+public class TestEntities extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Provides the entity sets for the tests.
+     *
+     *  @return The entity sets.
+     */
+    static final Stream<Entities> provideEntities()
+    {
+        return Stream.of( Entities.BASIC, Entities.HTML32, Entities.HTML40, Entities.HTML50, Entities.XML );
+    }   //  provideEntities()
+
+    /**
+     *  Escapes the given text the way it was done before the lookup tables
+     *  were introduced.
+     *
+     *  @param  entities    The entity set.
+     *  @param  source  The text.
+     *  @return The escaped text.
+     */
+    private static final String referenceEscape( final Entities entities, final CharSequence source )
+    {
+        final var retValue = source.codePoints()
+            .mapToObj( codePoint -> entities.entityName( codePoint ).map( name -> format( "&%s;", name ) )
+                .orElseGet( () -> codePoint > 0x7F
+                    ? IntStream.range( 0, Character.charCount( codePoint ) )
+                        .mapToObj( i -> format( "&#x%X;", (int) Character.toChars( codePoint ) [i] ) )
+                        .collect( joining() )
+                    : Character.toString( (char) codePoint ) ) )
+            .collect( joining() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceEscape()
+
+    /**
+     *  Unescapes the given text the way it was done before the trie was
+     *  introduced.
+     *
+     *  @param  entities    The entity set.
+     *  @param  source  The text.
+     *  @return The unescaped text.
+     */
+    private static final String referenceUnescape( final Entities entities, final String source )
+    {
+        final var buffer = new StringBuilder();
+        final var len = source.length();
+        ScanLoop: for( var i = 0; i < len; ++i )
+        {
+            final var c = source.charAt( i );
+            if( c != '&' )
+            {
+                buffer.append( c );
+                continue ScanLoop;
+            }
+            final var semiColonIndex = source.indexOf( ';', i + 1 );
+            final var ampersandIndex = source.indexOf( '&', i + 1 );
+            if( (semiColonIndex < 0) || ((ampersandIndex >= 0) && (ampersandIndex < semiColonIndex)) )
+            {
+                buffer.append( '&' );
+                continue ScanLoop;
+            }
+            final var content = source.substring( i + 1, semiColonIndex );
+            Optional<Integer> value = Optional.empty();
+            if( content.startsWith( "#" ) && (content.length() > 1) )
+            {
+                try
+                {
+                    final var v = (content.charAt( 1 ) == 'x') || (content.charAt( 1 ) == 'X')
+                        ? Integer.parseInt( content.substring( 2 ), 0x10 )
+                        : Integer.parseInt( content.substring( 1 ), 10 );
+                    value = Character.isValidCodePoint( v ) ? Optional.of( Integer.valueOf( v ) ) : Optional.empty();
+                }
+                catch( final NumberFormatException ignored ) { /* Deliberately ignored */ }
+            }
+            else if( !content.isEmpty() )
+            {
+                value = entities.entityValue( content );
+            }
+            buffer.append( value.map( v -> Character.toString( v.intValue() ) ).orElse( "&" + content + ";" ) );
+            i = semiColonIndex;
+        }   //  ScanLoop:
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceUnescape()
+
+    /**
+     *  Creates the texts with entity references for the tests.
+     *
+     *  @param  entities    The entity set.
+     *  @return The texts.
+     */
+    private static final List<String> createEscapedTexts( final Entities entities )
+    {
+        final List<String> retValue = new ArrayList<>( List.of(
+            "",
+            "No references",
+            "&",
+            "&;",
+            "&#;",
+            "&#x;",
+            "&#+;",
+            "&#-65;",
+            "&#65",
+            "&#65;&#x41;&#X41;&#+65;&#x+41;",
+            "&#x1D504;&#128512;&#x10FFFF;&#x110000;&#99999999999;",
+            "&#٦٥;",
+            "&amp;&lt;&gt;&quot;&apos;&nbsp;&euro;&Afr;&unknown;",
+            "&amp&amp;",
+            "&am&amp;",
+            "a & b; c",
+            "&&amp;;",
+            "&amp;amp;"
+        ) );
+
+        //---* Some random texts *---------------------------------------------
+        final var names = entities.listEntities();
+        final var random = getRandom();
+        final var alphabet = "&#;xX0123456789abcAEFq ";
+        for( var i = 0; i < 200; ++i )
+        {
+            final var buffer = new StringBuilder();
+            final var parts = random.nextInt( 12 );
+            for( var j = 0; j < parts; ++j )
+            {
+                switch( random.nextInt( 3 ) )
+                {
+                    case 0 ->
+                    {
+                        //---* A complete reference *--------------------------
+                        final var name = names [random.nextInt( names.length )];
+                        buffer.append( name, 0, name.indexOf( ' ' ) );
+                    }
+                    case 1 -> buffer.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+                    default ->
+                    {
+                        //---* A partial reference *---------------------------
+                        final var name = names [random.nextInt( names.length )];
+                        buffer.append( name, 0, random.nextInt( name.indexOf( ' ' ) ) + 1 );
+                    }
+                }
+            }
+            retValue.add( buffer.toString() );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createEscapedTexts()
+
+    /**
+     *  Creates the texts for the tests.
+     *
+     *  @return The texts.
+     */
+    private static final List<String> createTexts()
+    {
+        final List<String> retValue = new ArrayList<>( List.of(
+            "",
+            "Plain ASCII text without special characters",
+            "<tag attr=\"value\">Tom & Jerry's</tag>",
+            "Äöü ß € © ™ – — …",
+            "𝒜 😀 \uD800 \uDC00 x\uD800",
+            "\u0000\u007F\u0080ÿ￿"
+        ) );
+
+        //---* Some random texts *---------------------------------------------
+        final var random = getRandom();
+        for( var i = 0; i < 100; ++i )
+        {
+            final var len = random.nextInt( 80 );
+            final var buffer = new StringBuilder( len );
+            for( var j = 0; j < len; ++j )
+            {
+                switch( random.nextInt( 4 ) )
+                {
+                    case 0 -> buffer.append( (char) random.nextInt( 0x80 ) );
+                    case 1 -> buffer.append( (char) random.nextInt( 0x2500 ) );
+                    case 2 -> buffer.append( (char) random.nextInt( 0x10000 ) );
+                    default -> buffer.appendCodePoint( 0x1D400 + random.nextInt( 0x100 ) );
+                }
+            }
+            retValue.add( buffer.toString() );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createTexts()
+
+    /**
+     *  Tests for
+     *  {@link Entities#escape(CharSequence)}
+     *  and
+     *  {@link Entities#escape(Appendable, CharSequence)}.
+     *
+     *  @param  entities    The entity set.
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @ParameterizedTest
+    @MethodSource( "provideEntities" )
+    final void testEscape( final Entities entities ) throws Exception
+    {
+        skipThreadTest();
+
+        for( final var text : createTexts() )
+        {
+            assertEquals( referenceEscape( entities, text ), entities.escape( text ), () -> format( "Text: %s", text ) );
+        }
+
+        //---* Streaming into an Appendable *----------------------------------
+        for( final var text : createTexts() )
+        {
+            final var expected = referenceEscape( entities, text );
+            final var writer = new StringWriter();
+            entities.escape( writer, text );
+            assertEquals( expected, writer.toString(), () -> format( "Text: %s", text ) );
+
+            final var builder = new StringBuilder( "prefix" );
+            entities.escape( builder, new StringBuilder( text ) );
+            assertEquals( "prefix" + expected, builder.toString(), () -> format( "Text: %s", text ) );
+        }
+
+        //---* Unchanged input is returned as it is *--------------------------
+        final var text = "Nothing to escape here";
+        assertSame( text, entities.escape( text ) );
+    }   //  testEscape()
+
+    /**
+     *  Tests for
+     *  {@link Entities#entityName(int)},
+     *  {@link Entities#entityValue(String)}
+     *  and
+     *  {@link Entities#listEntities()}.
+     *
+     *  @param  entities    The entity set.
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @ParameterizedTest
+    @MethodSource( "provideEntities" )
+    final void testLookup( final Entities entities ) throws Exception
+    {
+        skipThreadTest();
+
+        final var list = entities.listEntities();
+        assertTrue( list.length > 0 );
+        var previous = "";
+        for( final var entry : list )
+        {
+            final var name = entry.substring( 1, entry.indexOf( ';' ) );
+            assertTrue( previous.compareTo( name ) < 0, () -> format( "Not sorted: %s", name ) );
+            previous = name;
+
+            final var value = entities.entityValue( name );
+            assertTrue( value.isPresent(), () -> format( "Name: %s", name ) );
+            final var codePoint = value.get().intValue();
+            final var reverse = entities.entityName( codePoint );
+            if( reverse.isPresent() )
+            {
+                assertEquals( value, entities.entityValue( reverse.get() ), () -> format( "Name: %s", name ) );
+            }
+        }
+
+        assertEquals( Optional.of( Integer.valueOf( '&' ) ), entities.entityValue( "amp" ) );
+        assertEquals( Optional.of( "amp" ), entities.entityName( '&' ) );
+        assertTrue( entities.entityValue( "unknown" ).isEmpty() );
+        assertTrue( entities.entityName( 'a' ).isEmpty() );
+        assertTrue( entities.entityName( -1 ).isEmpty() );
+        assertTrue( entities.entityName( 0x10FFFF ).isEmpty() );
+    }   //  testLookup()
+
+    /**
+     *  Tests the entity sets against each other.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testLookupForSets() throws Exception
+    {
+        skipThreadTest();
+
+        assertEquals( 4, Entities.BASIC.listEntities().length );
+        assertEquals( Optional.of( Integer.valueOf( '\'' ) ), Entities.XML.entityValue( "apos" ) );
+        assertTrue( Entities.BASIC.entityValue( "apos" ).isEmpty() );
+        assertTrue( Entities.HTML40.entityValue( "apos" ).isEmpty() );
+        assertEquals( Optional.of( Integer.valueOf( 0x20AC ) ), Entities.HTML40.entityValue( "euro" ) );
+
+        //---* Entities that are used only for unescaping *--------------------
+        assertEquals( Optional.of( Integer.valueOf( '!' ) ), Entities.HTML50.entityValue( "excl" ) );
+        assertTrue( Entities.HTML50.entityName( '!' ).isEmpty() );
+        assertEquals( Optional.of( "quot" ), Entities.HTML50.entityName( '"' ) );
+        assertEquals( Optional.of( Integer.valueOf( '"' ) ), Entities.HTML50.entityValue( "QUOT" ) );
+
+        //---* The sets build on each other *----------------------------------
+        for( final var entry : Entities.HTML40.listEntities() )
+        {
+            final var name = entry.substring( 1, entry.indexOf( ';' ) );
+            assertEquals( Entities.HTML40.entityValue( name ), Entities.HTML50.entityValue( name ), () -> format( "Name: %s", name ) );
+        }
+    }   //  testLookupForSets()
+
+    /**
+     *  Tests for
+     *  {@link Entities#unescape(CharSequence)}
+     *  and
+     *  {@link Entities#unescape(Appendable, CharSequence)}.
+     *
+     *  @param  entities    The entity set.
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @ParameterizedTest
+    @MethodSource( "provideEntities" )
+    final void testUnescape( final Entities entities ) throws Exception
+    {
+        skipThreadTest();
+
+        for( final var text : createEscapedTexts( entities ) )
+        {
+            final var expected = referenceUnescape( entities, text );
+            assertEquals( expected, entities.unescape( text ), () -> format( "Text: %s", text ) );
+
+            final var writer = new StringWriter();
+            entities.unescape( writer, text );
+            assertEquals( expected, writer.toString(), () -> format( "Text: %s", text ) );
+        }
+
+        //---* Round trip *----------------------------------------------------
+        for( final var text : createTexts() )
+        {
+            assertEquals( text, entities.unescape( entities.escape( text ) ), () -> format( "Text: %s", text ) );
+        }
+    }   //  testUnescape()
+}
+//  class TestEntities
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,185 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.stringutils;
+
+import static java.lang.System.out;
+import static org.tquadrat.foundation.util.CharSetUtils.escapeCharacter;
+
+import java.util.function.Function;
+
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.PlaygroundClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.util.StringUtils;
+
+/**
+ *  <p>{@summary Compares the escape methods of
+ *  {@link StringUtils}
+ *  with their former character-by-character implementations.}</p>
+ *  <p>Each method is run on ASCII text without any character that has to be
+ *  escaped, on mixed text with some special characters, and on CJK text.
+ *  The program prints the average time per call after a warm-up phase.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@PlaygroundClass
+@ClassVersion( sourceVersion = "$Id$" )
+public final class EscapeBenchmark
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of calls per measurement: {@value}.
+     */
+    private static final int ITERATIONS = 20_000;
+
+    /**
+     *  The number of measurements per method and input; the first half is
+     *  used as warm-up: {@value}.
+     */
+    private static final int ROUNDS = 10;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private EscapeBenchmark() { throw new PrivateConstructorForStaticClassCalledError( EscapeBenchmark.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  The former implementation of
+     *  {@link StringUtils#escapeJSON(CharSequence)}.
+     *
+     *  @param  input   The text to escape.
+     *  @return The escaped text.
+     */
+    @SuppressWarnings( "UnnecessaryUnicodeEscape" )
+    private static final String legacyEscapeJSON( final CharSequence input )
+    {
+        final var len = input.length();
+        final var buffer = new StringBuilder( len * 2 ).append( '"' );
+        for( var i = 0; i < len; ++i )
+        {
+            final var c = input.charAt( i );
+            switch( c )
+            {
+                case '\\', '"', '<', '>', '&' -> buffer.append( escapeCharacter( c ) );
+                case '\b' -> buffer.append( "\\b" );
+                case '\t' -> buffer.append( "\\t" );
+                case '\n'-> buffer.append( "\\n" );
+                case '\f' -> buffer.append( "\\f" );
+                case '\r' -> buffer.append( "\\r" );
+                default ->
+                {
+                    if( (c < ' ') || ((c >= '\u0080') && (c < '\u00a0')) || ((c >= '\u2000') && (c < '\u2100')) )
+                    {
+                        buffer.append( escapeCharacter( c ) );
+                    }
+                    else
+                    {
+                        buffer.append( c );
+                    }
+                }
+            }
+        }
+        final var retValue = buffer.append( '"' ).toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  legacyEscapeJSON()
+
+    /**
+     *  The former implementation of
+     *  {@link StringUtils#escapeRegex(CharSequence)}.
+     *
+     *  @param  input   The text to escape.
+     *  @return The escaped text.
+     */
+    private static final String legacyEscapeRegex( final CharSequence input )
+    {
+        final var len = input.length();
+        final var buffer = new StringBuilder( (len * 12) / 10 );
+        for( var i = 0; i < len; ++i ) buffer.append( StringUtils.escapeRegex( input.charAt( i ) ) );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  legacyEscapeRegex()
+
+    /**
+     *  The program entry point.
+     *
+     *  @param  args    The command line arguments; they will be ignored.
+     */
+    public static final void main( final String... args )
+    {
+        final String [] [] inputs =
+        {
+            { "ASCII", "The quick brown fox jumps over the lazy dog 0123456789 times ".repeat( 32 ) },
+            { "Mixed", "Tom & Jerry said \"<hello>\" to Bäcker-Müller (price: 3.50€).\n".repeat( 32 ) },
+            { "CJK", "日本語のテキストと中文文本以及한국어 텍스트가 섞여 있습니다。".repeat( 64 ) }
+        };
+
+        measure( "escapeJSON (legacy)", EscapeBenchmark::legacyEscapeJSON, inputs );
+        measure( "escapeJSON", StringUtils::escapeJSON, inputs );
+        measure( "escapeRegex (legacy)", EscapeBenchmark::legacyEscapeRegex, inputs );
+        measure( "escapeRegex", StringUtils::escapeRegex, inputs );
+        measure( "escapeXML", StringUtils::escapeXML, inputs );
+        measure( "escapeHTML", StringUtils::escapeHTML, inputs );
+    }   //  main()
+
+    /**
+     *  Measures the given escape function on the given inputs and prints the
+     *  results.
+     *
+     *  @param  name    The name of the function.
+     *  @param  function    The function.
+     *  @param  inputs  The inputs; each entry holds the name of the input
+     *      and the text.
+     */
+    private static final void measure( final String name, final Function<? super String,String> function, final String [] [] inputs )
+    {
+        for( final var input : inputs )
+        {
+            var sink = 0L;
+            var best = Long.MAX_VALUE;
+            for( var round = 0; round < ROUNDS; ++round )
+            {
+                final var start = System.nanoTime();
+                for( var i = 0; i < ITERATIONS; ++i ) sink += function.apply( input [1] ).length();
+                final var elapsed = System.nanoTime() - start;
+                if( round >= ROUNDS / 2 ) best = Math.min( best, elapsed );
+            }
+            out.printf( "%-22s %-6s %10.1f ns/call (%d)%n", name, input [0], (double) best / ITERATIONS, sink );
+        }
+    }   //  measure()
+}
+//  class EscapeBenchmark
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,180 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.stringutils;
+
+import static java.lang.System.out;
+import static org.tquadrat.foundation.util.StringUtils.stream;
+
+import java.util.Random;
+import java.util.function.ToLongBiFunction;
+import java.util.stream.Stream;
+
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.PlaygroundClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.util.StringUtils;
+
+/**
+ *  <p>{@summary Compares
+ *  {@link StringUtils#stream(CharSequence, CharSequence)}
+ *  with its former implementation on inputs of 10&nbsp;MB.}</p>
+ *  <p>The sparse input has a long separator about every 64&nbsp;KB, the
+ *  dense input a short separator about every 16 characters. The former
+ *  implementation copied the remaining input for each separator, so it is
+ *  measured only on the sparse input; on the dense input, it would take
+ *  hours. The program prints the best time per call after a warm-up
+ *  phase.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@PlaygroundClass
+@ClassVersion( sourceVersion = "$Id$" )
+public final class SplitBenchmark
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The size of the inputs: {@value}.
+     */
+    private static final int INPUT_SIZE = 10 * 1024 * 1024;
+
+    /**
+     *  The number of measurements per method and input; the first half is
+     *  used as warm-up: {@value}.
+     */
+    private static final int ROUNDS = 10;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private SplitBenchmark() { throw new PrivateConstructorForStaticClassCalledError( SplitBenchmark.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates an input.
+     *
+     *  @param  random  The source for the random characters.
+     *  @param  separator   The separator.
+     *  @param  distance    The average distance between two separators.
+     *  @return The input.
+     */
+    private static final StringBuilder createInput( final Random random, final String separator, final int distance )
+    {
+        final var retValue = new StringBuilder( INPUT_SIZE + distance );
+        while( retValue.length() < INPUT_SIZE )
+        {
+            final var len = random.nextInt( distance * 2 );
+            for( var i = 0; i < len; ++i ) retValue.append( (char) ('a' + random.nextInt( 26 )) );
+            retValue.append( separator );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createInput()
+
+    /**
+     *  The former implementation of
+     *  {@link StringUtils#stream(CharSequence, CharSequence)}.
+     *
+     *  @param  input   The String to split.
+     *  @param  separator   The separator sequence.
+     *  @return The parts of the String.
+     */
+    private static final Stream<String> legacyStream( final CharSequence input, final CharSequence separator )
+    {
+        var s = input.toString();
+        final var t = separator.toString();
+
+        final var builder = Stream.<String>builder();
+        var pos = Integer.MAX_VALUE;
+        while( !s.isEmpty() && (pos >= 0) )
+        {
+            pos = s.indexOf( t );
+            if( pos >= 0 )
+            {
+                builder.add( s.substring( 0, pos ) );
+                s = s.substring( pos + t.length() );
+            }
+        }
+        builder.add( s );
+        final var retValue = builder.build();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  legacyStream()
+
+    /**
+     *  The program entry point.
+     *
+     *  @param  args    The command line arguments; they will be ignored.
+     */
+    public static final void main( final String... args )
+    {
+        final var random = new Random( 4711L );
+        final var sparseSeparator = "<!-- page break -->";
+        final var sparse = createInput( random, sparseSeparator, 64 * 1024 );
+        final var denseSeparator = ", ";
+        final var dense = createInput( random, denseSeparator, 16 );
+
+        measure( "legacy", "sparse", ( i, s ) -> legacyStream( i, s ).count(), sparse.toString(), sparseSeparator );
+        measure( "String", "sparse", ( i, s ) -> stream( i, s ).count(), sparse.toString(), sparseSeparator );
+        measure( "StringBuilder", "sparse", ( i, s ) -> stream( i, s ).count(), sparse, sparseSeparator );
+        measure( "String", "dense", ( i, s ) -> stream( i, s ).count(), dense.toString(), denseSeparator );
+        measure( "StringBuilder", "dense", ( i, s ) -> stream( i, s ).count(), dense, denseSeparator );
+        measure( "String parallel", "dense", ( i, s ) -> stream( i, s ).parallel().count(), dense.toString(), denseSeparator );
+    }   //  main()
+
+    /**
+     *  Measures the given split function on the given input and prints the
+     *  result.
+     *
+     *  @param  name    The name of the function.
+     *  @param  inputName   The name of the input.
+     *  @param  function    The function; it returns the number of parts.
+     *  @param  input   The input.
+     *  @param  separator   The separator.
+     */
+    private static final void measure( final String name, final String inputName, final ToLongBiFunction<CharSequence,CharSequence> function, final CharSequence input, final CharSequence separator )
+    {
+        var count = 0L;
+        var best = Long.MAX_VALUE;
+        for( var round = 0; round < ROUNDS; ++round )
+        {
+            final var start = System.nanoTime();
+            count = function.applyAsLong( input, separator );
+            final var elapsed = System.nanoTime() - start;
+            if( round >= ROUNDS / 2 ) best = Math.min( best, elapsed );
+        }
+        out.printf( "%-16s %-6s %10.2f ms/call (%d parts)%n", name, inputName, best / 1_000_000.0, count );
+    }   //  measure()
+}
+//  class SplitBenchmark
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,152 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.stringutils;
+
+import static java.lang.System.out;
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.compile;
+import static org.tquadrat.foundation.util.StringUtils.TAGREMOVAL_PATTERN;
+
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.PlaygroundClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.util.StringUtils;
+
+/**
+ *  <p>{@summary Compares
+ *  {@link StringUtils#stripTags(CharSequence)}
+ *  with its former implementation, that was based on the regular
+ *  expression
+ *  {@link StringUtils#TAGREMOVAL_PATTERN}.}</p>
+ *  <p>Besides regular HTML, the program uses two kinds of adversarial
+ *  input: a sequence of unterminated comments, and a sequence of stray
+ *  '&lt;' characters. For each kind, the size of the input is doubled
+ *  several times; the time needed by a linear implementation doubles as
+ *  well, while that for the regular expression grows by the factor four.
+ *  The program prints the best time per call after a warm-up phase.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ *  @since 0.26.0
+ *
+ *  @UMLGraph.link
+ */
+@PlaygroundClass
+@ClassVersion( sourceVersion = "$Id$" )
+public final class StripTagsBenchmark
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of measurements per method and input; the first half is
+     *  used as warm-up: {@value}.
+     */
+    private static final int ROUNDS = 6;
+
+        /*------------------------*\
+    ====** Static Initialisations **===========================================
+        \*------------------------*/
+    /**
+     *  The pattern used by the former implementation.
+     */
+    private static final Pattern m_TagRemovalPattern = compile( TAGREMOVAL_PATTERN, DOTALL );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private StripTagsBenchmark() { throw new PrivateConstructorForStaticClassCalledError( StripTagsBenchmark.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  The regular expression based part of the former implementation of
+     *  {@link StringUtils#stripTags(CharSequence)};
+     *  the normalisation of the whitespace is omitted, as it takes linear
+     *  time.
+     *
+     *  @param  input   The HTML/XML string.
+     *  @return The string without the tags.
+     */
+    private static final String legacyStripTags( final CharSequence input )
+    {
+        return m_TagRemovalPattern.matcher( input ).replaceAll( " " ).trim();
+    }   //  legacyStripTags()
+
+    /**
+     *  The program entry point.
+     *
+     *  @param  args    The command line arguments; they will be ignored.
+     */
+    public static final void main( final String... args )
+    {
+        final var html = "<tr><td class=\"name\">Name</td><!-- the value --><td>Value &amp; more</td></tr>\n".repeat( 16 * 1024 );
+        measure( "legacy", "html", StripTagsBenchmark::legacyStripTags, html );
+        measure( "stripTags", "html", StringUtils::stripTags, html );
+
+        for( var size = 4 * 1024; size <= 32 * 1024; size *= 2 )
+        {
+            final var comments = "<!--a".repeat( size / 5 );
+            measure( "legacy", "comment" + comments.length(), StripTagsBenchmark::legacyStripTags, comments );
+            measure( "stripTags", "comment" + comments.length(), StringUtils::stripTags, comments );
+        }
+
+        for( var size = 4 * 1024; size <= 32 * 1024; size *= 2 )
+        {
+            final var stray = "<a".repeat( size / 2 );
+            measure( "legacy", "stray" + stray.length(), StripTagsBenchmark::legacyStripTags, stray );
+            measure( "stripTags", "stray" + stray.length(), StringUtils::stripTags, stray );
+        }
+        measure( "stripTags", "stray" + (8 * 1024 * 1024), StringUtils::stripTags, "<a".repeat( 4 * 1024 * 1024 ) );
+    }   //  main()
+
+    /**
+     *  Measures the given function on the given input and prints the
+     *  result.
+     *
+     *  @param  name    The name of the function.
+     *  @param  inputName   The name of the input.
+     *  @param  function    The function.
+     *  @param  input   The input.
+     */
+    private static final void measure( final String name, final String inputName, final Function<CharSequence,String> function, final CharSequence input )
+    {
+        var length = 0;
+        var best = Long.MAX_VALUE;
+        for( var round = 0; round < ROUNDS; ++round )
+        {
+            final var start = System.nanoTime();
+            length = function.apply( input ).length();
+            final var elapsed = System.nanoTime() - start;
+            if( round >= ROUNDS / 2 ) best = Math.min( best, elapsed );
+        }
+        out.printf( "%-10s %-14s %10.2f ms/call (%d chars)%n", name, inputName, best / 1_000_000.0, length );
+    }   //  measure()
+}
+//  class StripTagsBenchmark
+
+/*
+ *  End of File
+ */
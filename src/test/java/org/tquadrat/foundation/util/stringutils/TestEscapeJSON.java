@@ -23,7 +23,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.tquadrat.foundation.util.CharSetUtils.escapeCharacter;
 import static org.tquadrat.foundation.util.StringUtils.escapeJSON;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -70,6 +72,81 @@ public class TestEscapeJSON extends TestBaseClass
         assertEquals( format( "\"%s\"", translateEscapes( expected ) ), actual );
     }   //  testEscapeJSON()
 
+    /**
+     *  Escapes the given text the way it was done before the escape table
+     *  was introduced.
+     *
+     *  @param  input   The text.
+     *  @return The escaped text.
+     */
+    @SuppressWarnings( "UnnecessaryUnicodeEscape" )
+    private static final String referenceEscapeJSON( final CharSequence input )
+    {
+        final var buffer = new StringBuilder( "\"" );
+        for( var i = 0; i < input.length(); ++i )
+        {
+            final var c = input.charAt( i );
+            switch( c )
+            {
+                case '\b' -> buffer.append( "\\b" );
+                case '\t' -> buffer.append( "\\t" );
+                case '\n'-> buffer.append( "\\n" );
+                case '\f' -> buffer.append( "\\f" );
+                case '\r' -> buffer.append( "\\r" );
+                default ->
+                {
+                    if( (c == '\\') || (c == '"') || (c == '<') || (c == '>') || (c == '&')
+                        || (c < ' ')
+                        || ((c >= '\u0080') && (c < '\u00a0'))
+                        || ((c >= '\u2000') && (c < '\u2100')) )
+                    {
+                        buffer.append( escapeCharacter( c ) );
+                    }
+                    else
+                    {
+                        buffer.append( c );
+                    }
+                }
+            }
+        }
+        final var retValue = buffer.append( '"' ).toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceEscapeJSON()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#escapeJSON(CharSequence)}
+     *  with random texts.
+     */
+    @Test
+    final void testEscapeJSONWithRandomText()
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        for( var i = 0; i < 500; ++i )
+        {
+            final var len = random.nextInt( 100 );
+            final var buffer = new StringBuilder( len );
+            for( var j = 0; j < len; ++j )
+            {
+                switch( random.nextInt( 4 ) )
+                {
+                    case 0 -> buffer.append( (char) random.nextInt( 0x80 ) );
+                    case 1 -> buffer.append( (char) random.nextInt( 0x100 ) );
+                    case 2 -> buffer.append( (char) (0x1FF0 + random.nextInt( 0x120 )) );
+                    default -> buffer.append( (char) random.nextInt( 0x10000 ) );
+                }
+            }
+            final var text = buffer.toString();
+            assertEquals( referenceEscapeJSON( text ), escapeJSON( text ), () -> format( "Text: %s", text ) );
+            assertEquals( referenceEscapeJSON( text ), escapeJSON( new StringBuilder( text ) ), () -> format( "Text: %s", text ) );
+        }
+        assertEquals( "\"Nothing to escape\"", escapeJSON( "Nothing to escape" ) );
+    }   //  testEscapeJSONWithRandomText()
+
     /**
      *  Tests for
      *  {@link StringUtils#escapeJSON(CharSequence)}.
@@ -0,0 +1,148 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.stringutils;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+import static java.util.regex.Pattern.compile;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.tquadrat.foundation.util.StringUtils.escapeRegex;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.StringUtils;
+
+/**
+ *  Some tests for the methods
+ *  {@link StringUtils#escapeRegex(CharSequence)}
+ *  and
+ *  {@link StringUtils#escapeRegex(Appendable, CharSequence)}
+ *  from class
+ *  {@link StringUtils}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.stringutils.TestEscapeRegex" )
+public class TestEscapeRegex extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Escapes the given text character by character, the way it was done
+     *  before the escape table was introduced.
+     *
+     *  @param  input   The text.
+     *  @return The escaped text.
+     */
+    private static final String referenceEscapeRegex( final CharSequence input )
+    {
+        final var buffer = new StringBuilder();
+        for( var i = 0; i < input.length(); ++i ) buffer.append( escapeRegex( input.charAt( i ) ) );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceEscapeRegex()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#escapeRegex(CharSequence)}
+     *  and
+     *  {@link StringUtils#escapeRegex(Appendable, CharSequence)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testEscapeRegex() throws Exception
+    {
+        skipThreadTest();
+
+        assertNull( escapeRegex( (CharSequence) null ) );
+        assertEquals( "", escapeRegex( "" ) );
+
+        final var text = "Nothing to escape";
+        assertSame( text, escapeRegex( text ) );
+
+        assertEquals( "a\\.b\\*c\\[d\\]\\te", escapeRegex( "a.b*c[d]\te" ) );
+        assertEquals( "\\(\\{\\^\\$\\&\\+\\|\\?\\}\\)", escapeRegex( "({^$&+|?})" ) );
+
+        //---* The result is a pattern for the literal text *-----------------
+        final var literal = "1+1=2? (maybe) [or] {not} ^$ a|b & c*d.e";
+        assertTrue( compile( escapeRegex( literal ) ).matcher( literal ).matches() );
+
+        //---* Random texts *--------------------------------------------------
+        final var random = getRandom();
+        final var alphabet = "abc XYZ 123 .*+?^$[]{}()|&\\\t\n\r\f\u0007\u001Bäö€";
+        for( var i = 0; i < 500; ++i )
+        {
+            final var len = random.nextInt( 60 );
+            final var buffer = new StringBuilder( len );
+            for( var j = 0; j < len; ++j ) buffer.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+            final var input = buffer.toString();
+            final var expected = referenceEscapeRegex( input );
+            assertEquals( expected, escapeRegex( input ), () -> format( "Text: %s", input ) );
+
+            final var writer = new StringWriter();
+            escapeRegex( writer, buffer );
+            assertEquals( expected, writer.toString(), () -> format( "Text: %s", input ) );
+        }
+    }   //  testEscapeRegex()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#escapeRegex(Appendable, CharSequence)}
+     *  with {@code null} arguments.
+     */
+    @Test
+    final void testEscapeRegexWithNullArgument()
+    {
+        skipThreadTest();
+
+        final Class<? extends Throwable> expectedException = NullArgumentException.class;
+        try
+        {
+            escapeRegex( null, "text" );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException ) t.printStackTrace( out );
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+        }
+    }   //  testEscapeRegexWithNullArgument()
+}
+//  class TestEscapeRegex
+
+/*
+ *  End of File
+ */
@@ -19,7 +19,14 @@ package org.tquadrat.foundation.util.stringutils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static java.text.Normalizer.Form.NFD;
+import static java.text.Normalizer.normalize;
+import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
 import static org.tquadrat.foundation.util.StringUtils.removeDiacriticalMarks;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.StringReader;
+import java.io.StringWriter;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,6 +50,55 @@ public class TestRemoveDiacriticalMarks extends TestBaseClass
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  The characters for the random input: ASCII, Latin characters with
+     *  and without diacritical marks, combining marks from various blocks,
+     *  characters from other scripts whose decomposition contains ASCII
+     *  characters, supplementary characters, and a lone surrogate.
+     */
+    private static final String [] INPUT_CHARACTERS =
+    {
+        "a", "Z", " ", "ß", "ø", "Ø", "ü", "É", "ǖ", "ǅ", "Ǿ", "ḗ", "ỹ", "æ",
+        "\u0301", "\u0308", "\u0327", "\u0344", "\u0345", "\u1DC0", "\u1DCA", "\u20D0", "\u0591",
+        "\u03AC", "\u037E", "\u1FEF", "\u212A", "\u212B", "\u0958", "\u093C", "\u094D",
+        "\uAC00", "\u4E2D", "\uD83D\uDE00", "\uD834\uDD5E", "\uD800"
+    };
+
+    /**
+     *  Creates a random input.
+     *
+     *  @param  length  The number of characters from
+     *      {@link #INPUT_CHARACTERS}.
+     *  @return The input.
+     */
+    private static final String createInput( final int length )
+    {
+        final var random = getRandom();
+        final var buffer = new StringBuilder();
+        for( var i = 0; i < length; ++i ) buffer.append( INPUT_CHARACTERS [random.nextInt( INPUT_CHARACTERS.length )] );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createInput()
+
+    /**
+     *  The former implementation of
+     *  {@link org.tquadrat.foundation.util.StringUtils#removeDiacriticalMarks(CharSequence)}
+     *  that always used the Normalizer; it is used as the reference.
+     *
+     *  @param  input   The input string.
+     *  @return The normalised String.
+     */
+    private static final String referenceRemoveDiacriticalMarks( final CharSequence input )
+    {
+        final var retValue = normalize( input, NFD )
+            .replaceAll( "\\p{InCombiningDiacriticalMarks}+", EMPTY_STRING );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceRemoveDiacriticalMarks()
+
     /**
      *  Some tests for
      *  {@link org.tquadrat.foundation.util.StringUtils#removeDiacriticalMarks(CharSequence)}.
@@ -90,6 +146,90 @@ public class TestRemoveDiacriticalMarks extends TestBaseClass
         final var actual = removeDiacriticalMarks( candidate );
         assertEquals( expected, actual );
     }   //  testRemoveDiacriticalMarks()
+
+    /**
+     *  Tests for
+     *  {@link org.tquadrat.foundation.util.StringUtils#removeDiacriticalMarks(Appendable, java.io.Reader)}
+     *  with a long input; it contains a long sequence of characters that are
+     *  not in the tables.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRemoveDiacriticalMarksFromReader() throws Exception
+    {
+        skipThreadTest();
+
+        final var input = createInput( 20_000 ) + "\u4E2D\u0301\u1DCA\u03AC\u1DC0".repeat( 5_000 );
+        final var target = new StringWriter();
+        removeDiacriticalMarks( target, new StringReader( input ) );
+        assertEquals( referenceRemoveDiacriticalMarks( input ), target.toString() );
+    }   //  testRemoveDiacriticalMarksFromReader()
+
+    /**
+     *  Tests for
+     *  {@link org.tquadrat.foundation.util.StringUtils#removeDiacriticalMarks(CharSequence)}
+     *  with a long sequence of characters that are not in the tables, where
+     *  a supplementary combining mark follows right at the position where
+     *  the sequence may be split. U+1D167 has a lower combining class than
+     *  the preceding U+0591, so the decomposition reorders both marks.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRemoveDiacriticalMarksWithSupplementaryMark() throws Exception
+    {
+        skipThreadTest();
+
+        for( var length = 8_180; length < 8_200; ++length )
+        {
+            final var input = "\u0436".repeat( length ) + "\u05D0\u0591\uD834\uDD67\u0436";
+            assertEquals( referenceRemoveDiacriticalMarks( input ), removeDiacriticalMarks( input ) );
+        }
+    }   //  testRemoveDiacriticalMarksWithSupplementaryMark()
+
+    /**
+     *  Compares the results of
+     *  {@link org.tquadrat.foundation.util.StringUtils#removeDiacriticalMarks(CharSequence)}
+     *  with those of the former implementation, for each character in the
+     *  Latin ranges, alone and followed by combining marks.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRemoveDiacriticalMarksWithLatinCharacters() throws Exception
+    {
+        skipThreadTest();
+
+        for( var c = 0; c < 0x1F00; ++c )
+        {
+            if( c == 0x0250 ) c = 0x1E00;
+            for( final var suffix : new String [] {EMPTY_STRING, "\u0301", "\u1DCA\u0301\u1DC0", "\u0345\u0591"} )
+            {
+                final var input = Character.toString( c ) + suffix;
+                assertEquals( referenceRemoveDiacriticalMarks( input ), removeDiacriticalMarks( input ), () -> "Input: %s".formatted( input ) );
+            }
+        }
+    }   //  testRemoveDiacriticalMarksWithLatinCharacters()
+
+    /**
+     *  Compares the results of
+     *  {@link org.tquadrat.foundation.util.StringUtils#removeDiacriticalMarks(CharSequence)}
+     *  with those of the former implementation, for random input.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRemoveDiacriticalMarksWithRandomInput() throws Exception
+    {
+        skipThreadTest();
+
+        for( var i = 0; i < 10_000; ++i )
+        {
+            final var input = createInput( i % 20 );
+            assertEquals( referenceRemoveDiacriticalMarks( input ), removeDiacriticalMarks( input ), () -> "Input: %s".formatted( input ) );
+        }
+    }   //  testRemoveDiacriticalMarksWithRandomInput()
 }
 //  class TestRemoveDiacriticalMarks
 
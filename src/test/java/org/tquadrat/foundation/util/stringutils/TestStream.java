@@ -20,14 +20,21 @@ package org.tquadrat.foundation.util.stringutils;
 import static java.lang.String.format;
 import static java.lang.System.out;
 import static java.util.regex.Pattern.compile;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_CHARSEQUENCE;
 import static org.tquadrat.foundation.lang.Objects.deepEquals;
 import static org.tquadrat.foundation.util.StringUtils.escapeRegex;
 import static org.tquadrat.foundation.util.StringUtils.stream;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.DisplayName;
@@ -45,7 +52,8 @@ import org.tquadrat.foundation.util.helper.SplitStringData;
  *  Some tests for the method
  *  {@link StringUtils#stream(CharSequence, char)},
  *  {@link StringUtils#stream(CharSequence, CharSequence)},
- *  {@link StringUtils#stream(CharSequence,int)}
+ *  {@link StringUtils#stream(CharSequence,int)},
+ *  {@link StringUtils#stream(CharSequence,int,boolean)}
  *  and
  *  {@link StringUtils#stream(CharSequence,Pattern)}
  *  from class
@@ -108,6 +116,390 @@ public class TestStream extends TestBaseClass
         assertTrue( deepEquals( expected, actual ) );
     }   //  testStream()
 
+    /**
+     *  Splits the given input the way it was done before
+     *  {@link StringUtils#stream(CharSequence,int)}
+     *  became lazy.
+     *
+     *  @param  input   The input.
+     *  @param  separator   The code point for the separator.
+     *  @return The parts.
+     */
+    private static final List<String> referenceSplit( final CharSequence input, final int separator )
+    {
+        final var codepoints = input.codePoints().toArray();
+        final List<String> retValue = new ArrayList<>();
+        var begin = 0;
+        for( var i = 0; i < codepoints.length; ++i )
+        {
+            if( codepoints [i] == separator )
+            {
+                retValue.add( new String( codepoints, begin, i - begin ) );
+                begin = i + 1;
+            }
+        }
+        retValue.add( new String( codepoints, begin, codepoints.length - begin ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceSplit()
+
+    /**
+     *  Splits the given input the way it was done before
+     *  {@link StringUtils#stream(CharSequence,Pattern)}
+     *  became lazy.
+     *
+     *  @param  input   The input.
+     *  @param  pattern The pattern for the separators.
+     *  @return The parts.
+     */
+    private static final List<String> referenceSplit( final CharSequence input, final Pattern pattern )
+    {
+        final List<String> retValue = new ArrayList<>();
+        if( input.isEmpty() )
+        {
+            retValue.add( "" );
+        }
+        else
+        {
+            final var parts = pattern.split( input );
+            retValue.addAll( List.of( parts ) );
+            final var matcher = pattern.matcher( input );
+            var count = 0;
+            while( matcher.find() ) ++count;
+            for( ; count >= parts.length; --count ) retValue.add( "" );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceSplit()
+
+    /**
+     *  Splits the given input the way it was done before
+     *  {@link StringUtils#stream(CharSequence,CharSequence)}
+     *  became lazy.
+     *
+     *  @param  input   The input.
+     *  @param  separator   The separator sequence.
+     *  @return The parts.
+     */
+    private static final List<String> referenceSplit( final CharSequence input, final CharSequence separator )
+    {
+        var s = input.toString();
+        final var t = separator.toString();
+        final List<String> retValue = new ArrayList<>();
+        var pos = Integer.MAX_VALUE;
+        while( !s.isEmpty() && (pos >= 0) )
+        {
+            pos = s.indexOf( t );
+            if( pos >= 0 )
+            {
+                retValue.add( s.substring( 0, pos ) );
+                s = s.substring( pos + t.length() );
+            }
+        }
+        retValue.add( s );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceSplit()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#stream(CharSequence,int,boolean)}
+     *  with interning.
+     */
+    @Test
+    final void testStreamCodePointIntern()
+    {
+        skipThreadTest();
+
+        final var input = new StringBuilder( "alpha,beta,,alpha" );
+        final var interned = stream( input, ',', true ).toList();
+        assertEquals( List.of( "alpha", "beta", "", "alpha" ), interned );
+        assertSame( "alpha", interned.get( 0 ) );
+        assertSame( interned.get( 0 ), interned.get( 3 ) );
+
+        final var plain = stream( input, ',', false ).toList();
+        assertEquals( interned, plain );
+        assertNotSame( plain.get( 0 ), plain.get( 3 ) );
+    }   //  testStreamCodePointIntern()
+
+    /**
+     *  Tests whether
+     *  {@link StringUtils#stream(CharSequence,int)}
+     *  reads the input only as far as required.
+     */
+    @Test
+    final void testStreamCodePointLazy()
+    {
+        skipThreadTest();
+
+        final var input = "first,second," + "x".repeat( 1_000_000 );
+        final var maxIndex = new AtomicInteger( -1 );
+        final var tracker = new CharSequence()
+        {
+            @Override
+            public final char charAt( final int index )
+            {
+                maxIndex.accumulateAndGet( index, Math::max );
+                return input.charAt( index );
+            }   //  charAt()
+
+            @Override
+            public final int length() { return input.length(); }
+
+            @Override
+            public final CharSequence subSequence( final int start, final int end ) { return input.subSequence( start, end ); }
+
+            @Override
+            public final String toString() { return input; }
+        };
+
+        final var stream = stream( tracker, ',' );
+        assertEquals( -1, maxIndex.get() );
+        assertEquals( List.of( "first", "second" ), stream.limit( 2 ).toList() );
+        assertEquals( "first,second".length(), maxIndex.get() );
+    }   //  testStreamCodePointLazy()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#stream(CharSequence,int)}
+     *  with a parallel stream.
+     */
+    @Test
+    final void testStreamCodePointParallel()
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        for( final var separator : new int [] {',', 0x1F600} )
+        {
+            final var buffer = new StringBuilder();
+            for( var i = 0; i < 50_000; ++i )
+            {
+                if( random.nextInt( 10 ) == 0 )
+                {
+                    buffer.appendCodePoint( separator );
+                }
+                else
+                {
+                    buffer.append( (char) ('a' + random.nextInt( 26 )) );
+                }
+            }
+            final var expected = referenceSplit( buffer, separator );
+            assertEquals( expected, stream( buffer.toString(), separator ).parallel().toList() );
+            assertEquals( expected, stream( buffer, separator ).parallel().toList() );
+            assertEquals( expected.size(), stream( buffer, separator ).parallel().count() );
+        }
+    }   //  testStreamCodePointParallel()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#stream(CharSequence,int)}
+     *  with surrogate characters, both in the input and as the separator.
+     */
+    @Test
+    final void testStreamCodePointSurrogates()
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        final var alphabet = new int [] {'a', 'b', '|', 0x1F600, 0x1F601, 0xD83D, 0xDE00, 0xDE01};
+        for( var i = 0; i < 1_000; ++i )
+        {
+            final var buffer = new StringBuilder();
+            final var len = random.nextInt( 20 );
+            for( var j = 0; j < len; ++j ) buffer.appendCodePoint( alphabet [random.nextInt( alphabet.length )] );
+            final var input = buffer.toString();
+            for( final var separator : alphabet )
+            {
+                final var expected = referenceSplit( input, separator );
+                assertEquals( expected, stream( input, separator ).toList(), () -> format( "Input: %s, Separator: %X", input, separator ) );
+                assertEquals( expected, stream( buffer, separator ).toList(), () -> format( "Input: %s, Separator: %X", input, separator ) );
+            }
+        }
+        assertEquals( List.of( "abc" ), stream( "abc", -1 ).toList() );
+    }   //  testStreamCodePointSurrogates()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#stream(CharSequence,Pattern)}
+     *  with random input, including patterns that match the empty String.
+     */
+    @Test
+    final void testStreamPattern()
+    {
+        skipThreadTest();
+
+        assertEquals( List.of( "a", "b", "", "c", "", "" ), stream( "a,b,,c,,", compile( "," ) ).toList() );
+        assertEquals( List.of( "a", "b", "c", "", "" ), stream( "abc", compile( "" ) ).toList() );
+        assertEquals( List.of( "" ), stream( "", compile( "" ) ).toList() );
+
+        final var random = getRandom();
+        final var alphabet = "ab ,;\t";
+        final Pattern [] patterns =
+        {
+            compile( "," ), compile( "[,;]" ), compile( "\\s+" ), compile( "a*" ), compile( "" ),
+            compile( "^" ), compile( "$" ), compile( "\\b" ), compile( "(?=b)" ), compile( "(?<=a)" ),
+            compile( "ab|b" ), compile( "^a" )
+        };
+        for( var i = 0; i < 1_000; ++i )
+        {
+            final var buffer = new StringBuilder();
+            final var len = random.nextInt( 30 );
+            for( var j = 0; j < len; ++j ) buffer.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+            final var input = buffer.toString();
+            for( final var pattern : patterns )
+            {
+                final var expected = referenceSplit( input, pattern );
+                assertEquals( expected, stream( input, pattern ).toList(), () -> format( "Input: '%s', Pattern: %s", input, pattern ) );
+                assertEquals( expected, stream( buffer, pattern ).parallel().toList(), () -> format( "Input: '%s', Pattern: %s", input, pattern ) );
+            }
+        }
+    }   //  testStreamPattern()
+
+    /**
+     *  Tests whether
+     *  {@link StringUtils#stream(CharSequence,Pattern)}
+     *  reads the input only as far as required.
+     */
+    @Test
+    final void testStreamPatternLazy()
+    {
+        skipThreadTest();
+
+        final var input = "first, second, " + "x".repeat( 1_000_000 );
+        final var maxIndex = new AtomicInteger( -1 );
+        final var tracker = new CharSequence()
+        {
+            @Override
+            public final char charAt( final int index )
+            {
+                maxIndex.accumulateAndGet( index, Math::max );
+                return input.charAt( index );
+            }   //  charAt()
+
+            @Override
+            public final int length() { return input.length(); }
+
+            @Override
+            public final CharSequence subSequence( final int start, final int end ) { return input.subSequence( start, end ); }
+
+            @Override
+            public final String toString() { return input; }
+        };
+
+        final var stream = stream( tracker, compile( ",\\s*" ) );
+        assertEquals( -1, maxIndex.get() );
+        assertEquals( List.of( "first", "second" ), stream.limit( 2 ).toList() );
+        assertTrue( maxIndex.get() <= "first, second, ".length() );
+    }   //  testStreamPatternLazy()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#stream(CharSequence,CharSequence)}
+     *  with random input, including separators that overlap with
+     *  themselves.
+     */
+    @Test
+    final void testStreamSequence()
+    {
+        skipThreadTest();
+
+        assertEquals( List.of( "", "a" ), stream( "aaa", "aa" ).toList() );
+        assertEquals( List.of( "", "", "" ), stream( "aaaa", "aa" ).toList() );
+        assertEquals( List.of( "x", "ab" ), stream( "xababab", "abab" ).toList() );
+        assertEquals( List.of( "" ), stream( "", "--" ).toList() );
+        assertEquals( List.of( "abc" ), stream( "abc", "abcd" ).toList() );
+
+        final var random = getRandom();
+        final var alphabet = "ab|-āȁ";
+        final String [] separators = {"|", "a", "aa", "ab", "aba", "--|", "|-|", "āȁ", "ab|-āȁ", "abababab"};
+        for( var i = 0; i < 1_000; ++i )
+        {
+            final var buffer = new StringBuilder();
+            final var len = random.nextInt( 40 );
+            for( var j = 0; j < len; ++j ) buffer.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+            final var input = buffer.toString();
+            for( final var separator : separators )
+            {
+                final var expected = referenceSplit( input, separator );
+                assertEquals( expected, stream( input, separator ).toList(), () -> format( "Input: %s, Separator: %s", input, separator ) );
+                assertEquals( expected, stream( buffer, separator ).toList(), () -> format( "Input: %s, Separator: %s", input, separator ) );
+            }
+        }
+    }   //  testStreamSequence()
+
+    /**
+     *  Tests whether
+     *  {@link StringUtils#stream(CharSequence,CharSequence)}
+     *  reads the input only as far as required.
+     */
+    @Test
+    final void testStreamSequenceLazy()
+    {
+        skipThreadTest();
+
+        final var input = "first::second::" + "x".repeat( 1_000_000 );
+        final var maxIndex = new AtomicInteger( -1 );
+        final var tracker = new CharSequence()
+        {
+            @Override
+            public final char charAt( final int index )
+            {
+                maxIndex.accumulateAndGet( index, Math::max );
+                return input.charAt( index );
+            }   //  charAt()
+
+            @Override
+            public final int length() { return input.length(); }
+
+            @Override
+            public final CharSequence subSequence( final int start, final int end ) { return input.subSequence( start, end ); }
+
+            @Override
+            public final String toString() { return input; }
+        };
+
+        final var stream = stream( tracker, "::" );
+        assertEquals( -1, maxIndex.get() );
+        assertEquals( List.of( "first", "second" ), stream.limit( 2 ).toList() );
+        assertTrue( maxIndex.get() < "first::second::".length() );
+    }   //  testStreamSequenceLazy()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#stream(CharSequence,CharSequence)}
+     *  with a parallel stream.
+     */
+    @Test
+    final void testStreamSequenceParallel()
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        for( final var separator : new String [] {"<->", "aa", "abab", "\r\n"} )
+        {
+            final var buffer = new StringBuilder();
+            for( var i = 0; i < 20_000; ++i )
+            {
+                if( random.nextInt( 10 ) == 0 )
+                {
+                    buffer.append( separator );
+                }
+                else
+                {
+                    buffer.append( (char) ('a' + random.nextInt( 3 )) );
+                }
+            }
+            final var expected = referenceSplit( buffer, separator );
+            assertEquals( expected, stream( buffer.toString(), separator ).parallel().toList() );
+            assertEquals( expected, stream( buffer, separator ).parallel().toList() );
+            assertEquals( expected.size(), stream( buffer, separator ).parallel().count() );
+        }
+    }   //  testStreamSequenceParallel()
+
     /**
      *  Tests for
      *  {@link StringUtils#stream(CharSequence,CharSequence)}.
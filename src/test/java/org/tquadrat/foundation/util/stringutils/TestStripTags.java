@@ -24,7 +24,19 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+import static java.lang.Character.isWhitespace;
+import static java.lang.Character.toChars;
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.compile;
+import static org.tquadrat.foundation.lang.CommonConstants.NULL_CHAR;
+import static org.tquadrat.foundation.util.StringUtils.TAGREMOVAL_PATTERN;
+import static org.tquadrat.foundation.util.StringUtils.isNotEmptyOrBlank;
 import static org.tquadrat.foundation.util.StringUtils.stripTags;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,6 +62,62 @@ public class TestStripTags extends TestBaseClass
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Creates a random input with tags, comments, stray delimiters and
+     *  various whitespace characters.
+     *
+     *  @param  random  The source for the input.
+     *  @return The input.
+     */
+    private static final String createInput( final Random random )
+    {
+        final String [] tokens = {"<", ">", "!", "-", "<!--", "-->", "<b>", "a", "bc", " ", "  ", "\t", "\n", "\u2003", "\u0001"};
+        final var buffer = new StringBuilder();
+        final var len = random.nextInt( 30 );
+        for( var i = 0; i < len; ++i ) buffer.append( tokens [random.nextInt( tokens.length )] );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createInput()
+
+    /**
+     *  The implementation of
+     *  {@link StringUtils#stripTags(CharSequence)}
+     *  that was based on the regular expression
+     *  {@link StringUtils#TAGREMOVAL_PATTERN};
+     *  it is used as the reference.
+     *
+     *  @param  input   The HTML/XML string.
+     *  @return The string without the tags.
+     */
+    private static final String referenceStripTags( final CharSequence input )
+    {
+        final var retValue = new StringBuilder();
+        if( isNotEmptyOrBlank( input ) )
+        {
+            final var matcher = compile( TAGREMOVAL_PATTERN, DOTALL ).matcher( input );
+            final var buffer = matcher.replaceAll( " " ).trim().codePoints().toArray();
+            int lastChar = NULL_CHAR;
+            ScanLoop: for( final var codePoint : buffer )
+            {
+                if( isWhitespace( codePoint ) )
+                {
+                    if( isWhitespace( lastChar ) ) continue ScanLoop;
+                    retValue.append( " " );
+                }
+                else
+                {
+                    retValue.append( toChars( codePoint ) );
+                }
+                lastChar = codePoint;
+            }   //  ScanLoop:
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue.toString();
+    }   //  referenceStripTags()
+
     /**
      *  Tests for
      *  {@link StringUtils#stripTags(CharSequence)}.
@@ -113,6 +181,50 @@ public class TestStripTags extends TestBaseClass
         assertEquals( expected, actual );
     }   //  testStripTags()
 
+    /**
+     *  Tests for
+     *  {@link StringUtils#stripTags(Appendable, java.io.Reader)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testStripTagsFromReader() throws Exception
+    {
+        skipThreadTest();
+
+        final var target = new StringWriter();
+        stripTags( target, new StringReader( "<p>Simple <!-- a > b --> <b>Text</b>\n</p>" ) );
+        assertEquals( "Simple Text", target.toString() );
+    }   //  testStripTagsFromReader()
+
+    /**
+     *  Compares the results of
+     *  {@link StringUtils#stripTags(CharSequence)}
+     *  and
+     *  {@link StringUtils#stripTags(Appendable, java.io.Reader)}
+     *  with those of the former implementation that was based on a regular
+     *  expression, for random input.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testStripTagsWithRandomInput() throws Exception
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        for( var i = 0; i < 10_000; ++i )
+        {
+            final var input = createInput( random );
+            final var expected = referenceStripTags( input );
+            assertEquals( expected, stripTags( input ), () -> format( "Input: '%s'", input ) );
+
+            final var target = new StringWriter();
+            stripTags( target, new StringReader( input ) );
+            assertEquals( expected, target.toString(), () -> format( "Input: '%s'", input ) );
+        }
+    }   //  testStripTagsWithRandomInput()
+
     /**
      *  Tests for
      *  {@link StringUtils#stripTags(CharSequence)}.
@@ -24,7 +24,15 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.compile;
+import static org.tquadrat.foundation.util.StringUtils.COMMENTREMOVAL_PATTERN;
 import static org.tquadrat.foundation.util.StringUtils.stripXMLComments;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,6 +58,25 @@ public class TestStripXMLComment extends TestBaseClass
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Creates a random input with tags, comments, stray delimiters and
+     *  various whitespace characters.
+     *
+     *  @param  random  The source for the input.
+     *  @return The input.
+     */
+    private static final String createInput( final Random random )
+    {
+        final String [] tokens = {"<", ">", "!", "-", "<!--", "-->", "<b>", "a", "bc", " ", "  ", "\t", "\n", "\u2003", "\u0001"};
+        final var buffer = new StringBuilder();
+        final var len = random.nextInt( 30 );
+        for( var i = 0; i < len; ++i ) buffer.append( tokens [random.nextInt( tokens.length )] );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createInput()
+
     /**
      *  Tests for
      *  {@link StringUtils#stripXMLComments(CharSequence)}.
@@ -92,6 +119,37 @@ public class TestStripXMLComment extends TestBaseClass
         assertEquals( expected, actual );
     }   //  testStripXMLComments()
 
+    /**
+     *  Compares the results of
+     *  {@link StringUtils#stripXMLComments(CharSequence)}
+     *  and
+     *  {@link StringUtils#stripXMLComments(Appendable, java.io.Reader)}
+     *  with those of the former implementation that was based on the
+     *  regular expression
+     *  {@link StringUtils#COMMENTREMOVAL_PATTERN},
+     *  for random input.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testStripXMLCommentsWithRandomInput() throws Exception
+    {
+        skipThreadTest();
+
+        final var pattern = compile( COMMENTREMOVAL_PATTERN, DOTALL );
+        final var random = getRandom();
+        for( var i = 0; i < 10_000; ++i )
+        {
+            final var input = createInput( random );
+            final var expected = pattern.matcher( input ).replaceAll( EMPTY_STRING );
+            assertEquals( expected, stripXMLComments( input ), () -> format( "Input: '%s'", input ) );
+
+            final var target = new StringWriter();
+            stripXMLComments( target, new StringReader( input ) );
+            assertEquals( expected, target.toString(), () -> format( "Input: '%s'", input ) );
+        }
+    }   //  testStripXMLCommentsWithRandomInput()
+
     /**
      *  Tests for
      *  {@link StringUtils#stripXMLComments(CharSequence)}.
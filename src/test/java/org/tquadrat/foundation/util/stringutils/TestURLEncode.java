@@ -21,13 +21,24 @@ import static java.lang.String.format;
 import static java.lang.System.out;
 import static java.net.URLDecoder.decode;
 import static java.net.URLEncoder.encode;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.tquadrat.foundation.lang.CommonConstants.UTF8;
 import static org.tquadrat.foundation.util.StringUtils.urlDecode;
 import static org.tquadrat.foundation.util.StringUtils.urlEncode;
+import static org.tquadrat.foundation.util.StringUtils.urlEncodedLength;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -57,6 +68,30 @@ public class TestURLEncode extends TestBaseClass
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Decodes the given input with
+     *  {@link StringUtils#urlDecode(OutputStream, CharSequence)}.
+     *
+     *  @param  input   The URL encoded text.
+     *  @return The decoded bytes.
+     */
+    private static final byte [] decodeToBytes( final CharSequence input )
+    {
+        final var target = new ByteArrayOutputStream();
+        try
+        {
+            urlDecode( target, input );
+        }
+        catch( final IOException e )
+        {
+            throw new AssertionError( e );
+        }
+        final var retValue = target.toByteArray();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  decodeToBytes()
+
     /**
      *  Tests for
      *  {@link StringUtils#urlDecode(CharSequence)}.
@@ -95,6 +130,96 @@ public class TestURLEncode extends TestBaseClass
         assertEquals( candidate, urlEncode( urlDecode( candidate ) ) );
     }   //  testUrlDecodeEncode()
 
+    /**
+     *  Tests for
+     *  {@link StringUtils#urlDecode(OutputStream, CharSequence)}.
+     *
+     *  @param  plain   The plain text.
+     *  @param  encoded The encoded text.
+     *  @throws IOException Something unexpected went wrong.
+     */
+    @ParameterizedTest
+    @CsvFileSource( resources = "URLEncode.csv", delimiter = ';', numLinesToSkip = 1 )
+    final void testUrlDecodeToStream( final String plain, final String encoded ) throws IOException
+    {
+        skipThreadTest();
+
+        final var target = new ByteArrayOutputStream();
+        urlDecode( target, translateEscapes( encoded ) );
+        assertArrayEquals( translateEscapes( plain ).getBytes( UTF8 ), target.toByteArray() );
+    }   //  testUrlDecodeToStream()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#urlDecode(OutputStream, CharSequence)}
+     *  with invalid arguments.
+     */
+    @Test
+    final void testUrlDecodeToStreamWithInvalidArguments()
+    {
+        skipThreadTest();
+
+        assertThrows( NullArgumentException.class, () -> decodeToBytes( null ) );
+        assertThrows( NullArgumentException.class, () -> urlDecode( null, "a" ) );
+        assertThrows( IllegalArgumentException.class, () -> decodeToBytes( "a%" ) );
+        assertThrows( IllegalArgumentException.class, () -> decodeToBytes( "a%4" ) );
+        assertThrows( IllegalArgumentException.class, () -> decodeToBytes( "a%zz" ) );
+        assertThrows( IllegalArgumentException.class, () -> decodeToBytes( "a%-1" ) );
+        assertThrows( IllegalArgumentException.class, () -> decodeToBytes( "%41%4" ) );
+    }   //  testUrlDecodeToStreamWithInvalidArguments()
+
+    /**
+     *  Compares the results of
+     *  {@link StringUtils#urlDecode(OutputStream, CharSequence)}
+     *  with those of
+     *  {@link java.net.URLDecoder#decode(String, java.nio.charset.Charset)}
+     *  for random input, including malformed UTF-8 sequences and long
+     *  sequences of escaped bytes.
+     */
+    @Test
+    final void testUrlDecodeWithRandomInput()
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        for( var i = 0; i < 500; ++i )
+        {
+            final var buffer = new StringBuilder();
+            final var length = random.nextInt( i < 20 ? 20_000 : 200 );
+            final var isMostlyEscaped = random.nextBoolean();
+
+            //---* Long inputs may consist of escaped bytes only *-------------
+            final var kind = i < 20 ? i % 3 : 0;
+            while( buffer.length() < length )
+            {
+                switch( kind == 0 ? random.nextInt( isMostlyEscaped ? 12 : 6 ) : random.nextInt( kind == 1 ? 4 : 5, 6 ) )
+                {
+                    case 0 -> buffer.append( '+' );
+                    case 1 ->
+                    {
+                        final var c = (char) (random.nextInt( 0x5F ) + 0x20);
+                        if( c == '%' ) buffer.append( "%25" ); else buffer.append( c );
+                    }
+                    case 2 -> buffer.append( (char) random.nextInt( 0xD800, 0xE000 ) );
+                    case 3 -> buffer.append( Character.toChars( random.nextInt( 0x80, 0x11_0000 ) ) );
+                    case 4 ->
+                    {
+                        //---* A random, possibly malformed byte *-------------
+                        buffer.append( '%' ).append( format( random.nextBoolean() ? "%02X" : "%02x", random.nextInt( 0x100 ) ) );
+                    }
+                    default ->
+                    {
+                        //---* A well-formed, escaped character *--------------
+                        final var c = Character.toString( random.nextInt( 0x20, 0x11_0000 ) );
+                        if( !Character.isSurrogate( c.charAt( 0 ) ) ) buffer.append( encode( c, UTF8 ) );
+                    }
+                }
+            }
+            final var input = buffer.toString();
+            assertArrayEquals( decode( input, UTF8 ).getBytes( UTF8 ), decodeToBytes( input ) );
+        }
+    }   //  testUrlDecodeWithRandomInput()
+
     /**
      *  Tests for
      *  {@link StringUtils#urlDecode(CharSequence)}.
@@ -181,6 +306,124 @@ public class TestURLEncode extends TestBaseClass
         }
     }   //  testUrlEncodeNull()
 
+    /**
+     *  Tests for
+     *  {@link StringUtils#urlEncode(OutputStream, CharSequence)},
+     *  {@link StringUtils#urlEncode(ByteBuffer, CharSequence, boolean)}
+     *  and
+     *  {@link StringUtils#urlEncodedLength(CharSequence)}.
+     *
+     *  @param  plain   The plain text.
+     *  @param  encoded The encoded text.
+     *  @throws IOException Something unexpected went wrong.
+     */
+    @ParameterizedTest
+    @CsvFileSource( resources = "URLEncode.csv", delimiter = ';', numLinesToSkip = 1 )
+    final void testUrlEncodeToBytes( final String plain, final String encoded ) throws IOException
+    {
+        skipThreadTest();
+
+        final var candidate = translateEscapes( plain );
+        final var expected = translateEscapes( encoded ).getBytes( UTF8 );
+        assertEquals( expected.length, urlEncodedLength( candidate ) );
+
+        final var target = new ByteArrayOutputStream();
+        urlEncode( target, candidate );
+        assertArrayEquals( expected, target.toByteArray() );
+
+        final var buffer = ByteBuffer.allocate( expected.length + 2 );
+        buffer.put( (byte) '#' );
+        assertEquals( expected.length, urlEncode( buffer, candidate, false ) );
+        assertEquals( expected.length + 1, buffer.position() );
+        assertArrayEquals( expected, Arrays.copyOfRange( buffer.array(), 1, expected.length + 1 ) );
+    }   //  testUrlEncodeToBytes()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#urlEncode(ByteBuffer, CharSequence, boolean)}
+     *  and
+     *  {@link StringUtils#urlEncode(OutputStream, CharSequence)}
+     *  with invalid arguments.
+     */
+    @Test
+    final void testUrlEncodeToBytesWithInvalidArguments()
+    {
+        skipThreadTest();
+
+        assertThrows( NullArgumentException.class, () -> urlEncode( null, "a", false ) );
+        assertThrows( NullArgumentException.class, () -> urlEncode( ByteBuffer.allocate( 10 ), null, false ) );
+        assertThrows( NullArgumentException.class, () -> urlEncodedLength( null ) );
+        assertThrows( NullArgumentException.class, () -> urlEncode( (OutputStream) null, "a" ) );
+        assertThrows( NullArgumentException.class, () -> urlEncode( new ByteArrayOutputStream(), null ) );
+        assertThrows( BufferOverflowException.class, () -> urlEncode( ByteBuffer.allocate( 5 ), "\u00E4\u00F6", false ) );
+
+        //---* Nothing was written on overflow *-------------------------------
+        final var buffer = ByteBuffer.allocate( 5 );
+        try
+        {
+            urlEncode( buffer, "\u00E4\u00F6", false );
+        }
+        catch( final BufferOverflowException ignored ) { /* Deliberately ignored */ }
+        assertEquals( 0, buffer.position() );
+    }   //  testUrlEncodeToBytesWithInvalidArguments()
+
+    /**
+     *  Compares the results of
+     *  {@link StringUtils#urlEncode(OutputStream, CharSequence)}
+     *  and
+     *  {@link StringUtils#urlEncode(ByteBuffer, CharSequence, boolean)}
+     *  with those of
+     *  {@link java.net.URLEncoder#encode(String, java.nio.charset.Charset)}
+     *  for random input, including unpaired surrogates and input that is
+     *  large enough to be encoded in parallel.
+     *
+     *  @throws IOException Something unexpected went wrong.
+     */
+    @Test
+    final void testUrlEncodeWithRandomInput() throws IOException
+    {
+        skipThreadTest();
+
+        final var random = getRandom();
+        for( var i = 0; i < 200; ++i )
+        {
+            final var buffer = new StringBuilder();
+            final var length = random.nextInt( i < 10 ? 500_000 : 300 );
+            while( buffer.length() < length )
+            {
+                switch( random.nextInt( 6 ) )
+                {
+                    case 0 -> buffer.append( (char) random.nextInt( 0x80 ) );
+                    case 1 -> buffer.append( (char) random.nextInt( 0x100 ) );
+                    case 2 -> buffer.append( (char) random.nextInt( 0xD800, 0xE000 ) );
+                    case 3 -> buffer.append( Character.toChars( random.nextInt( 0x1_0000, 0x11_0000 ) ) );
+                    case 4 -> buffer.append( (char) random.nextInt( 0x100, 0xD800 ) );
+                    default -> buffer.append( "Some text, \u00E4\u00F6\u00FC." );
+                }
+            }
+            final var input = buffer.toString();
+            final var expected = encode( input, UTF8 ).getBytes( UTF8 );
+            assertEquals( expected.length, urlEncodedLength( input ) );
+
+            final var target = new ByteArrayOutputStream();
+            urlEncode( target, input );
+            assertArrayEquals( expected, target.toByteArray() );
+
+            for( final var parallel : new boolean [] {false, true} )
+            {
+                final var heapBuffer = ByteBuffer.allocate( expected.length );
+                assertEquals( expected.length, urlEncode( heapBuffer, input, parallel ) );
+                assertArrayEquals( expected, heapBuffer.array() );
+
+                final var directBuffer = ByteBuffer.allocateDirect( expected.length );
+                assertEquals( expected.length, urlEncode( directBuffer, input, parallel ) );
+                final var actual = new byte [expected.length];
+                directBuffer.flip().get( actual );
+                assertArrayEquals( expected, actual );
+            }
+        }
+    }   //  testUrlEncodeWithRandomInput()
+
     /**
      *  Validates the test data.
      *
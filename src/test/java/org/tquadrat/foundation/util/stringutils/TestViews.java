@@ -0,0 +1,213 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.stringutils;
+
+import static java.lang.String.format;
+import static java.util.regex.Pattern.compile;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.util.StringUtils.breakString;
+import static org.tquadrat.foundation.util.StringUtils.breakStringViews;
+import static org.tquadrat.foundation.util.StringUtils.splitString;
+import static org.tquadrat.foundation.util.StringUtils.splitStringViews;
+import static org.tquadrat.foundation.util.StringUtils.stream;
+import static org.tquadrat.foundation.util.StringUtils.streamViews;
+import static org.tquadrat.foundation.util.StringUtils.substringsBetween;
+import static org.tquadrat.foundation.util.StringUtils.substringsBetweenViews;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.CharSequenceView;
+import org.tquadrat.foundation.util.StringUtils;
+
+/**
+ *  Some tests for the methods of
+ *  {@link StringUtils}
+ *  that return instances of
+ *  {@link CharSequenceView}
+ *  instead of Strings.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.stringutils.TestViews" )
+public class TestViews extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a random input.
+     *
+     *  @return The input.
+     */
+    private static final String createInput()
+    {
+        final var random = getRandom();
+        final var alphabet = "ab,;[]|ä";
+        final var buffer = new StringBuilder();
+        final var len = random.nextInt( 60 );
+        for( var i = 0; i < len; ++i ) buffer.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createInput()
+
+    /**
+     *  Converts the given views to Strings.
+     *
+     *  @param  views   The views.
+     *  @return The Strings.
+     */
+    private static final List<String> toStrings( final Collection<CharSequenceView> views )
+    {
+        return views.stream().map( CharSequenceView::toString ).toList();
+    }   //  toStrings()
+
+    /**
+     *  Converts the given views to Strings.
+     *
+     *  @param  views   The views.
+     *  @return The Strings.
+     */
+    private static final List<String> toStrings( final Stream<CharSequenceView> views )
+    {
+        return views.map( CharSequenceView::toString ).toList();
+    }   //  toStrings()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#breakStringViews(CharSequence, int)}.
+     */
+    @Test
+    final void testBreakStringViews()
+    {
+        skipThreadTest();
+
+        assertEquals( List.of( "abc", "def", "g" ), toStrings( breakStringViews( "abcdefg", 3 ) ) );
+        assertEquals( List.of(), toStrings( breakStringViews( "", 3 ) ) );
+
+        for( var i = 0; i < 500; ++i )
+        {
+            final var input = createInput();
+            for( var chunk = 1; chunk < 8; ++chunk )
+            {
+                final var expected = breakString( input, chunk ).toList();
+                assertEquals( expected, toStrings( breakStringViews( input, chunk ) ) );
+                assertEquals( expected, toStrings( breakStringViews( new StringBuilder( input ), chunk ).parallel() ) );
+            }
+        }
+    }   //  testBreakStringViews()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#splitStringViews(CharSequence, int)}
+     *  and
+     *  {@link StringUtils#splitStringViews(CharSequence, CharSequence)}.
+     */
+    @Test
+    final void testSplitStringViews()
+    {
+        skipThreadTest();
+
+        final var input = "alpha,beta,,gamma";
+        final var views = splitStringViews( input, ',' );
+        assertEquals( 4, views.length );
+        assertSame( input, views [1].source() );
+        assertEquals( 6, views [1].start() );
+        assertEquals( 10, views [1].end() );
+        assertTrue( views [1].contentEquals( "beta" ) );
+
+        for( var i = 0; i < 500; ++i )
+        {
+            final var candidate = createInput();
+            assertEquals( List.of( splitString( candidate, ',' ) ), Arrays.stream( splitStringViews( candidate, ',' ) ).map( CharSequenceView::toString ).toList() );
+            assertEquals( List.of( splitString( candidate, ",;" ) ), Arrays.stream( splitStringViews( candidate, ",;" ) ).map( CharSequenceView::toString ).toList() );
+        }
+    }   //  testSplitStringViews()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#streamViews(CharSequence, int)},
+     *  {@link StringUtils#streamViews(CharSequence, CharSequence)}
+     *  and
+     *  {@link StringUtils#streamViews(CharSequence, Pattern)}.
+     */
+    @Test
+    final void testStreamViews()
+    {
+        skipThreadTest();
+
+        final var pattern = compile( "[,;]+" );
+        for( var i = 0; i < 500; ++i )
+        {
+            final var input = createInput();
+            final var buffer = new StringBuilder( input );
+            assertEquals( stream( input, '|' ).toList(), toStrings( streamViews( input, '|' ) ), () -> format( "Input: %s", input ) );
+            assertEquals( stream( input, '|' ).toList(), toStrings( streamViews( buffer, '|' ) ), () -> format( "Input: %s", input ) );
+            assertEquals( stream( input, "[]" ).toList(), toStrings( streamViews( input, "[]" ) ), () -> format( "Input: %s", input ) );
+            assertEquals( stream( input, "[]" ).toList(), toStrings( streamViews( buffer, "[]" ) ), () -> format( "Input: %s", input ) );
+            assertEquals( stream( input, pattern ).toList(), toStrings( streamViews( input, pattern ) ), () -> format( "Input: %s", input ) );
+            assertEquals( stream( input, pattern ).toList(), toStrings( streamViews( buffer, pattern ) ), () -> format( "Input: %s", input ) );
+        }
+    }   //  testStreamViews()
+
+    /**
+     *  Tests for
+     *  {@link StringUtils#substringsBetweenViews(CharSequence, CharSequence, CharSequence)}.
+     */
+    @Test
+    final void testSubstringsBetweenViews()
+    {
+        skipThreadTest();
+
+        assertEquals( List.of( "a", "b", "c" ), toStrings( substringsBetweenViews( "[a][b][c]", "[", "]" ) ) );
+        assertTrue( substringsBetweenViews( null, "[", "]" ).isEmpty() );
+        assertTrue( substringsBetweenViews( "[a]", null, "]" ).isEmpty() );
+        assertTrue( substringsBetweenViews( "[a]", "[", null ).isEmpty() );
+        assertTrue( substringsBetweenViews( "", "[", "]" ).isEmpty() );
+
+        for( var i = 0; i < 500; ++i )
+        {
+            final var input = createInput();
+            for( final var delimiters : new String [] [] { {"[", "]"}, {"[", "[" }, {",;", "|"}, {"ab", "ba"} } )
+            {
+                final var expected = List.copyOf( substringsBetween( input, delimiters [0], delimiters [1] ) );
+                assertEquals( expected, toStrings( substringsBetweenViews( input, delimiters [0], delimiters [1] ) ), () -> format( "Input: %s", input ) );
+                assertEquals( expected, toStrings( substringsBetweenViews( new StringBuilder( input ), delimiters [0], new StringBuilder( delimiters [1] ) ) ), () -> format( "Input: %s", input ) );
+            }
+        }
+    }   //  testSubstringsBetweenViews()
+}
+//  class TestViews
+
+/*
+ *  End of File
+ */
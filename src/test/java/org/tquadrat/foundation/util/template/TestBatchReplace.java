@@ -0,0 +1,184 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.template;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.CompiledTemplate;
+import org.tquadrat.foundation.util.Template;
+
+/**
+ *  Some tests for the batch rendering methods of
+ *  {@link CompiledTemplate}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.template.TestBatchReplace" )
+public class TestBatchReplace extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of records for the tests: {@value}.
+     */
+    private static final int RECORD_COUNT = 5_000;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates the records for the tests.
+     *
+     *  @return The records.
+     */
+    private static final List<Map<String,Object>> createRecords()
+    {
+        final var retValue = IntStream.range( 0, RECORD_COUNT )
+            .mapToObj( i -> Map.<String,Object>of( "name", "Name" + i, "id", Integer.valueOf( i ) ) )
+            .toList();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createRecords()
+
+    /**
+     *  Tests for
+     *  {@link CompiledTemplate#replaceVariableForEachSource(Iterable, Executor, boolean, Consumer)}
+     *  and
+     *  {@link CompiledTemplate#replaceVariableForEachRetriever(Iterable, Executor, boolean, Consumer)}.
+     */
+    @Test
+    final void testParallel()
+    {
+        skipThreadTest();
+
+        final var template = Template.compile( "Dear ${name}, your id is ${id}." );
+        final var records = createRecords();
+        final var expected = records.stream().map( r -> template.replaceVariable( r ) ).toList();
+
+        try( final var pool = new ForkJoinPool( 4 ) )
+        {
+            final List<String> ordered = new ArrayList<>();
+            template.replaceVariableForEachSource( records, pool, true, ordered::add );
+            assertEquals( expected, ordered );
+
+            final List<String> unordered = new ArrayList<>();
+            template.replaceVariableForEachSource( records, pool, false, unordered::add );
+            assertEquals( expected.size(), unordered.size() );
+            assertEquals( expected.stream().sorted().toList(), unordered.stream().sorted().toList() );
+
+            final List<Function<String,Optional<String>>> retrievers = records.stream()
+                .<Function<String,Optional<String>>>map( r -> name -> Optional.ofNullable( r.get( name ) ).map( Object::toString ) )
+                .toList();
+            final List<String> fromRetrievers = new ArrayList<>();
+            template.replaceVariableForEachRetriever( retrievers, pool, true, fromRetrievers::add );
+            assertEquals( expected, fromRetrievers );
+        }
+
+        //---* An executor that runs the tasks on the calling thread *---------
+        final List<String> direct = new ArrayList<>();
+        template.replaceVariableForEachSource( records, Runnable::run, true, direct::add );
+        assertEquals( expected, direct );
+
+        //---* No records at all *---------------------------------------------
+        final List<String> empty = new ArrayList<>();
+        template.replaceVariableForEachSource( List.of(), Runnable::run, true, empty::add );
+        assertTrue( empty.isEmpty() );
+    }   //  testParallel()
+
+    /**
+     *  Tests for
+     *  {@link CompiledTemplate#replaceVariableForEachRetriever(Iterable, Executor, boolean, Consumer)}
+     *  with a failing retriever.
+     */
+    @Test
+    final void testParallelWithFailure()
+    {
+        skipThreadTest();
+
+        final var template = Template.compile( "Value: ${value}" );
+        final List<Function<String,Optional<String>>> retrievers = List.of(
+            _ -> Optional.of( "1" ),
+            _ -> { throw new IllegalStateException( "Failure" ); },
+            _ -> Optional.of( "3" ) );
+
+        final Class<? extends Throwable> expectedException = IllegalStateException.class;
+        try( final var pool = new ForkJoinPool( 2 ) )
+        {
+            template.replaceVariableForEachRetriever( retrievers, pool, true, _ -> {} );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException ) t.printStackTrace( out );
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+        }
+    }   //  testParallelWithFailure()
+
+    /**
+     *  Tests for
+     *  {@link CompiledTemplate#replaceVariableForEachSource(Stream)}
+     *  and
+     *  {@link CompiledTemplate#replaceVariableForEachRetriever(Stream)}.
+     */
+    @Test
+    final void testStream()
+    {
+        skipThreadTest();
+
+        final var template = Template.compile( "${id}: ${name}" );
+        final var records = createRecords();
+        final var expected = records.stream().map( r -> Template.replaceVariable( "${id}: ${name}", r ) ).toList();
+
+        assertEquals( expected, template.replaceVariableForEachSource( records.stream() ).toList() );
+        assertEquals( expected, template.replaceVariableForEachSource( records.parallelStream() ).toList() );
+
+        final Stream<Function<String,Optional<String>>> retrievers = records.stream()
+            .map( r -> name -> Optional.ofNullable( r.get( name ) ).map( Object::toString ) );
+        assertEquals( expected, template.replaceVariableForEachRetriever( retrievers ).toList() );
+    }   //  testStream()
+}
+//  class TestBatchReplace
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,239 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.template;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+import static java.util.regex.Matcher.quoteReplacement;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.tquadrat.foundation.util.SystemUtils.getRandom;
+import static org.tquadrat.foundation.util.Template.VARIABLE_PATTERN;
+import static org.tquadrat.foundation.util.Template.findVariables;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.Template;
+
+/**
+ *  Some tests for the methods
+ *  {@link Template#compile()}
+ *  and
+ *  {@link Template#compile(CharSequence)}
+ *  and for the class
+ *  {@link org.tquadrat.foundation.util.CompiledTemplate}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.template.TestCompile" )
+public class TestCompile extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Replaces the variables in the given text the way it was done before
+     *  the compiled templates were introduced: with the regular expression
+     *  from
+     *  {@link Template#VARIABLE_PATTERN}.
+     *
+     *  @param  text    The text.
+     *  @param  retriever   The retriever for the values.
+     *  @return The result.
+     */
+    private static final String referenceReplace( final CharSequence text, final Function<? super String, Optional<String>> retriever )
+    {
+        final Map<String,String> cache = new HashMap<>();
+        final var matcher = Pattern.compile( VARIABLE_PATTERN ).matcher( text );
+        final var buffer = new StringBuilder();
+        while( matcher.find() )
+        {
+            final var variable = matcher.group( 0 );
+            final var replacement = cache.computeIfAbsent( variable, v -> quoteReplacement( retriever.apply( matcher.group( 1 ) ).orElse( v ) ) );
+            matcher.appendReplacement( buffer, replacement );
+        }
+        matcher.appendTail( buffer );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  referenceReplace()
+
+    /**
+     *  Provides the texts for the tests.
+     *
+     *  @return The test texts.
+     */
+    static final Stream<String> provideTexts()
+    {
+        final List<String> texts = new ArrayList<>( List.of(
+            "",
+            "No Variable",
+            "${}",
+            "$",
+            "${",
+            "$$${var}$$",
+            "${_}",
+            "${_x}",
+            "${x_}",
+            "${var}",
+            "${Var1} and ${Var2} are valid variables, and they will appear here again: ${Var1}, followed by ${Var2}.",
+            "${~home}, ${/root}, ${=equals}, ${%percent}, ${:colon}, ${&amp}",
+            "${~}, ${~~home}, ${1var}, ${ var}",
+            "${var with blanks}",
+            "${var\nwith newline}",
+            "${var with line separator}",
+            "${a${b}}",
+            "${${b}}",
+            "${äöü}",
+            "${𝒜bc}",
+            "Values with $ and \\ in it: ${dollar} and ${backslash}",
+            "${unknown} stays as it is",
+            "text}${var}text{${var}${var"
+        ) );
+
+        //---* Some random texts *---------------------------------------------
+        final var random = getRandom();
+        final var alphabet = "${}_~:ab1 \n\\.";
+        for( var i = 0; i < 200; ++i )
+        {
+            final var len = random.nextInt( 40 );
+            final var buffer = new StringBuilder( len );
+            for( var j = 0; j < len; ++j ) buffer.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+            texts.add( buffer.toString() );
+        }
+
+        final var retValue = texts.stream();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  provideTexts()
+
+    /**
+     *  Tests for
+     *  {@link Template#compile(CharSequence)}.
+     *
+     *  @param  text    The text for the test.
+     */
+    @DisplayName( "Template.compile() results are the same as for the regular expression" )
+    @ParameterizedTest
+    @MethodSource( "provideTexts" )
+    final void testCompile( final String text )
+    {
+        skipThreadTest();
+
+        final Function<String,Optional<String>> retriever = name -> switch( name )
+        {
+            case "unknown", "b" -> Optional.empty();
+            case "dollar" -> Optional.of( "$1" );
+            case "backslash" -> Optional.of( "\\n" );
+            default -> Optional.of( "<" + name.length() + ">" );
+        };
+
+        final var expected = referenceReplace( text, retriever );
+        final var candidate = Template.compile( text );
+        assertEquals( text, candidate.getTemplateText() );
+        assertEquals( expected, candidate.replaceVariable( retriever ), () -> format( "Text: %s", text ) );
+        assertEquals( expected, candidate.replaceVariable( new StringBuilder(), retriever ).toString(), () -> format( "Text: %s", text ) );
+        assertEquals( expected, Template.replaceVariable( text, retriever ), () -> format( "Text: %s", text ) );
+        assertEquals( findVariables( text ), candidate.findVariables() );
+        assertEquals( Template.hasVariables( text ), candidate.hasVariables() );
+    }   //  testCompile()
+
+    /**
+     *  Tests for
+     *  {@link Template#compile()}.
+     */
+    @Test
+    final void testCompileInstance()
+    {
+        skipThreadTest();
+
+        final var template = new Template( "Hello ${name}, welcome to ${place}! Goodbye, ${name}." );
+        final var candidate = template.compile();
+        assertSame( candidate, template.compile() );
+        assertTrue( candidate.hasVariables() );
+        assertEquals( template.findVariables(), candidate.findVariables() );
+
+        final Map<String,Object> source = Map.of( "name", "Bob", "place", new StringBuilder( "Berlin" ) );
+        final var expected = "Hello Bob, welcome to Berlin! Goodbye, Bob.";
+        assertEquals( expected, candidate.replaceVariable( source ) );
+        assertEquals( expected, template.replaceVariable( source ) );
+
+        //---* The retriever is called only once per variable *---------------
+        final List<String> calls = new ArrayList<>();
+        final var result = candidate.replaceVariable( name ->
+        {
+            calls.add( name );
+            return Optional.of( name.toUpperCase() );
+        } );
+        assertEquals( "Hello NAME, welcome to PLACE! Goodbye, NAME.", result );
+        assertEquals( List.of( "name", "place" ), calls );
+
+        assertFalse( new Template( "No variables" ).compile().hasVariables() );
+    }   //  testCompileInstance()
+
+    /**
+     *  Tests for
+     *  {@link Template#compile(CharSequence)}
+     *  with {@code null} argument.
+     */
+    @Test
+    final void testCompileWithNullArgument()
+    {
+        skipThreadTest();
+
+        final Class<? extends Throwable> expectedException = NullArgumentException.class;
+        try
+        {
+            Template.compile( null );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException ) t.printStackTrace( out );
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+        }
+    }   //  testCompileWithNullArgument()
+}
+//  class TestCompile
+
+/*
+ *  End of File
+ */
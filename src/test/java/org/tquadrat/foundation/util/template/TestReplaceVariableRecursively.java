@@ -0,0 +1,164 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.template;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.tquadrat.foundation.util.Template.replaceVariableRecursively;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.Template;
+
+/**
+ *  Some tests for
+ *  {@link Template#replaceVariableRecursively(CharSequence, Function)},
+ *  {@link Template#replaceVariableRecursively(CharSequence, Map...)}
+ *  and
+ *  {@link Template#replaceVariableRecursively(boolean, Map...)}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.template.TestReplaceVariableRecursively" )
+public class TestReplaceVariableRecursively extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the recursive replacement.
+     */
+    @Test
+    final void testReplaceVariableRecursively()
+    {
+        skipThreadTest();
+
+        assertNull( replaceVariableRecursively( null, Map.of() ) );
+        assertEquals( "", replaceVariableRecursively( "", Map.of() ) );
+
+        final Map<String,Object> source = Map.of(
+            "home", "/home/${user}",
+            "user", new StringBuilder( "bob" ),
+            "config", "${home}/.config/${app}",
+            "app", "${name}-${version}",
+            "name", "demo",
+            "version", Integer.valueOf( 3 ) );
+        assertEquals( "Config: /home/bob/.config/demo-3 for bob", replaceVariableRecursively( "Config: ${config} for ${user}", source ) );
+
+        //---* Unresolved variables remain, also in values *-------------------
+        assertEquals( "/home/${unknown} and ${other}", replaceVariableRecursively( "${dir} and ${other}", Map.of( "dir", "/home/${unknown}" ) ) );
+
+        //---* The non-recursive version leaves the nested variables *---------
+        assertEquals( "/home/${user}", Template.replaceVariable( "${home}", source ) );
+
+        //---* Each variable is retrieved only once *--------------------------
+        final List<String> calls = new ArrayList<>();
+        final Function<String,Optional<String>> retriever = name ->
+        {
+            calls.add( name );
+            return switch( name )
+            {
+                case "a" -> Optional.of( "${b}${c}${b}" );
+                case "b" -> Optional.of( "${c}!" );
+                case "c" -> Optional.of( "C" );
+                default -> Optional.empty();
+            };
+        };
+        assertEquals( "C!CC! C!C", replaceVariableRecursively( "${a} ${b}${c}", retriever ) );
+        assertEquals( List.of( "a", "b", "c" ), calls );
+
+        //---* Instance method *-----------------------------------------------
+        final var template = new Template( "${config}" );
+        assertEquals( "/home/bob/.config/demo-3", template.replaceVariableRecursively( false, source ) );
+        assertEquals( "/home/bob/.config/demo-3", template.replaceVariableRecursively( true, source ) );
+    }   //  testReplaceVariableRecursively()
+
+    /**
+     *  Tests the recursive replacement with a cyclic reference.
+     */
+    @Test
+    final void testReplaceVariableRecursivelyWithCycle()
+    {
+        skipThreadTest();
+
+        final Map<String,Object> source = Map.of(
+            "a", "${b}",
+            "b", "x${c}",
+            "c", "${a}" );
+
+        final Class<? extends Throwable> expectedException = ValidationException.class;
+        try
+        {
+            replaceVariableRecursively( "Start: ${a}", source );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException ) t.printStackTrace( out );
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+            assertTrue( t.getMessage().contains( "a -> b -> c -> a" ), t.getMessage() );
+        }
+    }   //  testReplaceVariableRecursivelyWithCycle()
+
+    /**
+     *  Tests the recursive replacement with a variable that refers to
+     *  itself.
+     */
+    @Test
+    final void testReplaceVariableRecursivelyWithSelfReference()
+    {
+        skipThreadTest();
+
+        final Class<? extends Throwable> expectedException = ValidationException.class;
+        try
+        {
+            replaceVariableRecursively( "${x}", Map.of( "x", "more ${x}" ) );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException ) t.printStackTrace( out );
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+            assertTrue( t.getMessage().contains( "x -> x" ), t.getMessage() );
+        }
+    }   //  testReplaceVariableRecursivelyWithSelfReference()
+}
+//  class TestReplaceVariableRecursively
+
+/*
+ *  End of File
+ */
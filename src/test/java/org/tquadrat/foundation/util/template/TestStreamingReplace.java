@@ -0,0 +1,208 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.template;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.Template;
+
+/**
+ *  Some tests for the streaming variants of
+ *  {@code replaceVariable()} in
+ *  {@link Template}
+ *  and
+ *  {@link org.tquadrat.foundation.util.CompiledTemplate}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.template.TestStreamingReplace" )
+public class TestStreamingReplace extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns a
+     *  {@link Reader}
+     *  that delivers only a single character on each call, so that each
+     *  variable spans several chunks.
+     *
+     *  @param  text    The text.
+     *  @return The reader.
+     */
+    private static final Reader createSlowReader( final String text )
+    {
+        final var retValue = new StringReader( text )
+        {
+            /**
+             *  {@inheritDoc}
+             */
+            @Override
+            public final int read( final char [] buffer, final int offset, final int length ) throws IOException
+            {
+                return super.read( buffer, offset, Math.min( 1, length ) );
+            }   //  read()
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createSlowReader()
+
+    /**
+     *  Tests for
+     *  {@link Template#replaceVariable(Reader, Appendable, Function)}.
+     *
+     *  @param  text    The text for the test.
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @DisplayName( "Streaming results are the same as for Template.replaceVariable()" )
+    @ParameterizedTest
+    @MethodSource( "org.tquadrat.foundation.util.template.TestCompile#provideTexts" )
+    final void testReplaceFromReader( final String text ) throws Exception
+    {
+        skipThreadTest();
+
+        final Function<String,Optional<String>> retriever = name -> switch( name )
+        {
+            case "unknown", "b" -> Optional.empty();
+            case "dollar" -> Optional.of( "$1" );
+            default -> Optional.of( "<" + name.length() + ">" );
+        };
+
+        final var expected = Template.replaceVariable( text, retriever );
+        assertEquals( expected, Template.replaceVariable( new StringReader( text ), new StringBuilder(), retriever ).toString(), () -> format( "Text: %s", text ) );
+        assertEquals( expected, Template.replaceVariable( createSlowReader( text ), new StringWriter(), retriever ).toString(), () -> format( "Text: %s", text ) );
+
+        final var channelTarget = new ByteArrayOutputStream();
+        Template.compile( text ).replaceVariable( Channels.newChannel( channelTarget ), UTF_8, retriever );
+        assertEquals( expected, channelTarget.toString( UTF_8 ), () -> format( "Text: %s", text ) );
+    }   //  testReplaceFromReader()
+
+    /**
+     *  Tests for
+     *  {@link Template#replaceVariable(Reader, Appendable, Map...)}
+     *  and
+     *  {@link org.tquadrat.foundation.util.CompiledTemplate#replaceVariable(Appendable, Map...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testReplaceWithCharSequenceValues() throws Exception
+    {
+        skipThreadTest();
+
+        final var text = "Hello ${name}, welcome to ${place}! Goodbye, ${name}. ${unknown}";
+        final Map<String,Object> source = Map.of( "name", new StringBuilder( "Bob" ), "place", "Berlin" );
+        final var expected = "Hello Bob, welcome to Berlin! Goodbye, Bob. ${unknown}";
+
+        final var writer = new StringWriter();
+        assertSame( writer, Template.replaceVariable( new StringReader( text ), writer, source ) );
+        assertEquals( expected, writer.toString() );
+        assertEquals( expected, Template.compile( text ).replaceVariable( new StringBuilder(), source ).toString() );
+
+        final var channelTarget = new ByteArrayOutputStream();
+        Template.compile( text ).replaceVariable( Channels.newChannel( channelTarget ), UTF_8, source );
+        assertEquals( expected, channelTarget.toString( UTF_8 ) );
+
+        //---* The retriever is called only once per variable *---------------
+        final List<String> calls = new ArrayList<>();
+        final var result = Template.replaceVariable( new StringReader( text ), new StringBuilder(), name ->
+        {
+            calls.add( name );
+            return Optional.<CharSequence>of( new StringBuilder( name.toUpperCase() ) );
+        } );
+        assertEquals( "Hello NAME, welcome to PLACE! Goodbye, NAME. UNKNOWN", result.toString() );
+        assertEquals( List.of( "name", "place", "unknown" ), calls );
+    }   //  testReplaceWithCharSequenceValues()
+
+    /**
+     *  Tests for
+     *  {@link Template#replaceVariable(Reader, Appendable, Function)}
+     *  with a long line that contains many incomplete variables.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testReplaceWithLongLine() throws Exception
+    {
+        skipThreadTest();
+
+        final var text = "${a".repeat( 50_000 ) + "\n${b}" + "$".repeat( 50_000 );
+        final Function<String,Optional<String>> retriever = name -> Optional.of( name.toUpperCase() );
+        final var expected = Template.replaceVariable( text, retriever );
+        assertEquals( expected, Template.replaceVariable( new StringReader( text ), new StringBuilder(), retriever ).toString() );
+    }   //  testReplaceWithLongLine()
+
+    /**
+     *  Tests for
+     *  {@link Template#replaceVariable(Reader, Appendable, Function)}
+     *  with {@code null} arguments.
+     */
+    @Test
+    final void testReplaceWithNullArgument()
+    {
+        skipThreadTest();
+
+        final Class<? extends Throwable> expectedException = NullArgumentException.class;
+        final Function<String,Optional<String>> retriever = Optional::of;
+        try
+        {
+            Template.replaceVariable( (Reader) null, new StringBuilder(), retriever );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException ) t.printStackTrace( out );
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+        }
+    }   //  testReplaceWithNullArgument()
+}
+//  class TestStreamingReplace
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,186 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.util.template;
+
+import static java.lang.String.format;
+import static java.lang.System.out;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.tquadrat.foundation.util.SystemUtils.getMACAddress;
+import static org.tquadrat.foundation.util.SystemUtils.getPID;
+import static org.tquadrat.foundation.util.Template.DEFAULT_SYSTEMDATA_TTL;
+import static org.tquadrat.foundation.util.Template.VARIABLE_TEMPLATE;
+import static org.tquadrat.foundation.util.Template.VARNAME_MACAddress;
+import static org.tquadrat.foundation.util.Template.VARNAME_Now;
+import static org.tquadrat.foundation.util.Template.VARNAME_pid;
+import static org.tquadrat.foundation.util.Template.getSystemDataTimeToLive;
+import static org.tquadrat.foundation.util.Template.invalidateSystemData;
+import static org.tquadrat.foundation.util.Template.replaceVariableFromSystemData;
+import static org.tquadrat.foundation.util.Template.setSystemDataTimeToLive;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.exception.ValidationException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.util.Template;
+
+/**
+ *  Some tests for the snapshot of the system data that is used by
+ *  {@link Template#replaceVariableFromSystemData(CharSequence, Map...)}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id$
+ */
+@ClassVersion( sourceVersion = "$Id$" )
+@DisplayName( "org.tquadrat.foundation.util.template.TestSystemDataSnapshot" )
+public class TestSystemDataSnapshot extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Restores the default time to live after each test.
+     */
+    @AfterEach
+    final void restoreTimeToLive()
+    {
+        setSystemDataTimeToLive( DEFAULT_SYSTEMDATA_TTL );
+        invalidateSystemData();
+    }   //  restoreTimeToLive()
+
+    /**
+     *  Tests that the values from the snapshot are correct, and that
+     *  {@value Template#VARNAME_Now} is determined for each call.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testSnapshot() throws Exception
+    {
+        skipThreadTest();
+
+        final var text = format( VARIABLE_TEMPLATE, VARNAME_Now );
+        final var first = Instant.parse( replaceVariableFromSystemData( text ) );
+        Thread.sleep( 5 );
+        final var second = Instant.parse( replaceVariableFromSystemData( text ) );
+        assertNotEquals( first, second );
+        assertTrue( first.isBefore( second ) );
+
+        assertEquals( getMACAddress(), replaceVariableFromSystemData( format( VARIABLE_TEMPLATE, VARNAME_MACAddress ) ) );
+        assertEquals( Long.toString( getPID() ), replaceVariableFromSystemData( format( VARIABLE_TEMPLATE, VARNAME_pid ) ) );
+
+        invalidateSystemData();
+        assertEquals( getMACAddress(), replaceVariableFromSystemData( format( VARIABLE_TEMPLATE, VARNAME_MACAddress ) ) );
+
+        setSystemDataTimeToLive( Duration.ZERO );
+        assertEquals( Long.toString( getPID() ), new Template( format( VARIABLE_TEMPLATE, VARNAME_pid ) ).replaceVariable( true ) );
+
+        //---* The additional sources come after the system data *------------
+        assertEquals( Long.toString( getPID() ), replaceVariableFromSystemData( format( VARIABLE_TEMPLATE, VARNAME_pid ), Map.of( VARNAME_pid, "other" ) ) );
+        assertEquals( "value", replaceVariableFromSystemData( format( VARIABLE_TEMPLATE, "name" ), Map.of( "name", "value" ) ) );
+    }   //  testSnapshot()
+
+    /**
+     *  Tests for
+     *  {@link Template#setSystemDataTimeToLive(Duration)}
+     *  and
+     *  {@link Template#getSystemDataTimeToLive()}.
+     */
+    @Test
+    final void testTimeToLive()
+    {
+        skipThreadTest();
+
+        assertEquals( DEFAULT_SYSTEMDATA_TTL, getSystemDataTimeToLive() );
+
+        setSystemDataTimeToLive( Duration.ofSeconds( 17 ) );
+        assertEquals( Duration.ofSeconds( 17 ), getSystemDataTimeToLive() );
+
+        setSystemDataTimeToLive( Duration.ZERO );
+        assertEquals( Duration.ZERO, getSystemDataTimeToLive() );
+
+        //---* Too large values will be truncated *----------------------------
+        setSystemDataTimeToLive( Duration.ofDays( Integer.MAX_VALUE ) );
+        assertEquals( Duration.ofNanos( Long.MAX_VALUE ), getSystemDataTimeToLive() );
+    }   //  testTimeToLive()
+
+    /**
+     *  Tests for
+     *  {@link Template#setSystemDataTimeToLive(Duration)}
+     *  with a negative argument.
+     */
+    @Test
+    final void testTimeToLiveWithNegativeArgument()
+    {
+        skipThreadTest();
+
+        final Class<? extends Throwable> expectedException = ValidationException.class;
+        try
+        {
+            setSystemDataTimeToLive( Duration.ofSeconds( -1 ) );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException ) t.printStackTrace( out );
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+        }
+        assertEquals( DEFAULT_SYSTEMDATA_TTL, getSystemDataTimeToLive() );
+    }   //  testTimeToLiveWithNegativeArgument()
+
+    /**
+     *  Tests for
+     *  {@link Template#setSystemDataTimeToLive(Duration)}
+     *  with {@code null} argument.
+     */
+    @Test
+    final void testTimeToLiveWithNullArgument()
+    {
+        skipThreadTest();
+
+        final Class<? extends Throwable> expectedException = NullArgumentException.class;
+        try
+        {
+            setSystemDataTimeToLive( null );
+            fail( () -> format( MSG_ExceptionNotThrown, expectedException.getName() ) );
+        }
+        catch( final AssertionError e ) { throw e; }
+        catch( final Throwable t )
+        {
+            final var isExpectedException = expectedException.isInstance( t );
+            if( !isExpectedException ) t.printStackTrace( out );
+            assertTrue( isExpectedException, () -> format( MSG_WrongExceptionThrown, expectedException.getName(), t.getClass().getName() ) );
+        }
+    }   //  testTimeToLiveWithNullArgument()
+}
+//  class TestSystemDataSnapshot
+
+/*
+ *  End of File
+ */